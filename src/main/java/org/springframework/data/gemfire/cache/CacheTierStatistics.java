@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a tier of a {@link TieredGemfireCache}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.cache.TieredGemfireCache
+ * @since 2.1.0
+ */
+public class CacheTierStatistics {
+
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder puts = new LongAdder();
+
+	void recordEviction() {
+		this.evictions.increment();
+	}
+
+	void recordExpiration() {
+		this.expirations.increment();
+	}
+
+	void recordHit() {
+		this.hits.increment();
+	}
+
+	void recordInvalidation() {
+		this.invalidations.increment();
+	}
+
+	void recordMiss() {
+		this.misses.increment();
+	}
+
+	void recordPut() {
+		this.puts.increment();
+	}
+
+	/**
+	 * Returns the number of entries evicted from this tier to stay within its size limits.
+	 */
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+	/**
+	 * Returns the number of entries removed from this tier because their time to live elapsed.
+	 */
+	public long getExpirationCount() {
+		return this.expirations.sum();
+	}
+
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Returns the ratio of hits to lookups, or {@literal 0.0} if there were no lookups.
+	 */
+	public double getHitRatio() {
+
+		long hits = getHitCount();
+		long lookups = hits + getMissCount();
+
+		return (lookups > 0L ? (double) hits / lookups : 0.0d);
+	}
+
+	/**
+	 * Returns the number of entries removed from this tier because the entry changed in another tier or JVM.
+	 */
+	public long getInvalidationCount() {
+		return this.invalidations.sum();
+	}
+
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	public long getPutCount() {
+		return this.puts.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ hits = %1$d, misses = %2$d, puts = %3$d, evictions = %4$d, expirations = %5$d,"
+			+ " invalidations = %6$d }", getHitCount(), getMissCount(), getPutCount(), getEvictionCount(),
+				getExpirationCount(), getInvalidationCount());
+	}
+}
@@ -16,10 +16,27 @@
 
 package org.springframework.data.gemfire.cache;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.util.Assert;
@@ -35,6 +52,48 @@ import org.springframework.util.Assert;
  */
 public class GemfireCache implements Cache {
 
+	/**
+	 * Strategy coordinating the loading of a missing value by {@link #get(Object, Callable)}.
+	 */
+	public enum LoadCoordination {
+
+		/**
+		 * The value is loaded once per JVM; concurrent callers for the same key wait for the value being loaded,
+		 * while callers for other keys are not blocked.  Each JVM stores the value it loaded.
+		 */
+		LOCAL,
+
+		/**
+		 * As {@link #LOCAL}, but the loaded value is stored with {@link Region#putIfAbsent(Object, Object)},
+		 * so that when several JVMs load the same key concurrently, all of them return the value stored first.
+		 */
+		PUT_IF_ABSENT,
+
+		/**
+		 * As {@link #LOCAL}, but the value is loaded while holding the distributed lock of the key, so that
+		 * only one JVM loads the value.  Requires a {@link org.apache.geode.cache.Scope#GLOBAL global}
+		 * peer {@link Region}.
+		 *
+		 * @see Region#getDistributedLock(Object)
+		 */
+		DISTRIBUTED_LOCK
+
+	}
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final ConcurrentMap<Object, Load> inFlightLoads = new ConcurrentHashMap<>();
+
+	private final Set<Object> inFlightRefreshes = ConcurrentHashMap.newKeySet();
+
+	private volatile LoadCoordination loadCoordination = LoadCoordination.LOCAL;
+
+	private volatile long refreshTimeToLive;
+
+	private volatile RefreshAheadPolicy refreshAheadPolicy;
+
+	private volatile GemfireCacheStatistics statistics;
+
 	private final Region region;
 
 	/**
@@ -74,6 +133,133 @@ public class GemfireCache implements Cache {
 		return this.region;
 	}
 
+	/**
+	 * Sets the {@link LoadCoordination} strategy used by {@link #get(Object, Callable)} to load a missing value.
+	 * Defaults to {@link LoadCoordination#LOCAL}.
+	 *
+	 * @param loadCoordination {@link LoadCoordination} strategy; must not be {@literal null}.
+	 */
+	public void setLoadCoordination(LoadCoordination loadCoordination) {
+		Assert.notNull(loadCoordination, "LoadCoordination must not be null");
+		this.loadCoordination = loadCoordination;
+	}
+
+	/**
+	 * Returns the {@link LoadCoordination} strategy used by {@link #get(Object, Callable)} to load a missing value.
+	 *
+	 * @return the {@link LoadCoordination} strategy.
+	 */
+	public LoadCoordination getLoadCoordination() {
+		return this.loadCoordination;
+	}
+
+	/**
+	 * Sets the {@link RefreshAheadPolicy} reloading entries read with {@link #get(Object, Callable)} before
+	 * they expire.  The time to live of the policy defaults to the entry time to live of the {@link Region}.
+	 * By default, entries are not refreshed.
+	 *
+	 * @param refreshAheadPolicy {@link RefreshAheadPolicy}; may be {@literal null} to disable refreshing entries.
+	 * @throws IllegalArgumentException if neither the {@link RefreshAheadPolicy} nor the {@link Region}
+	 * specify a time to live, or if statistics are not enabled on the {@link Region}, since the age of
+	 * an entry is determined from its last modified time.
+	 */
+	public void setRefreshAheadPolicy(RefreshAheadPolicy refreshAheadPolicy) {
+		long timeToLive = 0L;
+
+		if (refreshAheadPolicy != null) {
+			timeToLive = (refreshAheadPolicy.getTimeToLive() > 0L ? refreshAheadPolicy.getTimeToLive()
+				: resolveRegionEntryTimeToLive());
+
+			Assert.isTrue(timeToLive > 0L, String.format(
+				"A time to live is required to refresh entries of Region [%s] ahead", getName()));
+
+			Assert.isTrue(isRegionStatisticsEnabled(), String.format(
+				"Statistics must be enabled on Region [%s] to refresh entries ahead", getName()));
+		}
+
+		this.refreshTimeToLive = timeToLive;
+		this.refreshAheadPolicy = refreshAheadPolicy;
+	}
+
+	/**
+	 * Returns the {@link RefreshAheadPolicy} reloading entries before they expire.
+	 *
+	 * @return the {@link RefreshAheadPolicy}, or {@literal null} if entries are not refreshed.
+	 */
+	public RefreshAheadPolicy getRefreshAheadPolicy() {
+		return this.refreshAheadPolicy;
+	}
+
+	/* (non-Javadoc) */
+	private boolean isRegionStatisticsEnabled() {
+		return Optional.ofNullable(getNativeCache().getAttributes())
+			.map(RegionAttributes::getStatisticsEnabled)
+			.orElse(true);
+	}
+
+	/* (non-Javadoc) */
+	private long resolveRegionEntryTimeToLive() {
+		return Optional.ofNullable(getNativeCache().getAttributes())
+			.map(RegionAttributes::getEntryTimeToLive)
+			.map(ExpirationAttributes::getTimeout)
+			.map(TimeUnit.SECONDS::toMillis)
+			.orElse(0L);
+	}
+
+	/**
+	 * Enables or disables recording {@link GemfireCacheStatistics} for this cache.  Statistics are disabled
+	 * by default.
+	 *
+	 * @param statisticsEnabled boolean indicating whether to record statistics.
+	 * @see #getStatistics()
+	 */
+	public void setStatisticsEnabled(boolean statisticsEnabled) {
+		this.statistics = (statisticsEnabled ? Optional.ofNullable(this.statistics)
+			.orElseGet(() -> new GemfireCacheStatistics(getName())) : null);
+	}
+
+	/**
+	 * Determines whether {@link GemfireCacheStatistics} are recorded for this cache.
+	 *
+	 * @return a boolean indicating whether statistics are recorded.
+	 */
+	public boolean isStatisticsEnabled() {
+		return (this.statistics != null);
+	}
+
+	/**
+	 * Returns the {@link GemfireCacheStatistics} recorded for this cache.
+	 *
+	 * @return the {@link GemfireCacheStatistics}, or {@literal null} if statistics are disabled.
+	 * @see #setStatisticsEnabled(boolean)
+	 */
+	public GemfireCacheStatistics getStatistics() {
+		return this.statistics;
+	}
+
+	/* (non-Javadoc) */
+	private void recordStatistic(Consumer<GemfireCacheStatistics> recorder) {
+		GemfireCacheStatistics statistics = this.statistics;
+
+		if (statistics != null) {
+			recorder.accept(statistics);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void recordLookup(Object value) {
+		GemfireCacheStatistics statistics = this.statistics;
+
+		if (statistics != null) {
+			if (value != null) {
+				statistics.recordHits(1L);
+			}
+			else {
+				statistics.recordMisses(1L);
+			}
+		}
+	}
+
 	/**
 	 * Returns the name of this Spring {@link Cache}.
 	 *
@@ -91,6 +277,7 @@ public class GemfireCache implements Cache {
 	 */
 	public void clear() {
 		getNativeCache().clear();
+		recordStatistic(GemfireCacheStatistics::recordClear);
 	}
 
 	/**
@@ -101,6 +288,18 @@ public class GemfireCache implements Cache {
 	 */
 	public void evict(Object key) {
 		getNativeCache().remove(key);
+		recordStatistic(GemfireCacheStatistics::recordEviction);
+	}
+
+	/**
+	 * Looks up the value cached with the given key.
+	 *
+	 * @param key key identifying the value to retrieve from the cache.
+	 * @return the value cached with the given key or {@literal null} if no value is cached.
+	 * @see org.apache.geode.cache.Region#get(Object)
+	 */
+	protected Object lookup(Object key) {
+		return getNativeCache().get(key);
 	}
 
 	/**
@@ -113,7 +312,9 @@ public class GemfireCache implements Cache {
 	 * @see org.apache.geode.cache.Region#get(Object)
 	 */
 	public ValueWrapper get(Object key) {
-		Object value = getNativeCache().get(key);
+		Object value = lookup(key);
+
+		recordLookup(value);
 
 		return (value != null ? new SimpleValueWrapper(value) : null);
 	}
@@ -130,7 +331,9 @@ public class GemfireCache implements Cache {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object key, Class<T> type) {
-		Object value = getNativeCache().get(key);
+		Object value = lookup(key);
+
+		recordLookup(value);
 
 		if (value != null && type != null && !type.isInstance(value)) {
 			throw new IllegalStateException(String.format(
@@ -146,6 +349,14 @@ public class GemfireCache implements Cache {
 	 * {@link Callable} {@code valueLoader} will be called to obtain a value and add the entry
 	 * to this cache.
 	 *
+	 * The {@link Callable} is called by a single thread per key; concurrent callers for the same key wait for
+	 * its value, and callers for other keys proceed independently.  If the {@link Callable} fails, the next
+	 * waiting caller loads the value in turn.  The {@link Callable} must not load the same key from this cache,
+	 * which fails with an {@link IllegalStateException} rather than waiting forever.
+	 *
+	 * When a {@link RefreshAheadPolicy} is set, an entry due for a refresh (or stale) is returned as is
+	 * and reloaded asynchronously, and an expired entry is reloaded as if it was missing.
+	 *
 	 * @param <T> {@link Class} type of the value.
 	 * @param key key identifying the the value to retrieve from the cache.
 	 * @param valueLoader {@link Callable} object used to load a value if the entry identified by the key
@@ -158,27 +369,297 @@ public class GemfireCache implements Cache {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object key, Callable<T> valueLoader) {
-		T value = (T) get(key, Object.class);
+		T value = (T) lookup(key);
+
+		if (value != null && getRefreshAheadPolicy() != null) {
+			value = (T) refreshIfNecessary(key, value, valueLoader);
+		}
+
+		recordLookup(value);
+
+		while (value == null) {
+			Load load = new Load();
+			Load inFlightLoad = this.inFlightLoads.putIfAbsent(key, load);
+
+			if (inFlightLoad == null) {
+				try {
+					return (T) load(key, valueLoader, load);
+				}
+				finally {
+					this.inFlightLoads.remove(key, load);
+				}
+			}
+
+			// waiting for the load in progress on this thread would never return
+			Assert.state(!inFlightLoad.isOwnedByCurrentThread(), () -> String.format(
+				"Recursive load of key [%1$s] in Region [%2$s]", key, getName()));
+
+			try {
+				return (T) inFlightLoad.get();
+			}
+			catch (ExecutionException ignore) {
+				value = (T) lookupUnexpired(key);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ValueRetrievalException(key, valueLoader, e);
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Loads the value for the given key, unless another thread or JVM stored a value in the meantime,
+	 * and completes the given {@link CompletableFuture} awaited by concurrent callers for the same key.
+	 */
+	private Object load(Object key, Callable<?> valueLoader, Load load) {
+		try {
+			Object value;
+
+			if (getLoadCoordination() == LoadCoordination.DISTRIBUTED_LOCK) {
+				Lock lock = getNativeCache().getDistributedLock(key);
+
+				lock.lock();
+
+				try {
+					value = loadIfAbsent(key, valueLoader);
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+			else {
+				value = loadIfAbsent(key, valueLoader);
+			}
+
+			load.complete(value);
+
+			return value;
+		}
+		catch (Throwable e) {
+			// concurrent callers must not wait forever, whatever the failure
+			load.completeExceptionally(e);
+
+			if (e instanceof Error) {
+				throw (Error) e;
+			}
+
+			throw new ValueRetrievalException(key, valueLoader, e);
+		}
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private Object loadIfAbsent(Object key, Callable<?> valueLoader) throws Exception {
+		Object value = lookupUnexpired(key);
 
 		if (value == null) {
-			synchronized (getNativeCache()) {
-				value = (T) get(key, Object.class);
-
-				if (value == null) {
-					try {
-						value = valueLoader.call();
-						put(key, value);
-					}
-					catch (Exception e) {
-						throw new ValueRetrievalException(key, valueLoader, e);
-					}
+			value = callLoader(valueLoader);
+
+			if (value != null && getLoadCoordination() == LoadCoordination.PUT_IF_ABSENT) {
+				Object existingValue = getNativeCache().putIfAbsent(key, value);
+
+				if (existingValue == null) {
+					recordStatistic(statistics -> statistics.recordPuts(1L));
 				}
+
+				value = (existingValue != null ? existingValue : value);
+			}
+			else {
+				put(key, value);
 			}
 		}
 
 		return value;
 	}
 
+	/**
+	 * Returns the value cached with the given key, unless it has expired according to
+	 * the {@link RefreshAheadPolicy}.
+	 */
+	private Object lookupUnexpired(Object key) {
+		Object value = lookup(key);
+
+		return (value != null && freshnessOf(key) == RefreshAheadPolicy.Freshness.EXPIRED ? null : value);
+	}
+
+	/**
+	 * Schedules an asynchronous reload of the entry if it is due for a refresh or stale, unless a reload
+	 * of the entry is already in progress.
+	 *
+	 * @return the given value, or {@literal null} if the entry has expired and must be reloaded synchronously.
+	 */
+	private Object refreshIfNecessary(Object key, Object value, Callable<?> valueLoader) {
+		RefreshAheadPolicy.Freshness freshness = freshnessOf(key);
+
+		if (freshness == RefreshAheadPolicy.Freshness.EXPIRED) {
+			return null;
+		}
+
+		if (freshness != RefreshAheadPolicy.Freshness.FRESH && this.inFlightRefreshes.add(key)) {
+			try {
+				getRefreshAheadPolicy().getExecutor().execute(() -> refresh(key, valueLoader));
+			}
+			catch (RejectedExecutionException e) {
+				this.inFlightRefreshes.remove(key);
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Refresh of key [%1$s] in Region [%2$s] rejected; will retry",
+						key, getName()));
+				}
+			}
+		}
+
+		return value;
+	}
+
+	/* (non-Javadoc) */
+	private void refresh(Object key, Callable<?> valueLoader) {
+		try {
+			Object value = callLoader(valueLoader);
+
+			put(key, value);
+		}
+		catch (Exception e) {
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("Failed to refresh key [%1$s] in Region [%2$s]", key, getName()), e);
+			}
+		}
+		finally {
+			this.inFlightRefreshes.remove(key);
+		}
+	}
+
+	/**
+	 * Calls the given value loader, recording the load and its duration in the {@link GemfireCacheStatistics}.
+	 */
+	private Object callLoader(Callable<?> valueLoader) throws Exception {
+		GemfireCacheStatistics statistics = this.statistics;
+
+		if (statistics == null) {
+			return valueLoader.call();
+		}
+
+		long startTime = System.nanoTime();
+
+		try {
+			Object value = valueLoader.call();
+
+			statistics.recordLoad(System.nanoTime() - startTime);
+
+			return value;
+		}
+		catch (Exception e) {
+			statistics.recordLoadFailure(System.nanoTime() - startTime);
+			throw e;
+		}
+	}
+
+	/**
+	 * Determines the {@link RefreshAheadPolicy.Freshness} of the entry with the given key from the last modified
+	 * time of the {@link Region} entry, which is maintained by GemFire whether the entry was loaded by this cache,
+	 * by another JVM or updated directly in the {@link Region}.  Entries of unknown age, for example because
+	 * the {@link Region} does not hold entries locally, are considered fresh.
+	 */
+	RefreshAheadPolicy.Freshness freshnessOf(Object key) {
+		RefreshAheadPolicy refreshAheadPolicy = getRefreshAheadPolicy();
+
+		if (refreshAheadPolicy != null) {
+			Long lastModifiedTime = resolveLastModifiedTime(key);
+
+			if (lastModifiedTime != null) {
+				return refreshAheadPolicy.freshnessOf(System.currentTimeMillis() - lastModifiedTime,
+					this.refreshTimeToLive);
+			}
+		}
+
+		return RefreshAheadPolicy.Freshness.FRESH;
+	}
+
+	/* (non-Javadoc) */
+	private Long resolveLastModifiedTime(Object key) {
+		try {
+			Region.Entry<?, ?> entry = getNativeCache().getEntry(key);
+
+			return (entry != null && entry.getStatistics() != null ? entry.getStatistics().getLastModifiedTime()
+				: null);
+		}
+		catch (RuntimeException ignore) {
+			// statistics are disabled, or the Region does not hold entries locally
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the values cached with the given keys, read from the {@link Region} in a single
+	 * {@link Region#getAll(Collection)} operation.  Keys not present in the cache, or whose entries
+	 * have expired according to the {@link RefreshAheadPolicy}, are omitted from the returned {@link Map}.
+	 *
+	 * @param keys {@link Collection} of keys to lookup.
+	 * @return a {@link Map} of the cached values by key, in the iteration order of the given keys.
+	 * @see org.apache.geode.cache.Region#getAll(Collection)
+	 */
+	public Map<Object, Object> getAll(Collection<?> keys) {
+		Map<Object, Object> values = lookupAll(keys);
+
+		recordStatistic(statistics -> {
+			statistics.recordHits(values.size());
+			statistics.recordMisses(keys.size() - values.size());
+		});
+
+		return values;
+	}
+
+	/**
+	 * Looks up the values cached with the given keys.
+	 *
+	 * @param keys {@link Collection} of keys to lookup.
+	 * @return a {@link Map} of the cached values by key, in the iteration order of the given keys.
+	 * @see #getAll(Collection)
+	 */
+	@SuppressWarnings("unchecked")
+	protected Map<Object, Object> lookupAll(Collection<?> keys) {
+		Map<Object, Object> values = new LinkedHashMap<>();
+
+		if (!keys.isEmpty()) {
+			Map<Object, Object> regionValues = getNativeCache().getAll(keys);
+
+			for (Object key : keys) {
+				Object value = (regionValues != null ? regionValues.get(key) : null);
+
+				if (value != null && freshnessOf(key) != RefreshAheadPolicy.Freshness.EXPIRED) {
+					values.put(key, value);
+				}
+			}
+		}
+
+		return values;
+	}
+
+	/**
+	 * Stores all the given values in the cache with a single {@link Region#putAll(Map)} operation.
+	 * {@literal null} values are not stored.
+	 *
+	 * @param values {@link Map} of values to store by key.
+	 * @see org.apache.geode.cache.Region#putAll(Map)
+	 */
+	@SuppressWarnings("unchecked")
+	public void putAll(Map<?, ?> values) {
+		Map<Object, Object> nonNullValues = new LinkedHashMap<>(values.size());
+
+		values.forEach((key, value) -> {
+			if (value != null) {
+				nonNullValues.put(key, value);
+			}
+		});
+
+		if (!nonNullValues.isEmpty()) {
+			getNativeCache().putAll(nonNullValues);
+			recordStatistic(statistics -> statistics.recordPuts(nonNullValues.size()));
+		}
+	}
+
 	/**
 	 * Stores the given value in the cache referenced by the given key.  This operation will only store the value
 	 * if the value is not {@literal null}.
@@ -191,6 +672,7 @@ public class GemfireCache implements Cache {
 	public void put(Object key, Object value) {
 		if (value != null) {
 			getNativeCache().put(key, value);
+			recordStatistic(statistics -> statistics.recordPuts(1L));
 		}
 	}
 
@@ -207,6 +689,22 @@ public class GemfireCache implements Cache {
 	public ValueWrapper putIfAbsent(Object key, Object value) {
 		Object existingValue = getNativeCache().putIfAbsent(key, value);
 
+		if (existingValue == null) {
+			recordStatistic(statistics -> statistics.recordPuts(1L));
+		}
+
 		return (existingValue != null ? new SimpleValueWrapper(existingValue) : null);
 	}
+
+	/**
+	 * Load of a value in progress, awaited by concurrent callers for the same key.
+	 */
+	private static class Load extends CompletableFuture<Object> {
+
+		private final Thread owner = Thread.currentThread();
+
+		boolean isOwnedByCurrentThread() {
+			return (this.owner == Thread.currentThread());
+		}
+	}
 }
@@ -18,15 +18,30 @@ package org.springframework.data.gemfire.cache;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.support.AbstractCacheManager;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Core Spring Framework {@link CacheManager} implementation backed by a GemFire cache instance
@@ -45,12 +60,28 @@ import org.springframework.util.Assert;
  * @see org.apache.geode.cache.Region
  */
 @SuppressWarnings("unused")
-public class GemfireCacheManager extends AbstractCacheManager {
+public class GemfireCacheManager extends AbstractCacheManager implements BeanNameAware, DisposableBean {
+
+	public static final String STATISTICS_MBEAN_DOMAIN = "org.springframework.data.gemfire";
+
+	protected final Log logger = LogFactory.getLog(getClass());
 
 	private final AtomicBoolean dynamic = new AtomicBoolean(true);
 
 	private org.apache.geode.cache.GemFireCache gemfireCache;
 
+	private GemfireCache.LoadCoordination loadCoordination = GemfireCache.LoadCoordination.LOCAL;
+
+	private boolean statisticsEnabled;
+
+	private MBeanServer mbeanServer;
+
+	private String beanName;
+
+	private RefreshAheadPolicy refreshAheadPolicy;
+
+	private final Set<ObjectName> registeredObjectNames = new CopyOnWriteArraySet<>();
+
 	private Set<Region<?, ?>> regions;
 
 	private Set<String> cacheNames;
@@ -144,7 +175,101 @@ public class GemfireCacheManager extends AbstractCacheManager {
 	 * @see org.apache.geode.cache.Region
 	 */
 	protected GemfireCache newGemfireCache(Region<?, ?> region) {
-		return GemfireCache.wrap(region);
+		return configureGemfireCache(GemfireCache.wrap(region));
+	}
+
+	/**
+	 * Applies the {@link GemfireCache.LoadCoordination} strategy, {@link RefreshAheadPolicy} and statistics
+	 * settings of this {@link CacheManager} to the given, newly created {@link GemfireCache}, and registers
+	 * its {@link GemfireCacheStatistics} with the {@link MBeanServer}, if configured.
+	 *
+	 * @param <T> {@link Class} type of the {@link GemfireCache}.
+	 * @param cache {@link GemfireCache} to configure.
+	 * @return the given {@link GemfireCache}.
+	 */
+	protected <T extends GemfireCache> T configureGemfireCache(T cache) {
+		cache.setLoadCoordination(getLoadCoordination());
+		cache.setRefreshAheadPolicy(getRefreshAheadPolicy());
+		cache.setStatisticsEnabled(isStatisticsEnabled());
+
+		if (cache.isStatisticsEnabled() && getMBeanServer() != null) {
+			registerStatisticsMBean(cache.getStatistics());
+		}
+
+		return cache;
+	}
+
+	/* (non-Javadoc) */
+	private void registerStatisticsMBean(GemfireCacheStatistics statistics) {
+		try {
+			ObjectName objectName = newStatisticsObjectName(statistics.getCacheName());
+
+			getMBeanServer().registerMBean(statistics, objectName);
+			this.registeredObjectNames.add(objectName);
+		}
+		catch (InstanceAlreadyExistsException e) {
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("Statistics MBean for cache [%1$s] is already registered as [%2$s];"
+					+ " skipping registration", statistics.getCacheName(), e.getMessage()));
+			}
+		}
+		catch (JMException e) {
+			throw new IllegalStateException(String.format("Failed to register statistics MBean for cache [%s]",
+				statistics.getCacheName()), e);
+		}
+	}
+
+	/**
+	 * Constructs the JMX {@link ObjectName} under which the {@link GemfireCacheStatistics} of the named cache
+	 * are registered.  The {@link ObjectName} is qualified by the bean name of this {@link CacheManager},
+	 * or else its identity, so that the statistics of caches with the same name managed by different
+	 * {@link CacheManager CacheManagers} sharing the {@link MBeanServer} do not collide.
+	 *
+	 * @param cacheName name of the cache.
+	 * @return the JMX {@link ObjectName} of the {@link GemfireCacheStatistics} MBean.
+	 * @throws MalformedObjectNameException if the {@link ObjectName} is invalid.
+	 */
+	protected ObjectName newStatisticsObjectName(String cacheName) throws MalformedObjectNameException {
+		return new ObjectName(String.format("%1$s:type=GemfireCacheStatistics,manager=%2$s,name=%3$s",
+			STATISTICS_MBEAN_DOMAIN, ObjectName.quote(resolveManagerName()), ObjectName.quote(cacheName)));
+	}
+
+	/* (non-Javadoc) */
+	private String resolveManagerName() {
+		return (StringUtils.hasText(this.beanName) ? this.beanName : ObjectUtils.getIdentityHexString(this));
+	}
+
+	/**
+	 * Sets the name of this {@link CacheManager} bean, which qualifies the JMX {@link ObjectName ObjectNames}
+	 * of the {@link GemfireCacheStatistics} MBeans.
+	 *
+	 * @param beanName name of this {@link CacheManager} bean in the Spring container.
+	 * @see #newStatisticsObjectName(String)
+	 */
+	@Override
+	public void setBeanName(String beanName) {
+		this.beanName = beanName;
+	}
+
+	/**
+	 * Unregisters the {@link GemfireCacheStatistics} MBeans registered by this {@link CacheManager}.
+	 */
+	@Override
+	public void destroy() {
+		MBeanServer mbeanServer = getMBeanServer();
+
+		if (mbeanServer != null) {
+			for (ObjectName objectName : this.registeredObjectNames) {
+				try {
+					mbeanServer.unregisterMBean(objectName);
+				}
+				catch (JMException ignore) {
+					// the MBean was already unregistered
+				}
+			}
+		}
+
+		this.registeredObjectNames.clear();
 	}
 
 	/* (non-Javadoc) */
@@ -208,6 +333,102 @@ public class GemfireCacheManager extends AbstractCacheManager {
 		return this.gemfireCache;
 	}
 
+	/**
+	 * Sets the {@link GemfireCache.LoadCoordination} strategy used by the Spring {@link Cache Caches} created by
+	 * this {@link CacheManager} to load missing values in {@link Cache#get(Object, java.util.concurrent.Callable)}.
+	 *
+	 * @param loadCoordination {@link GemfireCache.LoadCoordination} strategy.
+	 * @see GemfireCache#setLoadCoordination(GemfireCache.LoadCoordination)
+	 */
+	public void setLoadCoordination(GemfireCache.LoadCoordination loadCoordination) {
+		Assert.notNull(loadCoordination, "LoadCoordination must not be null");
+		this.loadCoordination = loadCoordination;
+	}
+
+	/**
+	 * Returns the {@link GemfireCache.LoadCoordination} strategy used by the Spring {@link Cache Caches}
+	 * created by this {@link CacheManager}.
+	 *
+	 * @return the {@link GemfireCache.LoadCoordination} strategy.
+	 */
+	protected GemfireCache.LoadCoordination getLoadCoordination() {
+		return this.loadCoordination;
+	}
+
+	/**
+	 * Sets the {@link RefreshAheadPolicy} used by the Spring {@link Cache Caches} created by this
+	 * {@link CacheManager} to reload entries before they expire.
+	 *
+	 * @param refreshAheadPolicy {@link RefreshAheadPolicy}; may be {@literal null}.
+	 * @see GemfireCache#setRefreshAheadPolicy(RefreshAheadPolicy)
+	 */
+	public void setRefreshAheadPolicy(RefreshAheadPolicy refreshAheadPolicy) {
+		this.refreshAheadPolicy = refreshAheadPolicy;
+	}
+
+	/**
+	 * Returns the {@link RefreshAheadPolicy} used by the Spring {@link Cache Caches} created by
+	 * this {@link CacheManager}.
+	 *
+	 * @return the {@link RefreshAheadPolicy}, or {@literal null} if entries are not refreshed.
+	 */
+	protected RefreshAheadPolicy getRefreshAheadPolicy() {
+		return this.refreshAheadPolicy;
+	}
+
+	/**
+	 * Enables or disables recording {@link GemfireCacheStatistics} for the Spring {@link Cache Caches}
+	 * created by this {@link CacheManager}.  Statistics are disabled by default.
+	 *
+	 * @param statisticsEnabled boolean indicating whether to record statistics.
+	 * @see GemfireCache#setStatisticsEnabled(boolean)
+	 * @see #getCacheStatistics()
+	 */
+	public void setStatisticsEnabled(boolean statisticsEnabled) {
+		this.statisticsEnabled = statisticsEnabled;
+	}
+
+	protected boolean isStatisticsEnabled() {
+		return this.statisticsEnabled;
+	}
+
+	/**
+	 * Sets the JMX {@link MBeanServer} with which the {@link GemfireCacheStatistics} of each Spring {@link Cache}
+	 * created by this {@link CacheManager} are registered, when statistics are enabled.
+	 *
+	 * @param mbeanServer JMX {@link MBeanServer}, such as
+	 * {@link java.lang.management.ManagementFactory#getPlatformMBeanServer()}.
+	 * @see #setStatisticsEnabled(boolean)
+	 */
+	public void setMBeanServer(MBeanServer mbeanServer) {
+		this.mbeanServer = mbeanServer;
+	}
+
+	protected MBeanServer getMBeanServer() {
+		return this.mbeanServer;
+	}
+
+	/**
+	 * Returns the {@link GemfireCacheStatistics} of the Spring {@link Cache Caches} managed by this
+	 * {@link CacheManager} by cache name, for publishing to a metrics registry.
+	 *
+	 * @return a {@link Map} of {@link GemfireCacheStatistics} by cache name, which is empty if statistics
+	 * are disabled.
+	 */
+	public Map<String, GemfireCacheStatistics> getCacheStatistics() {
+		Map<String, GemfireCacheStatistics> cacheStatistics = new TreeMap<>();
+
+		for (String cacheName : getCacheNames()) {
+			Cache cache = lookupCache(cacheName);
+
+			if (cache instanceof GemfireCache && ((GemfireCache) cache).isStatisticsEnabled()) {
+				cacheStatistics.put(cacheName, ((GemfireCache) cache).getStatistics());
+			}
+		}
+
+		return cacheStatistics;
+	}
+
 	/**
 	 * Sets the names of all Spring {@link Cache Caches} that will be used in the application.
 	 *
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics recorded by a {@link GemfireCache} with statistics enabled.
+ *
+ * Hits and misses are recorded by lookups of a single key, or many keys, and loads by
+ * {@link GemfireCache#get(Object, java.util.concurrent.Callable)}, including asynchronous refreshes.
+ * Load times are measured in nanoseconds and reported in milliseconds.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.cache.GemfireCache#setStatisticsEnabled(boolean)
+ * @see org.springframework.data.gemfire.cache.GemfireCacheStatisticsMXBean
+ * @since 2.1.0
+ */
+public class GemfireCacheStatistics implements GemfireCacheStatisticsMXBean {
+
+	private final LongAdder clears = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder loadFailures = new LongAdder();
+	private final LongAdder loads = new LongAdder();
+	private final LongAdder loadTime = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder puts = new LongAdder();
+
+	private final String cacheName;
+
+	GemfireCacheStatistics(String cacheName) {
+		this.cacheName = cacheName;
+	}
+
+	void recordClear() {
+		this.clears.increment();
+	}
+
+	void recordEviction() {
+		this.evictions.increment();
+	}
+
+	void recordHits(long count) {
+		this.hits.add(count);
+	}
+
+	void recordLoad(long nanoseconds) {
+		this.loads.increment();
+		this.loadTime.add(nanoseconds);
+	}
+
+	void recordLoadFailure(long nanoseconds) {
+		this.loadFailures.increment();
+		this.loadTime.add(nanoseconds);
+	}
+
+	void recordMisses(long count) {
+		this.misses.add(count);
+	}
+
+	void recordPuts(long count) {
+		this.puts.add(count);
+	}
+
+	/**
+	 * Returns the name of the {@link GemfireCache} recording these statistics.
+	 */
+	@Override
+	public String getCacheName() {
+		return this.cacheName;
+	}
+
+	/**
+	 * Returns the number of times the {@link GemfireCache} was cleared.
+	 */
+	@Override
+	public long getClearCount() {
+		return this.clears.sum();
+	}
+
+	/**
+	 * Returns the number of entries evicted from the {@link GemfireCache} by the application.
+	 */
+	@Override
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+	@Override
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Returns the ratio of hits to lookups, or {@literal 0.0} if there were no lookups.
+	 */
+	@Override
+	public double getHitRatio() {
+
+		long hits = getHitCount();
+		long lookups = hits + getMissCount();
+
+		return (lookups > 0L ? (double) hits / lookups : 0.0d);
+	}
+
+	/**
+	 * Returns the number of values successfully loaded by a value loader.
+	 */
+	@Override
+	public long getLoadCount() {
+		return this.loads.sum();
+	}
+
+	/**
+	 * Returns the number of value loader invocations that threw an exception.
+	 */
+	@Override
+	public long getLoadFailureCount() {
+		return this.loadFailures.sum();
+	}
+
+	/**
+	 * Returns the average time, in milliseconds, of value loader invocations, or {@literal 0.0}
+	 * if no values were loaded.
+	 */
+	@Override
+	public double getAverageLoadTime() {
+
+		long loads = getLoadCount() + getLoadFailureCount();
+
+		return (loads > 0L ? (double) this.loadTime.sum() / loads / TimeUnit.MILLISECONDS.toNanos(1) : 0.0d);
+	}
+
+	/**
+	 * Returns the total time, in milliseconds, spent in value loader invocations.
+	 */
+	@Override
+	public long getTotalLoadTime() {
+		return TimeUnit.NANOSECONDS.toMillis(this.loadTime.sum());
+	}
+
+	@Override
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	@Override
+	public long getPutCount() {
+		return this.puts.sum();
+	}
+
+	/**
+	 * Resets all statistics to {@literal 0}.
+	 */
+	@Override
+	public void reset() {
+		this.clears.reset();
+		this.evictions.reset();
+		this.hits.reset();
+		this.loadFailures.reset();
+		this.loads.reset();
+		this.loadTime.reset();
+		this.misses.reset();
+		this.puts.reset();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ cacheName = %1$s, hits = %2$d, misses = %3$d, puts = %4$d, loads = %5$d,"
+			+ " loadFailures = %6$d, totalLoadTime = %7$d ms, evictions = %8$d, clears = %9$d }", getCacheName(),
+				getHitCount(), getMissCount(), getPutCount(), getLoadCount(), getLoadFailureCount(),
+					getTotalLoadTime(), getEvictionCount(), getClearCount());
+	}
+}
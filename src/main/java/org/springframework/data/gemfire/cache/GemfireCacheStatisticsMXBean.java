@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+/**
+ * JMX management interface exposing the {@link GemfireCacheStatistics} of a {@link GemfireCache}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.cache.GemfireCacheStatistics
+ * @since 2.1.0
+ */
+public interface GemfireCacheStatisticsMXBean {
+
+	String getCacheName();
+
+	long getClearCount();
+
+	long getEvictionCount();
+
+	long getHitCount();
+
+	double getHitRatio();
+
+	long getLoadCount();
+
+	long getLoadFailureCount();
+
+	double getAverageLoadTime();
+
+	long getTotalLoadTime();
+
+	long getMissCount();
+
+	long getPutCount();
+
+	void reset();
+
+}
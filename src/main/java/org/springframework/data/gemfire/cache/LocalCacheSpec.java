@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.function.ToLongBiFunction;
+
+import org.springframework.util.Assert;
+
+/**
+ * Specification of the local, on-heap tier of a {@link TieredGemfireCache}: the maximum number of entries,
+ * or the maximum total weight of the entries, and the time an entry lives in the local tier.
+ *
+ * When both limits are set, the least recently used entries are evicted as soon as either limit is exceeded.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.cache.TieredGemfireCache
+ * @see org.springframework.data.gemfire.cache.TieredGemfireCacheManager
+ * @since 2.1.0
+ */
+@SuppressWarnings("unused")
+public class LocalCacheSpec {
+
+	public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+	private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+	private long maxWeight = Long.MAX_VALUE;
+	private long timeToLive = 0L;
+
+	private ToLongBiFunction<Object, Object> weigher = (key, value) -> 1L;
+
+	/**
+	 * Sets the maximum number of entries held in the local tier.  Defaults to {@literal 10000}.
+	 *
+	 * @param maxEntries maximum number of entries; must be greater than 0.
+	 */
+	public void setMaxEntries(int maxEntries) {
+		Assert.isTrue(maxEntries > 0, String.format("maxEntries [%d] must be greater than 0", maxEntries));
+		this.maxEntries = maxEntries;
+	}
+
+	public int getMaxEntries() {
+		return this.maxEntries;
+	}
+
+	/**
+	 * Sets the maximum total weight of the entries held in the local tier, as computed by the
+	 * {@link #setWeigher(ToLongBiFunction) weigher}.  Defaults to no limit.
+	 *
+	 * @param maxWeight maximum total weight; must be greater than 0.
+	 */
+	public void setMaxWeight(long maxWeight) {
+		Assert.isTrue(maxWeight > 0L, String.format("maxWeight [%d] must be greater than 0", maxWeight));
+		this.maxWeight = maxWeight;
+	}
+
+	public long getMaxWeight() {
+		return this.maxWeight;
+	}
+
+	/**
+	 * Sets the time in milliseconds an entry lives in the local tier after it was stored, regardless of any
+	 * expiration of the {@link org.apache.geode.cache.Region}.  Defaults to no expiration.
+	 *
+	 * @param timeToLive time to live in milliseconds; 0 disables expiration.
+	 */
+	public void setTimeToLive(long timeToLive) {
+		Assert.isTrue(timeToLive >= 0L, String.format("timeToLive [%d] must be greater than or equal to 0",
+			timeToLive));
+		this.timeToLive = timeToLive;
+	}
+
+	public long getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Sets the function computing the weight of an entry.  Defaults to a weight of {@literal 1} per entry.
+	 *
+	 * @param weigher {@link ToLongBiFunction} computing the weight of a key and value.
+	 */
+	public void setWeigher(ToLongBiFunction<Object, Object> weigher) {
+		Assert.notNull(weigher, "Weigher must not be null");
+		this.weigher = weigher;
+	}
+
+	public ToLongBiFunction<Object, Object> getWeigher() {
+		return this.weigher;
+	}
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded, on-heap tier of a {@link TieredGemfireCache} evicting the least recently used entries when
+ * the maximum number of entries or the maximum total weight of the {@link LocalCacheSpec} is exceeded,
+ * and expiring entries after their time to live.
+ *
+ * The entries are partitioned by key into segments, each guarded by its own lock and holding its share of
+ * the limits, so that concurrent readers of different keys rarely contend.  Least recently used entries are
+ * therefore evicted per segment.  Each segment also counts the invalidations of its entries, so that a value
+ * read from the {@link org.apache.geode.cache.Region} is only stored if no entry of the segment was invalidated
+ * while the value was read; see {@link #version(Object)} and {@link #putIfCurrent(Object, Object, long)}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.cache.LocalCacheSpec
+ * @see org.springframework.data.gemfire.cache.TieredGemfireCache
+ * @since 2.1.0
+ */
+class LocalCacheTier {
+
+	static final int MIN_SEGMENT_SIZE = 20;
+
+	private final CacheTierStatistics statistics;
+
+	private final LocalCacheSpec spec;
+
+	private final Segment[] segments;
+
+	LocalCacheTier(LocalCacheSpec spec, CacheTierStatistics statistics) {
+		this(spec, statistics, Runtime.getRuntime().availableProcessors());
+	}
+
+	LocalCacheTier(LocalCacheSpec spec, CacheTierStatistics statistics, int concurrencyLevel) {
+
+		this.spec = spec;
+		this.statistics = statistics;
+
+		int segmentCount = 1;
+
+		// every segment must be able to hold a useful number of entries
+		while (segmentCount < concurrencyLevel
+				&& (long) segmentCount * 2 * MIN_SEGMENT_SIZE <= spec.getMaxEntries()
+				&& (long) segmentCount * 2 * MIN_SEGMENT_SIZE <= spec.getMaxWeight()) {
+
+			segmentCount <<= 1;
+		}
+
+		this.segments = new Segment[segmentCount];
+
+		for (int index = 0; index < segmentCount; index++) {
+			this.segments[index] = new Segment(share(spec.getMaxEntries(), index, segmentCount),
+				(spec.getMaxWeight() == Long.MAX_VALUE ? Long.MAX_VALUE
+					: share(spec.getMaxWeight(), index, segmentCount)));
+		}
+	}
+
+	/* (non-Javadoc) */
+	private static long share(long limit, int index, int segmentCount) {
+		return (limit / segmentCount) + (index < limit % segmentCount ? 1L : 0L);
+	}
+
+	/* (non-Javadoc) */
+	long now() {
+		return System.nanoTime();
+	}
+
+	/* (non-Javadoc) */
+	int getSegmentCount() {
+		return this.segments.length;
+	}
+
+	/* (non-Javadoc) */
+	private Segment segmentFor(Object key) {
+		int hash = (key != null ? key.hashCode() : 0);
+
+		return this.segments[(hash ^ (hash >>> 16)) & (this.segments.length - 1)];
+	}
+
+	/**
+	 * Returns the value of the given key, or {@literal null} if the key is not held in this tier
+	 * or its time to live has elapsed.
+	 */
+	Object get(Object key) {
+		return segmentFor(key).get(key);
+	}
+
+	void put(Object key, Object value) {
+		segmentFor(key).put(key, value);
+	}
+
+	/**
+	 * Returns the version of the segment holding the given key, to be passed to
+	 * {@link #putIfCurrent(Object, Object, long)} when storing a value read from the
+	 * {@link org.apache.geode.cache.Region} after calling this method.
+	 */
+	long version(Object key) {
+		return segmentFor(key).version();
+	}
+
+	/**
+	 * Stores the value of the given key read from the {@link org.apache.geode.cache.Region} unless this tier
+	 * already holds the key, for example because the value was put concurrently, or an entry of the segment
+	 * holding the key was invalidated since the given version was obtained, in which case the value may
+	 * be outdated.
+	 *
+	 * @return a boolean indicating whether the value was stored.
+	 */
+	boolean putIfCurrent(Object key, Object value, long version) {
+		return segmentFor(key).putIfCurrent(key, value, version);
+	}
+
+	boolean invalidate(Object key) {
+		return segmentFor(key).invalidate(key);
+	}
+
+	void clear() {
+		Arrays.stream(this.segments).forEach(Segment::clear);
+	}
+
+	int size() {
+		return Arrays.stream(this.segments).mapToInt(Segment::size).sum();
+	}
+
+	long getWeight() {
+		return Arrays.stream(this.segments).mapToLong(Segment::getWeight).sum();
+	}
+
+	private final class Segment {
+
+		private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+		private final long maxEntries;
+		private final long maxWeight;
+
+		private long version;
+		private long weight;
+
+		private Segment(long maxEntries, long maxWeight) {
+			this.maxEntries = maxEntries;
+			this.maxWeight = maxWeight;
+		}
+
+		synchronized Object get(Object key) {
+
+			Entry entry = this.entries.get(key);
+
+			if (entry != null && entry.isExpired(now())) {
+				removeEntry(key);
+				statistics.recordExpiration();
+				entry = null;
+			}
+
+			if (entry != null) {
+				statistics.recordHit();
+				return entry.value;
+			}
+
+			statistics.recordMiss();
+
+			return null;
+		}
+
+		synchronized void put(Object key, Object value) {
+
+			long entryWeight = spec.getWeigher().applyAsLong(key, value);
+
+			long expirationTime = (spec.getTimeToLive() > 0L
+				? now() + TimeUnit.MILLISECONDS.toNanos(spec.getTimeToLive()) : Long.MAX_VALUE);
+
+			Entry oldEntry = this.entries.put(key, new Entry(value, entryWeight, expirationTime));
+
+			this.weight += entryWeight - (oldEntry != null ? oldEntry.weight : 0L);
+			statistics.recordPut();
+
+			evict();
+		}
+
+		synchronized boolean putIfCurrent(Object key, Object value, long version) {
+
+			Entry entry = this.entries.get(key);
+
+			if (this.version != version || (entry != null && !entry.isExpired(now()))) {
+				return false;
+			}
+
+			put(key, value);
+
+			return true;
+		}
+
+		/**
+		 * Evicts the least recently used entries until this segment is within its size limits.
+		 */
+		private void evict() {
+
+			Iterator<Map.Entry<Object, Entry>> iterator = this.entries.entrySet().iterator();
+
+			while (iterator.hasNext() && (this.entries.size() > this.maxEntries || this.weight > this.maxWeight)) {
+				this.weight -= iterator.next().getValue().weight;
+				iterator.remove();
+				statistics.recordEviction();
+			}
+		}
+
+		synchronized long version() {
+			return this.version;
+		}
+
+		synchronized boolean invalidate(Object key) {
+			this.version++;
+			return (removeEntry(key) != null);
+		}
+
+		synchronized void clear() {
+			this.version++;
+			this.entries.clear();
+			this.weight = 0L;
+		}
+
+		synchronized int size() {
+			return this.entries.size();
+		}
+
+		synchronized long getWeight() {
+			return this.weight;
+		}
+
+		/* (non-Javadoc) */
+		private Entry removeEntry(Object key) {
+
+			Entry entry = this.entries.remove(key);
+
+			if (entry != null) {
+				this.weight -= entry.weight;
+			}
+
+			return entry;
+		}
+	}
+
+	private static final class Entry {
+
+		private final long expirationTime;
+		private final long weight;
+
+		private final Object value;
+
+		private Entry(Object value, long weight, long expirationTime) {
+			this.value = value;
+			this.weight = weight;
+			this.expirationTime = expirationTime;
+		}
+
+		private boolean isExpired(long now) {
+			return (this.expirationTime != Long.MAX_VALUE && now - this.expirationTime >= 0L);
+		}
+	}
+}
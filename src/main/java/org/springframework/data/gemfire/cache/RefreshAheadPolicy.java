@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Policy reloading the entries of a {@link GemfireCache} before they expire, so that callers of
+ * {@link GemfireCache#get(Object, java.util.concurrent.Callable)} rarely wait for a value to be loaded.
+ *
+ * An entry is considered due for a refresh once its age, i.e. the time since it was loaded or last modified,
+ * exceeds the {@link #setRefreshAheadFactor(double) refresh-ahead factor} of its {@link #setTimeToLive(long)
+ * time to live}.  The next caller reading the entry then schedules a reload on the
+ * {@link #setExecutor(Executor) refresh Executor} and immediately returns the current value.  Only entries
+ * that are read are refreshed.
+ *
+ * Once the time to live has elapsed, the entry is expired and callers wait for a reload, unless the entry is
+ * younger than the time to live plus the {@link #setStaleWhileRevalidate(long) stale-while-revalidate} period,
+ * in which case the stale value is returned while the entry is reloaded asynchronously.  The expiration of
+ * the {@link org.apache.geode.cache.Region}, if any, should therefore be at least the time to live plus
+ * the stale-while-revalidate period.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.cache.GemfireCache#setRefreshAheadPolicy(RefreshAheadPolicy)
+ * @see org.springframework.data.gemfire.cache.GemfireCacheManager#setRefreshAheadPolicy(RefreshAheadPolicy)
+ * @since 2.1.0
+ */
+@SuppressWarnings("unused")
+public class RefreshAheadPolicy {
+
+	public static final double DEFAULT_REFRESH_AHEAD_FACTOR = 0.8d;
+
+	public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+	/**
+	 * Freshness of a cache entry according to this policy.
+	 */
+	enum Freshness {
+		FRESH, REFRESH_DUE, STALE, EXPIRED
+	}
+
+	private double refreshAheadFactor = DEFAULT_REFRESH_AHEAD_FACTOR;
+
+	private volatile Executor executor;
+
+	private long staleWhileRevalidate = 0L;
+	private long timeToLive = 0L;
+
+	/**
+	 * Sets the {@link Executor} reloading entries asynchronously.  Defaults to a pool with one daemon thread per
+	 * available processor and a bounded queue of {@literal 1000} reloads; reloads exceeding its capacity are skipped
+	 * and attempted again on the next read.
+	 *
+	 * @param executor {@link Executor} reloading entries.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	public Executor getExecutor() {
+
+		Executor executor = this.executor;
+
+		if (executor == null) {
+			synchronized (this) {
+				executor = this.executor;
+
+				if (executor == null) {
+					executor = newDefaultExecutor();
+					this.executor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+
+	/* (non-Javadoc) */
+	private Executor newDefaultExecutor() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("GemfireCacheRefresh-");
+
+		threadFactory.setDaemon(true);
+
+		int poolSize = Runtime.getRuntime().availableProcessors();
+
+		return new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(DEFAULT_QUEUE_CAPACITY), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * Sets the fraction of the time to live after which an entry is reloaded ahead of its expiration.
+	 * Defaults to {@literal 0.8}.
+	 *
+	 * @param refreshAheadFactor fraction greater than 0.0 and less than or equal to 1.0; 1.0 disables
+	 * refreshing ahead, leaving only stale-while-revalidate.
+	 */
+	public void setRefreshAheadFactor(double refreshAheadFactor) {
+		Assert.isTrue(refreshAheadFactor > 0.0d && refreshAheadFactor <= 1.0d,
+			() -> String.format("refreshAheadFactor [%s] must be greater than 0.0 and less than or equal to 1.0",
+				refreshAheadFactor));
+		this.refreshAheadFactor = refreshAheadFactor;
+	}
+
+	public double getRefreshAheadFactor() {
+		return this.refreshAheadFactor;
+	}
+
+	/**
+	 * Sets the period in milliseconds after the time to live during which an expired entry is still returned
+	 * while it is reloaded asynchronously.  Defaults to {@literal 0}, i.e. callers wait for expired entries
+	 * to be reloaded.
+	 *
+	 * @param staleWhileRevalidate stale-while-revalidate period in milliseconds.
+	 */
+	public void setStaleWhileRevalidate(long staleWhileRevalidate) {
+		Assert.isTrue(staleWhileRevalidate >= 0L, String.format(
+			"staleWhileRevalidate [%d] must be greater than or equal to 0", staleWhileRevalidate));
+		this.staleWhileRevalidate = staleWhileRevalidate;
+	}
+
+	public long getStaleWhileRevalidate() {
+		return this.staleWhileRevalidate;
+	}
+
+	/**
+	 * Sets the time to live of entries in milliseconds.  When not set, the entry time to live configured on
+	 * the {@link org.apache.geode.cache.Region} is used.
+	 *
+	 * @param timeToLive time to live in milliseconds.
+	 */
+	public void setTimeToLive(long timeToLive) {
+		Assert.isTrue(timeToLive >= 0L, String.format("timeToLive [%d] must be greater than or equal to 0",
+			timeToLive));
+		this.timeToLive = timeToLive;
+	}
+
+	public long getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Determines the {@link Freshness} of an entry of the given age.
+	 *
+	 * @param age age of the entry in milliseconds.
+	 * @param timeToLive resolved time to live of the entry in milliseconds; must be greater than 0.
+	 */
+	Freshness freshnessOf(long age, long timeToLive) {
+
+		return (age >= timeToLive + getStaleWhileRevalidate() ? Freshness.EXPIRED
+			: age >= timeToLive ? Freshness.STALE
+			: age >= (long) (timeToLive * getRefreshAheadFactor()) && getRefreshAheadFactor() < 1.0d
+				? Freshness.REFRESH_DUE
+			: Freshness.FRESH);
+	}
+}
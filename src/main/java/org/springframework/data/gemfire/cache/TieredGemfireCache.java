@@ -0,0 +1,306 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link GemfireCache} holding recently used values in a bounded, local, on-heap tier (L1) in front of
+ * the GemFire {@link Region} (L2), avoiding a network round trip for repeated reads of the same key
+ * from a client {@link org.apache.geode.cache.client.ClientRegionShortcut#PROXY PROXY} {@link Region}.
+ *
+ * Entries are removed from the local tier when they are changed or removed in the {@link Region} by another JVM,
+ * as notified by a {@link org.apache.geode.cache.CacheListener} registered on the {@link Region}, see
+ * {@link #subscribeToRegionEvents(boolean)}.  A value read from the {@link Region} is only kept locally if
+ * no such notification was received while it was read, so that a read racing with a change does not reinstate
+ * the outdated value in the local tier.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @see org.springframework.data.gemfire.cache.LocalCacheSpec
+ * @see org.springframework.data.gemfire.cache.TieredGemfireCacheManager
+ * @since 2.1.0
+ */
+public class TieredGemfireCache extends GemfireCache {
+
+	private final CacheTierStatistics localStatistics = new CacheTierStatistics();
+	private final CacheTierStatistics regionStatistics = new CacheTierStatistics();
+
+	private final LocalCacheTier localTier;
+
+	/**
+	 * Constructs a new instance of {@link TieredGemfireCache} backed by the given {@link Region} with a local tier
+	 * as specified by the given {@link LocalCacheSpec}.
+	 *
+	 * @param region GemFire {@link Region} backing the Spring {@link org.springframework.cache.Cache}.
+	 * @param localCacheSpec {@link LocalCacheSpec} specifying the local tier.
+	 * @throws IllegalArgumentException if {@link Region} or {@link LocalCacheSpec} is {@literal null}.
+	 */
+	public TieredGemfireCache(Region<?, ?> region, LocalCacheSpec localCacheSpec) {
+		super(region);
+		Assert.notNull(localCacheSpec, "LocalCacheSpec must not be null");
+		this.localTier = new LocalCacheTier(localCacheSpec, this.localStatistics);
+	}
+
+	/**
+	 * Registers a {@link org.apache.geode.cache.CacheListener} on the {@link Region} removing entries from
+	 * the local tier when they change in another JVM, and, if {@code registerInterest} is {@literal true} and
+	 * the {@link Region} is a client {@link Region}, registers interest in all keys so that the servers send
+	 * the changes made by other clients.
+	 *
+	 * @param registerInterest boolean indicating whether to register interest in all keys of a client
+	 * {@link Region}, which requires a {@link org.apache.geode.cache.client.Pool} with subscriptions enabled.
+	 * @return this {@link TieredGemfireCache}.
+	 * @throws org.apache.geode.cache.client.SubscriptionNotEnabledException if {@code registerInterest} is
+	 * {@literal true} and subscriptions are not enabled on the {@link org.apache.geode.cache.client.Pool}
+	 * of the client {@link Region}.
+	 */
+	@SuppressWarnings("unchecked")
+	public TieredGemfireCache subscribeToRegionEvents(boolean registerInterest) {
+		Region region = getNativeCache();
+		AttributesMutator attributesMutator = region.getAttributesMutator();
+
+		attributesMutator.addCacheListener(new LocalTierInvalidatingCacheListener());
+
+		if (registerInterest && RegionUtils.isClient(region)) {
+			region.registerInterest("ALL_KEYS", InterestResultPolicy.NONE);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the statistics of the local tier.
+	 *
+	 * @return the {@link CacheTierStatistics} of the local tier.
+	 */
+	public CacheTierStatistics getLocalStatistics() {
+		return this.localStatistics;
+	}
+
+	/**
+	 * Returns the number of entries held in the local tier.
+	 *
+	 * @return the number of entries held in the local tier.
+	 */
+	public int getLocalSize() {
+		return this.localTier.size();
+	}
+
+	/**
+	 * Returns the statistics of the {@link Region} tier, which is only accessed on a miss in the local tier.
+	 *
+	 * @return the {@link CacheTierStatistics} of the {@link Region} tier.
+	 */
+	public CacheTierStatistics getRegionStatistics() {
+		return this.regionStatistics;
+	}
+
+	@Override
+	protected Object lookup(Object key) {
+		Object value = this.localTier.get(key);
+
+		if (value == null) {
+			long version = this.localTier.version(key);
+
+			value = super.lookup(key);
+
+			if (value != null) {
+				this.regionStatistics.recordHit();
+				this.localTier.putIfCurrent(key, value, version);
+			}
+			else {
+				this.regionStatistics.recordMiss();
+			}
+		}
+
+		return value;
+	}
+
+	@Override
+	protected Map<Object, Object> lookupAll(Collection<?> keys) {
+		Map<Object, Object> values = new LinkedHashMap<>();
+		Map<Object, Long> missingKeyVersions = new LinkedHashMap<>();
+
+		for (Object key : keys) {
+			Object value = this.localTier.get(key);
+
+			if (value != null) {
+				values.put(key, value);
+			}
+			else {
+				missingKeyVersions.put(key, this.localTier.version(key));
+			}
+		}
+
+		if (!missingKeyVersions.isEmpty()) {
+			Map<Object, Object> regionValues = super.lookupAll(new ArrayList<>(missingKeyVersions.keySet()));
+
+			for (Map.Entry<Object, Long> missingKey : missingKeyVersions.entrySet()) {
+				Object key = missingKey.getKey();
+				Object value = regionValues.get(key);
+
+				if (value != null) {
+					this.regionStatistics.recordHit();
+					this.localTier.putIfCurrent(key, value, missingKey.getValue());
+				}
+				else {
+					this.regionStatistics.recordMiss();
+				}
+			}
+
+			Map<Object, Object> localValues = values;
+
+			values = new LinkedHashMap<>();
+
+			for (Object key : keys) {
+				Object value = Optional.ofNullable(localValues.get(key)).orElseGet(() -> regionValues.get(key));
+
+				if (value != null) {
+					values.put(key, value);
+				}
+			}
+		}
+
+		return values;
+	}
+
+	@Override
+	public void putAll(Map<?, ?> values) {
+		super.putAll(values);
+
+		values.forEach((key, value) -> {
+			if (value != null) {
+				this.regionStatistics.recordPut();
+				this.localTier.put(key, value);
+			}
+		});
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		this.localTier.clear();
+	}
+
+	@Override
+	public void evict(Object key) {
+		super.evict(key);
+		this.localTier.invalidate(key);
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		super.put(key, value);
+
+		if (value != null) {
+			this.regionStatistics.recordPut();
+			this.localTier.put(key, value);
+		}
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		long version = this.localTier.version(key);
+
+		ValueWrapper existingValue = super.putIfAbsent(key, value);
+
+		if (existingValue == null) {
+			if (value != null) {
+				this.regionStatistics.recordPut();
+				this.localTier.put(key, value);
+			}
+		}
+		else if (existingValue.get() != null) {
+			this.localTier.putIfCurrent(key, existingValue.get(), version);
+		}
+
+		return existingValue;
+	}
+
+	/**
+	 * Removes the given key from the local tier because the entry was changed in another JVM.
+	 *
+	 * @param key key of the changed entry.
+	 */
+	protected void invalidateLocal(Object key) {
+		if (this.localTier.invalidate(key)) {
+			this.localStatistics.recordInvalidation();
+		}
+	}
+
+	/**
+	 * {@link org.apache.geode.cache.CacheListener} removing entries from the local tier when they are changed
+	 * in the {@link Region} by another JVM.
+	 */
+	class LocalTierInvalidatingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		@Override
+		public void afterCreate(EntryEvent<Object, Object> event) {
+			invalidate(event);
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			invalidate(event);
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			invalidate(event);
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<Object, Object> event) {
+			invalidate(event);
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<Object, Object> event) {
+			TieredGemfireCache.this.localTier.clear();
+		}
+
+		@Override
+		public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+			TieredGemfireCache.this.localTier.clear();
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+			TieredGemfireCache.this.localTier.clear();
+		}
+
+		private void invalidate(EntryEvent<Object, Object> event) {
+			if (event.isOriginRemote()) {
+				invalidateLocal(event.getKey());
+			}
+		}
+	}
+}
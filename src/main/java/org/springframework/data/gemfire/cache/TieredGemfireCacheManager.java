@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.geode.cache.Region;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.Assert;
+
+/**
+ * {@link GemfireCacheManager} creating {@link TieredGemfireCache TieredGemfireCaches}, which hold recently used
+ * values in a bounded, local, on-heap tier in front of the GemFire {@link Region Regions}.
+ *
+ * The local tier of each {@link Cache} is specified by the {@link LocalCacheSpec} registered for the cache name,
+ * or by the {@link #setDefaultLocalCacheSpec(LocalCacheSpec) default} {@link LocalCacheSpec}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.cache.GemfireCacheManager
+ * @see org.springframework.data.gemfire.cache.LocalCacheSpec
+ * @see org.springframework.data.gemfire.cache.TieredGemfireCache
+ * @since 2.1.0
+ */
+@SuppressWarnings("unused")
+public class TieredGemfireCacheManager extends GemfireCacheManager {
+
+	private boolean registerInterest = false;
+
+	private LocalCacheSpec defaultLocalCacheSpec = new LocalCacheSpec();
+
+	private Map<String, LocalCacheSpec> localCacheSpecs = Collections.emptyMap();
+
+	/**
+	 * Constructs a new instance of {@link TieredGemfireCache} initialized with the given GemFire {@link Region}
+	 * and the {@link LocalCacheSpec} of the cache name, subscribing to the events of the {@link Region}
+	 * to keep the local tier consistent.
+	 *
+	 * @param region GemFire {@link Region} to wrap (adapt).
+	 * @return an instance of {@link TieredGemfireCache} initialized with the given GemFire {@link Region}.
+	 * @see TieredGemfireCache#subscribeToRegionEvents(boolean)
+	 */
+	@Override
+	protected GemfireCache newGemfireCache(Region<?, ?> region) {
+		TieredGemfireCache cache = new TieredGemfireCache(region, resolveLocalCacheSpec(region.getName()));
+
+		return configureGemfireCache(cache).subscribeToRegionEvents(isRegisterInterest());
+	}
+
+	/* (non-Javadoc) */
+	LocalCacheSpec resolveLocalCacheSpec(String cacheName) {
+		return this.localCacheSpecs.getOrDefault(cacheName, getDefaultLocalCacheSpec());
+	}
+
+	/**
+	 * Sets the {@link LocalCacheSpec} of the local tier of {@link Cache Caches} without a {@link LocalCacheSpec}
+	 * of their own.
+	 *
+	 * @param defaultLocalCacheSpec default {@link LocalCacheSpec}; must not be {@literal null}.
+	 * @see #setLocalCacheSpecs(Map)
+	 */
+	public void setDefaultLocalCacheSpec(LocalCacheSpec defaultLocalCacheSpec) {
+		Assert.notNull(defaultLocalCacheSpec, "LocalCacheSpec must not be null");
+		this.defaultLocalCacheSpec = defaultLocalCacheSpec;
+	}
+
+	protected LocalCacheSpec getDefaultLocalCacheSpec() {
+		return this.defaultLocalCacheSpec;
+	}
+
+	/**
+	 * Sets the {@link LocalCacheSpec} of the local tier of {@link Cache Caches} by cache name.
+	 *
+	 * @param localCacheSpecs {@link Map} of cache name to {@link LocalCacheSpec}.
+	 */
+	public void setLocalCacheSpecs(Map<String, LocalCacheSpec> localCacheSpecs) {
+		this.localCacheSpecs = (localCacheSpecs != null ? new HashMap<>(localCacheSpecs) : Collections.emptyMap());
+	}
+
+	protected Map<String, LocalCacheSpec> getLocalCacheSpecs() {
+		return Collections.unmodifiableMap(this.localCacheSpecs);
+	}
+
+	/**
+	 * Sets whether interest in all keys is registered for client {@link Region Regions}, so that the servers notify
+	 * this {@link CacheManager} of changes made by other clients.  Defaults to {@literal false}, since registering
+	 * interest fails unless subscriptions are enabled on the {@link org.apache.geode.cache.client.Pool} of
+	 * the {@link Region}.  Without interest, changes made by other clients are only observed once entries
+	 * expire from the local tier, as specified by the {@link LocalCacheSpec#setTimeToLive(long) time to live}.
+	 *
+	 * @param registerInterest boolean indicating whether to register interest in all keys of client
+	 * {@link Region Regions}.
+	 */
+	public void setRegisterInterest(boolean registerInterest) {
+		this.registerInterest = registerInterest;
+	}
+
+	protected boolean isRegisterInterest() {
+		return this.registerInterest;
+	}
+}
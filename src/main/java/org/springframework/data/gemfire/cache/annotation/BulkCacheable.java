@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.core.annotation.AliasFor;
+
+/**
+ * The {@link BulkCacheable} annotation caches the individual entries of the {@link java.util.Map} returned by
+ * a method loading values for a {@link java.util.Collection} of keys.
+ *
+ * When the method is called, the values of all the requested keys are first looked up in the cache with a single
+ * {@link org.apache.geode.cache.Region#getAll(java.util.Collection)}.  The method is then only called for
+ * the keys missing from the cache, and the values it returns are stored with a single
+ * {@link org.apache.geode.cache.Region#putAll(java.util.Map)}.  The result combines the cached and loaded values,
+ * in the iteration order of the requested keys.
+ *
+ * The annotated method must declare a {@link java.util.Collection}, {@link java.util.List} or {@link java.util.Set}
+ * parameter of keys and return a {@link java.util.Map} of values by key.  Keys without a value in the returned
+ * {@link java.util.Map} are not cached.  Other method arguments do not participate in the cache key.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.cache.GemfireCache#getAll(java.util.Collection)
+ * @see org.springframework.data.gemfire.cache.GemfireCache#putAll(java.util.Map)
+ * @see org.springframework.data.gemfire.cache.interceptor.BulkCacheInterceptor
+ * @since 2.1.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BulkCacheable {
+
+	/**
+	 * Alias for {@link #cacheName()}.
+	 */
+	@AliasFor("cacheName")
+	String value() default "";
+
+	/**
+	 * Name of the {@link org.springframework.cache.Cache} in which the individual values are cached.
+	 */
+	@AliasFor("value")
+	String cacheName() default "";
+
+	/**
+	 * Index of the method parameter containing the {@link java.util.Collection} of keys.
+	 *
+	 * Defaults to {@literal -1}, which resolves the only {@link java.util.Collection} parameter of the method.
+	 */
+	int keysParameterIndex() default -1;
+
+}
@@ -17,10 +17,13 @@
 package org.springframework.data.gemfire.cache.config;
 
 import org.apache.geode.cache.GemFireCache;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.data.gemfire.cache.GemfireCacheManager;
+import org.springframework.data.gemfire.cache.interceptor.BulkCacheableAdvisor;
 
 /**
  * The {@link GemfireCachingConfiguration} class is a Spring {@link Configuration @Configuration} class
@@ -32,7 +35,8 @@ import org.springframework.data.gemfire.cache.GemfireCacheManager;
  *
  * Additionally, this Spring {@link Configuration @Configuration} class also enables the Spring Cache Abstraction
  * by declaring Spring's {@link EnableCaching} annotation for the user extending or importing this class using
- * the SDG provided {@link EnableGemfireCaching} annotation.
+ * the SDG provided {@link EnableGemfireCaching} annotation, and applies SDG's
+ * {@link org.springframework.data.gemfire.cache.annotation.BulkCacheable} annotation.
  *
  * @author John Blum
  * @see org.apache.geode.cache.GemFireCache
@@ -40,6 +44,7 @@ import org.springframework.data.gemfire.cache.GemfireCacheManager;
  * @see org.springframework.context.annotation.Bean
  * @see org.springframework.context.annotation.Configuration
  * @see org.springframework.data.gemfire.cache.GemfireCacheManager
+ * @see org.springframework.data.gemfire.cache.interceptor.BulkCacheableAdvisor
  * @see org.springframework.data.gemfire.cache.config.EnableGemfireCaching
  * @see <a href="http://docs.spring.io/spring/docs/current/spring-framework-reference/htmlsingle/#cache">Cache Abstraction</a>
  * @see <a href="http://docs.spring.io/spring/docs/current/spring-framework-reference/htmlsingle/#cache-store-configuration-gemfire">GemFire-based Cache</a>
@@ -68,4 +73,17 @@ public class GemfireCachingConfiguration {
 
 		return gemfireCacheManager;
 	}
+
+	/**
+	 * Spring AOP {@link org.springframework.aop.Advisor} caching the individual entries returned by methods
+	 * annotated with {@link org.springframework.data.gemfire.cache.annotation.BulkCacheable}.
+	 *
+	 * @return an instance of {@link BulkCacheableAdvisor}.
+	 * @see org.springframework.data.gemfire.cache.interceptor.BulkCacheableAdvisor
+	 */
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	public BulkCacheableAdvisor bulkCacheableAdvisor() {
+		return new BulkCacheableAdvisor();
+	}
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache.interceptor;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.gemfire.cache.GemfireCache;
+import org.springframework.data.gemfire.cache.annotation.BulkCacheable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * AOP Alliance {@link MethodInterceptor} caching the individual entries of the {@link Map} returned by methods
+ * annotated with {@link BulkCacheable}.
+ *
+ * All requested keys are looked up with a single {@link GemfireCache#getAll(Collection)}, the method is invoked
+ * with the missing keys only, if any, and the loaded values are stored with a single
+ * {@link GemfireCache#putAll(Map)}.  Caches other than {@link GemfireCache} are accessed one key at a time.
+ *
+ * @author agent
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.springframework.cache.CacheManager
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @see org.springframework.data.gemfire.cache.annotation.BulkCacheable
+ * @since 2.1.0
+ */
+public class BulkCacheInterceptor implements MethodInterceptor, BeanFactoryAware {
+
+	private BeanFactory beanFactory;
+
+	private volatile CacheManager cacheManager;
+
+	/**
+	 * Finds the {@link BulkCacheable} annotation declared on, or inherited by, the given {@link Method}.
+	 *
+	 * @param method {@link Method} to evaluate.
+	 * @return the {@link BulkCacheable} annotation, or {@literal null} if the {@link Method} is not annotated.
+	 */
+	static BulkCacheable findBulkCacheable(Method method) {
+		return AnnotatedElementUtils.findMergedAnnotation(method, BulkCacheable.class);
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Sets the {@link CacheManager} used to resolve the {@link Cache} named by {@link BulkCacheable}.  Defaults to
+	 * the single {@link CacheManager} bean declared in the Spring container.
+	 *
+	 * @param cacheManager {@link CacheManager} resolving {@link Cache Caches} by name.
+	 */
+	public void setCacheManager(CacheManager cacheManager) {
+		this.cacheManager = cacheManager;
+	}
+
+	/**
+	 * Returns the {@link CacheManager} used to resolve the {@link Cache} named by {@link BulkCacheable}.
+	 *
+	 * @return the {@link CacheManager}.
+	 * @throws IllegalStateException if no {@link CacheManager} was set and no {@link BeanFactory} is available
+	 * to resolve one.
+	 */
+	protected CacheManager getCacheManager() {
+		CacheManager cacheManager = this.cacheManager;
+
+		if (cacheManager == null) {
+			Assert.state(this.beanFactory != null, "A CacheManager or BeanFactory is required");
+			cacheManager = this.beanFactory.getBean(CacheManager.class);
+			this.cacheManager = cacheManager;
+		}
+
+		return cacheManager;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		Method method = invocation.getMethod();
+		BulkCacheable bulkCacheable = resolveBulkCacheable(invocation);
+
+		if (bulkCacheable == null) {
+			return invocation.proceed();
+		}
+
+		Assert.state(method.getReturnType().isAssignableFrom(LinkedHashMap.class), String.format(
+			"@BulkCacheable method [%s] must return a java.util.Map", method));
+
+		Object[] arguments = invocation.getArguments();
+		int keysParameterIndex = resolveKeysParameterIndex(method, bulkCacheable);
+		Collection<Object> keys = (Collection<Object>) arguments[keysParameterIndex];
+
+		if (keys == null || keys.isEmpty()) {
+			return invocation.proceed();
+		}
+
+		Cache cache = resolveCache(bulkCacheable, method);
+		Map<Object, Object> cachedValues = getAll(cache, keys);
+
+		Collection<Object> missingKeys = CollectionFactory.createCollection(
+			method.getParameterTypes()[keysParameterIndex], keys.size());
+
+		keys.stream().filter(key -> !cachedValues.containsKey(key)).forEach(missingKeys::add);
+
+		if (missingKeys.isEmpty()) {
+			return cachedValues;
+		}
+
+		arguments[keysParameterIndex] = missingKeys;
+
+		Map<Object, Object> loadedValues = (Map<Object, Object>) invocation.proceed();
+
+		if (loadedValues == null || loadedValues.isEmpty()) {
+			return cachedValues;
+		}
+
+		putAll(cache, loadedValues);
+
+		Map<Object, Object> values = new LinkedHashMap<>(keys.size());
+
+		for (Object key : keys) {
+			Object value = cachedValues.containsKey(key) ? cachedValues.get(key) : loadedValues.get(key);
+
+			if (value != null) {
+				values.put(key, value);
+			}
+		}
+
+		return values;
+	}
+
+	/* (non-Javadoc) */
+	private BulkCacheable resolveBulkCacheable(MethodInvocation invocation) {
+		BulkCacheable bulkCacheable = null;
+
+		if (invocation.getThis() != null) {
+			bulkCacheable = findBulkCacheable(AopUtils.getMostSpecificMethod(
+				invocation.getMethod(), invocation.getThis().getClass()));
+		}
+
+		return (bulkCacheable != null ? bulkCacheable : findBulkCacheable(invocation.getMethod()));
+	}
+
+	/* (non-Javadoc) */
+	private int resolveKeysParameterIndex(Method method, BulkCacheable bulkCacheable) {
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		int keysParameterIndex = bulkCacheable.keysParameterIndex();
+
+		if (keysParameterIndex < 0) {
+			for (int index = 0; index < parameterTypes.length; index++) {
+				if (Collection.class.isAssignableFrom(parameterTypes[index])) {
+					Assert.state(keysParameterIndex < 0, String.format(
+						"@BulkCacheable method [%s] declares more than one Collection parameter;"
+							+ " keysParameterIndex must be specified", method));
+
+					keysParameterIndex = index;
+				}
+			}
+		}
+
+		Assert.state(keysParameterIndex >= 0 && keysParameterIndex < parameterTypes.length
+			&& Collection.class.isAssignableFrom(parameterTypes[keysParameterIndex]), String.format(
+				"@BulkCacheable method [%s] must declare a Collection parameter of keys", method));
+
+		return keysParameterIndex;
+	}
+
+	/* (non-Javadoc) */
+	private Cache resolveCache(BulkCacheable bulkCacheable, Method method) {
+		String cacheName = bulkCacheable.cacheName();
+
+		Assert.state(StringUtils.hasText(cacheName), String.format(
+			"@BulkCacheable method [%s] must specify a cache name", method));
+
+		Cache cache = getCacheManager().getCache(cacheName);
+
+		Assert.state(cache != null, String.format("Cache [%s] not found", cacheName));
+
+		return cache;
+	}
+
+	/* (non-Javadoc) */
+	private Map<Object, Object> getAll(Cache cache, Collection<Object> keys) {
+		if (cache instanceof GemfireCache) {
+			return ((GemfireCache) cache).getAll(keys);
+		}
+
+		Map<Object, Object> values = new LinkedHashMap<>(keys.size());
+
+		for (Object key : keys) {
+			Cache.ValueWrapper valueWrapper = cache.get(key);
+
+			if (valueWrapper != null && valueWrapper.get() != null) {
+				values.put(key, valueWrapper.get());
+			}
+		}
+
+		return values;
+	}
+
+	/* (non-Javadoc) */
+	private void putAll(Cache cache, Map<Object, Object> values) {
+		if (cache instanceof GemfireCache) {
+			((GemfireCache) cache).putAll(values);
+		}
+		else {
+			values.forEach(cache::put);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache.interceptor;
+
+import java.lang.reflect.Method;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.gemfire.cache.annotation.BulkCacheable;
+
+/**
+ * Spring AOP {@link org.springframework.aop.Advisor} applying the {@link BulkCacheInterceptor} to methods
+ * annotated with {@link BulkCacheable}.
+ *
+ * @author agent
+ * @see org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor
+ * @see org.springframework.data.gemfire.cache.annotation.BulkCacheable
+ * @see org.springframework.data.gemfire.cache.interceptor.BulkCacheInterceptor
+ * @since 2.1.0
+ */
+@SuppressWarnings("serial")
+public class BulkCacheableAdvisor extends StaticMethodMatcherPointcutAdvisor implements BeanFactoryAware {
+
+	/**
+	 * Constructs a new instance of {@link BulkCacheableAdvisor} with a {@link BulkCacheInterceptor} resolving
+	 * the {@link org.springframework.cache.CacheManager} from the Spring container.
+	 */
+	public BulkCacheableAdvisor() {
+		this(new BulkCacheInterceptor());
+	}
+
+	/**
+	 * Constructs a new instance of {@link BulkCacheableAdvisor} with the given {@link BulkCacheInterceptor}.
+	 *
+	 * @param bulkCacheInterceptor {@link BulkCacheInterceptor} applied to methods annotated with
+	 * {@link BulkCacheable}.
+	 */
+	public BulkCacheableAdvisor(BulkCacheInterceptor bulkCacheInterceptor) {
+		super(bulkCacheInterceptor);
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+		((BulkCacheInterceptor) getAdvice()).setBeanFactory(beanFactory);
+	}
+
+	@Override
+	public boolean matches(Method method, Class<?> targetClass) {
+		return BulkCacheInterceptor.findBulkCacheable(AopUtils.getMostSpecificMethod(method, targetClass)) != null;
+	}
+}
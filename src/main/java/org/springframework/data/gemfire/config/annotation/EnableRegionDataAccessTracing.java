@@ -25,11 +25,15 @@ import java.lang.annotation.Target;
 
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect;
 
 /**
- * The EnableRegionDataAccessTracing class...
+ * The {@link EnableRegionDataAccessTracing} annotation enables sampled tracing and latency timing
+ * of all data access operations on {@link org.apache.geode.cache.Region Regions}.
  *
  * @author John Blum
+ * @see org.springframework.data.gemfire.config.annotation.RegionDataAccessTracingConfiguration
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect
  * @since 1.0.0
  */
 @Target(ElementType.TYPE)
@@ -41,4 +45,69 @@ import org.springframework.context.annotation.Import;
 @SuppressWarnings("unused")
 public @interface EnableRegionDataAccessTracing {
 
+	/**
+	 * Maximum number of recent slow Region operations kept by the tracing Aspect.
+	 *
+	 * Defaults to {@literal 100}.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.max-slow-operations} property
+	 * in {@literal application.properties}.
+	 */
+	int maxSlowOperations() default RegionDataAccessTracingAspect.DEFAULT_MAX_SLOW_OPERATIONS;
+
+	/**
+	 * Maximum number of caller stack frames captured for a traced or slow Region operation.
+	 *
+	 * Defaults to {@literal 20}.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.max-stack-depth} property
+	 * in {@literal application.properties}.
+	 */
+	int maxStackDepth() default RegionDataAccessTracingAspect.DEFAULT_MAX_STACK_DEPTH;
+
+	/**
+	 * Maximum number of Region operations traced per second.  Set to {@literal 0} to trace
+	 * every sampled operation.
+	 *
+	 * Defaults to {@literal 0}.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.rate-limit} property
+	 * in {@literal application.properties}.
+	 */
+	int rateLimit() default RegionDataAccessTracingAspect.DEFAULT_RATE_LIMIT;
+
+	/**
+	 * Fraction of Region operations traced when {@literal TRACE} logging is enabled for
+	 * the {@link RegionDataAccessTracingAspect}, between {@literal 0.0} and {@literal 1.0}.
+	 *
+	 * Defaults to {@literal 1.0}.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.sampling-rate} property
+	 * in {@literal application.properties}.
+	 */
+	double samplingRate() default RegionDataAccessTracingAspect.DEFAULT_SAMPLING_RATE;
+
+	/**
+	 * Duration in milliseconds above which a Region operation is logged at {@literal WARN} and recorded
+	 * as a slow operation, along with the caller frames that issued it.  Set to {@literal 0} to disable
+	 * slow operation capture.
+	 *
+	 * Defaults to {@literal 0}.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.slow-operation-threshold} property
+	 * in {@literal application.properties}.
+	 */
+	/**
+	 * Maximum number of slow Region operations captured and logged per second.  Set to {@literal 0}
+	 * to capture every slow operation.
+	 *
+	 * Defaults to {@literal 10}.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.slow-operation-rate-limit} property
+	 * in {@literal application.properties}.
+	 */
+	int slowOperationRateLimit() default RegionDataAccessTracingAspect.DEFAULT_SLOW_OPERATION_RATE_LIMIT;
+
+	long slowOperationThreshold() default RegionDataAccessTracingAspect.DEFAULT_SLOW_OPERATION_THRESHOLD;
+
 }
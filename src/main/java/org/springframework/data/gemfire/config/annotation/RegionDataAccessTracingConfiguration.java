@@ -16,23 +16,92 @@
 
 package org.springframework.data.gemfire.config.annotation;
 
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect;
 
 /**
- * The RegionDataAccessTracingConfiguration class...
+ * The {@link RegionDataAccessTracingConfiguration} class is a Spring {@link Configuration @Configuration} class
+ * registering the {@link RegionDataAccessTracingAspect} configured with the attributes of
+ * the {@link EnableRegionDataAccessTracing} annotation.
  *
  * @author John Blum
+ * @see org.springframework.context.annotation.ImportAware
+ * @see org.springframework.data.gemfire.config.annotation.EnableRegionDataAccessTracing
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect
  * @since 1.0.0
  */
 @Configuration
 @SuppressWarnings("unused")
-public class RegionDataAccessTracingConfiguration {
+public class RegionDataAccessTracingConfiguration extends AbstractAnnotationConfigSupport implements ImportAware {
+
+	private double samplingRate = RegionDataAccessTracingAspect.DEFAULT_SAMPLING_RATE;
+
+	private int maxSlowOperations = RegionDataAccessTracingAspect.DEFAULT_MAX_SLOW_OPERATIONS;
+	private int maxStackDepth = RegionDataAccessTracingAspect.DEFAULT_MAX_STACK_DEPTH;
+	private int rateLimit = RegionDataAccessTracingAspect.DEFAULT_RATE_LIMIT;
+	private int slowOperationRateLimit = RegionDataAccessTracingAspect.DEFAULT_SLOW_OPERATION_RATE_LIMIT;
+
+	private long slowOperationThreshold = RegionDataAccessTracingAspect.DEFAULT_SLOW_OPERATION_THRESHOLD;
+
+	@Override
+	protected Class<? extends Annotation> getAnnotationType() {
+		return EnableRegionDataAccessTracing.class;
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importingClassMetadata) {
+
+		if (isAnnotationPresent(importingClassMetadata)) {
+
+			AnnotationAttributes enableRegionDataAccessTracingAttributes =
+				getAnnotationAttributes(importingClassMetadata);
+
+			this.maxSlowOperations = resolveProperty(tracingProperty("max-slow-operations"),
+				enableRegionDataAccessTracingAttributes.<Integer>getNumber("maxSlowOperations"));
+
+			this.maxStackDepth = resolveProperty(tracingProperty("max-stack-depth"),
+				enableRegionDataAccessTracingAttributes.<Integer>getNumber("maxStackDepth"));
+
+			this.rateLimit = resolveProperty(tracingProperty("rate-limit"),
+				enableRegionDataAccessTracingAttributes.<Integer>getNumber("rateLimit"));
+
+			this.samplingRate = resolveProperty(tracingProperty("sampling-rate"),
+				enableRegionDataAccessTracingAttributes.<Double>getNumber("samplingRate"));
+
+			this.slowOperationRateLimit = resolveProperty(tracingProperty("slow-operation-rate-limit"),
+				enableRegionDataAccessTracingAttributes.<Integer>getNumber("slowOperationRateLimit"));
+
+			this.slowOperationThreshold = resolveProperty(tracingProperty("slow-operation-threshold"),
+				enableRegionDataAccessTracingAttributes.<Long>getNumber("slowOperationThreshold"));
+		}
+	}
+
+	/* (non-Javadoc) */
+	private String tracingProperty(String propertyNameSuffix) {
+		return String.format("%1$s%2$s", propertyName("region.data-access.tracing."), propertyNameSuffix);
+	}
 
 	/* (non-Javadoc) */
 	@Bean
 	public RegionDataAccessTracingAspect regionDataAccessTracingAspect() {
-		return new RegionDataAccessTracingAspect();
+
+		RegionDataAccessTracingAspect regionDataAccessTracingAspect = new RegionDataAccessTracingAspect();
+
+		regionDataAccessTracingAspect.setMaxSlowOperations(this.maxSlowOperations);
+		regionDataAccessTracingAspect.setMaxStackDepth(this.maxStackDepth);
+		regionDataAccessTracingAspect.setRateLimit(this.rateLimit);
+		regionDataAccessTracingAspect.setSamplingRate(this.samplingRate);
+		regionDataAccessTracingAspect.setSlowOperationRateLimit(this.slowOperationRateLimit);
+		regionDataAccessTracingAspect.setSlowOperationThreshold(this.slowOperationThreshold, TimeUnit.MILLISECONDS);
+
+		return regionDataAccessTracingAspect;
 	}
 }
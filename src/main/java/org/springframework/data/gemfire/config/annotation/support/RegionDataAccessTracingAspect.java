@@ -16,28 +16,93 @@
 
 package org.springframework.data.gemfire.config.annotation.support;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
+import org.apache.geode.cache.Region;
 import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.gemfire.util.LatencyHistogram;
+import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
 /**
- * The RegionDataAccessTracingAspect class...
+ * The {@link RegionDataAccessTracingAspect} class is a Spring/AspectJ AOP Aspect tracing and timing
+ * data access operations on a {@link Region}.
+ *
+ * Every advised {@link Region} operation is timed and recorded in a {@link LatencyHistogram} per {@link Region}
+ * and operation.  When {@literal TRACE} logging is enabled, a sample of the operations, bounded by
+ * the {@link #setSamplingRate(double) sampling rate} and the {@link #setRateLimit(int) rate limit}, is logged
+ * along with the caller's stack trace, limited to the {@link #setMaxStackDepth(int) maximum stack depth}.
+ * The stack trace is only captured for sampled operations and is not formatted unless it is logged.
+ *
+ * Operations taking longer than the {@link #setSlowOperationThreshold(long, TimeUnit) slow operation threshold}
+ * are logged at {@literal WARN} and kept, together with the caller frames that issued the operation,
+ * in a bounded list of {@link #getSlowOperations() recent slow operations}.  At most
+ * {@link #setSlowOperationRateLimit(int) slow operation rate limit} slow operations are captured per second,
+ * so that a surge of slow operations, for example while a server is overloaded, does not add the cost of
+ * capturing and logging a stack trace to every operation.
  *
  * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.aspectj.lang.annotation.Around
+ * @see org.aspectj.lang.annotation.Aspect
+ * @see org.springframework.data.gemfire.util.LatencyHistogram
  * @since 1.0.0
  */
 @Aspect
 @SuppressWarnings("unused")
 public class RegionDataAccessTracingAspect {
 
+	public static final double DEFAULT_SAMPLING_RATE = 1.0d;
+
+	public static final int DEFAULT_MAX_SLOW_OPERATIONS = 100;
+	public static final int DEFAULT_MAX_STACK_DEPTH = 20;
+	public static final int DEFAULT_RATE_LIMIT = 0;
+	public static final int DEFAULT_SLOW_OPERATION_RATE_LIMIT = 10;
+
+	public static final long DEFAULT_SLOW_OPERATION_THRESHOLD = 0L;
+
+	protected static final List<String> IGNORED_STACK_FRAME_CLASS_NAME_PREFIXES = Collections.unmodifiableList(
+		Arrays.asList(RegionDataAccessTracingAspect.class.getName() + "$", "com.sun.proxy.", "java.lang.reflect.",
+			"java.lang.Thread", "jdk.internal.reflect.", "org.aspectj.", "org.springframework.aop.", "sun.reflect."));
+
+	private final AtomicInteger slowOperationCount = new AtomicInteger(0);
+
+	private final PermitsPerSecond slowOperationPermits = new PermitsPerSecond();
+	private final PermitsPerSecond tracePermits = new PermitsPerSecond();
+
+	private final ConcurrentLinkedDeque<SlowOperation> slowOperations = new ConcurrentLinkedDeque<>();
+
+	private final ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> latencyHistograms =
+		new ConcurrentHashMap<>();
+
+	private volatile double samplingRate = DEFAULT_SAMPLING_RATE;
+
+	private volatile int maxSlowOperations = DEFAULT_MAX_SLOW_OPERATIONS;
+	private volatile int maxStackDepth = DEFAULT_MAX_STACK_DEPTH;
+	private volatile int rateLimit = DEFAULT_RATE_LIMIT;
+	private volatile int slowOperationRateLimit = DEFAULT_SLOW_OPERATION_RATE_LIMIT;
+
+	private volatile long slowOperationThresholdNanos = DEFAULT_SLOW_OPERATION_THRESHOLD;
+
 	private final Logger logger = newLogger();
 
 	/* (non-Javadoc) */
@@ -46,18 +111,173 @@ public class RegionDataAccessTracingAspect {
 	}
 
 	/* (non-Javadoc) */
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Returns the caller frames of the current {@link Thread}, up to the {@link #getMaxStackDepth() maximum
+	 * stack depth}, formatted as a stack trace.
+	 *
+	 * @return the formatted caller frames of the current {@link Thread}.
+	 * @deprecated since 2.1.0; the advice no longer calls this method, but captures the caller frames only
+	 * for sampled or slow operations and formats them only when logged.
+	 */
+	@Deprecated
 	protected String getCurrentThreadStackTrace() {
+		return new CallerStackTrace(captureCallerFrames()).toString();
+	}
+
+	/**
+	 * Returns the {@link LatencyHistogram} of the given operation on the {@link Region} with the given path,
+	 * or {@literal null} if the operation was never invoked on the {@link Region}.
+	 *
+	 * @param regionPath {@link Region#getFullPath() full path} of the {@link Region}.
+	 * @param operation name of the {@link Region} operation, e.g. {@literal get}.
+	 * @return the {@link LatencyHistogram} of the operation on the {@link Region}.
+	 */
+	public LatencyHistogram getLatencyHistogram(String regionPath, String operation) {
+		return Optional.ofNullable(this.latencyHistograms.get(regionPath))
+			.map(operationHistograms -> operationHistograms.get(operation))
+			.orElse(null);
+	}
 
-		StringWriter writer = new StringWriter();
+	/**
+	 * Returns an unmodifiable view of the {@link LatencyHistogram LatencyHistograms} of all timed operations,
+	 * keyed by {@link Region#getFullPath() Region path} and then by operation name.
+	 *
+	 * @return the {@link LatencyHistogram LatencyHistograms} by {@link Region} and operation.
+	 */
+	public Map<String, Map<String, LatencyHistogram>> getLatencyHistograms() {
+		return Collections.unmodifiableMap(this.latencyHistograms);
+	}
+
+	/**
+	 * Sets the maximum number of recent slow operations to keep.  Defaults to {@literal 100}.
+	 *
+	 * @param maxSlowOperations maximum number of recent slow operations to keep.
+	 * @throws IllegalArgumentException if {@code maxSlowOperations} is less than {@literal 0}.
+	 */
+	public void setMaxSlowOperations(int maxSlowOperations) {
 
-		new Throwable().printStackTrace(new PrintWriter(writer));
+		Assert.isTrue(maxSlowOperations >= 0,
+			String.format("Max slow operations [%d] must be greater than equal to 0", maxSlowOperations));
 
-		return writer.toString();
+		this.maxSlowOperations = maxSlowOperations;
 	}
 
-	/* (non-Javadoc) */
-	protected Logger getLogger() {
-		return this.logger;
+	public int getMaxSlowOperations() {
+		return this.maxSlowOperations;
+	}
+
+	/**
+	 * Sets the maximum number of caller stack frames captured for a traced or slow operation.
+	 * Defaults to {@literal 20}.
+	 *
+	 * @param maxStackDepth maximum number of caller stack frames to capture.
+	 * @throws IllegalArgumentException if {@code maxStackDepth} is less than {@literal 1}.
+	 */
+	public void setMaxStackDepth(int maxStackDepth) {
+
+		Assert.isTrue(maxStackDepth > 0,
+			String.format("Max stack depth [%d] must be greater than 0", maxStackDepth));
+
+		this.maxStackDepth = maxStackDepth;
+	}
+
+	public int getMaxStackDepth() {
+		return this.maxStackDepth;
+	}
+
+	/**
+	 * Sets the maximum number of operations traced per second, across all threads.
+	 * Defaults to {@literal 0}, which does not limit the number of traced operations.
+	 *
+	 * @param rateLimit maximum number of operations traced per second.
+	 * @throws IllegalArgumentException if {@code rateLimit} is less than {@literal 0}.
+	 */
+	public void setRateLimit(int rateLimit) {
+
+		Assert.isTrue(rateLimit >= 0, String.format("Rate limit [%d] must be greater than equal to 0", rateLimit));
+
+		this.rateLimit = rateLimit;
+	}
+
+	public int getRateLimit() {
+		return this.rateLimit;
+	}
+
+	/**
+	 * Sets the fraction of operations traced when {@literal TRACE} logging is enabled.
+	 * Defaults to {@literal 1.0}, tracing every operation.
+	 *
+	 * @param samplingRate fraction of operations to trace, between {@literal 0.0} and {@literal 1.0}.
+	 * @throws IllegalArgumentException if {@code samplingRate} is not between {@literal 0.0} and {@literal 1.0}.
+	 */
+	public void setSamplingRate(double samplingRate) {
+
+		Assert.isTrue(samplingRate >= 0.0d && samplingRate <= 1.0d,
+			String.format("Sampling rate [%s] must be between 0.0 and 1.0", samplingRate));
+
+		this.samplingRate = samplingRate;
+	}
+
+	public double getSamplingRate() {
+		return this.samplingRate;
+	}
+
+	/**
+	 * Sets the maximum number of slow operations captured and logged per second, across all threads.
+	 * Defaults to {@literal 10}; {@literal 0} captures every slow operation.
+	 *
+	 * @param slowOperationRateLimit maximum number of slow operations captured per second.
+	 * @throws IllegalArgumentException if {@code slowOperationRateLimit} is less than {@literal 0}.
+	 * @see #setSlowOperationThreshold(long, TimeUnit)
+	 */
+	public void setSlowOperationRateLimit(int slowOperationRateLimit) {
+
+		Assert.isTrue(slowOperationRateLimit >= 0, String.format(
+			"Slow operation rate limit [%d] must be greater than equal to 0", slowOperationRateLimit));
+
+		this.slowOperationRateLimit = slowOperationRateLimit;
+	}
+
+	public int getSlowOperationRateLimit() {
+		return this.slowOperationRateLimit;
+	}
+
+	/**
+	 * Sets the duration above which an operation is recorded as a slow operation.
+	 * Defaults to {@literal 0}, which disables slow operation capture.
+	 *
+	 * @param threshold slow operation threshold.
+	 * @param timeUnit {@link TimeUnit} of the {@code threshold}.
+	 */
+	public void setSlowOperationThreshold(long threshold, TimeUnit timeUnit) {
+		this.slowOperationThresholdNanos = Math.max(timeUnit.toNanos(threshold), 0L);
+	}
+
+	public long getSlowOperationThreshold(TimeUnit timeUnit) {
+		return timeUnit.convert(this.slowOperationThresholdNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the most recent slow operations, oldest first.
+	 *
+	 * @return the most recent slow operations.
+	 * @see #setSlowOperationThreshold(long, TimeUnit)
+	 */
+	public List<SlowOperation> getSlowOperations() {
+		return Collections.unmodifiableList(new ArrayList<>(this.slowOperations));
+	}
+
+	/**
+	 * Clears all recorded latencies and slow operations.
+	 */
+	public void reset() {
+		this.latencyHistograms.clear();
+		this.slowOperations.clear();
+		this.slowOperationCount.set(0);
 	}
 
 	/* (non-Javadoc) */
@@ -90,10 +310,128 @@ public class RegionDataAccessTracingAspect {
 	private void regionDataAccessPointcut() {}
 
 	/* (non-Javadoc) */
-	@Before("regionPointcut() && regionDataAccessPointcut()")
-	public void regionDataAccessTracingAdvice(JoinPoint joinPoint) {
-		getLogger().trace("Region data access call [{}(..)] with stack trace [{}]",
-			toRegionMethodSignature(joinPoint), getCurrentThreadStackTrace());
+	@Around("regionPointcut() && regionDataAccessPointcut()")
+	public Object regionDataAccessTracingAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+
+		if (isTraced()) {
+			getLogger().trace("Region data access call [{}(..)] with stack trace [{}]",
+				toRegionMethodSignature(joinPoint), new CallerStackTrace(captureCallerFrames()));
+		}
+
+		long startTime = System.nanoTime();
+
+		try {
+			return joinPoint.proceed();
+		}
+		finally {
+			recordLatency(joinPoint, System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * Determines whether the current operation should be traced, consulting the logger, the sampling rate
+	 * and the rate limit, in that order, so that the cheapest checks come first.
+	 */
+	boolean isTraced() {
+		return getLogger().isTraceEnabled() && isSampled() && tryAcquireTracePermit();
+	}
+
+	private boolean isSampled() {
+
+		double samplingRate = getSamplingRate();
+
+		return samplingRate >= 1.0d || (samplingRate > 0.0d && ThreadLocalRandom.current().nextDouble() < samplingRate);
+	}
+
+	private boolean tryAcquireTracePermit() {
+		return this.tracePermits.tryAcquire(getRateLimit());
+	}
+
+	/**
+	 * Captures up to {@link #getMaxStackDepth()} frames of the application code that invoked the advised
+	 * {@link Region} operation, skipping the frames of this Aspect and the AOP infrastructure.
+	 */
+	List<StackTraceElement> captureCallerFrames() {
+
+		int maxStackDepth = getMaxStackDepth();
+
+		StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+
+		List<StackTraceElement> callerFrames = new ArrayList<>(Math.min(maxStackDepth, stackTrace.length));
+
+		for (int index = 0; index < stackTrace.length && callerFrames.size() < maxStackDepth; index++) {
+			if (!isIgnoredStackFrame(stackTrace[index])) {
+				callerFrames.add(stackTrace[index]);
+			}
+		}
+
+		return callerFrames;
+	}
+
+	private boolean isIgnoredStackFrame(StackTraceElement stackFrame) {
+
+		String className = stackFrame.getClassName();
+
+		if (className.equals(RegionDataAccessTracingAspect.class.getName())) {
+			return true;
+		}
+
+		for (String ignoredClassNamePrefix : IGNORED_STACK_FRAME_CLASS_NAME_PREFIXES) {
+			if (className.startsWith(ignoredClassNamePrefix)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void recordLatency(JoinPoint joinPoint, long durationNanos) {
+
+		String regionPath = toRegionPath(joinPoint);
+		String operation = joinPoint.getSignature().getName();
+
+		this.latencyHistograms.computeIfAbsent(regionPath, key -> new ConcurrentHashMap<>())
+			.computeIfAbsent(operation, key -> new LatencyHistogram())
+			.record(durationNanos);
+
+		long slowOperationThresholdNanos = this.slowOperationThresholdNanos;
+
+		// the caller frames are only captured for slow operations within the rate limit
+		if (slowOperationThresholdNanos > 0L && durationNanos >= slowOperationThresholdNanos
+				&& this.slowOperationPermits.tryAcquire(getSlowOperationRateLimit())) {
+
+			recordSlowOperation(new SlowOperation(regionPath, operation, durationNanos, captureCallerFrames()));
+		}
+	}
+
+	private void recordSlowOperation(SlowOperation slowOperation) {
+
+		getLogger().warn("Slow Region data access call [{}] on Region [{}] took [{} ms]; called from [{}]",
+			slowOperation.getOperation(), slowOperation.getRegionPath(),
+			TimeUnit.NANOSECONDS.toMillis(slowOperation.getDurationNanos()),
+			new CallerStackTrace(slowOperation.getCallerFrames()));
+
+		int maxSlowOperations = getMaxSlowOperations();
+
+		if (maxSlowOperations > 0) {
+
+			this.slowOperations.addLast(slowOperation);
+
+			if (this.slowOperationCount.incrementAndGet() > maxSlowOperations
+					&& this.slowOperations.pollFirst() != null) {
+
+				this.slowOperationCount.decrementAndGet();
+			}
+		}
+	}
+
+	private String toRegionPath(JoinPoint joinPoint) {
+
+		return Optional.ofNullable(joinPoint.getTarget())
+			.filter(Region.class::isInstance)
+			.map(Region.class::cast)
+			.map(Region::getFullPath)
+			.orElse("");
 	}
 
 	/* (non-Javadoc) */
@@ -105,4 +443,99 @@ public class RegionDataAccessTracingAspect {
 				String.format("%1$s.%2$s", ObjectUtils.nullSafeClassName(joinPoint.getTarget()), signature.getName()))
 			.orElse("");
 	}
+
+	/**
+	 * Formats captured caller frames like {@link Throwable#printStackTrace()}, but only when logged.
+	 */
+	static class CallerStackTrace {
+
+		private final List<StackTraceElement> callerFrames;
+
+		CallerStackTrace(List<StackTraceElement> callerFrames) {
+			this.callerFrames = callerFrames;
+		}
+
+		@Override
+		public String toString() {
+			return this.callerFrames.stream().map(stackFrame -> "\tat " + stackFrame)
+				.collect(Collectors.joining(System.lineSeparator(), System.lineSeparator(), ""));
+		}
+	}
+
+	/**
+	 * Grants a limited number of permits per one second window, across all threads.
+	 */
+	static class PermitsPerSecond {
+
+		private final AtomicInteger count = new AtomicInteger(0);
+
+		private final AtomicLong window = new AtomicLong(0L);
+
+		boolean tryAcquire(int limit) {
+
+			if (limit > 0) {
+
+				long currentWindow = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+				long window = this.window.get();
+
+				if (window != currentWindow && this.window.compareAndSet(window, currentWindow)) {
+					this.count.set(0);
+				}
+
+				return this.count.incrementAndGet() <= limit;
+			}
+
+			return true;
+		}
+	}
+
+	/**
+	 * The {@link SlowOperation} class records a {@link Region} operation that took longer than
+	 * the slow operation threshold, along with the caller frames that issued the operation.
+	 */
+	public static class SlowOperation {
+
+		private final long durationNanos;
+		private final long timestamp;
+
+		private final List<StackTraceElement> callerFrames;
+
+		private final String operation;
+		private final String regionPath;
+
+		SlowOperation(String regionPath, String operation, long durationNanos, List<StackTraceElement> callerFrames) {
+
+			this.regionPath = regionPath;
+			this.operation = operation;
+			this.durationNanos = durationNanos;
+			this.callerFrames = Collections.unmodifiableList(callerFrames);
+			this.timestamp = System.currentTimeMillis();
+		}
+
+		public List<StackTraceElement> getCallerFrames() {
+			return this.callerFrames;
+		}
+
+		public long getDurationNanos() {
+			return this.durationNanos;
+		}
+
+		public String getOperation() {
+			return this.operation;
+		}
+
+		public String getRegionPath() {
+			return this.regionPath;
+		}
+
+		public long getTimestamp() {
+			return this.timestamp;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s.%2$s took %3$d ms", getRegionPath(), getOperation(),
+				TimeUnit.NANOSECONDS.toMillis(getDurationNanos()));
+		}
+	}
 }
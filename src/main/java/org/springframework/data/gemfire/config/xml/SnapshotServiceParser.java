@@ -54,6 +54,7 @@ class SnapshotServiceParser extends AbstractSingleBeanDefinitionParser {
 
 		ParsingUtils.setCacheReference(element, builder);
 		ParsingUtils.setRegionReference(element, builder);
+		ParsingUtils.setPropertyValue(element, builder, "max-concurrency");
 		ParsingUtils.setPropertyValue(element, builder, "suppress-import-on-init");
 		builder.addPropertyValue("exports", parseExports(element, parserContext));
 		builder.addPropertyValue("imports", parseImports(element, parserContext));
@@ -97,6 +98,7 @@ class SnapshotServiceParser extends AbstractSingleBeanDefinitionParser {
 					true));
 		}
 
+		ParsingUtils.setPropertyValue(snapshotMetadataElement, snapshotMetadataBuilder, "container-format");
 		ParsingUtils.setPropertyValue(snapshotMetadataElement, snapshotMetadataBuilder, "invokeCallbacks");
 		ParsingUtils.setPropertyValue(snapshotMetadataElement, snapshotMetadataBuilder, "parallel");
 
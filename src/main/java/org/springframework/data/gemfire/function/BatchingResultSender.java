@@ -14,157 +14,231 @@ package org.springframework.data.gemfire.function;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.util.ObjectSizer;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
 /**
- * Sends collection results using a {@link ResultSender} in chunks determined by batchSize
+ * Sends collection results using a {@link ResultSender} in chunks determined by batchSize and/or batchSizeInBytes.
+ *
+ * {@link Iterator Iterators}, {@link Stream Streams} and lazy {@link Iterable Iterables} are consumed incrementally
+ * so that the complete result is never materialized on the server when batching is enabled.
  *
  * @author David Turanski
+ * @see org.apache.geode.cache.execute.ResultSender
+ * @see org.apache.geode.cache.util.ObjectSizer
  * @since 1.3.0
  */
 class BatchingResultSender  {
+
 	private final int batchSize;
-	private ResultSender<Object> resultSender;
+	private final int batchSizeInBytes;
+
+	private final ObjectSizer objectSizer;
+
+	private final ResultSender<Object> resultSender;
 
 	public BatchingResultSender(int batchSize, ResultSender<Object> resultSender) {
+		this(batchSize, 0, resultSender);
+	}
+
+	public BatchingResultSender(int batchSize, int batchSizeInBytes, ResultSender<Object> resultSender) {
+		this(batchSize, batchSizeInBytes, ObjectSizer.DEFAULT, resultSender);
+	}
+
+	public BatchingResultSender(int batchSize, int batchSizeInBytes, ObjectSizer objectSizer,
+			ResultSender<Object> resultSender) {
+
 		Assert.notNull(resultSender, "resultSender cannot be null");
 		Assert.isTrue(batchSize >= 0, "batchSize must be >= 0");
+		Assert.isTrue(batchSizeInBytes >= 0, "batchSizeInBytes must be >= 0");
+		Assert.notNull(objectSizer, "objectSizer cannot be null");
+
 		this.batchSize = batchSize;
+		this.batchSizeInBytes = batchSizeInBytes;
+		this.objectSizer = objectSizer;
 		this.resultSender = resultSender;
 	}
 
+	private boolean isBatching() {
+		return (this.batchSize > 0 || this.batchSizeInBytes > 0);
+	}
 
 	public void sendResults(Iterable<?> result) {
-		if (batchSize == 0) {
-			resultSender.lastResult(result);
-			return;
+
+		if (!isBatching() && result instanceof Collection) {
+			this.resultSender.lastResult(result);
+		}
+		else {
+			sendResults(result.iterator());
+		}
+	}
+
+	public void sendResults(Stream<?> result) {
+
+		try (Stream<?> stream = result) {
+			sendResults(stream.iterator());
 		}
+	}
+
+	/**
+	 * Sends the elements of the given {@link Iterator} in chunks, consuming the {@link Iterator} lazily.
+	 *
+	 * A chunk is sent once it holds {@code batchSize} elements or its estimated size reaches
+	 * {@code batchSizeInBytes}, whichever comes first.  A full chunk is sent before the next element is requested
+	 * from the {@link Iterator}, so the final chunk, which is always sent with {@link ResultSender#lastResult(Object)},
+	 * may be empty.
+	 *
+	 * @param result {@link Iterator} over the results to send.
+	 */
+	public void sendResults(Iterator<?> result) {
 
-		List<Object> chunk = new ArrayList<Object>(batchSize);
+		List<Object> chunk = newChunk();
 
-		for (Iterator<?> it = result.iterator(); it.hasNext();) {
-		    if (chunk.size() < batchSize) {
-				chunk.add(it.next());
-		    }
+		long chunkSizeInBytes = 0L;
 
-			if (chunk.size() == batchSize || !it.hasNext()) {
-                if (it.hasNext()) {
-                		resultSender.sendResult(chunk);
-                } else {
-                		resultSender.lastResult(chunk);
-                }
-           		chunk.clear();
+		while (result.hasNext()) {
+
+			Object element = result.next();
+
+			chunk.add(element);
+
+			if (this.batchSizeInBytes > 0) {
+				chunkSizeInBytes += (element != null ? this.objectSizer.sizeof(element) : 0);
+			}
+
+			if (isFull(chunk, chunkSizeInBytes)) {
+				this.resultSender.sendResult(chunk);
+				chunk = newChunk();
+				chunkSizeInBytes = 0L;
 			}
 		}
+
+		this.resultSender.lastResult(chunk);
+	}
+
+	private List<Object> newChunk() {
+		return new ArrayList<>(this.batchSize > 0 ? this.batchSize : 16);
 	}
 
+	private boolean isFull(List<Object> chunk, long chunkSizeInBytes) {
+		return (this.batchSize > 0 && chunk.size() >= this.batchSize)
+			|| (this.batchSizeInBytes > 0 && chunkSizeInBytes >= this.batchSizeInBytes);
+	}
 
 	public void sendArrayResults(Object result) {
 
-		if (batchSize == 0) {
-			resultSender.lastResult(result);
+		Assert.isTrue(ObjectUtils.isArray(result), "result must be an array");
+
+		int length = Array.getLength(result);
+
+		Class<?> componentType = result.getClass().getComponentType();
+
+		if (this.batchSizeInBytes > 0 && !componentType.isPrimitive()) {
+			sendObjectArrayResults((Object[]) result);
 			return;
 		}
 
-		Assert.isTrue(ObjectUtils.isArray(result));
+		int arrayBatchSize = resolveArrayBatchSize(componentType);
 
-		int length = Array.getLength(result);
+		if (arrayBatchSize == 0 || length <= arrayBatchSize) {
+			this.resultSender.lastResult(result);
+			return;
+		}
+
+		for (int from = 0; from < length; from += arrayBatchSize) {
 
-		for (int from =0; from <  length; from += batchSize) {
-			int to = Math.min(length,from + batchSize);
-			Object chunk = copyOfRange(result,from, to);
+			int to = Math.min(length, from + arrayBatchSize);
 
-			if (to == length -1) {
-				resultSender.lastResult(chunk);
-			} else {
-				resultSender.sendResult(chunk);
+			Object chunk = copyOfRange(result, from, to);
+
+			if (to == length) {
+				this.resultSender.lastResult(chunk);
+			}
+			else {
+				this.resultSender.sendResult(chunk);
 			}
 		}
 	}
 
-
 	/**
-	 * @param result
-	 * @param from
-	 * @param to
-	 * @return
+	 * Sends the elements of an {@link Object} array in chunks bounded by {@code batchSize} elements
+	 * and the estimated {@code batchSizeInBytes}.
 	 */
-	private Object copyOfRange(Object result, int from, int to) {
+	private void sendObjectArrayResults(Object[] result) {
 
-		Class<?> arrayClass = result.getClass();
-		int size = to - from;
+		int from = 0;
 
-		if (int[].class.isAssignableFrom(arrayClass)) {
-			int[] array = new int[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getInt(result, from + i);
-            }
-			return array;
-		}
+		long chunkSizeInBytes = 0L;
 
-		if (float[].class.isAssignableFrom(arrayClass)) {
-			float[] array = new float[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getFloat(result, from + i);
-            }
-			return array;
-		}
+		for (int index = 0; index < result.length; index++) {
 
-		if (double[].class.isAssignableFrom(arrayClass)) {
-			double[] array = new double[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getDouble(result, from + i);
-            }
-			return array;
-		}
+			chunkSizeInBytes += (result[index] != null ? this.objectSizer.sizeof(result[index]) : 0);
 
-		if (boolean[].class.isAssignableFrom(arrayClass)) {
-			boolean[] array = new boolean[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getBoolean(result, from + i);
-            }
-			return array;
+			int to = index + 1;
+
+			boolean full = (this.batchSize > 0 && to - from >= this.batchSize)
+				|| chunkSizeInBytes >= this.batchSizeInBytes;
+
+			if (full && to < result.length) {
+				this.resultSender.sendResult(copyOfRange(result, from, to));
+				from = to;
+				chunkSizeInBytes = 0L;
+			}
 		}
 
-		if (byte[].class.isAssignableFrom(arrayClass)) {
-			byte[] array = new byte[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getByte(result, from + i);
-            }
-			return array;
+		this.resultSender.lastResult(copyOfRange(result, from, result.length));
+	}
+
+	/**
+	 * Determines the number of array elements per chunk.  Primitive arrays have a fixed element width,
+	 * so {@code batchSizeInBytes} can be converted to an element count up front.
+	 */
+	private int resolveArrayBatchSize(Class<?> componentType) {
+
+		int arrayBatchSize = this.batchSize;
+
+		if (this.batchSizeInBytes > 0 && componentType.isPrimitive()) {
+
+			int elementsPerBatch = Math.max(1, this.batchSizeInBytes / primitiveWidth(componentType));
+
+			arrayBatchSize = (arrayBatchSize > 0 ? Math.min(arrayBatchSize, elementsPerBatch) : elementsPerBatch);
 		}
 
-		if (short[].class.isAssignableFrom(arrayClass)) {
-			short[] array = new short[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getShort(result, from + i);
-            }
-			return array;
+		return arrayBatchSize;
+	}
+
+	private int primitiveWidth(Class<?> primitiveType) {
+
+		if (long.class.equals(primitiveType) || double.class.equals(primitiveType)) {
+			return 8;
 		}
 
-		if (long[].class.isAssignableFrom(arrayClass)) {
-			long[] array = new long[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getLong(result, from + i);
-            }
-			return array;
+		if (int.class.equals(primitiveType) || float.class.equals(primitiveType)) {
+			return 4;
 		}
 
-		if (char[].class.isAssignableFrom(arrayClass)) {
-			char[] array = new char[size];
-			for(int i = 0; i < size ; ++i){
-                array[i] = Array.getChar(result, from + i);
-            }
-			return array;
+		if (short.class.equals(primitiveType) || char.class.equals(primitiveType)) {
+			return 2;
 		}
 
-	    return Arrays.copyOfRange((Object[])result, from, to);
+		return 1;
+	}
+
+	private Object copyOfRange(Object result, int from, int to) {
+
+		int size = to - from;
+
+		Object array = Array.newInstance(result.getClass().getComponentType(), size);
+
+		System.arraycopy(result, from, array, 0, size);
 
+		return array;
 	}
 }
@@ -25,7 +25,6 @@ import org.apache.geode.cache.execute.ResultSender;
 import org.apache.geode.cache.partition.PartitionRegionHelper;
 import org.springframework.data.gemfire.function.annotation.Filter;
 import org.springframework.data.gemfire.function.annotation.RegionData;
-import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.util.Assert;
 
 /**
@@ -39,6 +38,7 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 
 	private final int filterParameterPosition;
 	private final int functionContextParameterPosition;
+	private final int parameterCount;
 	private final int regionParameterPosition;
 	private final int resultSenderParameterPosition;
 
@@ -46,6 +46,7 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 
 	public FunctionContextInjectingArgumentResolver(Method method) {
 		this.method = method;
+		this.parameterCount = method.getParameterCount();
 
 		int regionDataAnnotationParameterPosition = GemfireFunctionUtils.getAnnotationParameterPosition(
 			method, RegionData.class, new Class[] { Map.class });
@@ -79,37 +80,61 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 		return method;
 	}
 
+	/**
+	 * Merges the Function arguments with the injected {@link Region}, {@link Filter filter},
+	 * {@link FunctionContext} and {@link ResultSender} using the parameter positions determined
+	 * when this resolver was constructed.
+	 */
 	@Override
 	public Object[] resolveFunctionArguments(FunctionContext functionContext) {
-		Object[] args = super.resolveFunctionArguments(functionContext);
 
-		if (functionContext instanceof RegionFunctionContext) {
-			if (this.regionParameterPosition >= 0) {
-				args = ArrayUtils.insert(args, regionParameterPosition, getRegionForContext(
-					(RegionFunctionContext) functionContext));
-			}
+		Object[] arguments = super.resolveFunctionArguments(functionContext);
 
-			if (this.filterParameterPosition >= 0) {
-				args = ArrayUtils.insert(args, filterParameterPosition,
-					((RegionFunctionContext) functionContext).getFilter());
-			}
-		}
+		boolean regionFunctionContext = functionContext instanceof RegionFunctionContext;
 
-		if (this.functionContextParameterPosition >= 0) {
-			args = ArrayUtils.insert(args, functionContextParameterPosition, functionContext);
-		}
+		int regionPosition = (regionFunctionContext ? this.regionParameterPosition : -1);
+		int filterPosition = (regionFunctionContext ? this.filterParameterPosition : -1);
 
-		if (this.resultSenderParameterPosition >= 0) {
-			args = ArrayUtils.insert(args, resultSenderParameterPosition, functionContext.getResultSender());
-		}
+		int injectedArgumentCount = count(regionPosition) + count(filterPosition)
+			+ count(this.functionContextParameterPosition) + count(this.resultSenderParameterPosition);
+
+		int argumentCount = arguments.length + injectedArgumentCount;
 
-		Assert.isTrue(args.length == method.getParameterTypes().length, String.format(
+		Assert.isTrue(argumentCount == this.parameterCount, () -> String.format(
 			"wrong number of arguments for method %s. Expected %d, but was %d", method.getName(),
-				method.getParameterTypes().length, args.length));
+				this.parameterCount, argumentCount));
+
+		if (injectedArgumentCount == 0) {
+			return arguments;
+		}
+
+		Object[] args = new Object[this.parameterCount];
+
+		for (int index = 0, argumentIndex = 0; index < args.length; index++) {
+			if (index == regionPosition) {
+				args[index] = getRegionForContext((RegionFunctionContext) functionContext);
+			}
+			else if (index == filterPosition) {
+				args[index] = ((RegionFunctionContext) functionContext).getFilter();
+			}
+			else if (index == this.functionContextParameterPosition) {
+				args[index] = functionContext;
+			}
+			else if (index == this.resultSenderParameterPosition) {
+				args[index] = functionContext.getResultSender();
+			}
+			else {
+				args[index] = arguments[argumentIndex++];
+			}
+		}
 
 		return args;
 	}
 
+	private static int count(int parameterPosition) {
+		return (parameterPosition >= 0 ? 1 : 0);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.apache.geode.cache.execute.RegionFunctionContext
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+/**
+ * Registry receiving measurements taken while GemFire/Geode {@link org.apache.geode.cache.execute.Function Functions}
+ * execute, both on the caller (by the {@code GemfireOn*FunctionTemplate} classes) and on the members executing
+ * the {@link org.apache.geode.cache.execute.Function} (by {@link PojoFunctionWrapper}).
+ *
+ * Implementations adapt the measurements to a metrics library of choice and must be thread-safe.  All methods
+ * default to no-ops so implementations only need to override the measurements they are interested in.
+ *
+ * The {@code target} identifies how the {@link org.apache.geode.cache.execute.Function} was executed,
+ * e.g. {@literal onRegion}, {@literal onServer}, {@literal onServers}, {@literal onMember} or {@literal onMembers}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.function.SimpleFunctionExecutionMetrics
+ * @since 2.1.0
+ */
+public interface FunctionExecutionMetrics {
+
+	/**
+	 * {@link FunctionExecutionMetrics} discarding all measurements.
+	 */
+	FunctionExecutionMetrics NONE = new FunctionExecutionMetrics() { };
+
+	/**
+	 * Records a successful {@link org.apache.geode.cache.execute.Function} execution on the caller.
+	 *
+	 * @param functionId {@link String ID} of the executed {@link org.apache.geode.cache.execute.Function}.
+	 * @param target {@link String} identifying the execution target.
+	 * @param durationNanos time in nanoseconds from executing the {@link org.apache.geode.cache.execute.Function}
+	 * until all results were received.
+	 */
+	default void recordExecution(String functionId, String target, long durationNanos) { }
+
+	/**
+	 * Records a single result received by the caller.
+	 *
+	 * @param functionId {@link String ID} of the executed {@link org.apache.geode.cache.execute.Function}.
+	 * @param target {@link String} identifying the execution target.
+	 * @param result {@link Object result} sent by a member; may be {@literal null}.
+	 */
+	default void recordResult(String functionId, String target, Object result) { }
+
+	/**
+	 * Records the time it took a single member to send its last result to the caller, which reveals members
+	 * that hold up executions targeting multiple members.
+	 *
+	 * @param functionId {@link String ID} of the executed {@link org.apache.geode.cache.execute.Function}.
+	 * @param target {@link String} identifying the execution target.
+	 * @param memberId {@link String ID} of the member sending results.
+	 * @param elapsedNanos time in nanoseconds from executing the {@link org.apache.geode.cache.execute.Function}
+	 * until the member's last result was received.
+	 */
+	default void recordMemberResponse(String functionId, String target, String memberId, long elapsedNanos) { }
+
+	/**
+	 * Records a {@link org.apache.geode.cache.execute.Function} execution that did not complete within
+	 * the configured timeout.
+	 *
+	 * @param functionId {@link String ID} of the executed {@link org.apache.geode.cache.execute.Function}.
+	 * @param target {@link String} identifying the execution target.
+	 * @param durationNanos time in nanoseconds spent waiting before the execution timed out.
+	 */
+	default void recordTimeout(String functionId, String target, long durationNanos) { }
+
+	/**
+	 * Records a {@link org.apache.geode.cache.execute.Function} execution that failed on the caller.
+	 *
+	 * @param functionId {@link String ID} of the executed {@link org.apache.geode.cache.execute.Function}.
+	 * @param target {@link String} identifying the execution target.
+	 * @param cause {@link Throwable} causing the execution to fail.
+	 */
+	default void recordException(String functionId, String target, Throwable cause) { }
+
+	/**
+	 * Records the time spent in the target method of a {@link org.apache.geode.cache.execute.Function}
+	 * on the member executing it.
+	 *
+	 * @param functionId {@link String ID} of the executed {@link org.apache.geode.cache.execute.Function}.
+	 * @param memberId {@link String ID} of the member executing the {@link org.apache.geode.cache.execute.Function}.
+	 * @param durationNanos time in nanoseconds spent in the target method.
+	 * @param successful indicates whether the target method returned normally.
+	 */
+	default void recordInvocation(String functionId, String memberId, long durationNanos, boolean successful) { }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import java.util.Iterator;
+
+/**
+ * Combines the results produced by a {@link org.springframework.data.gemfire.function.annotation.GemfireFunction}
+ * on a single member into one partial result before it is sent back to the caller.
+ *
+ * Used together with a reducer on the caller (see
+ * {@link org.springframework.data.gemfire.function.annotation.ResultReducer}) to aggregate results in a
+ * map-reduce fashion, sending only one partial result per member across the network.
+ *
+ * Implementations must provide a public no-arg constructor.
+ *
+ * @param <T> {@link Class type} of the individual results returned by the Function method.
+ * @param <R> {@link Class type} of the combined, partial result.
+ * @author agent
+ * @see org.springframework.data.gemfire.function.annotation.GemfireFunction#combiner()
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface FunctionResultCombiner<T, R> {
+
+	/**
+	 * Combines the member-local results into a single partial result.
+	 *
+	 * @param results {@link Iterator} over the results returned by the Function method; the elements of arrays,
+	 * {@link Iterable Iterables}, {@link Iterator Iterators} and {@link java.util.stream.Stream Streams} are
+	 * iterated individually, any other result is presented as a single element.
+	 * @return the partial result sent to the caller.
+	 */
+	R combine(Iterator<T> results);
+
+}
@@ -224,11 +224,32 @@ public abstract class GemfireFunctionUtils {
 	public static void registerFunctionForPojoMethod(Object target, Method method,
 			AnnotationAttributes gemfireFunctionAttributes, boolean overwrite) {
 
+		registerFunctionForPojoMethod(target, method, gemfireFunctionAttributes, overwrite,
+			FunctionExecutionMetrics.NONE);
+	}
+
+	/**
+	 * Wrap the {@link Object target object} and {@link Method method} in a GemFire/Geode {@link Function}
+	 * recording the time spent in the {@link Method method} with the given {@link FunctionExecutionMetrics},
+	 * and register the {@link Function} with the {@link FunctionService}.
+	 *
+	 * @param target {@link Object target object}.
+	 * @param method {@link Method} bound to a {@link Function}.
+	 * @param gemfireFunctionAttributes {@link GemfireFunction} {@link AnnotationAttributes annotation attributes}.
+	 * @param overwrite if {@literal true}, will replace any existing {@link Function} having the same ID.
+	 * @param metrics {@link FunctionExecutionMetrics} recording {@link Function} invocations.
+	 * @see org.springframework.data.gemfire.function.FunctionExecutionMetrics
+	 */
+	public static void registerFunctionForPojoMethod(Object target, Method method,
+			AnnotationAttributes gemfireFunctionAttributes, boolean overwrite, FunctionExecutionMetrics metrics) {
+
 		String id = gemfireFunctionAttributes.containsKey("id")
 			? gemfireFunctionAttributes.getString("id") : "";
 
 		PojoFunctionWrapper function = new PojoFunctionWrapper(target, method, id);
 
+		function.setMetrics(metrics);
+
 		if (gemfireFunctionAttributes.containsKey("batchSize")) {
 
 			int batchSize = gemfireFunctionAttributes.getNumber("batchSize");
@@ -240,6 +261,26 @@ public abstract class GemfireFunctionUtils {
 			function.setBatchSize(batchSize);
 		}
 
+		if (gemfireFunctionAttributes.containsKey("batchSizeInBytes")) {
+
+			int batchSizeInBytes = gemfireFunctionAttributes.getNumber("batchSizeInBytes");
+
+			Assert.isTrue(batchSizeInBytes >= 0,
+				String.format("batchSizeInBytes [%1$d] specified on [%2$s.%3$s] must be a non-negative value",
+					batchSizeInBytes, target.getClass().getName(), method.getName()));
+
+			function.setBatchSizeInBytes(batchSizeInBytes);
+		}
+
+		if (gemfireFunctionAttributes.containsKey("combiner")) {
+
+			Class<?> combinerType = gemfireFunctionAttributes.getClass("combiner");
+
+			if (!combinerType.isInterface()) {
+				function.setResultCombiner((FunctionResultCombiner<?, ?>) BeanUtils.instantiateClass(combinerType));
+			}
+		}
+
 		if (gemfireFunctionAttributes.containsKey("HA")) {
 			function.setHA(gemfireFunctionAttributes.getBoolean("HA"));
 		}
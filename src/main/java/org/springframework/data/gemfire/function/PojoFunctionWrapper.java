@@ -12,14 +12,24 @@
  */
 package org.springframework.data.gemfire.function;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.FunctionContext;
 import org.apache.geode.cache.execute.ResultSender;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -44,6 +54,8 @@ import org.springframework.util.StringUtils;
 @SuppressWarnings("serial")
 public class PojoFunctionWrapper implements Function {
 
+	private static final String UNKNOWN_MEMBER_ID = "unknown";
+
 	private static transient Log logger = LogFactory.getLog(PojoFunctionWrapper.class);
 
 	private volatile boolean HA;
@@ -51,29 +63,92 @@ public class PojoFunctionWrapper implements Function {
 	private volatile boolean optimizeForWrite;
 
 	private volatile int batchSize;
+	private volatile int batchSizeInBytes;
 
 	private final FunctionArgumentResolver functionArgumentResolver;
 
+	private transient volatile FunctionExecutionMetrics metrics = FunctionExecutionMetrics.NONE;
+
+	private volatile FunctionResultCombiner<Object, ?> resultCombiner;
+
 	private final Method method;
 
+	private final transient MethodHandle methodHandle;
+
 	private final Object target;
 
 	private final String id;
 
+	private transient volatile String memberId;
+
 	public PojoFunctionWrapper(Object target, Method method, String id) {
 		this.functionArgumentResolver = new FunctionContextInjectingArgumentResolver(method);
 		this.target = target;
 		this.method = method;
+		this.methodHandle = newMethodHandle(target, method);
 		this.id = (StringUtils.hasText(id) ? id : method.getName());
 		this.HA = false;
 		this.hasResult = !method.getReturnType().equals(void.class);
 		this.optimizeForWrite = false;
 	}
 
+	/**
+	 * Binds the {@link Method} to the {@link Object target} once (unless the {@link Method} is static), adapting the resulting {@link MethodHandle}
+	 * to accept the resolved {@link Function} arguments as an {@link Object} array and to return an {@link Object}
+	 * ({@literal null} for {@literal void} methods), so that each {@link Function} execution is a single
+	 * {@link MethodHandle#invokeExact(Object...)} call.
+	 */
+	private static MethodHandle newMethodHandle(Object target, Method method) {
+
+		try {
+			ReflectionUtils.makeAccessible(method);
+
+			MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+
+			return (Modifier.isStatic(method.getModifiers()) ? methodHandle : methodHandle.bindTo(target))
+				.asSpreader(Object[].class, method.getParameterCount())
+				.asType(MethodType.methodType(Object.class, Object[].class));
+		}
+		catch (IllegalAccessException cause) {
+			throw new IllegalStateException(String.format("Cannot access method [%1$s] on class [%2$s]",
+				method.getName(), target.getClass().getName()), cause);
+		}
+	}
+
 	public void setBatchSize(int batchSize) {
 		this.batchSize = batchSize;
 	}
 
+	public void setBatchSizeInBytes(int batchSizeInBytes) {
+		this.batchSizeInBytes = batchSizeInBytes;
+	}
+
+	/**
+	 * Sets the {@link FunctionResultCombiner} used to combine the results of the target method into a single
+	 * partial result before sending it to the caller.
+	 *
+	 * @param resultCombiner {@link FunctionResultCombiner} applied to the results of the target method.
+	 */
+	@SuppressWarnings("unchecked")
+	public void setResultCombiner(FunctionResultCombiner<?, ?> resultCombiner) {
+		this.resultCombiner = (FunctionResultCombiner<Object, ?>) resultCombiner;
+	}
+
+	/**
+	 * Sets the {@link FunctionExecutionMetrics} recording the time spent in the target method
+	 * on this member.
+	 *
+	 * @param metrics {@link FunctionExecutionMetrics} recording measurements; {@literal null} disables recording.
+	 */
+	public void setMetrics(FunctionExecutionMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	protected FunctionExecutionMetrics getMetrics() {
+		FunctionExecutionMetrics metrics = this.metrics;
+		return (metrics != null ? metrics : FunctionExecutionMetrics.NONE);
+	}
+
 	public void setHA(boolean HA) {
 		this.HA = HA;
 	}
@@ -112,13 +187,56 @@ public class PojoFunctionWrapper implements Function {
 
 		Object[] args = this.functionArgumentResolver.resolveFunctionArguments(functionContext);
 
-		Object result = invokeTargetMethod(args);
+		Object result = invokeTargetMethod(functionContext, args);
 
 		if (hasResult()) {
 			sendResults(functionContext.getResultSender(), result);
 		}
 	}
 
+	private Object invokeTargetMethod(FunctionContext functionContext, Object[] args) {
+
+		FunctionExecutionMetrics metrics = getMetrics();
+
+		if (metrics == FunctionExecutionMetrics.NONE) {
+			return invokeTargetMethod(args);
+		}
+
+		boolean successful = false;
+
+		long startTime = System.nanoTime();
+
+		try {
+			Object result = invokeTargetMethod(args);
+			successful = true;
+			return result;
+		}
+		finally {
+			metrics.recordInvocation(getId(), resolveMemberId(functionContext), System.nanoTime() - startTime,
+				successful);
+		}
+	}
+
+	private String resolveMemberId(FunctionContext functionContext) {
+
+		String memberId = this.memberId;
+
+		if (memberId == null) {
+
+			Cache cache = functionContext.getCache();
+
+			if (cache == null) {
+				return UNKNOWN_MEMBER_ID;
+			}
+
+			memberId = cache.getDistributedSystem().getDistributedMember().getId();
+
+			this.memberId = memberId;
+		}
+
+		return memberId;
+	}
+
 	protected final Object invokeTargetMethod(Object[] args) {
 
 		if (logger.isDebugEnabled()) {
@@ -131,24 +249,77 @@ public class PojoFunctionWrapper implements Function {
 			}
 		}
 
-		return ReflectionUtils.invokeMethod(this.method, this.target, (Object[]) args);
+		try {
+			return (Object) this.methodHandle.invokeExact(args);
+		}
+		catch (RuntimeException | Error cause) {
+			throw cause;
+		}
+		catch (Throwable cause) {
+			throw new UndeclaredThrowableException(cause);
+		}
 	}
 
 	private void sendResults(ResultSender<Object> resultSender, Object result) {
 
-		if (result == null) {
+		if (this.resultCombiner != null) {
+			sendCombinedResult(resultSender, result);
+		}
+		else if (result == null) {
 			resultSender.lastResult(null);
 		}
 		else {
 			if (ObjectUtils.isArray(result)) {
-				new BatchingResultSender(batchSize, resultSender).sendArrayResults(result);
+				newBatchingResultSender(resultSender).sendArrayResults(result);
+			}
+			else if (result instanceof Iterable) {
+				newBatchingResultSender(resultSender).sendResults((Iterable<?>) result);
 			}
-			else if (Iterable.class.isAssignableFrom(result.getClass())) {
-				new BatchingResultSender(batchSize, resultSender).sendResults((Iterable<?>) result);
+			else if (result instanceof Iterator) {
+				newBatchingResultSender(resultSender).sendResults((Iterator<?>) result);
+			}
+			else if (result instanceof Stream) {
+				newBatchingResultSender(resultSender).sendResults((Stream<?>) result);
 			}
 			else {
 				resultSender.lastResult(result);
 			}
 		}
 	}
+
+	@SuppressWarnings("unchecked")
+	private void sendCombinedResult(ResultSender<Object> resultSender, Object result) {
+
+		if (result instanceof Stream) {
+			try (Stream<Object> stream = (Stream<Object>) result) {
+				resultSender.lastResult(this.resultCombiner.combine(stream.iterator()));
+			}
+		}
+		else {
+			resultSender.lastResult(this.resultCombiner.combine(toIterator(result)));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Iterator<Object> toIterator(Object result) {
+
+		if (result == null) {
+			return Collections.emptyIterator();
+		}
+		else if (ObjectUtils.isArray(result)) {
+			return CollectionUtils.arrayToList(result).iterator();
+		}
+		else if (result instanceof Iterable) {
+			return ((Iterable<Object>) result).iterator();
+		}
+		else if (result instanceof Iterator) {
+			return (Iterator<Object>) result;
+		}
+
+		return Collections.singleton(result).iterator();
+	}
+
+	private BatchingResultSender newBatchingResultSender(ResultSender<Object> resultSender) {
+		return new BatchingResultSender(this.batchSize, this.batchSizeInBytes, resultSender);
+	}
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.geode.cache.util.ObjectSizer;
+import org.springframework.data.gemfire.util.LatencyHistogram;
+
+/**
+ * In-memory {@link FunctionExecutionMetrics} keeping a {@link LatencyHistogram} and counters
+ * per {@link org.apache.geode.cache.execute.Function} ID and execution target, a {@link LatencyHistogram}
+ * of response times per member, and a {@link LatencyHistogram} of target method invocations per member
+ * executing the {@link org.apache.geode.cache.execute.Function}.
+ *
+ * The size of results is only measured when an {@link ObjectSizer} has been configured since sizing every result
+ * received may be expensive.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.function.FunctionExecutionMetrics
+ * @see org.springframework.data.gemfire.util.LatencyHistogram
+ * @since 2.1.0
+ */
+public class SimpleFunctionExecutionMetrics implements FunctionExecutionMetrics {
+
+	private final ConcurrentMap<String, ExecutionStatistics> executionStatistics = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> invocationLatencies =
+		new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> memberLatencies =
+		new ConcurrentHashMap<>();
+
+	private volatile ObjectSizer resultSizer;
+
+	/**
+	 * Sets the {@link ObjectSizer} used to measure the size of results received by the caller.
+	 *
+	 * @param resultSizer {@link ObjectSizer} measuring results; {@literal null} disables sizing results.
+	 */
+	public void setResultSizer(ObjectSizer resultSizer) {
+		this.resultSizer = resultSizer;
+	}
+
+	protected ObjectSizer getResultSizer() {
+		return this.resultSizer;
+	}
+
+	@Override
+	public void recordExecution(String functionId, String target, long durationNanos) {
+		statisticsFor(functionId, target).latency.record(durationNanos);
+	}
+
+	@Override
+	public void recordResult(String functionId, String target, Object result) {
+
+		ExecutionStatistics statistics = statisticsFor(functionId, target);
+
+		statistics.results.increment();
+
+		ObjectSizer resultSizer = getResultSizer();
+
+		if (resultSizer != null && result != null) {
+			statistics.resultBytes.add(resultSizer.sizeof(result));
+		}
+	}
+
+	@Override
+	public void recordMemberResponse(String functionId, String target, String memberId, long elapsedNanos) {
+		histogramFor(this.memberLatencies, toKey(functionId, target), memberId).record(elapsedNanos);
+	}
+
+	@Override
+	public void recordTimeout(String functionId, String target, long durationNanos) {
+		statisticsFor(functionId, target).timeouts.increment();
+	}
+
+	@Override
+	public void recordException(String functionId, String target, Throwable cause) {
+		statisticsFor(functionId, target).exceptions.increment();
+	}
+
+	@Override
+	public void recordInvocation(String functionId, String memberId, long durationNanos, boolean successful) {
+		histogramFor(this.invocationLatencies, functionId, memberId).record(durationNanos);
+	}
+
+	/**
+	 * Returns the {@link ExecutionStatistics} recorded by the caller for the given
+	 * {@link org.apache.geode.cache.execute.Function} and execution target.
+	 *
+	 * @param functionId {@link String ID} of the {@link org.apache.geode.cache.execute.Function}.
+	 * @param target {@link String} identifying the execution target, e.g. {@literal onServers}.
+	 * @return the {@link ExecutionStatistics}, or an empty {@link Optional} if the
+	 * {@link org.apache.geode.cache.execute.Function} was not executed on the given target.
+	 */
+	public Optional<ExecutionStatistics> getExecutionStatistics(String functionId, String target) {
+		return Optional.ofNullable(this.executionStatistics.get(toKey(functionId, target)));
+	}
+
+	/**
+	 * Returns the response times of each member that sent results for the given
+	 * {@link org.apache.geode.cache.execute.Function} and execution target, keyed by member ID.
+	 *
+	 * @param functionId {@link String ID} of the {@link org.apache.geode.cache.execute.Function}.
+	 * @param target {@link String} identifying the execution target, e.g. {@literal onServers}.
+	 * @return an unmodifiable {@link Map} of member ID to {@link LatencyHistogram}.
+	 */
+	public Map<String, LatencyHistogram> getMemberLatencies(String functionId, String target) {
+		return unmodifiableMap(this.memberLatencies.get(toKey(functionId, target)));
+	}
+
+	/**
+	 * Returns the time spent in the target method of the given {@link org.apache.geode.cache.execute.Function}
+	 * on each member executing it, keyed by member ID.
+	 *
+	 * @param functionId {@link String ID} of the {@link org.apache.geode.cache.execute.Function}.
+	 * @return an unmodifiable {@link Map} of member ID to {@link LatencyHistogram}.
+	 */
+	public Map<String, LatencyHistogram> getInvocationLatencies(String functionId) {
+		return unmodifiableMap(this.invocationLatencies.get(functionId));
+	}
+
+	private ExecutionStatistics statisticsFor(String functionId, String target) {
+		return this.executionStatistics.computeIfAbsent(toKey(functionId, target), key -> new ExecutionStatistics());
+	}
+
+	private LatencyHistogram histogramFor(ConcurrentMap<String, ConcurrentMap<String, LatencyHistogram>> histograms,
+			String key, String memberId) {
+
+		return histograms.computeIfAbsent(key, it -> new ConcurrentHashMap<>())
+			.computeIfAbsent(String.valueOf(memberId), it -> new LatencyHistogram());
+	}
+
+	private String toKey(String functionId, String target) {
+		return String.format("%1$s@%2$s", functionId, target);
+	}
+
+	private Map<String, LatencyHistogram> unmodifiableMap(Map<String, LatencyHistogram> histograms) {
+		return (histograms != null ? Collections.unmodifiableMap(histograms) : Collections.emptyMap());
+	}
+
+	/**
+	 * Statistics recorded by the caller for a single {@link org.apache.geode.cache.execute.Function}
+	 * and execution target.
+	 */
+	public static class ExecutionStatistics {
+
+		private final LatencyHistogram latency = new LatencyHistogram();
+
+		private final LongAdder exceptions = new LongAdder();
+		private final LongAdder resultBytes = new LongAdder();
+		private final LongAdder results = new LongAdder();
+		private final LongAdder timeouts = new LongAdder();
+
+		public LatencyHistogram getLatency() {
+			return this.latency;
+		}
+
+		public long getExceptionCount() {
+			return this.exceptions.sum();
+		}
+
+		public long getResultCount() {
+			return this.results.sum();
+		}
+
+		public long getResultSizeInBytes() {
+			return this.resultBytes.sum();
+		}
+
+		public long getTimeoutCount() {
+			return this.timeouts.sum();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s{latency = %2$s, results = %3$d, resultBytes = %4$d, timeouts = %5$d, exceptions = %6$d}",
+				getClass().getSimpleName(), getLatency(), getResultCount(), getResultSizeInBytes(), getTimeoutCount(),
+				getExceptionCount());
+		}
+	}
+}
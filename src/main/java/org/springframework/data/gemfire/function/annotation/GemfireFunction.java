@@ -17,6 +17,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.springframework.data.gemfire.function.FunctionResultCombiner;
+
 /**
  *
  * Used to declare a concrete method as a GemFire function implementation
@@ -55,6 +57,30 @@ public @interface GemfireFunction {
 	 */
 	int batchSize() default 0;
 
+	/**
+	 * Controls the maximum estimated size, in bytes, of the results sent at one time.  Results returned as
+	 * an {@link java.util.Iterator}, {@link java.util.stream.Stream} or {@link Iterable} are consumed lazily
+	 * and sent once either this threshold or {@link #batchSize()} is reached.
+	 *
+	 * @return an integer value indicating the maximum estimated size of each batch in bytes; 0 disables
+	 * size-based batching.
+	 * @see org.apache.geode.cache.util.ObjectSizer#DEFAULT
+	 */
+	int batchSizeInBytes() default 0;
+
+	/**
+	 * Optional {@link FunctionResultCombiner} used to combine the results produced on each member into
+	 * a single partial result, which is sent to the caller in place of the individual results.
+	 *
+	 * The {@link FunctionResultCombiner} type must provide a public no-arg constructor.  When set,
+	 * {@link #batchSize()} and {@link #batchSizeInBytes()} do not apply.
+	 *
+	 * @return the {@link Class type} of {@link FunctionResultCombiner}; defaults to none.
+	 * @see org.springframework.data.gemfire.function.annotation.ResultReducer
+	 */
+	@SuppressWarnings("rawtypes")
+	Class<? extends FunctionResultCombiner> combiner() default FunctionResultCombiner.class;
+
 	/**
 	 * Normally follows the method return type, i.e., false if void, true otherwise. This allows overriding
 	 * a void method which uses the resultSender directly.
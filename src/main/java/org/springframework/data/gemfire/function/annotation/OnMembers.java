@@ -47,4 +47,30 @@ public @interface OnMembers {
 	 */
 	String resultCollector() default "";
 
+	/**
+	 * Optional {@link java.util.concurrent.Executor} bean reference used to run the Function executions
+	 * of interface methods declared to return a {@link java.util.concurrent.CompletableFuture}.
+	 *
+	 * @return an optional bean name of the {@link java.util.concurrent.Executor} running asynchronous
+	 * Function executions.
+	 */
+	String executor() default "";
+
+	/**
+	 * Optional {@link org.springframework.data.gemfire.function.FunctionExecutionMetrics} bean reference
+	 * recording the latency, results, timeouts and exceptions of the Function executions.
+	 *
+	 * @return an optional bean name of the {@link org.springframework.data.gemfire.function.FunctionExecutionMetrics}.
+	 */
+	String metrics() default "";
+
+	/**
+	 * Optional {@link org.springframework.data.gemfire.function.execution.FunctionExecutionPolicy} bean reference
+	 * controlling attempt timeouts, and the retrying and hedging of idempotent Functions.
+	 *
+	 * @return an optional bean name of the
+	 * {@link org.springframework.data.gemfire.function.execution.FunctionExecutionPolicy}.
+	 */
+	String executionPolicy() default "";
+
 }
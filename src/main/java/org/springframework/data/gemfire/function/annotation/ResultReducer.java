@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.function.BinaryOperator;
+
+/**
+ * Annotation declaring that the results of a Function execution interface method are reduced on the caller
+ * into a single value as they arrive from each member, rather than returned as a collection.
+ *
+ * Typically paired with a {@link GemfireFunction#combiner()} so that each member sends only
+ * one partial result.
+ *
+ * @author agent
+ * @see java.util.function.BinaryOperator
+ * @see org.springframework.data.gemfire.function.FunctionResultCombiner
+ * @since 2.1.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ResultReducer {
+
+	/**
+	 * {@link BinaryOperator} used to merge the partial results sent by the members.  The type must provide
+	 * a public no-arg constructor.
+	 *
+	 * @return the {@link Class type} of the {@link BinaryOperator} reducing the partial results.
+	 */
+	@SuppressWarnings("rawtypes")
+	Class<? extends BinaryOperator> value();
+
+}
@@ -56,6 +56,12 @@ abstract class AbstractFunctionExecutionBeanDefinitionBuilder {
 		functionProxyFactoryBeanBuilder.addConstructorArgReference(BeanDefinitionReaderUtils.registerWithGeneratedName(
 			buildGemfireFunctionOperations(registry), registry));
 
+		String executorReference = (String) configuration.getAttribute("executor");
+
+		if (StringUtils.hasText(executorReference)) {
+			functionProxyFactoryBeanBuilder.addPropertyReference("executor", executorReference);
+		}
+
 		return functionProxyFactoryBeanBuilder.getBeanDefinition();
 	}
 
@@ -70,6 +76,18 @@ abstract class AbstractFunctionExecutionBeanDefinitionBuilder {
 			functionTemplateBuilder.addPropertyReference("resultCollector", resultCollectorReference);
 		}
 
+		String metricsReference = (String) configuration.getAttribute("metrics");
+
+		if (StringUtils.hasText(metricsReference)) {
+			functionTemplateBuilder.addPropertyReference("metrics", metricsReference);
+		}
+
+		String executionPolicyReference = (String) configuration.getAttribute("executionPolicy");
+
+		if (StringUtils.hasText(executionPolicyReference)) {
+			functionTemplateBuilder.addPropertyReference("executionPolicy", executionPolicyReference);
+		}
+
 		return functionTemplateBuilder.getBeanDefinition();
 	}
 
@@ -18,10 +18,18 @@ import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.NoUniqueBeanDefinitionException;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.gemfire.function.FunctionExecutionMetrics;
 import org.springframework.data.gemfire.function.GemfireFunctionUtils;
 import org.springframework.data.gemfire.function.annotation.GemfireFunction;
 import org.springframework.util.Assert;
@@ -36,7 +44,58 @@ import org.springframework.util.ReflectionUtils;
  * @see org.springframework.beans.factory.config.BeanPostProcessor
  * @see org.springframework.data.gemfire.function.annotation.GemfireFunction
  */
-public class GemfireFunctionBeanPostProcessor implements BeanPostProcessor {
+public class GemfireFunctionBeanPostProcessor implements BeanFactoryAware, BeanPostProcessor {
+
+	private BeanFactory beanFactory;
+
+	private final FunctionExecutionMetrics metrics = new LazyFunctionExecutionMetrics();
+
+	private volatile FunctionExecutionMetrics resolvedMetrics;
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Resolves the {@link FunctionExecutionMetrics} recording the invocations of the registered
+	 * {@link GemfireFunction GemfireFunctions}; this is the unique, or primary, {@link FunctionExecutionMetrics}
+	 * bean declared in the Spring context, if any.
+	 *
+	 * The bean is resolved when a {@link GemfireFunction} is first invoked rather than while beans are being
+	 * post-processed, so that the {@link FunctionExecutionMetrics} bean and its dependencies are created and
+	 * post-processed as usual.  If more than one candidate bean is declared and none is primary, a warning
+	 * is logged and invocations are not recorded.
+	 */
+	FunctionExecutionMetrics resolveMetrics() {
+
+		FunctionExecutionMetrics metrics = this.resolvedMetrics;
+
+		if (metrics == null) {
+
+			metrics = FunctionExecutionMetrics.NONE;
+
+			if (this.beanFactory instanceof AutowireCapableBeanFactory) {
+				try {
+					metrics = ((AutowireCapableBeanFactory) this.beanFactory)
+						.resolveNamedBean(FunctionExecutionMetrics.class).getBeanInstance();
+				}
+				catch (NoUniqueBeanDefinitionException cause) {
+					logger.warn(String.format("Invocations of GemfireFunctions are not recorded since more than one"
+						+ " FunctionExecutionMetrics bean %s is declared and none is primary",
+							cause.getBeanNamesFound()));
+				}
+				catch (NoSuchBeanDefinitionException ignore) {
+				}
+			}
+
+			this.resolvedMetrics = metrics;
+		}
+
+		return metrics;
+	}
 
 	/* (non-Javadoc)
 	 * @see org.springframework.beans.factory.config.BeanPostProcessor#postProcessAfterInitialization(java.lang.Object, java.lang.String)
@@ -64,8 +123,46 @@ public class GemfireFunctionBeanPostProcessor implements BeanPostProcessor {
 				AnnotationAttributes annotationAttributes = AnnotationAttributes.fromMap(
 					AnnotationUtils.getAnnotationAttributes(gemfireFunctionAnnotation,false,true));
 
-				GemfireFunctionUtils.registerFunctionForPojoMethod(bean, method, annotationAttributes, false);
+				GemfireFunctionUtils.registerFunctionForPojoMethod(bean, method, annotationAttributes, false,
+					this.metrics);
 			}
 		});
 	}
+
+	/**
+	 * {@link FunctionExecutionMetrics} delegating to the {@link #resolveMetrics() resolved}
+	 * {@link FunctionExecutionMetrics} bean.
+	 */
+	private class LazyFunctionExecutionMetrics implements FunctionExecutionMetrics {
+
+		@Override
+		public void recordExecution(String functionId, String target, long durationNanos) {
+			resolveMetrics().recordExecution(functionId, target, durationNanos);
+		}
+
+		@Override
+		public void recordResult(String functionId, String target, Object result) {
+			resolveMetrics().recordResult(functionId, target, result);
+		}
+
+		@Override
+		public void recordMemberResponse(String functionId, String target, String memberId, long elapsedNanos) {
+			resolveMetrics().recordMemberResponse(functionId, target, memberId, elapsedNanos);
+		}
+
+		@Override
+		public void recordTimeout(String functionId, String target, long durationNanos) {
+			resolveMetrics().recordTimeout(functionId, target, durationNanos);
+		}
+
+		@Override
+		public void recordException(String functionId, String target, Throwable cause) {
+			resolveMetrics().recordException(functionId, target, cause);
+		}
+
+		@Override
+		public void recordInvocation(String functionId, String memberId, long durationNanos, boolean successful) {
+			resolveMetrics().recordInvocation(functionId, memberId, durationNanos, successful);
+		}
+	}
 }
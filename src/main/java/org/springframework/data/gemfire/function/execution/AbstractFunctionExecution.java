@@ -15,7 +15,11 @@ package org.springframework.data.gemfire.function.execution;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -24,7 +28,11 @@ import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.FunctionException;
 import org.apache.geode.cache.execute.FunctionService;
 import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.internal.cache.execute.DefaultResultCollector;
+import org.apache.geode.internal.cache.execute.NoResult;
+import org.springframework.data.gemfire.function.FunctionExecutionMetrics;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -46,6 +54,8 @@ abstract class AbstractFunctionExecution {
 
 	private Object[] args;
 
+	private volatile FunctionExecutionMetrics metrics = FunctionExecutionMetrics.NONE;
+
 	private volatile ResultCollector<?, ?> resultCollector;
 
 	private String functionId;
@@ -86,6 +96,20 @@ abstract class AbstractFunctionExecution {
 		return timeout;
 	}
 
+	FunctionExecutionMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Returns the name of the execution target recorded with the {@link FunctionExecutionMetrics},
+	 * e.g. {@literal onRegion} or {@literal onServers}.
+	 *
+	 * @return the name of the execution target.
+	 */
+	protected String getTarget() {
+		return ClassUtils.getShortName(getClass());
+	}
+
 	<T> Iterable<T> execute() {
 		return execute(true);
 	}
@@ -94,21 +118,31 @@ abstract class AbstractFunctionExecution {
 	<T> Iterable<T> execute(Boolean returnResult) {
 		Execution execution = getExecution();
 
+		ResultCollector<?, ?> configuredResultCollector = instrument(getCollector());
+
 		execution = execution.withArgs(getArgs());
-		execution = (getCollector() == null ? execution : execution.withCollector(getCollector()));
+		execution = (configuredResultCollector == null ? execution : execution.withCollector(configuredResultCollector));
 		execution = (getKeys() == null ? execution : execution.withFilter(getKeys()));
 
 		ResultCollector<?, ?> resultCollector;
 
-		if (isRegisteredFunction()) {
-			resultCollector = execution.execute(functionId);
-		}
-		else {
-			resultCollector = execution.execute(function);
+		long startTime = System.nanoTime();
 
-			if (!function.hasResult()) {
-				return null;
+		try {
+			if (isRegisteredFunction()) {
+				resultCollector = execution.execute(functionId);
 			}
+			else {
+				resultCollector = execution.execute(function);
+
+				if (!function.hasResult()) {
+					return null;
+				}
+			}
+		}
+		catch (RuntimeException cause) {
+			recordFailure(startTime, cause);
+			throw cause;
 		}
 
 		if (!returnResult) {
@@ -127,9 +161,11 @@ abstract class AbstractFunctionExecution {
 					results = (Iterable<T>) resultCollector.getResult(this.timeout, TimeUnit.MILLISECONDS);
 				}
 				catch (FunctionException e) {
+					recordFailure(startTime, e);
 					throw new RuntimeException(e);
 				}
 				catch (InterruptedException e) {
+					recordFailure(startTime, e);
 					throw new RuntimeException(e);
 				}
 			}
@@ -137,11 +173,14 @@ abstract class AbstractFunctionExecution {
 				results = (Iterable<T>) resultCollector.getResult();
 			}
 
+			recordExecution(startTime);
+
 			return replaceSingletonNullCollectionWithEmptyList(results);
 		}
 		catch (FunctionException e) {
 			//TODO Come up with a better way to determine that the function should not return a result;
 			if (!e.getMessage().equals(NO_RESULT_MESSAGE)) {
+				recordFailure(startTime, e);
 				throw e;
 			}
 		}
@@ -149,9 +188,280 @@ abstract class AbstractFunctionExecution {
 		return results;
 	}
 
+	/**
+	 * Executes the {@link Function} on the given {@link Executor} and returns a {@link Stream} over the results
+	 * as they are received from the executing members.
+	 *
+	 * The {@link Execution} runs on a separate thread since, depending on the execution target, GemFire may deliver
+	 * results to the {@link ResultCollector} on the thread calling {@link Execution#execute(String)}, which would
+	 * otherwise block once the bounded buffer fills up.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param executor {@link Executor} used to run the {@link Execution}.
+	 * @param bufferSize maximum number of results buffered before back-pressure is applied to the sending members.
+	 * @return a {@link Stream} of results; closing the {@link Stream} stops accepting further results.
+	 * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+	 */
+	<T> Stream<T> executeAsStream(Executor executor, int bufferSize) {
+
+		StreamingResultCollector<T> resultCollector = new StreamingResultCollector<>(bufferSize);
+
+		Execution execution = getExecution().withArgs(getArgs()).withCollector(instrument(resultCollector, true));
+
+		Execution resolvedExecution = (getKeys() == null ? execution : execution.withFilter(getKeys()));
+
+		Assert.state(isRegisteredFunction() || this.function.hasResult(), NO_RESULT_MESSAGE);
+
+		executor.execute(() -> {
+			try {
+				if (isRegisteredFunction()) {
+					resolvedExecution.execute(this.functionId);
+				}
+				else {
+					resolvedExecution.execute(this.function);
+				}
+			}
+			catch (Throwable cause) {
+
+				getMetrics().recordException(this.functionId, getTarget(), cause);
+				resultCollector.fail(cause);
+
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+			}
+		});
+
+		return resultCollector.stream(this.timeout, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Executes the {@link Function} and reduces the results sent by each member into a single value
+	 * with the given {@link BinaryOperator} as they arrive.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param reducer {@link BinaryOperator} merging the results.
+	 * @return the reduced result, or {@literal null} if no member sent a (non-null) result.
+	 * @see org.springframework.data.gemfire.function.execution.ReducingResultCollector
+	 */
+	<T> T executeAndReduce(BinaryOperator<T> reducer) {
+
+		Execution execution = getExecution().withArgs(getArgs())
+			.withCollector(instrument(new ReducingResultCollector<>(reducer)));
+
+		execution = (getKeys() == null ? execution : execution.withFilter(getKeys()));
+
+		Assert.state(isRegisteredFunction() || this.function.hasResult(), NO_RESULT_MESSAGE);
+
+		long startTime = System.nanoTime();
+
+		try {
+			ResultCollector<?, ?> resultCollector = (isRegisteredFunction() ? execution.execute(this.functionId)
+				: execution.execute(this.function));
+
+			T result = getResult(resultCollector);
+
+			recordExecution(startTime);
+
+			return result;
+		}
+		catch (RuntimeException cause) {
+			recordFailure(startTime, cause);
+			throw cause;
+		}
+	}
+
+	/**
+	 * Executes the {@link Function} on the given {@link Executor} and returns a {@link CompletableFuture}
+	 * completed once GemFire signals that all results have been received.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param executor {@link Executor} used to run the {@link Execution}.
+	 * @param extract whether to complete the {@link CompletableFuture} with the single result, as returned by
+	 * {@link #executeAndExtract()}, rather than with all results, as returned by {@link #execute()}.
+	 * @return a {@link CompletableFuture} completed with the result of the {@link Function} execution.
+	 * @see org.springframework.data.gemfire.function.execution.CompletingResultCollector
+	 */
+	<T> CompletableFuture<T> executeAsync(Executor executor, boolean extract) {
+		return executeAsync(executor, (getCollector() != null ? getCollector() : new DefaultResultCollector()),
+			extract);
+	}
+
+	/**
+	 * Executes the {@link Function} on the given {@link Executor} gathering the results with the given
+	 * {@link ResultCollector} rather than the configured one, which allows several attempts of the same
+	 * execution to run concurrently.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param executor {@link Executor} used to run the {@link Execution}.
+	 * @param resultCollector {@link ResultCollector} gathering the results of this execution.
+	 * @param extract whether to complete the {@link CompletableFuture} with the single result.
+	 * @return a {@link CompletableFuture} completed with the result of the {@link Function} execution.
+	 * @see #executeAsync(Executor, boolean)
+	 */
 	@SuppressWarnings("unchecked")
+	<T> CompletableFuture<T> executeAsync(Executor executor, ResultCollector<?, ?> resultCollector, boolean extract) {
+
+		return executeAsync(executor, resultCollector, results -> {
+
+			Iterable<Object> resolvedResults = replaceSingletonNullCollectionWithEmptyList((Iterable<Object>) results);
+
+			return (extract ? extract(resolvedResults) : (T) resolvedResults);
+		});
+	}
+
+	/**
+	 * Executes the {@link Function} on the given {@link Executor} and returns a {@link CompletableFuture}
+	 * completed with the results reduced by the given {@link BinaryOperator} once GemFire signals that
+	 * all results have been received.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param executor {@link Executor} used to run the {@link Execution}.
+	 * @param reducer {@link BinaryOperator} merging the results.
+	 * @return a {@link CompletableFuture} completed with the reduced result.
+	 * @see #executeAndReduce(BinaryOperator)
+	 */
+	@SuppressWarnings("unchecked")
+	<T> CompletableFuture<T> executeAndReduceAsync(Executor executor, BinaryOperator<T> reducer) {
+		return executeAsync(executor, new ReducingResultCollector<>(reducer), result -> (T) result);
+	}
+
+	/**
+	 * Depending on the execution target, GemFire may deliver results on the thread calling
+	 * {@link Execution#execute(String)}, so the {@link Execution} runs on the given {@link Executor}.
+	 * The returned {@link CompletableFuture} is completed by the {@link CompletingResultCollector} rather than
+	 * by a thread waiting for the results.
+	 */
+	private <T> CompletableFuture<T> executeAsync(Executor executor, ResultCollector<?, ?> resultCollector,
+			java.util.function.Function<Object, T> resultMapper) {
+
+		Assert.state(isRegisteredFunction() || this.function.hasResult(), NO_RESULT_MESSAGE);
+
+		CompletableFuture<T> future = new CompletableFuture<>();
+
+		Execution execution = getExecution().withArgs(getArgs())
+			.withCollector(instrument(new CompletingResultCollector<>(resultCollector, resultMapper, future)));
+
+		Execution resolvedExecution = (getKeys() == null ? execution : execution.withFilter(getKeys()));
+
+		long startTime = System.nanoTime();
+
+		future.whenComplete((result, cause) -> {
+			if (cause != null) {
+				recordFailure(startTime, cause);
+			}
+			else {
+				recordExecution(startTime);
+			}
+		});
+
+		executor.execute(() -> {
+			try {
+				ResultCollector<?, ?> executionResultCollector = (isRegisteredFunction()
+					? resolvedExecution.execute(this.functionId) : resolvedExecution.execute(this.function));
+
+				// a registered Function without a result never ends the results
+				if (executionResultCollector instanceof NoResult) {
+					future.complete(null);
+				}
+			}
+			catch (Throwable cause) {
+
+				future.completeExceptionally(cause);
+
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+			}
+		});
+
+		if (this.timeout > 0) {
+			FunctionExecutors.failAfterTimeout(future, this.timeout, TimeUnit.MILLISECONDS);
+		}
+
+		return future;
+	}
+
+	/**
+	 * Decorates the given {@link ResultCollector} to record the results received with the configured
+	 * {@link FunctionExecutionMetrics}.  Geode's default {@link ResultCollector} is decorated when
+	 * no {@link ResultCollector} was configured.
+	 *
+	 * @param resultCollector {@link ResultCollector} to decorate; may be {@literal null}.
+	 * @return the decorated {@link ResultCollector}, or the given {@link ResultCollector} as is
+	 * if {@link FunctionExecutionMetrics} are not enabled.
+	 */
+	private ResultCollector<?, ?> instrument(ResultCollector<?, ?> resultCollector) {
+		return instrument(resultCollector, false);
+	}
+
+	/**
+	 * Decorates the given {@link ResultCollector} to record the results received and, if {@code recordExecution}
+	 * is {@literal true}, the successful execution once all results have been received, which is used for
+	 * executions whose results are consumed after the call returns.
+	 */
+	private ResultCollector<?, ?> instrument(ResultCollector<?, ?> resultCollector, boolean recordExecution) {
+
+		if (isInstrumented()) {
+			return new InstrumentingResultCollector<>(resultCollector != null ? resultCollector
+				: new DefaultResultCollector(), getMetrics(), this.functionId, getTarget(), recordExecution);
+		}
+
+		return resultCollector;
+	}
+
+	private boolean isInstrumented() {
+		return (getMetrics() != FunctionExecutionMetrics.NONE);
+	}
+
+	private void recordExecution(long startTime) {
+
+		if (isInstrumented()) {
+			getMetrics().recordExecution(this.functionId, getTarget(), System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * Records a failed execution as a timeout when the execution failed after waiting at least
+	 * the configured timeout, and as an exception otherwise.
+	 */
+	private void recordFailure(long startTime, Throwable cause) {
+
+		if (isInstrumented()) {
+
+			long duration = System.nanoTime() - startTime;
+
+			if (this.timeout > 0 && duration >= TimeUnit.MILLISECONDS.toNanos(this.timeout)) {
+				getMetrics().recordTimeout(this.functionId, getTarget(), duration);
+			}
+			else {
+				getMetrics().recordException(this.functionId, getTarget(), cause);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T getResult(ResultCollector<?, ?> resultCollector) {
+
+		if (this.timeout > 0) {
+			try {
+				return (T) resultCollector.getResult(this.timeout, TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new FunctionException(cause);
+			}
+		}
+
+		return (T) resultCollector.getResult();
+	}
+
 	<T> T executeAndExtract() {
-		Iterable<T> results = execute();
+		return extract(execute());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T extract(Iterable<?> results) {
 
 		if (results == null || !results.iterator().hasNext()) {
 			return null;
@@ -177,6 +487,7 @@ abstract class AbstractFunctionExecution {
 
 	protected AbstractFunctionExecution setFunction(Function function) {
 		this.function = function;
+		this.functionId = (function != null ? function.getId() : this.functionId);
 		return this;
 	}
 
@@ -190,6 +501,11 @@ abstract class AbstractFunctionExecution {
 		return this;
 	}
 
+	protected AbstractFunctionExecution setMetrics(FunctionExecutionMetrics metrics) {
+		this.metrics = (metrics != null ? metrics : FunctionExecutionMetrics.NONE);
+		return this;
+	}
+
 	protected AbstractFunctionExecution setTimeout(long timeout) {
 		this.timeout = timeout;
 		return this;
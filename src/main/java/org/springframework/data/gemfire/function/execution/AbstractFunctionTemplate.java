@@ -12,10 +12,20 @@
  */
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.internal.cache.execute.DefaultResultCollector;
+import org.springframework.data.gemfire.function.FunctionExecutionMetrics;
+import org.springframework.util.Assert;
 
 /**
  * The base class for GemFire FunctionTemplates used to invoke GemFire Functions.
@@ -33,6 +43,14 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations {
 
 	protected volatile ResultCollector<?, ?> resultCollector;
 
+	private volatile int streamingBufferSize = StreamingResultCollector.DEFAULT_BUFFER_SIZE;
+
+	private volatile Executor streamingExecutor;
+
+	private volatile FunctionExecutionMetrics metrics = FunctionExecutionMetrics.NONE;
+
+	private volatile ResilientFunctionExecutor resilientFunctionExecutor;
+
 	@Override
 	public <T> Iterable<T> execute(Function function, Object... args) {
 		 return execute(getFunctionExecution().setArgs(args).setFunction(function));
@@ -53,6 +71,26 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations {
 		return executeAndExtract(getFunctionExecution().setArgs(args).setFunctionId(functionId));
 	}
 
+	@Override
+	public <T> T executeAndReduce(Function function, BinaryOperator<T> reducer, Object... args) {
+		return executeAndReduce(getFunctionExecution().setArgs(args).setFunction(function), reducer);
+	}
+
+	@Override
+	public <T> T executeAndReduce(String functionId, BinaryOperator<T> reducer, Object... args) {
+		return executeAndReduce(getFunctionExecution().setArgs(args).setFunctionId(functionId), reducer);
+	}
+
+	@Override
+	public <T> Stream<T> executeAsStream(Function function, Object... args) {
+		return executeAsStream(getFunctionExecution().setArgs(args).setFunction(function));
+	}
+
+	@Override
+	public <T> Stream<T> executeAsStream(String functionId, Object... args) {
+		return executeAsStream(getFunctionExecution().setArgs(args).setFunctionId(functionId));
+	}
+
 	@Override
 	public void executeWithNoResult(String functionId, Object... args) {
 		execute(getFunctionExecution().setArgs(args).setFunctionId(functionId), false);
@@ -64,15 +102,130 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations {
 	}
 
 	protected <T> Iterable<T> execute(AbstractFunctionExecution execution) {
-		 return execution.setTimeout(timeout).setResultCollector(resultCollector).execute();
+		AbstractFunctionExecution configuredExecution = configure(execution);
+		return executeWithPolicy(configuredExecution, null, false,
+			() -> configuredExecution.setResultCollector(resultCollector).execute());
 	}
 
 	protected <T> Iterable<T> execute(AbstractFunctionExecution execution, boolean returnResult) {
-		 return execution.setTimeout(timeout).setResultCollector(resultCollector).execute(returnResult);
+		AbstractFunctionExecution configuredExecution = configure(execution).setResultCollector(resultCollector);
+		return executeWithPolicy(configuredExecution, () -> configuredExecution.execute(returnResult));
 	}
 
 	protected <T> T executeAndExtract(AbstractFunctionExecution execution) {
-		 return execution.setTimeout(timeout).setResultCollector(resultCollector).executeAndExtract();
+		AbstractFunctionExecution configuredExecution = configure(execution);
+		return executeWithPolicy(configuredExecution, null, true,
+			() -> configuredExecution.setResultCollector(resultCollector).executeAndExtract());
+	}
+
+	protected <T> T executeAndReduce(AbstractFunctionExecution execution, BinaryOperator<T> reducer) {
+		AbstractFunctionExecution configuredExecution = configure(execution);
+		return executeWithPolicy(configuredExecution, reducer, false,
+			() -> configuredExecution.executeAndReduce(reducer));
+	}
+
+	/**
+	 * Runs the {@link AbstractFunctionExecution} on the given {@link Executor}, returning a {@link CompletableFuture}
+	 * completed when GemFire signals that all results have been received.
+	 *
+	 * Retries and hedges wait for the outcome of the previous attempt, so when a {@link FunctionExecutionPolicy}
+	 * is configured, the policy is applied to a synchronous execution running on the given {@link Executor}.
+	 *
+	 * @param execution {@link AbstractFunctionExecution} to run.
+	 * @param reducer {@link BinaryOperator} merging the results; may be {@literal null}.
+	 * @param extract whether to complete with the single result rather than all results when no {@code reducer}
+	 * is given.
+	 * @param executor {@link Executor} running the execution.
+	 * @return a {@link CompletableFuture} completed with the result of the {@link Function} execution.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> CompletableFuture<T> executeAsync(AbstractFunctionExecution execution, BinaryOperator<T> reducer,
+			boolean extract, Executor executor) {
+
+		if (this.resilientFunctionExecutor != null) {
+			return CompletableFuture.supplyAsync(() -> reducer != null ? executeAndReduce(execution, reducer)
+				: extract ? executeAndExtract(execution) : (T) execute(execution), executor);
+		}
+
+		AbstractFunctionExecution configuredExecution = configure(execution);
+
+		return (reducer != null ? configuredExecution.executeAndReduceAsync(executor, reducer)
+			: configuredExecution.setResultCollector(this.resultCollector).executeAsync(executor, extract));
+	}
+
+	/**
+	 * Streaming executions are not retried or hedged since results may already have been consumed
+	 * when an attempt fails.
+	 */
+	protected <T> Stream<T> executeAsStream(AbstractFunctionExecution execution) {
+		return configure(execution).executeAsStream(getStreamingExecutor(), getStreamingBufferSize());
+	}
+
+	private AbstractFunctionExecution configure(AbstractFunctionExecution execution) {
+		execution.setMetrics(getMetrics());
+		return execution.setTimeout(resolveTimeout());
+	}
+
+	private long resolveTimeout() {
+
+		FunctionExecutionPolicy executionPolicy = getExecutionPolicy();
+
+		return (executionPolicy != null && executionPolicy.getAttemptTimeout() > 0
+			? executionPolicy.getAttemptTimeout() : this.timeout);
+	}
+
+	private <T> T executeWithPolicy(AbstractFunctionExecution execution, Supplier<T> attempt) {
+
+		ResilientFunctionExecutor resilientFunctionExecutor = this.resilientFunctionExecutor;
+
+		return (resilientFunctionExecutor != null
+			? resilientFunctionExecutor.execute(execution.getFunctionId(), attempt)
+			: attempt.get());
+	}
+
+	/**
+	 * Each attempt performed by the {@link ResilientFunctionExecutor} is a new execution gathering its results
+	 * with its own {@link ResultCollector}.  When a {@link ResultCollector} is configured, only the results of
+	 * the attempt whose result is returned are passed on to it.
+	 *
+	 * @see org.springframework.data.gemfire.function.execution.AttemptResultCollector
+	 */
+	private <T> T executeWithPolicy(AbstractFunctionExecution execution, BinaryOperator<T> reducer, boolean extract,
+			Supplier<T> execute) {
+
+		ResilientFunctionExecutor resilientFunctionExecutor = this.resilientFunctionExecutor;
+
+		if (resilientFunctionExecutor == null) {
+			return execute.get();
+		}
+
+		ResultCollector<?, ?> configuredResultCollector = this.resultCollector;
+
+		AtomicReference<Object> winner = new AtomicReference<>();
+
+		return resilientFunctionExecutor.execute(execution.getFunctionId(), executor -> {
+
+			if (reducer != null) {
+				return execution.executeAndReduceAsync(executor, reducer);
+			}
+
+			if (configuredResultCollector == null) {
+				return execution.executeAsync(executor, new DefaultResultCollector(), extract);
+			}
+
+			AttemptResultCollector<?, ?> attemptResultCollector =
+				new AttemptResultCollector<>(configuredResultCollector, winner);
+
+			CompletableFuture<T> attempt = execution.executeAsync(executor, attemptResultCollector, extract);
+
+			attempt.whenComplete((result, cause) -> {
+				if (cause != null) {
+					attemptResultCollector.release();
+				}
+			});
+
+			return attempt;
+		});
 	}
 
 	public void setResultCollector(ResultCollector<?,?> resultCollector) {
@@ -83,10 +236,95 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations {
 		return this.resultCollector;
 	}
 
+	/**
+	 * Sets the {@link FunctionExecutionMetrics} recording the latency, results, timeouts and exceptions
+	 * of the {@link Function} executions performed by this template.
+	 *
+	 * @param metrics {@link FunctionExecutionMetrics} recording measurements; {@literal null} disables recording.
+	 * @see org.springframework.data.gemfire.function.FunctionExecutionMetrics
+	 */
+	public void setMetrics(FunctionExecutionMetrics metrics) {
+		this.metrics = (metrics != null ? metrics : FunctionExecutionMetrics.NONE);
+	}
+
+	public FunctionExecutionMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * Sets the {@link FunctionExecutionPolicy} controlling the timeout of each attempt, and the retrying and
+	 * hedging of idempotent {@link Function Functions}.
+	 *
+	 * @param executionPolicy {@link FunctionExecutionPolicy} applied to executions; {@literal null} executes
+	 * each {@link Function} exactly once using the {@link #setTimeout(long) timeout} of this template.
+	 * @see org.springframework.data.gemfire.function.execution.FunctionExecutionPolicy
+	 */
+	public void setExecutionPolicy(FunctionExecutionPolicy executionPolicy) {
+		this.resilientFunctionExecutor = (executionPolicy != null
+			? new ResilientFunctionExecutor(executionPolicy) : null);
+	}
+
+	public FunctionExecutionPolicy getExecutionPolicy() {
+
+		ResilientFunctionExecutor resilientFunctionExecutor = this.resilientFunctionExecutor;
+
+		return (resilientFunctionExecutor != null ? resilientFunctionExecutor.getPolicy() : null);
+	}
+
 	public void setTimeout(long timeout) {
 		this.timeout = timeout;
 	}
 
+	/**
+	 * Sets the maximum number of results buffered by streaming executions before back-pressure is applied
+	 * to the members sending results.
+	 *
+	 * @param streamingBufferSize maximum number of buffered results; must be greater than 0.
+	 * @see #executeAsStream(String, Object...)
+	 */
+	public void setStreamingBufferSize(int streamingBufferSize) {
+		Assert.isTrue(streamingBufferSize > 0,
+			String.format("streamingBufferSize [%d] must be greater than 0", streamingBufferSize));
+		this.streamingBufferSize = streamingBufferSize;
+	}
+
+	public int getStreamingBufferSize() {
+		return this.streamingBufferSize;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to run streaming executions.  Defaults to a bounded pool of daemon threads,
+	 * one per available processor; streaming executions submitted while all threads are busy are queued.
+	 *
+	 * Each streaming execution occupies a thread of this {@link Executor} until all results have been received
+	 * or its {@link java.util.stream.Stream} is closed, so a {@link java.util.stream.Stream} that is neither
+	 * consumed to the end nor closed holds on to a thread indefinitely.
+	 *
+	 * @param streamingExecutor {@link Executor} running streaming executions.
+	 * @see #executeAsStream(String, Object...)
+	 */
+	public void setStreamingExecutor(Executor streamingExecutor) {
+		this.streamingExecutor = streamingExecutor;
+	}
+
+	public Executor getStreamingExecutor() {
+
+		Executor executor = this.streamingExecutor;
+
+		if (executor == null) {
+			synchronized (this) {
+				executor = this.streamingExecutor;
+
+				if (executor == null) {
+					executor = FunctionExecutors.newDefaultExecutor("StreamingFunctionExecution-");
+					this.streamingExecutor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+
 	protected abstract AbstractFunctionExecution getFunctionExecution();
 
 }
@@ -27,4 +27,8 @@ class AllMembersFunctionExecution extends AbstractFunctionExecution {
 		return FunctionService.onMembers();
 	}
 
+	@Override
+	protected String getTarget() {
+		return "onMembers";
+	}
 }
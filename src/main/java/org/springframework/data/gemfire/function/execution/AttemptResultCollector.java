@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+/**
+ * {@link ResultCollector} gathering the results of a single attempt of a retried or hedged Function execution.
+ *
+ * The results are buffered until the attempt has received all of its results and are then passed on to
+ * the {@link ResultCollector} configured on the template, unless another attempt of the same execution
+ * already did so.  The configured {@link ResultCollector} therefore only ever holds the results of
+ * the attempt whose result is returned.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.function.execution.ResilientFunctionExecutor
+ * @since 2.1.0
+ */
+@SuppressWarnings("unchecked")
+class AttemptResultCollector<T, S> implements ResultCollector<T, S> {
+
+	private final AtomicReference<Object> winner;
+
+	private final CountDownLatch resultsEnded = new CountDownLatch(1);
+
+	private final Queue<Map.Entry<DistributedMember, T>> results = new ConcurrentLinkedQueue<>();
+
+	private final ResultCollector<T, S> target;
+
+	private volatile boolean published;
+
+	/**
+	 * Constructs a new instance of {@link AttemptResultCollector}.
+	 *
+	 * @param target {@link ResultCollector} configured on the template.
+	 * @param winner reference shared by all attempts of the same execution, holding the attempt
+	 * whose results were passed on to the {@code target}.
+	 */
+	AttemptResultCollector(ResultCollector<?, ?> target, AtomicReference<Object> winner) {
+		this.target = (ResultCollector<T, S>) target;
+		this.winner = winner;
+	}
+
+	@Override
+	public void addResult(DistributedMember memberId, T result) {
+		this.results.add(new AbstractMap.SimpleImmutableEntry<>(memberId, result));
+	}
+
+	@Override
+	public void endResults() {
+		this.resultsEnded.countDown();
+	}
+
+	@Override
+	public void clearResults() {
+		this.results.clear();
+	}
+
+	@Override
+	public S getResult() throws FunctionException {
+
+		try {
+			this.resultsEnded.await();
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException(cause);
+		}
+
+		return publish();
+	}
+
+	@Override
+	public S getResult(long timeout, TimeUnit unit) throws FunctionException, InterruptedException {
+
+		if (!this.resultsEnded.await(timeout, unit)) {
+			throw new FunctionException("All results not received in time provided");
+		}
+
+		return publish();
+	}
+
+	/**
+	 * Allows another attempt to pass on its results after this attempt failed.
+	 */
+	synchronized void release() {
+
+		if (this.winner.compareAndSet(this, null)) {
+			this.published = false;
+		}
+	}
+
+	private synchronized S publish() {
+
+		if (!this.published) {
+
+			if (!this.winner.compareAndSet(null, this)) {
+				throw new FunctionException("The results of another attempt were already returned");
+			}
+
+			synchronized (this.target) {
+
+				this.target.clearResults();
+				this.results.forEach(result -> this.target.addResult(result.getKey(), result.getValue()));
+				this.target.endResults();
+			}
+
+			this.published = true;
+		}
+
+		return this.target.getResult();
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+/**
+ * {@link ResultCollector} decorator completing a {@link CompletableFuture} with the result of the delegate
+ * {@link ResultCollector} as soon as GemFire signals that all results have been received.
+ *
+ * No thread waits for the results; the {@link CompletableFuture} is completed by the thread calling
+ * {@link #endResults()}.
+ *
+ * @author agent
+ * @see java.util.concurrent.CompletableFuture
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @since 2.1.0
+ */
+@SuppressWarnings("unchecked")
+class CompletingResultCollector<T, S, R> implements ResultCollector<T, S> {
+
+	private final CompletableFuture<R> future;
+
+	private final Function<S, R> resultMapper;
+
+	private final ResultCollector<T, S> delegate;
+
+	/**
+	 * Constructs a new instance of {@link CompletingResultCollector}.
+	 *
+	 * @param delegate {@link ResultCollector} gathering the results.
+	 * @param resultMapper {@link Function} converting the result of the delegate {@link ResultCollector}
+	 * into the value completing the {@link CompletableFuture}; may throw to complete it exceptionally.
+	 * @param future {@link CompletableFuture} to complete.
+	 */
+	CompletingResultCollector(ResultCollector<?, ?> delegate, Function<S, R> resultMapper,
+			CompletableFuture<R> future) {
+
+		this.delegate = (ResultCollector<T, S>) delegate;
+		this.resultMapper = resultMapper;
+		this.future = future;
+	}
+
+	CompletableFuture<R> getFuture() {
+		return this.future;
+	}
+
+	@Override
+	public void addResult(DistributedMember memberId, T result) {
+		this.delegate.addResult(memberId, result);
+	}
+
+	@Override
+	public void endResults() {
+
+		this.delegate.endResults();
+
+		try {
+			this.future.complete(this.resultMapper.apply(this.delegate.getResult()));
+		}
+		catch (Throwable cause) {
+			this.future.completeExceptionally(cause);
+		}
+	}
+
+	@Override
+	public void clearResults() {
+		this.delegate.clearResults();
+	}
+
+	@Override
+	public S getResult() throws FunctionException {
+		return this.delegate.getResult();
+	}
+
+	@Override
+	public S getResult(long timeout, TimeUnit unit) throws FunctionException, InterruptedException {
+		return this.delegate.getResult(timeout, unit);
+	}
+}
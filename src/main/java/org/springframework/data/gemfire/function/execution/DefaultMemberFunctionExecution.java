@@ -26,4 +26,8 @@ class DefaultMemberFunctionExecution extends AbstractFunctionExecution {
 		return FunctionService.onMember();
 	}
 
+	@Override
+	protected String getTarget() {
+		return "onMember";
+	}
 }
@@ -41,4 +41,8 @@ class DistributedMemberFunctionExecution extends AbstractFunctionExecution {
 		return FunctionService.onMember(this.distributedMember);
 	}
 
+	@Override
+	protected String getTarget() {
+		return "onMember";
+	}
 }
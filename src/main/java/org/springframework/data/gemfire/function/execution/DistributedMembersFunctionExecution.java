@@ -39,4 +39,8 @@ class DistributedMembersFunctionExecution extends AbstractFunctionExecution {
 		return FunctionService.onMembers(this.distributedMembers);
 	}
 
+	@Override
+	protected String getTarget() {
+		return "onMembers";
+	}
 }
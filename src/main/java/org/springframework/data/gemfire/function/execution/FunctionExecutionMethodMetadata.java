@@ -15,8 +15,12 @@ package org.springframework.data.gemfire.function.execution;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.data.gemfire.function.annotation.ResultReducer;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
@@ -68,11 +72,28 @@ abstract class FunctionExecutionMethodMetadata<T extends MethodMetadata > {
 
 class MethodMetadata {
 
+	private final boolean async;
+
+	private final BinaryOperator<Object> reducer;
+
 	private String functionId;
 
 	public MethodMetadata(Method method) {
 		String annotatedFunctionId = annotatedFunctionId(method);
 		this.functionId = (annotatedFunctionId == null) ? null : annotatedFunctionId;
+		this.async = isAsyncReturnType(method.getReturnType());
+		this.reducer = annotatedReducer(method);
+	}
+
+	/**
+	 * Determines whether the method is declared to return a {@link CompletableFuture}, or one of its supertypes,
+	 * such as {@link java.util.concurrent.CompletionStage} or {@link java.util.concurrent.Future}, in which case
+	 * the Function is executed asynchronously.
+	 *
+	 * @return a boolean value indicating whether the Function is executed asynchronously.
+	 */
+	public boolean isAsync() {
+		return this.async;
 	}
 
 	/**
@@ -86,6 +107,25 @@ class MethodMetadata {
 		this.functionId = functionId;
 	}
 
+	/**
+	 * @return the {@link BinaryOperator} declared with {@link ResultReducer} used to reduce the results,
+	 * or {@literal null} if the results are not reduced.
+	 */
+	public BinaryOperator<Object> getReducer() {
+		return this.reducer;
+	}
+
+	private boolean isAsyncReturnType(Class<?> returnType) {
+		return !Object.class.equals(returnType) && returnType.isAssignableFrom(CompletableFuture.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	private BinaryOperator<Object> annotatedReducer(Method method) {
+		ResultReducer resultReducerAnnotation = method.getAnnotation(ResultReducer.class);
+		return (resultReducerAnnotation == null) ? null
+			: (BinaryOperator<Object>) BeanUtils.instantiateClass(resultReducerAnnotation.value());
+	}
+
 	private String annotatedFunctionId(Method method) {
 		FunctionId functionIdAnnotation = method.getAnnotation(FunctionId.class);
 		return (functionIdAnnotation == null) ? null : functionIdAnnotation.value();
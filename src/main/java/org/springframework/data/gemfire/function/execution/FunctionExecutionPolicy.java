@@ -0,0 +1,248 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import org.apache.geode.GemFireException;
+import org.springframework.util.Assert;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * Policy controlling how the {@code GemfireOn*FunctionTemplate} classes execute a {@link
+ * org.apache.geode.cache.execute.Function}: the timeout of each attempt, the number of attempts and the
+ * {@link BackOff} between them, and whether a slow attempt is hedged by a second, concurrent attempt.
+ *
+ * Retries and hedging both execute the {@link org.apache.geode.cache.execute.Function} more than once
+ * and are therefore only applied to {@link #setIdempotentFunctionIds(Set) idempotent} Functions.
+ * The attempt timeout applies to all Functions.
+ *
+ * A hedged attempt is a new {@link org.apache.geode.cache.execute.Execution}, which for {@literal onServer}
+ * executions borrows another {@link org.apache.geode.cache.client.Pool} connection and is therefore normally
+ * served by another server.  The result of whichever attempt completes successfully first is returned.
+ *
+ * @author agent
+ * @see org.springframework.util.backoff.BackOff
+ * @see org.springframework.data.gemfire.function.execution.AbstractFunctionTemplate#setExecutionPolicy
+ * @since 2.1.0
+ */
+public class FunctionExecutionPolicy {
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 1;
+	public static final int DEFAULT_MIN_HEDGING_SAMPLES = 100;
+
+	private volatile BackOff backOff = new FixedBackOff(0L, FixedBackOff.UNLIMITED_ATTEMPTS);
+
+	private volatile double hedgingPercentile;
+
+	private volatile Executor hedgingExecutor;
+
+	private volatile int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+	private volatile int minHedgingSamples = DEFAULT_MIN_HEDGING_SAMPLES;
+
+	private volatile long attemptTimeout;
+	private volatile long minHedgingDelay;
+
+	private volatile Predicate<Throwable> retryableExceptions = FunctionExecutionPolicy::isGemFireException;
+
+	private volatile Set<String> idempotentFunctionIds = Collections.emptySet();
+
+	/**
+	 * Determines whether the given {@link Throwable}, or any of its causes, is a {@link GemFireException},
+	 * such as a {@link org.apache.geode.cache.execute.FunctionException} or a
+	 * {@link org.apache.geode.cache.client.ServerConnectivityException}.
+	 */
+	static boolean isGemFireException(Throwable cause) {
+
+		for (Throwable current = cause; current != null; current = current.getCause()) {
+			if (current instanceof GemFireException) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Sets the maximum time in milliseconds to wait for the results of a single attempt, overriding
+	 * the timeout of the template.
+	 *
+	 * @param attemptTimeout timeout in milliseconds; values less than 1 use the timeout of the template.
+	 */
+	public void setAttemptTimeout(long attemptTimeout) {
+		this.attemptTimeout = attemptTimeout;
+	}
+
+	public long getAttemptTimeout() {
+		return this.attemptTimeout;
+	}
+
+	/**
+	 * Sets the {@link BackOff} determining the delay between attempts.  Defaults to no delay.
+	 *
+	 * @param backOff {@link BackOff} between attempts; must not be {@literal null}.
+	 * @see org.springframework.util.backoff.ExponentialBackOff
+	 */
+	public void setBackOff(BackOff backOff) {
+		Assert.notNull(backOff, "BackOff must not be null");
+		this.backOff = backOff;
+	}
+
+	public BackOff getBackOff() {
+		return this.backOff;
+	}
+
+	/**
+	 * Sets the percentile of the latency of previous attempts after which an idempotent Function is hedged,
+	 * e.g. {@literal 0.95} to hedge the slowest 5% of the attempts.
+	 *
+	 * @param hedgingPercentile percentile between 0.0 and 1.0; 0 disables hedging based on latency.
+	 */
+	public void setHedgingPercentile(double hedgingPercentile) {
+		Assert.isTrue(hedgingPercentile >= 0.0d && hedgingPercentile < 1.0d,
+			() -> String.format("hedgingPercentile [%s] must be greater than or equal to 0.0 and less than 1.0",
+				hedgingPercentile));
+		this.hedgingPercentile = hedgingPercentile;
+	}
+
+	public double getHedgingPercentile() {
+		return this.hedgingPercentile;
+	}
+
+	/**
+	 * Sets the {@link Executor} running the primary and hedged attempts of hedged executions, while the calling
+	 * thread waits for the first successful attempt; each hedged execution therefore uses up to two threads.
+	 * Defaults to a bounded pool of daemon threads, one per available processor; attempts started while
+	 * all threads are busy are queued.
+	 *
+	 * @param hedgingExecutor {@link Executor} running hedged attempts.
+	 */
+	public void setHedgingExecutor(Executor hedgingExecutor) {
+		this.hedgingExecutor = hedgingExecutor;
+	}
+
+	public Executor getHedgingExecutor() {
+
+		Executor executor = this.hedgingExecutor;
+
+		if (executor == null) {
+			synchronized (this) {
+				executor = this.hedgingExecutor;
+
+				if (executor == null) {
+					executor = FunctionExecutors.newDefaultExecutor("HedgedFunctionExecution-");
+					this.hedgingExecutor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+
+	/**
+	 * Sets the IDs of the Functions that can safely be executed more than once, and are therefore retried
+	 * and hedged.
+	 *
+	 * @param idempotentFunctionIds {@link Set} of idempotent {@link org.apache.geode.cache.execute.Function} IDs.
+	 */
+	public void setIdempotentFunctionIds(Set<String> idempotentFunctionIds) {
+		this.idempotentFunctionIds = (idempotentFunctionIds != null
+			? Collections.unmodifiableSet(new HashSet<>(idempotentFunctionIds)) : Collections.emptySet());
+	}
+
+	public void setIdempotentFunctionIds(String... idempotentFunctionIds) {
+		setIdempotentFunctionIds(new HashSet<>(Arrays.asList(idempotentFunctionIds)));
+	}
+
+	public Set<String> getIdempotentFunctionIds() {
+		return this.idempotentFunctionIds;
+	}
+
+	/**
+	 * Sets the maximum number of attempts, including the first, of an idempotent Function.
+	 *
+	 * @param maxAttempts maximum number of attempts; must be greater than 0.
+	 */
+	public void setMaxAttempts(int maxAttempts) {
+		Assert.isTrue(maxAttempts > 0, String.format("maxAttempts [%d] must be greater than 0", maxAttempts));
+		this.maxAttempts = maxAttempts;
+	}
+
+	public int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	/**
+	 * Sets the minimum time in milliseconds to wait before hedging an attempt.  When no
+	 * {@link #setHedgingPercentile(double) hedging percentile} is set, or too few attempts have been
+	 * measured, this delay is used as is.
+	 *
+	 * @param minHedgingDelay minimum delay in milliseconds; 0 disables hedging unless a hedging percentile is set.
+	 */
+	public void setMinHedgingDelay(long minHedgingDelay) {
+		this.minHedgingDelay = Math.max(minHedgingDelay, 0L);
+	}
+
+	public long getMinHedgingDelay() {
+		return this.minHedgingDelay;
+	}
+
+	/**
+	 * Sets the number of attempts measured before the hedging delay is derived from the
+	 * {@link #setHedgingPercentile(double) hedging percentile}.
+	 *
+	 * @param minHedgingSamples minimum number of measured attempts; must be greater than 0.
+	 */
+	public void setMinHedgingSamples(int minHedgingSamples) {
+		Assert.isTrue(minHedgingSamples > 0,
+			String.format("minHedgingSamples [%d] must be greater than 0", minHedgingSamples));
+		this.minHedgingSamples = minHedgingSamples;
+	}
+
+	public int getMinHedgingSamples() {
+		return this.minHedgingSamples;
+	}
+
+	/**
+	 * Sets the {@link Predicate} determining whether a failed attempt is retried.  Defaults to retrying
+	 * when the failure is caused by a {@link GemFireException}, which includes timeouts and lost connections.
+	 *
+	 * @param retryableExceptions {@link Predicate} evaluating the {@link Throwable} of a failed attempt.
+	 */
+	public void setRetryableExceptions(Predicate<Throwable> retryableExceptions) {
+		Assert.notNull(retryableExceptions, "Predicate must not be null");
+		this.retryableExceptions = retryableExceptions;
+	}
+
+	public Predicate<Throwable> getRetryableExceptions() {
+		return this.retryableExceptions;
+	}
+
+	boolean isHedgingEnabled() {
+		return (this.hedgingPercentile > 0.0d || this.minHedgingDelay > 0L);
+	}
+
+	boolean isIdempotent(String functionId) {
+		return this.idempotentFunctionIds.contains(functionId);
+	}
+
+	boolean isRetryable(Throwable cause) {
+		return this.retryableExceptions.test(cause);
+	}
+}
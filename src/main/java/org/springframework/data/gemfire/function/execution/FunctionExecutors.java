@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Factory for the default {@link Executor Executors} used to run Function executions off the calling thread.
+ *
+ * The default {@link Executor Executors} use a bounded number of daemon threads, which time out when idle.
+ * Tasks submitted while all threads are busy are queued rather than starting additional threads.
+ *
+ * @author agent
+ * @see org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor
+ * @since 2.1.0
+ */
+abstract class FunctionExecutors {
+
+	static final int DEFAULT_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	static final int DEFAULT_KEEP_ALIVE_SECONDS = 60;
+
+	/**
+	 * Constructs a new, bounded {@link Executor} with {@link #DEFAULT_POOL_SIZE} threads.
+	 *
+	 * @param threadNamePrefix {@link String} prefix of the names of the threads.
+	 * @return a new, bounded {@link Executor}.
+	 */
+	static Executor newDefaultExecutor(String threadNamePrefix) {
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setCorePoolSize(DEFAULT_POOL_SIZE);
+		executor.setDaemon(true);
+		executor.setKeepAliveSeconds(DEFAULT_KEEP_ALIVE_SECONDS);
+		executor.setMaxPoolSize(DEFAULT_POOL_SIZE);
+		executor.setThreadNamePrefix(threadNamePrefix);
+		executor.initialize();
+
+		return executor;
+	}
+
+	/**
+	 * Completes the given {@link CompletableFuture} exceptionally with a {@link FunctionException} caused by
+	 * a {@link TimeoutException} if it has not completed within the given timeout.
+	 *
+	 * @param future {@link CompletableFuture} to time out.
+	 * @param timeout time to wait for the {@link CompletableFuture} to complete.
+	 * @param unit {@link TimeUnit} of the {@code timeout}.
+	 */
+	static void failAfterTimeout(CompletableFuture<?> future, long timeout, TimeUnit unit) {
+
+		ScheduledFuture<?> scheduledTimeout = TimeoutScheduler.INSTANCE.schedule(() ->
+			future.completeExceptionally(new FunctionException(new TimeoutException(
+				String.format("Function execution did not complete within [%1$d %2$s]", timeout, unit)))),
+					timeout, unit);
+
+		future.whenComplete((result, cause) -> scheduledTimeout.cancel(false));
+	}
+
+	/**
+	 * Runs the given task once the given delay has elapsed.  The task runs on the shared scheduler thread
+	 * and must therefore hand off any blocking work to another {@link Executor}.
+	 *
+	 * @param task {@link Runnable} to run.
+	 * @param delay time to wait before running the task.
+	 * @param unit {@link TimeUnit} of the {@code delay}.
+	 * @return the {@link ScheduledFuture} used to cancel the task.
+	 */
+	static ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+		return TimeoutScheduler.INSTANCE.schedule(task, delay, unit);
+	}
+
+	private static class TimeoutScheduler {
+
+		static final ScheduledThreadPoolExecutor INSTANCE = newTimeoutScheduler();
+
+		private static ScheduledThreadPoolExecutor newTimeoutScheduler() {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("FunctionExecutionTimeout-");
+
+			threadFactory.setDaemon(true);
+
+			ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+
+			scheduler.setRemoveOnCancelPolicy(true);
+
+			return scheduler;
+		}
+	}
+}
@@ -13,7 +13,12 @@
 
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import org.apache.geode.cache.execute.Function;
+import org.springframework.data.gemfire.util.CollectionUtils;
 
 /**
  *
@@ -64,6 +69,80 @@ public interface GemfireFunctionOperations {
 	 */
 	<T> T executeAndExtract(String functionId, Object... args);
 
+	/**
+	 * Execute an unregistered GemFire Function, reducing the results sent by the executing members into
+	 * a single value as they arrive.
+	 *
+	 * Typically used with a Function declaring a {@link org.springframework.data.gemfire.function.FunctionResultCombiner}
+	 * so that each member sends a single partial result.
+	 *
+	 * The default implementation reduces the results returned by {@link #execute(Function, Object...)} once
+	 * they have all been received; the function templates reduce the results as they arrive.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param function the GemFire Function object to execute.
+	 * @param reducer {@link BinaryOperator} merging the partial results.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return the reduced result, or {@literal null} if no member sent a result.
+	 * @see org.springframework.data.gemfire.function.execution.ReducingResultCollector
+	 */
+	default <T> T executeAndReduce(Function function, BinaryOperator<T> reducer, Object... args) {
+		return ReducingResultCollector.reduce(execute(function, args), reducer);
+	}
+
+	/**
+	 * Execute a GemFire Function registered with the given ID, reducing the results sent by the executing members
+	 * into a single value as they arrive.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param reducer {@link BinaryOperator} merging the partial results.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return the reduced result, or {@literal null} if no member sent a result.
+	 * @see #executeAndReduce(Function, BinaryOperator, Object...)
+	 */
+	default <T> T executeAndReduce(String functionId, BinaryOperator<T> reducer, Object... args) {
+		return ReducingResultCollector.reduce(execute(functionId, args), reducer);
+	}
+
+	/**
+	 * Execute an unregistered GemFire Function, streaming results as they are received from the executing members.
+	 *
+	 * Results are held in a bounded buffer; when the buffer is full, the members sending results are blocked
+	 * until the caller consumes more results.  The function templates run the execution on a thread of their
+	 * streaming {@link java.util.concurrent.Executor}, which remains occupied until all results have been
+	 * received or the {@link Stream} is closed, so the returned {@link Stream} must always be closed,
+	 * preferably with a try-with-resources statement.
+	 *
+	 * The default implementation streams the results returned by {@link #execute(Function, Object...)} once
+	 * they have all been received.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param function the GemFire Function object to execute.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link Stream} over the results in the order received; must be closed.
+	 * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+	 */
+	default <T> Stream<T> executeAsStream(Function function, Object... args) {
+		return StreamSupport.stream(CollectionUtils.<T>nullSafeIterable(execute(function, args)).spliterator(),
+			false);
+	}
+
+	/**
+	 * Execute a GemFire Function registered with the given ID, streaming results as they are received
+	 * from the executing members.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link Stream} over the results in the order received; must be closed.
+	 * @see #executeAsStream(Function, Object...)
+	 */
+	default <T> Stream<T> executeAsStream(String functionId, Object... args) {
+		return StreamSupport.stream(CollectionUtils.<T>nullSafeIterable(execute(functionId, args)).spliterator(),
+			false);
+	}
+
 	/**
 	 * Execute a GemFire Function registered with the given ID having no return value.
 
@@ -13,6 +13,8 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -45,6 +47,8 @@ public class GemfireFunctionProxyFactoryBean implements FactoryBean<Object>, Met
 
 	private volatile Object functionExecutionProxy;
 
+	private volatile Executor executor;
+
 	private final GemfireFunctionOperations gemfireFunctionOperations;
 
 	protected Log logger = LogFactory.getLog(this.getClass());
@@ -73,6 +77,34 @@ public class GemfireFunctionProxyFactoryBean implements FactoryBean<Object>, Met
 		beanClassLoader = classLoader;
 	}
 
+	/**
+	 * Sets the {@link Executor} used to run Function executions for interface methods declared to return
+	 * a {@link CompletableFuture}.  Defaults to a bounded pool of daemon threads, one per available processor.
+	 *
+	 * @param executor {@link Executor} running asynchronous Function executions.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	protected Executor getExecutor() {
+
+		Executor executor = this.executor;
+
+		if (executor == null) {
+			synchronized (this) {
+				executor = this.executor;
+
+				if (executor == null) {
+					executor = FunctionExecutors.newDefaultExecutor("AsyncFunctionExecution-");
+					this.executor = executor;
+				}
+			}
+		}
+
+		return executor;
+	}
+
 	@Override
 	public Object invoke(MethodInvocation invocation) throws Throwable {
 		if (AopUtils.isToStringMethod(invocation.getMethod())) {
@@ -83,12 +115,53 @@ public class GemfireFunctionProxyFactoryBean implements FactoryBean<Object>, Met
 			logger.debug("invoking method " + invocation.getMethod().getName());
 		}
 
-		return invokeFunction(invocation.getMethod(), invocation.getArguments());
+		Method method = invocation.getMethod();
+
+		return (isAsync(method) ? invokeFunctionAsync(method, invocation.getArguments())
+			: invokeFunction(method, invocation.getArguments()));
+	}
+
+	private boolean isAsync(Method method) {
+
+		MethodMetadata metadata = this.methodMetadata.getMethodMetadata(method);
+
+		return (metadata != null && metadata.isAsync());
+	}
+
+	/**
+	 * Executes the Function on the configured {@link Executor}, completing the returned {@link CompletableFuture}
+	 * with the result, or exceptionally if the Function execution fails or times out.
+	 *
+	 * When delegating to a GemFire Function template, the {@link CompletableFuture} is completed as soon as
+	 * all results have been received, without blocking a thread of the {@link Executor} while waiting for them.
+	 *
+	 * @param method {@link Method} declared to return a {@link CompletableFuture}.
+	 * @param args arguments passed to the Function.
+	 * @return a {@link CompletableFuture} completed with the result of the Function execution.
+	 * @see #invokeFunction(Method, Object[])
+	 */
+	protected CompletableFuture<Object> invokeFunctionAsync(Method method, Object[] args) {
+
+		if (this.gemfireFunctionOperations instanceof AbstractFunctionTemplate) {
+
+			MethodMetadata metadata = methodMetadata.getMethodMetadata(method);
+
+			AbstractFunctionTemplate functionTemplate = (AbstractFunctionTemplate) this.gemfireFunctionOperations;
+
+			return functionTemplate.executeAsync(functionTemplate.getFunctionExecution().setArgs(args)
+				.setFunctionId(metadata.getFunctionId()), metadata.getReducer(), true, getExecutor());
+		}
+
+		return CompletableFuture.supplyAsync(() -> invokeFunction(method, args), getExecutor());
 	}
 
 	protected Object invokeFunction(Method method, Object[] args) {
-		return this.gemfireFunctionOperations.executeAndExtract(
-			methodMetadata.getMethodMetadata(method).getFunctionId(), args);
+
+		MethodMetadata metadata = methodMetadata.getMethodMetadata(method);
+
+		return (metadata.getReducer() != null
+			? this.gemfireFunctionOperations.executeAndReduce(metadata.getFunctionId(), metadata.getReducer(), args)
+			: this.gemfireFunctionOperations.executeAndExtract(metadata.getFunctionId(), args));
 	}
 
 	@Override
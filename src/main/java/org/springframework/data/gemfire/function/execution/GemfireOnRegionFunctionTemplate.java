@@ -13,6 +13,8 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Function;
@@ -55,6 +57,18 @@ public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate im
 				.setTimeout(timeout).setArgs(args));
 	}
 
+	@Override
+	public <T> T executeAndReduce(String functionId, Set<?> keys, BinaryOperator<T> reducer, Object... args) {
+		return executeAndReduce(new RegionFunctionExecution(region).setKeys(keys).setFunctionId(functionId)
+				.setArgs(args), reducer);
+	}
+
+	@Override
+	public <T> Stream<T> executeAsStream(String functionId, Set<?> keys, Object... args) {
+		return executeAsStream(new RegionFunctionExecution(region).setKeys(keys).setFunctionId(functionId)
+				.setArgs(args));
+	}
+
 	@Override
 	protected AbstractFunctionExecution getFunctionExecution() {
 		return new RegionFunctionExecution(this.region);
@@ -13,8 +13,12 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.execute.Function;
+import org.springframework.data.gemfire.util.CollectionUtils;
 
 /**
  * @author David Turanski
@@ -26,4 +30,28 @@ public interface GemfireOnRegionOperations extends GemfireFunctionOperations {
 	public abstract void executeWithNoResult(String functionId, Set<?> keys, Object... args);
 	public abstract <T> T executeAndextract(String functionId, Set<?> keys, Object... args);
 
+	/**
+	 * Execute a GemFire Function registered with the given ID on the given keys, reducing the results sent by
+	 * the executing members into a single value.  The default implementation reduces the results returned by
+	 * {@link #execute(String, Set, Object...)} once they have all been received.
+	 *
+	 * @see GemfireFunctionOperations#executeAndReduce(String, BinaryOperator, Object...)
+	 */
+	default <T> T executeAndReduce(String functionId, Set<?> keys, BinaryOperator<T> reducer, Object... args) {
+		return ReducingResultCollector.reduce(execute(functionId, keys, args), reducer);
+	}
+
+	/**
+	 * Execute a GemFire Function registered with the given ID on the given keys, streaming results as they are
+	 * received from the executing members.  The returned {@link Stream} must always be closed.  The default
+	 * implementation streams the results returned by {@link #execute(String, Set, Object...)} once they have
+	 * all been received.
+	 *
+	 * @see GemfireFunctionOperations#executeAsStream(Function, Object...)
+	 */
+	default <T> Stream<T> executeAsStream(String functionId, Set<?> keys, Object... args) {
+		return StreamSupport.stream(CollectionUtils.<T>nullSafeIterable(execute(functionId, keys, args))
+			.spliterator(), false);
+	}
+
 }
@@ -50,4 +50,8 @@ class GroupMemberFunctionExecution extends AbstractFunctionExecution {
 		return FunctionService.onMember(this.groups);
 	}
 
+	@Override
+	protected String getTarget() {
+		return "onMember";
+	}
 }
@@ -49,4 +49,8 @@ class GroupMembersFunctionExecution extends AbstractFunctionExecution {
 		return FunctionService.onMembers(this.groups);
 	}
 
+	@Override
+	protected String getTarget() {
+		return "onMembers";
+	}
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+import org.springframework.data.gemfire.function.FunctionExecutionMetrics;
+
+/**
+ * {@link ResultCollector} decorator recording each result received, and the time at which each member sent
+ * its last result, with a {@link FunctionExecutionMetrics}.
+ *
+ * For executions whose caller does not wait for all results, such as streaming executions, the decorator
+ * also records the successful execution when GemFire signals the end of the results.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see org.springframework.data.gemfire.function.FunctionExecutionMetrics
+ * @since 2.1.0
+ */
+@SuppressWarnings("unchecked")
+class InstrumentingResultCollector<T, S> implements ResultCollector<T, S> {
+
+	private static final String UNKNOWN_MEMBER = "unknown";
+
+	private final FunctionExecutionMetrics metrics;
+
+	private final boolean recordExecution;
+
+	private final long startTime;
+
+	private final Map<String, Long> lastResponseTimes = new ConcurrentHashMap<>();
+
+	private final ResultCollector<T, S> delegate;
+
+	private final String functionId;
+	private final String target;
+
+	InstrumentingResultCollector(ResultCollector<?, ?> delegate, FunctionExecutionMetrics metrics,
+			String functionId, String target) {
+
+		this(delegate, metrics, functionId, target, false);
+	}
+
+	InstrumentingResultCollector(ResultCollector<?, ?> delegate, FunctionExecutionMetrics metrics,
+			String functionId, String target, boolean recordExecution) {
+
+		this.delegate = (ResultCollector<T, S>) delegate;
+		this.metrics = metrics;
+		this.functionId = functionId;
+		this.target = target;
+		this.recordExecution = recordExecution;
+		this.startTime = System.nanoTime();
+	}
+
+	long getStartTime() {
+		return this.startTime;
+	}
+
+	@Override
+	public void addResult(DistributedMember memberId, T result) {
+
+		this.lastResponseTimes.put(memberId != null ? memberId.getId() : UNKNOWN_MEMBER, System.nanoTime());
+		this.metrics.recordResult(this.functionId, this.target, result);
+		this.delegate.addResult(memberId, result);
+	}
+
+	@Override
+	public void endResults() {
+
+		long endTime = System.nanoTime();
+
+		this.lastResponseTimes.forEach((memberId, responseTime) ->
+			this.metrics.recordMemberResponse(this.functionId, this.target, memberId, responseTime - this.startTime));
+
+		if (this.recordExecution) {
+			this.metrics.recordExecution(this.functionId, this.target, endTime - this.startTime);
+		}
+
+		this.delegate.endResults();
+	}
+
+	@Override
+	public void clearResults() {
+		this.lastResponseTimes.clear();
+		this.delegate.clearResults();
+	}
+
+	@Override
+	public S getResult() throws FunctionException {
+		return this.delegate.getResult();
+	}
+
+	@Override
+	public S getResult(long timeout, TimeUnit unit) throws FunctionException, InterruptedException {
+		return this.delegate.getResult(timeout, unit);
+	}
+}
@@ -14,6 +14,8 @@ package org.springframework.data.gemfire.function.execution;
 
 import java.lang.reflect.Method;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
 
 import org.springframework.data.gemfire.util.ArrayUtils;
 
@@ -35,7 +37,35 @@ public class OnRegionFunctionProxyFactoryBean extends GemfireFunctionProxyFactor
 	}
 
 	@Override
-	protected Iterable<?> invokeFunction(Method method, Object[] args) {
+	protected CompletableFuture<Object> invokeFunctionAsync(Method method, Object[] args) {
+
+		if (getGemfireFunctionOperations() instanceof GemfireOnRegionFunctionTemplate) {
+
+			GemfireOnRegionFunctionTemplate functionTemplate =
+				(GemfireOnRegionFunctionTemplate) getGemfireFunctionOperations();
+
+			OnRegionMethodMetadata onRegionMethodMetadata = methodMetadata.getMethodMetadata(method);
+
+			int filterArgPosition = onRegionMethodMetadata.getFilterArgPosition();
+
+			RegionFunctionExecution execution = (RegionFunctionExecution) functionTemplate.getFunctionExecution();
+
+			if (filterArgPosition >= 0) {
+				execution.setKeys((Set<?>) args[filterArgPosition]);
+				args = ArrayUtils.remove(args, filterArgPosition);
+			}
+
+			execution.setArgs(args).setFunctionId(onRegionMethodMetadata.getFunctionId());
+
+			return functionTemplate.executeAsync(execution, onRegionMethodMetadata.getReducer(), false,
+				getExecutor());
+		}
+
+		return super.invokeFunctionAsync(method, args);
+	}
+
+	@Override
+	protected Object invokeFunction(Method method, Object[] args) {
 		GemfireOnRegionOperations gemfireOnRegionOperations = (GemfireOnRegionOperations) getGemfireFunctionOperations();
 
 		OnRegionMethodMetadata onRegionMethodMetadata = methodMetadata.getMethodMetadata(method);
@@ -53,6 +83,13 @@ public class OnRegionFunctionProxyFactoryBean extends GemfireFunctionProxyFactor
 			args = ArrayUtils.remove(args, filterArgPosition);
 		}
 
+		BinaryOperator<Object> reducer = onRegionMethodMetadata.getReducer();
+
+		if (reducer != null) {
+			return (filter == null ? gemfireOnRegionOperations.executeAndReduce(functionId, reducer, args)
+				: gemfireOnRegionOperations.executeAndReduce(functionId, filter, reducer, args));
+		}
+
 		return (filter == null ?  gemfireOnRegionOperations.execute(functionId, args)
 			: gemfireOnRegionOperations.execute(functionId, filter, args));
 	}
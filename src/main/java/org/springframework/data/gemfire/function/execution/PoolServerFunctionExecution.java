@@ -63,4 +63,9 @@ class PoolServerFunctionExecution extends AbstractFunctionExecution implements I
 		Assert.notNull(pool," pool " + poolname+ " does not exist");
 
 	}
+
+	@Override
+	protected String getTarget() {
+		return "onServer";
+	}
 }
@@ -40,4 +40,9 @@ class PoolServersFunctionExecution extends AbstractFunctionExecution {
 	protected Execution getExecution() {
 		return FunctionService.onServers(this.pool);
 	}
+
+	@Override
+	protected String getTarget() {
+		return "onServers";
+	}
 }
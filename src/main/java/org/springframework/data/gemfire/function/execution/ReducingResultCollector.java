@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResultCollector} implementation that reduces the results sent by each member into a single value
+ * with a {@link BinaryOperator} as they arrive, so the individual results are never held together.
+ *
+ * {@literal null} results are ignored.  If a member sends a {@link Throwable}, {@link #getResult()} throws
+ * a {@link FunctionException} caused by that {@link Throwable}.
+ *
+ * @author agent
+ * @see java.util.function.BinaryOperator
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see org.springframework.data.gemfire.function.FunctionResultCombiner
+ * @since 2.1.0
+ */
+public class ReducingResultCollector<T> implements ResultCollector<Object, T> {
+
+	private final BinaryOperator<T> reducer;
+
+	private volatile CountDownLatch endOfResults = new CountDownLatch(1);
+
+	private T result;
+
+	private Throwable failure;
+
+	/**
+	 * Constructs a new instance of {@link ReducingResultCollector} initialized with the given {@link BinaryOperator}.
+	 *
+	 * @param reducer {@link BinaryOperator} used to merge results; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link BinaryOperator} is {@literal null}.
+	 */
+	public ReducingResultCollector(BinaryOperator<T> reducer) {
+		Assert.notNull(reducer, "Reducer is required");
+		this.reducer = reducer;
+	}
+
+	/**
+	 * Reduces results that have already been gathered, with the same semantics as a
+	 * {@link ReducingResultCollector} receiving them one at a time.
+	 *
+	 * @param <T> type of the reduced result.
+	 * @param results {@link Iterable} of results to reduce; may be {@literal null}.
+	 * @param reducer {@link BinaryOperator} used to merge results; must not be {@literal null}.
+	 * @return the reduced result, or {@literal null} if there was no result.
+	 * @throws FunctionException if any of the results is a {@link Throwable}.
+	 */
+	static <T> T reduce(Iterable<?> results, BinaryOperator<T> reducer) {
+
+		ReducingResultCollector<T> resultCollector = new ReducingResultCollector<>(reducer);
+
+		CollectionUtils.nullSafeIterable(results).forEach(result -> resultCollector.addResult(null, result));
+		resultCollector.endResults();
+
+		return resultCollector.getResult();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized void addResult(DistributedMember memberId, Object resultOfSingleExecution) {
+
+		if (resultOfSingleExecution instanceof Throwable) {
+			if (this.failure == null) {
+				this.failure = (Throwable) resultOfSingleExecution;
+			}
+		}
+		else if (resultOfSingleExecution != null) {
+			this.result = (this.result != null ? this.reducer.apply(this.result, (T) resultOfSingleExecution)
+				: (T) resultOfSingleExecution);
+		}
+	}
+
+	@Override
+	public void endResults() {
+		this.endOfResults.countDown();
+	}
+
+	@Override
+	public synchronized void clearResults() {
+		this.result = null;
+		this.failure = null;
+		this.endOfResults = new CountDownLatch(1);
+	}
+
+	@Override
+	public T getResult() throws FunctionException {
+
+		try {
+			this.endOfResults.await();
+			return resolveResult();
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for results", cause);
+		}
+	}
+
+	@Override
+	public T getResult(long timeout, TimeUnit unit) throws FunctionException, InterruptedException {
+
+		if (!this.endOfResults.await(timeout, unit)) {
+			throw new FunctionException(String.format("All results were not received within [%1$d %2$s]",
+				timeout, unit));
+		}
+
+		return resolveResult();
+	}
+
+	private synchronized T resolveResult() {
+
+		if (this.failure != null) {
+			throw (this.failure instanceof FunctionException ? (FunctionException) this.failure
+				: new FunctionException(this.failure));
+		}
+
+		return this.result;
+	}
+}
@@ -55,4 +55,9 @@ class RegionFunctionExecution extends AbstractFunctionExecution {
 		}
 		return execution;
 	}
+
+	@Override
+	protected String getTarget() {
+		return "onRegion";
+	}
 }
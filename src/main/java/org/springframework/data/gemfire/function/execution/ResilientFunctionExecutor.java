@@ -0,0 +1,277 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.execute.FunctionException;
+import org.springframework.data.gemfire.util.LatencyHistogram;
+import org.springframework.util.backoff.BackOffExecution;
+
+/**
+ * Executes the attempts of a {@link org.apache.geode.cache.execute.Function} execution according to
+ * a {@link FunctionExecutionPolicy}, retrying failed attempts and hedging slow attempts of idempotent Functions.
+ *
+ * An attempt is started on a given {@link Executor} and returns a {@link CompletableFuture} of its result.
+ * Attempts are started on the calling thread unless they are hedged, in which case both the primary and
+ * the hedged attempt are started on the {@link FunctionExecutionPolicy#getHedgingExecutor() hedging Executor}
+ * while the calling thread waits for the first successful attempt.  Each attempt must perform a new execution
+ * with its own {@link org.apache.geode.cache.execute.ResultCollector}.
+ *
+ * The latency of successful attempts is measured per Function ID to derive the hedging delay.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.function.execution.FunctionExecutionPolicy
+ * @since 2.1.0
+ */
+class ResilientFunctionExecutor {
+
+	private static final Executor CALLING_THREAD = Runnable::run;
+
+	private final ConcurrentMap<String, LatencyHistogram> attemptLatencies = new ConcurrentHashMap<>();
+
+	private final FunctionExecutionPolicy policy;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	ResilientFunctionExecutor(FunctionExecutionPolicy policy) {
+		this.policy = policy;
+	}
+
+	FunctionExecutionPolicy getPolicy() {
+		return this.policy;
+	}
+
+	LatencyHistogram getAttemptLatency(String functionId) {
+		return this.attemptLatencies.computeIfAbsent(String.valueOf(functionId), key -> new LatencyHistogram());
+	}
+
+	/**
+	 * Performs the given synchronous attempt, repeating it when it fails with a retryable exception and
+	 * hedging it when it is slow, provided the {@link org.apache.geode.cache.execute.Function} is idempotent.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param functionId {@link String ID} of the {@link org.apache.geode.cache.execute.Function}.
+	 * @param attempt {@link Supplier} performing a single attempt.
+	 * @return the result of the first successful attempt.
+	 * @see #execute(String, Function)
+	 */
+	<T> T execute(String functionId, Supplier<T> attempt) {
+		return execute(functionId, (Function<Executor, CompletableFuture<T>>) executor ->
+			CompletableFuture.supplyAsync(attempt, executor));
+	}
+
+	/**
+	 * Performs the given attempt, repeating it when it fails with a retryable exception and hedging it
+	 * when it is slow, provided the {@link org.apache.geode.cache.execute.Function} is idempotent.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param functionId {@link String ID} of the {@link org.apache.geode.cache.execute.Function}.
+	 * @param attempt {@link Function} starting a single attempt on the given {@link Executor}.
+	 * @return the result of the first successful attempt.
+	 */
+	<T> T execute(String functionId, Function<Executor, CompletableFuture<T>> attempt) {
+
+		if (!this.policy.isIdempotent(functionId)) {
+			return join(start(attempt, CALLING_THREAD));
+		}
+
+		BackOffExecution backOffExecution = this.policy.getBackOff().start();
+
+		for (int attemptNumber = 1; ; attemptNumber++) {
+			try {
+				return join(this.policy.isHedgingEnabled() ? executeHedged(functionId, attempt)
+					: executeMeasured(functionId, attempt, CALLING_THREAD));
+			}
+			catch (RuntimeException cause) {
+
+				long backOff = (attemptNumber < this.policy.getMaxAttempts() && this.policy.isRetryable(cause)
+					? backOffExecution.nextBackOff() : BackOffExecution.STOP);
+
+				if (backOff == BackOffExecution.STOP) {
+					throw cause;
+				}
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Attempt [%1$d] of Function [%2$s] failed; retrying in [%3$d] ms",
+						attemptNumber, functionId, backOff), cause);
+				}
+
+				sleep(backOff);
+			}
+		}
+	}
+
+	private <T> CompletableFuture<T> executeMeasured(String functionId,
+			Function<Executor, CompletableFuture<T>> attempt, Executor executor) {
+
+		long startTime = System.nanoTime();
+
+		CompletableFuture<T> result = start(attempt, executor);
+
+		result.thenRun(() -> getAttemptLatency(functionId).record(System.nanoTime() - startTime));
+
+		return result;
+	}
+
+	/**
+	 * Starts the primary attempt on the hedging {@link Executor} and, if it has not completed within
+	 * the hedging delay, a second attempt on the hedging {@link Executor}.  Neither attempt runs on the calling
+	 * thread, so the calling thread, which only waits for the returned {@link CompletableFuture}, is released
+	 * as soon as either attempt succeeds, even when the other attempt blocks.  Completes with the result of
+	 * whichever attempt succeeds first, and only fails when all started attempts fail.
+	 */
+	private <T> CompletableFuture<T> executeHedged(String functionId,
+			Function<Executor, CompletableFuture<T>> attempt) {
+
+		long hedgingDelay = resolveHedgingDelay(functionId);
+
+		if (hedgingDelay <= 0L) {
+			return executeMeasured(functionId, attempt, CALLING_THREAD);
+		}
+
+		HedgedAttempts<T> attempts = new HedgedAttempts<>();
+
+		ScheduledFuture<?> scheduledHedge = FunctionExecutors.schedule(() -> {
+			if (attempts.tryStart()) {
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Hedging Function [%1$s] after [%2$d] us", functionId,
+						TimeUnit.NANOSECONDS.toMicros(hedgingDelay)));
+				}
+
+				executeMeasured(functionId, attempt, this.policy.getHedgingExecutor()).whenComplete(attempts::complete);
+			}
+		}, hedgingDelay, TimeUnit.NANOSECONDS);
+
+		attempts.getResult().whenComplete((result, cause) -> scheduledHedge.cancel(false));
+
+		executeMeasured(functionId, attempt, this.policy.getHedgingExecutor()).whenComplete(attempts::complete);
+
+		return attempts.getResult();
+	}
+
+	private long resolveHedgingDelay(String functionId) {
+
+		long minHedgingDelay = TimeUnit.MILLISECONDS.toNanos(this.policy.getMinHedgingDelay());
+
+		if (this.policy.getHedgingPercentile() > 0.0d) {
+
+			LatencyHistogram latency = getAttemptLatency(functionId);
+
+			if (latency.getCount() >= this.policy.getMinHedgingSamples()) {
+				return Math.max(minHedgingDelay,
+					latency.getPercentile(this.policy.getHedgingPercentile(), TimeUnit.NANOSECONDS));
+			}
+		}
+
+		return minHedgingDelay;
+	}
+
+	private <T> CompletableFuture<T> start(Function<Executor, CompletableFuture<T>> attempt, Executor executor) {
+
+		try {
+			return attempt.apply(executor);
+		}
+		catch (Throwable cause) {
+
+			CompletableFuture<T> failure = new CompletableFuture<>();
+
+			failure.completeExceptionally(cause);
+
+			return failure;
+		}
+	}
+
+	private <T> T join(CompletableFuture<T> result) {
+
+		try {
+			return result.join();
+		}
+		catch (CompletionException cause) {
+			throw toRuntimeException(cause.getCause());
+		}
+	}
+
+	private RuntimeException toRuntimeException(Throwable cause) {
+
+		Throwable resolvedCause = (cause instanceof CompletionException && cause.getCause() != null
+			? cause.getCause() : cause);
+
+		if (resolvedCause instanceof Error) {
+			throw (Error) resolvedCause;
+		}
+
+		return (resolvedCause instanceof RuntimeException ? (RuntimeException) resolvedCause
+			: new FunctionException(resolvedCause));
+	}
+
+	private void sleep(long milliseconds) {
+
+		if (milliseconds > 0L) {
+			try {
+				Thread.sleep(milliseconds);
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new FunctionException(cause);
+			}
+		}
+	}
+
+	/**
+	 * Tracks the attempts of a hedged execution.  A hedged attempt is only started while no attempt
+	 * has completed, so a failed primary attempt is not hedged but retried according to the policy.
+	 */
+	private static class HedgedAttempts<T> {
+
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+
+		private int pending = 1;
+
+		CompletableFuture<T> getResult() {
+			return this.result;
+		}
+
+		synchronized boolean tryStart() {
+
+			if (this.result.isDone()) {
+				return false;
+			}
+
+			this.pending++;
+
+			return true;
+		}
+
+		synchronized void complete(T value, Throwable cause) {
+
+			if (cause == null) {
+				this.result.complete(value);
+			}
+			else if (--this.pending == 0) {
+				this.result.completeExceptionally(cause);
+			}
+		}
+	}
+}
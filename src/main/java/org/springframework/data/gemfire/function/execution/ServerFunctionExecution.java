@@ -36,4 +36,8 @@ class ServerFunctionExecution extends AbstractFunctionExecution {
 		return FunctionService.onServer(this.regionService);
 	}
 
+	@Override
+	protected String getTarget() {
+		return "onServer";
+	}
 }
@@ -43,4 +43,9 @@ class ServersFunctionExecution extends AbstractFunctionExecution {
 	protected Execution getExecution() {
 		return FunctionService.onServers(this.regionService);
 	}
+
+	@Override
+	protected String getTarget() {
+		return "onServers";
+	}
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResultCollector} implementation that hands results to the caller as soon as they are received
+ * from the executing members rather than gathering the complete result first.
+ *
+ * Results are buffered in a bounded queue.  When the buffer is full, {@link #addResult(DistributedMember, Object)}
+ * blocks the thread delivering results until the consumer catches up, which applies back-pressure to the members
+ * sending results.  Each result sent by a member, including each batch sent by a batching {@link
+ * org.apache.geode.cache.execute.Function}, is a single element of the resulting {@link Iterator} or {@link Stream}.
+ *
+ * A {@link StreamingResultCollector} can be consumed only once.  Once the consumer has received a result,
+ * a re-execution of the {@link org.apache.geode.cache.execute.Function} (for instance, on HA retry) fails
+ * the consumer rather than delivering the results a second time.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see java.util.concurrent.BlockingQueue
+ * @since 2.1.0
+ */
+public class StreamingResultCollector<T> implements ResultCollector<Object, Iterator<T>> {
+
+	public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+	private static final long OFFER_INTERVAL_MILLISECONDS = 100L;
+
+	private static final Object END_OF_RESULTS = new Object();
+
+	private static final Object NULL_RESULT = new Object();
+
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+	private final AtomicBoolean consumed = new AtomicBoolean(false);
+	private final AtomicBoolean delivered = new AtomicBoolean(false);
+	private final AtomicBoolean failed = new AtomicBoolean(false);
+
+	private final BlockingQueue<Object> buffer;
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} with the {@link #DEFAULT_BUFFER_SIZE}.
+	 */
+	public StreamingResultCollector() {
+		this(DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} buffering at most {@code bufferSize} results.
+	 *
+	 * @param bufferSize maximum number of results held before senders are blocked; must be greater than 0.
+	 * @throws IllegalArgumentException if {@code bufferSize} is less than 1.
+	 */
+	public StreamingResultCollector(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, String.format("bufferSize [%d] must be greater than 0", bufferSize));
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+	}
+
+	/**
+	 * Adds a result sent by the given {@link DistributedMember}, blocking while the buffer is full.
+	 * Results received after this collector has been {@link #close() closed} are discarded.
+	 */
+	@Override
+	public void addResult(DistributedMember memberId, Object result) {
+
+		if (!this.failed.get()) {
+			enqueue(result != null ? result : NULL_RESULT);
+		}
+	}
+
+	/**
+	 * Signals that all results have been received.
+	 */
+	@Override
+	public void endResults() {
+
+		if (!this.failed.get()) {
+			enqueue(END_OF_RESULTS);
+		}
+	}
+
+	/**
+	 * Signals that the {@link org.apache.geode.cache.execute.Function} execution failed.  The {@link Throwable}
+	 * is rethrown to the consumer after any previously received results.  Results received afterwards
+	 * are discarded.
+	 *
+	 * @param cause {@link Throwable} causing the execution to fail.
+	 */
+	public void fail(Throwable cause) {
+
+		if (this.failed.compareAndSet(false, true)) {
+			enqueue(new Failure(cause));
+		}
+	}
+
+	/**
+	 * Clears any buffered results so the {@link org.apache.geode.cache.execute.Function} may be re-executed
+	 * (for instance, on HA retry).
+	 *
+	 * Results already consumed cannot be recalled, so if the consumer has received any result,
+	 * the re-execution is not accepted and the consumer fails with a {@link FunctionException} instead.
+	 */
+	@Override
+	public void clearResults() {
+
+		this.buffer.clear();
+
+		if (this.delivered.get()) {
+			fail(new FunctionException("Function was re-executed after results were consumed"));
+		}
+	}
+
+	/**
+	 * Returns a blocking {@link Iterator} over the results as they arrive.
+	 */
+	@Override
+	public Iterator<T> getResult() throws FunctionException {
+		return newIterator(0L, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Returns a blocking {@link Iterator} over the results as they arrive, waiting at most the given timeout
+	 * for each result before throwing a {@link FunctionException}.
+	 */
+	@Override
+	public Iterator<T> getResult(long timeout, TimeUnit unit) throws FunctionException {
+		return newIterator(timeout, unit);
+	}
+
+	/**
+	 * Returns a {@link Stream} over the results as they arrive.  Closing the {@link Stream} {@link #close() closes}
+	 * this collector.
+	 *
+	 * @param timeout maximum time to wait for each result; values less than 1 wait indefinitely.
+	 * @param unit {@link TimeUnit} of the {@code timeout}.
+	 * @return a sequential {@link Stream} of results.
+	 */
+	public Stream<T> stream(long timeout, TimeUnit unit) {
+
+		Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(newIterator(timeout, unit),
+			Spliterator.ORDERED);
+
+		return StreamSupport.stream(spliterator, false).onClose(this::close);
+	}
+
+	/**
+	 * Stops accepting results and releases any buffered results along with any members blocked on a full buffer.
+	 */
+	public void close() {
+		if (this.closed.compareAndSet(false, true)) {
+			this.buffer.clear();
+		}
+	}
+
+	public boolean isClosed() {
+		return this.closed.get();
+	}
+
+	private void enqueue(Object element) {
+
+		try {
+			while (!isClosed()) {
+				if (this.buffer.offer(element, OFFER_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+					return;
+				}
+			}
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private Iterator<T> newIterator(long timeout, TimeUnit unit) {
+
+		Assert.state(this.consumed.compareAndSet(false, true), "Results can only be consumed once");
+
+		return new ResultIterator(timeout, unit);
+	}
+
+	private static class Failure {
+
+		private final Throwable cause;
+
+		Failure(Throwable cause) {
+			this.cause = cause;
+		}
+	}
+
+	private class ResultIterator implements Iterator<T> {
+
+		private final long timeout;
+
+		private final TimeUnit unit;
+
+		private Object next;
+
+		ResultIterator(long timeout, TimeUnit unit) {
+			this.timeout = timeout;
+			this.unit = unit;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			if (this.next == null) {
+				this.next = take();
+			}
+
+			if (this.next instanceof Failure) {
+				Throwable cause = ((Failure) this.next).cause;
+				throw (cause instanceof FunctionException ? (FunctionException) cause : new FunctionException(cause));
+			}
+
+			return (this.next != END_OF_RESULTS);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more results");
+			}
+
+			Object result = this.next;
+
+			this.next = null;
+
+			delivered.set(true);
+
+			return (result != NULL_RESULT ? (T) result : null);
+		}
+
+		private Object take() {
+
+			if (isClosed()) {
+				return END_OF_RESULTS;
+			}
+
+			try {
+				if (this.timeout > 0) {
+
+					Object result = buffer.poll(this.timeout, this.unit);
+
+					if (result == null) {
+						close();
+						throw new FunctionException(String.format("No result received within [%1$d %2$s]",
+							this.timeout, this.unit));
+					}
+
+					return result;
+				}
+
+				return buffer.take();
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				close();
+				throw new FunctionException("Interrupted while waiting for results", cause);
+			}
+		}
+	}
+}
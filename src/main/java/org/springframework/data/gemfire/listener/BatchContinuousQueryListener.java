@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.query.CqEvent;
+
+/**
+ * {@link ContinuousQueryListener} processing the CQ events received by the {@link ContinuousQueryListenerContainer}
+ * during a {@link ContinuousQueryListenerContainer#setBatchWindow(long) batch window} all at once.
+ *
+ * When the container does not batch events, each event is delivered as a batch of one.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.query.CqEvent
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListener
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer#setBatchWindow(long)
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer#setConflateEvents(boolean)
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface BatchContinuousQueryListener extends ContinuousQueryListener {
+
+	/**
+	 * Action performed by the listener when notified of the CQ events received during a batch window,
+	 * in the order they were received.
+	 *
+	 * @param events {@link List} of events from the CQ; never {@literal null} or empty.
+	 * @see org.apache.geode.cache.query.CqEvent
+	 */
+	void onEvents(List<CqEvent> events);
+
+	@Override
+	default void onEvent(CqEvent event) {
+		onEvents(Collections.singletonList(event));
+	}
+}
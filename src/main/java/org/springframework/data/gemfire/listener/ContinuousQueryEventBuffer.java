@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.geode.cache.query.CqEvent;
+
+/**
+ * Buffers the CQ events of a single {@link ContinuousQueryListener} during a batch window, optionally conflating
+ * the events per key so that only the latest event for each key is retained.
+ *
+ * Events without a key, such as CQ error events, are never conflated.  Buffered events are ordered by the time
+ * the retained event for each key was received.  The batches of the {@link ContinuousQueryListener} are
+ * delivered one at a time, in the order they were drained, by the {@link #getExecutor() Executor} of the buffer.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.query.CqEvent
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @since 2.1.0
+ */
+class ContinuousQueryEventBuffer {
+
+	private final Executor executor;
+
+	private final Function<CqEvent, ?> conflationKeyExtractor;
+
+	private final LongAdder conflatedCount = new LongAdder();
+
+	private long batchWindow;
+
+	private Map<Object, CqEvent> events = new LinkedHashMap<>();
+
+	private ScheduledFuture<?> scheduledFlush;
+
+	/**
+	 * Constructs a new instance of {@link ContinuousQueryEventBuffer}.
+	 *
+	 * @param conflationKeyExtractor {@link Function} extracting the key by which events are conflated;
+	 * {@literal null} to retain all events.
+	 * @param executor {@link Executor} on which the batches are delivered one at a time.
+	 */
+	ContinuousQueryEventBuffer(Function<CqEvent, ?> conflationKeyExtractor, Executor executor) {
+		this.conflationKeyExtractor = conflationKeyExtractor;
+		this.executor = new SerialExecutor(executor);
+	}
+
+	/**
+	 * Adds the {@link CqEvent} to this buffer, replacing any buffered event with the same key when conflating.
+	 *
+	 * @param event {@link CqEvent} to buffer.
+	 * @return {@literal true} if this buffer was empty, in which case the {@link CqEvent} started a new batch window.
+	 * @see #getBatchWindow()
+	 */
+	synchronized boolean add(CqEvent event) {
+
+		boolean batchWindowStarted = this.events.isEmpty();
+
+		Object key = (this.conflationKeyExtractor != null ? this.conflationKeyExtractor.apply(event) : null);
+
+		if (key == null) {
+			key = new Object();
+		}
+		else if (this.events.remove(key) != null) {
+			this.conflatedCount.increment();
+		}
+
+		this.events.put(key, event);
+
+		return batchWindowStarted;
+	}
+
+	/**
+	 * Removes and returns all buffered events, starting a new batch window and cancelling the scheduled flush
+	 * of the current batch window.
+	 *
+	 * @return the buffered events in the order they were received; an empty {@link List} if none were buffered.
+	 */
+	synchronized List<CqEvent> drain() {
+
+		this.batchWindow++;
+
+		if (this.scheduledFlush != null) {
+			this.scheduledFlush.cancel(false);
+			this.scheduledFlush = null;
+		}
+
+		if (this.events.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<CqEvent> drainedEvents = new ArrayList<>(this.events.values());
+
+		this.events = new LinkedHashMap<>();
+
+		return drainedEvents;
+	}
+
+	/**
+	 * Removes and returns all buffered events provided the given batch window is still the current one.
+	 * Used by the scheduled flush of a batch window, which must not flush the events of a later batch window.
+	 *
+	 * @param batchWindow batch window to flush.
+	 * @return the buffered events in the order they were received; an empty {@link List} if none were buffered
+	 * or the given batch window has already been flushed.
+	 * @see #getBatchWindow()
+	 */
+	synchronized List<CqEvent> drain(long batchWindow) {
+		return (this.batchWindow == batchWindow ? drain() : Collections.emptyList());
+	}
+
+	/**
+	 * Returns the current batch window, which changes every time the buffer is drained.
+	 *
+	 * @return the current batch window.
+	 */
+	synchronized long getBatchWindow() {
+		return this.batchWindow;
+	}
+
+	long getConflatedCount() {
+		return this.conflatedCount.sum();
+	}
+
+	/**
+	 * Returns the {@link Executor} delivering the batches of the {@link ContinuousQueryListener}
+	 * one at a time, in the order they were submitted.
+	 *
+	 * @return the {@link Executor} delivering batches.
+	 */
+	Executor getExecutor() {
+		return this.executor;
+	}
+
+	synchronized void setScheduledFlush(ScheduledFuture<?> scheduledFlush) {
+		this.scheduledFlush = scheduledFlush;
+	}
+
+	synchronized int size() {
+		return this.events.size();
+	}
+}
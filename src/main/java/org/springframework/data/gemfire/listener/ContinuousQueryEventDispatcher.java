@@ -0,0 +1,431 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded {@link TaskExecutor} dispatching CQ events to {@link ContinuousQueryListener ContinuousQueryListeners}
+ * from a queue of limited capacity using a fixed or elastic pool of worker {@link Thread Threads}.
+ *
+ * When the queue is full, additional worker {@link Thread Threads} are started up to the
+ * {@link #setMaxPoolSize(int) maximum pool size}, after which the {@link OverflowPolicy} determines how
+ * further events are handled.  With the default {@link OverflowPolicy#BLOCK} policy, the GemFire/Geode
+ * subscription {@link Thread} delivering CQ events waits for room in the queue, which applies back-pressure
+ * to the server's subscription queue rather than exhausting client memory.
+ *
+ * The dispatcher records the number of events submitted, completed and dropped, the current queue depth
+ * and the lag between submitting an event and a worker starting to process it.
+ *
+ * @author agent
+ * @see java.util.concurrent.ThreadPoolExecutor
+ * @see org.springframework.core.task.TaskExecutor
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @since 2.1.0
+ */
+public class ContinuousQueryEventDispatcher implements TaskExecutor, DisposableBean {
+
+	public static final int DEFAULT_AWAIT_TERMINATION_SECONDS = 30;
+	public static final int DEFAULT_KEEP_ALIVE_SECONDS = 60;
+	public static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+	public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+
+	public static final String DEFAULT_THREAD_NAME_PREFIX =
+		String.format("%s-", ContinuousQueryEventDispatcher.class.getSimpleName());
+
+	/**
+	 * Policy determining how an event is handled when both the queue and the worker pool are full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Blocks the {@link Thread} dispatching the event until the queue has room.
+		 */
+		BLOCK,
+
+		/**
+		 * Discards the oldest queued event to make room for the event.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Processes the event on the {@link Thread} dispatching the event.
+		 */
+		CALLER_RUNS
+
+	}
+
+	private int awaitTerminationSeconds = DEFAULT_AWAIT_TERMINATION_SECONDS;
+	private int corePoolSize = DEFAULT_POOL_SIZE;
+	private int keepAliveSeconds = DEFAULT_KEEP_ALIVE_SECONDS;
+	private int maxPoolSize = DEFAULT_POOL_SIZE;
+	private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	private final LongAccumulator maxLag = new LongAccumulator(Math::max, 0L);
+
+	private final LongAdder callerRuns = new LongAdder();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder submitted = new LongAdder();
+	private final LongAdder totalLag = new LongAdder();
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+	private final String threadNamePrefix;
+
+	private volatile ThreadPoolExecutor threadPoolExecutor;
+
+	/**
+	 * Constructs a new instance of {@link ContinuousQueryEventDispatcher} naming its worker {@link Thread Threads}
+	 * with the {@link #DEFAULT_THREAD_NAME_PREFIX}.
+	 */
+	public ContinuousQueryEventDispatcher() {
+		this(DEFAULT_THREAD_NAME_PREFIX);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ContinuousQueryEventDispatcher} naming its worker {@link Thread Threads}
+	 * with the given {@link String prefix}.
+	 *
+	 * @param threadNamePrefix {@link String prefix} of the worker {@link Thread} names.
+	 */
+	public ContinuousQueryEventDispatcher(String threadNamePrefix) {
+		this.threadNamePrefix = threadNamePrefix;
+	}
+
+	/**
+	 * Sets the maximum number of seconds to wait for queued events to be processed on {@link #destroy()}.
+	 *
+	 * @param awaitTerminationSeconds number of seconds to wait; 0 does not wait.
+	 */
+	public void setAwaitTerminationSeconds(int awaitTerminationSeconds) {
+		this.awaitTerminationSeconds = Math.max(awaitTerminationSeconds, 0);
+	}
+
+	/**
+	 * Sets the number of worker {@link Thread Threads} kept running.
+	 *
+	 * @param corePoolSize number of worker {@link Thread Threads}; must be greater than 0.
+	 */
+	public void setCorePoolSize(int corePoolSize) {
+		Assert.isTrue(corePoolSize > 0, String.format("corePoolSize [%d] must be greater than 0", corePoolSize));
+		assertNotInitialized();
+		this.corePoolSize = corePoolSize;
+	}
+
+	public int getCorePoolSize() {
+		return this.corePoolSize;
+	}
+
+	/**
+	 * Sets the number of seconds an additional worker {@link Thread}, started beyond the core pool size,
+	 * may remain idle before it is stopped.
+	 *
+	 * @param keepAliveSeconds number of seconds an idle, additional worker {@link Thread} is kept.
+	 */
+	public void setKeepAliveSeconds(int keepAliveSeconds) {
+		assertNotInitialized();
+		this.keepAliveSeconds = Math.max(keepAliveSeconds, 0);
+	}
+
+	/**
+	 * Sets the maximum number of worker {@link Thread Threads}.  The pool is fixed when equal to the
+	 * {@link #setCorePoolSize(int) core pool size}, and elastic otherwise.
+	 *
+	 * @param maxPoolSize maximum number of worker {@link Thread Threads}; must be greater than 0.
+	 */
+	public void setMaxPoolSize(int maxPoolSize) {
+		Assert.isTrue(maxPoolSize > 0, String.format("maxPoolSize [%d] must be greater than 0", maxPoolSize));
+		assertNotInitialized();
+		this.maxPoolSize = maxPoolSize;
+	}
+
+	public int getMaxPoolSize() {
+		return this.maxPoolSize;
+	}
+
+	/**
+	 * Sets the {@link OverflowPolicy} applied when both the queue and the worker pool are full.
+	 *
+	 * @param overflowPolicy {@link OverflowPolicy}; must not be {@literal null}.
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		Assert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+		assertNotInitialized();
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	public OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Sets the maximum number of events queued for processing.
+	 *
+	 * @param queueCapacity capacity of the queue; must be greater than 0.
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity > 0, String.format("queueCapacity [%d] must be greater than 0", queueCapacity));
+		assertNotInitialized();
+		this.queueCapacity = queueCapacity;
+	}
+
+	public int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	private void assertNotInitialized() {
+		Assert.state(this.threadPoolExecutor == null, "ContinuousQueryEventDispatcher has already been initialized");
+	}
+
+	/**
+	 * Returns the {@link ThreadPoolExecutor} running the worker {@link Thread Threads}, initializing it on first use.
+	 */
+	protected ThreadPoolExecutor getThreadPoolExecutor() {
+
+		ThreadPoolExecutor threadPoolExecutor = this.threadPoolExecutor;
+
+		if (threadPoolExecutor == null) {
+			synchronized (this) {
+
+				threadPoolExecutor = this.threadPoolExecutor;
+
+				if (threadPoolExecutor == null) {
+					threadPoolExecutor = newThreadPoolExecutor();
+					this.threadPoolExecutor = threadPoolExecutor;
+				}
+			}
+		}
+
+		return threadPoolExecutor;
+	}
+
+	private ThreadPoolExecutor newThreadPoolExecutor() {
+
+		Assert.state(this.maxPoolSize >= this.corePoolSize, String.format(
+			"maxPoolSize [%1$d] must be greater than or equal to corePoolSize [%2$d]",
+				this.maxPoolSize, this.corePoolSize));
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(this.threadNamePrefix);
+
+		threadFactory.setDaemon(true);
+
+		return new ThreadPoolExecutor(this.corePoolSize, this.maxPoolSize, this.keepAliveSeconds, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(this.queueCapacity), threadFactory, newRejectedExecutionHandler());
+	}
+
+	private RejectedExecutionHandler newRejectedExecutionHandler() {
+
+		switch (this.overflowPolicy) {
+			case CALLER_RUNS:
+				return (runnable, executor) -> {
+					if (!executor.isShutdown()) {
+						this.callerRuns.increment();
+						runnable.run();
+					}
+				};
+			case DROP_OLDEST:
+				return (runnable, executor) -> {
+					if (!executor.isShutdown()) {
+						if (executor.getQueue().poll() != null) {
+							this.dropped.increment();
+						}
+						executor.execute(runnable);
+					}
+				};
+			default:
+				return (runnable, executor) -> {
+
+					if (executor.isShutdown()) {
+						throw new RejectedExecutionException("ContinuousQueryEventDispatcher has been shutdown");
+					}
+
+					try {
+						executor.getQueue().put(runnable);
+					}
+					catch (InterruptedException cause) {
+						Thread.currentThread().interrupt();
+						throw new RejectedExecutionException("Interrupted while waiting to queue CQ event", cause);
+					}
+
+					// the executor may have been shutdown while waiting for space in the queue,
+					// in which case the event must not remain queued without a thread to process it
+					if (executor.isShutdown() && executor.remove(runnable)) {
+						throw new RejectedExecutionException("ContinuousQueryEventDispatcher has been shutdown");
+					}
+				};
+		}
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		this.submitted.increment();
+		getThreadPoolExecutor().execute(new DispatchTask(task));
+	}
+
+	/**
+	 * Stops accepting events and waits up to the configured number of seconds for queued events to be processed.
+	 */
+	@Override
+	public void destroy() {
+
+		ThreadPoolExecutor threadPoolExecutor = this.threadPoolExecutor;
+
+		if (threadPoolExecutor != null) {
+
+			threadPoolExecutor.shutdown();
+
+			try {
+				if (!threadPoolExecutor.awaitTermination(this.awaitTerminationSeconds, TimeUnit.SECONDS)) {
+					if (logger.isWarnEnabled()) {
+						logger.warn(String.format("[%d] CQ events were not processed before shutdown",
+							threadPoolExecutor.shutdownNow().size()));
+					}
+				}
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+				threadPoolExecutor.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of worker {@link Thread Threads} currently processing events.
+	 */
+	public int getActiveCount() {
+		return (this.threadPoolExecutor != null ? this.threadPoolExecutor.getActiveCount() : 0);
+	}
+
+	/**
+	 * Returns the number of events processed on the dispatching {@link Thread} due to
+	 * the {@link OverflowPolicy#CALLER_RUNS} policy.
+	 */
+	public long getCallerRunsCount() {
+		return this.callerRuns.sum();
+	}
+
+	/**
+	 * Returns the number of events processed.  The rate at which this count increases is the throughput
+	 * of the dispatcher.
+	 */
+	public long getCompletedCount() {
+		return this.completed.sum();
+	}
+
+	/**
+	 * Returns the number of events discarded due to the {@link OverflowPolicy#DROP_OLDEST} policy.
+	 */
+	public long getDroppedCount() {
+		return this.dropped.sum();
+	}
+
+	/**
+	 * Returns the maximum time an event waited in the queue before a worker started processing it.
+	 */
+	public long getMaxLag(TimeUnit unit) {
+		return unit.convert(this.maxLag.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the mean time events waited in the queue before a worker started processing them.
+	 */
+	public double getMeanLag(TimeUnit unit) {
+
+		long count = getCompletedCount();
+
+		return (count > 0 ? (double) this.totalLag.sum() / count / unit.toNanos(1L) : 0.0d);
+	}
+
+	/**
+	 * Returns the current number of worker {@link Thread Threads}.
+	 */
+	public int getPoolSize() {
+		return (this.threadPoolExecutor != null ? this.threadPoolExecutor.getPoolSize() : 0);
+	}
+
+	/**
+	 * Returns the number of events waiting in the queue.
+	 */
+	public int getQueueDepth() {
+
+		ThreadPoolExecutor threadPoolExecutor = this.threadPoolExecutor;
+
+		BlockingQueue<Runnable> queue = (threadPoolExecutor != null ? threadPoolExecutor.getQueue() : null);
+
+		return (queue != null ? queue.size() : 0);
+	}
+
+	/**
+	 * Returns the number of events submitted for processing.
+	 */
+	public long getSubmittedCount() {
+		return this.submitted.sum();
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s{poolSize = %2$d, active = %3$d, queueDepth = %4$d, submitted = %5$d,"
+				+ " completed = %6$d, dropped = %7$d, callerRuns = %8$d, maxLag = %9$d ms}",
+			getClass().getSimpleName(), getPoolSize(), getActiveCount(), getQueueDepth(), getSubmittedCount(),
+			getCompletedCount(), getDroppedCount(), getCallerRunsCount(), getMaxLag(TimeUnit.MILLISECONDS));
+	}
+
+	private class DispatchTask implements Runnable {
+
+		private final long submittedTime = System.nanoTime();
+
+		private final Runnable task;
+
+		DispatchTask(Runnable task) {
+			this.task = task;
+		}
+
+		@Override
+		public void run() {
+
+			long lag = System.nanoTime() - this.submittedTime;
+
+			maxLag.accumulate(lag);
+			totalLag.add(lag);
+
+			try {
+				this.task.run();
+			}
+			finally {
+				completed.increment();
+			}
+		}
+	}
+}
@@ -23,6 +23,7 @@ import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeSet;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -30,8 +31,16 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
@@ -53,7 +62,6 @@ import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.SmartLifecycle;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.gemfire.GemfireQueryException;
 import org.springframework.data.gemfire.GemfireUtils;
@@ -62,6 +70,7 @@ import org.springframework.data.gemfire.client.support.DelegatingPoolAdapter;
 import org.springframework.data.gemfire.config.annotation.ContinuousQueryListenerContainerConfigurer;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
 import org.springframework.util.Assert;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.ErrorHandler;
 import org.springframework.util.StringUtils;
 
@@ -85,7 +94,7 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.InitializingBean
  * @see org.springframework.context.SmartLifecycle
- * @see org.springframework.core.task.SimpleAsyncTaskExecutor
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryEventDispatcher
  * @see org.springframework.core.task.TaskExecutor
  * @see org.springframework.data.gemfire.client.support.DefaultableDelegatingPoolAdapter
  * @see org.springframework.data.gemfire.client.support.DelegatingPoolAdapter
@@ -102,18 +111,36 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	private boolean autoStartup = true;
 
+	private boolean conflateEvents = false;
+
 	private volatile boolean initialized = false;
 	private volatile boolean manageExecutor = false;
 	private volatile boolean running = false;
 
+	private int dispatchLanes = 0;
+	private int maxBatchSize = Integer.MAX_VALUE;
+	private int laneQueueCapacity = ContinuousQueryEventDispatcher.DEFAULT_QUEUE_CAPACITY;
 	private int phase = Integer.MAX_VALUE;
 
+	private long batchWindow = 0L;
+
 	private BeanFactory beanFactory;
 
+	private final AtomicInteger batchCount = new AtomicInteger();
+
+	private final ConcurrentMap<ContinuousQueryListener, ContinuousQueryEventBuffer> eventBuffers =
+		new ConcurrentHashMap<>();
+
 	private ErrorHandler errorHandler;
 
 	private Executor taskExecutor;
 
+	private Function<CqEvent, ?> eventKeyExtractor = CqEvent::getKey;
+
+	private volatile List<ContinuousQueryEventDispatcher> eventDispatchLanes = Collections.emptyList();
+
+	private volatile ScheduledExecutorService batchScheduler;
+
 	private List<ContinuousQueryListenerContainerConfigurer> cqListenerContainerConfigurers = Collections.emptyList();
 
 	private ContinuousQueryListenerContainerConfigurer compositeCqListenerContainerConfigurer =
@@ -137,6 +164,7 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		applyContinuousQueryListenerContainerConfigurers();
 		validateQueryService(initQueryService(eagerlyInitializePool(resolvePoolName())));
 		initExecutor();
+		initEventDispatchLanes();
 		initContinuousQueries();
 
 		this.initialized = true;
@@ -281,11 +309,11 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	 *
 	 * <p>Called if no explicit {@link TaskExecutor} has been configured.
 	 *
-	 * <p>The default implementation builds a {@link SimpleAsyncTaskExecutor} with the specified bean name
-	 * (or the class name, if no bean name is specified) as the Thread name prefix.</p>
+	 * <p>The default implementation builds a bounded {@link ContinuousQueryEventDispatcher} with the specified
+	 * bean name (or the class name, if no bean name is specified) as the Thread name prefix.</p>
 	 *
 	 * @return an instance of the {@link TaskExecutor} used to process CQ events asynchronously.
-	 * @see org.springframework.core.task.SimpleAsyncTaskExecutor
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryEventDispatcher
 	 */
 	protected Executor createDefaultTaskExecutor() {
 
@@ -294,7 +322,71 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 			.map(it -> String.format("%s-", it))
 			.orElse(DEFAULT_THREAD_NAME_PREFIX);
 
-		return new SimpleAsyncTaskExecutor(threadNamePrefix);
+		return new ContinuousQueryEventDispatcher(threadNamePrefix);
+	}
+
+	/**
+	 * Initializes the single-threaded lanes used to dispatch CQ events in order per key when
+	 * {@link #setDispatchLanes(int) ordered dispatch} is enabled.
+	 *
+	 * @return the {@link List} of lanes, or an empty {@link List} if ordered dispatch is disabled.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryEventDispatcher
+	 */
+	List<ContinuousQueryEventDispatcher> initEventDispatchLanes() {
+
+		if (getDispatchLanes() > 0 && this.eventDispatchLanes.isEmpty()) {
+
+			List<ContinuousQueryEventDispatcher> lanes = new ArrayList<>(getDispatchLanes());
+
+			String threadNamePrefix = Optional.ofNullable(getBeanName())
+				.filter(StringUtils::hasText)
+				.orElseGet(ContinuousQueryListenerContainer.class::getSimpleName);
+
+			for (int index = 0; index < getDispatchLanes(); index++) {
+
+				ContinuousQueryEventDispatcher lane =
+					new ContinuousQueryEventDispatcher(String.format("%1$s-Lane-%2$d-", threadNamePrefix, index));
+
+				lane.setCorePoolSize(1);
+				lane.setMaxPoolSize(1);
+				lane.setQueueCapacity(this.laneQueueCapacity);
+
+				lanes.add(lane);
+			}
+
+			this.eventDispatchLanes = Collections.unmodifiableList(lanes);
+		}
+
+		return this.eventDispatchLanes;
+	}
+
+	/**
+	 * Initializes the {@link ScheduledExecutorService} flushing the CQ events buffered during a
+	 * {@link #setBatchWindow(long) batch window}.
+	 *
+	 * @return the {@link ScheduledExecutorService} flushing buffered CQ events.
+	 */
+	synchronized ScheduledExecutorService initBatchScheduler() {
+
+		if (this.batchScheduler == null) {
+
+			String threadNamePrefix = Optional.ofNullable(getBeanName())
+				.filter(StringUtils::hasText)
+				.orElseGet(ContinuousQueryListenerContainer.class::getSimpleName);
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix + "-Batch-");
+
+			threadFactory.setDaemon(true);
+
+			ScheduledThreadPoolExecutor batchScheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+
+			// flushes scheduled for batch windows already flushed by size are cancelled
+			batchScheduler.setRemoveOnCancelPolicy(true);
+
+			this.batchScheduler = batchScheduler;
+		}
+
+		return this.batchScheduler;
 	}
 
 	/**
@@ -475,6 +567,163 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		return this.compositeCqListenerContainerConfigurer;
 	}
 
+	/**
+	 * Sets the window in milliseconds during which CQ events are buffered per {@link ContinuousQueryListener}
+	 * and then delivered together.
+	 *
+	 * The window starts when the first event is buffered.  At the end of the window, a
+	 * {@link BatchContinuousQueryListener} receives all buffered events at once, while any other
+	 * {@link ContinuousQueryListener} receives the buffered events one after the other.  The batches of
+	 * a listener are delivered one at a time, in order, while batches of different listeners are delivered
+	 * in parallel.
+	 *
+	 * By default, events are not buffered and are delivered as soon as they are received.
+	 *
+	 * @param batchWindow window in milliseconds; 0 disables batching.
+	 * @see #setConflateEvents(boolean)
+	 * @see #setMaxBatchSize(int)
+	 */
+	public void setBatchWindow(long batchWindow) {
+		Assert.isTrue(batchWindow >= 0L, String.format("batchWindow [%d] must be greater than or equal to 0",
+			batchWindow));
+		this.batchWindow = batchWindow;
+	}
+
+	/**
+	 * Returns the window in milliseconds during which CQ events are buffered before being delivered.
+	 *
+	 * @return the batch window in milliseconds; 0 if batching is disabled.
+	 */
+	public long getBatchWindow() {
+		return this.batchWindow;
+	}
+
+	/**
+	 * Sets whether CQ events buffered during a {@link #setBatchWindow(long) batch window} are conflated,
+	 * retaining only the latest event for each key returned by the {@link #setEventKeyExtractor(Function)
+	 * event key extractor}.  Suitable for listeners only interested in the latest value of each entry.
+	 *
+	 * Conflation requires a batch window greater than 0.
+	 *
+	 * @param conflateEvents boolean indicating whether buffered CQ events are conflated per key.
+	 */
+	public void setConflateEvents(boolean conflateEvents) {
+		this.conflateEvents = conflateEvents;
+	}
+
+	/**
+	 * Determines whether CQ events buffered during a batch window are conflated per key.
+	 *
+	 * @return a boolean indicating whether buffered CQ events are conflated per key.
+	 */
+	public boolean isConflateEvents() {
+		return this.conflateEvents;
+	}
+
+	/**
+	 * Returns the number of buffered CQ events that were replaced by a later event with the same key.
+	 *
+	 * @return the number of conflated CQ events.
+	 */
+	public long getConflatedEventCount() {
+		return this.eventBuffers.values().stream().mapToLong(ContinuousQueryEventBuffer::getConflatedCount).sum();
+	}
+
+	/**
+	 * Sets the maximum number of CQ events buffered per {@link ContinuousQueryListener} during a
+	 * {@link #setBatchWindow(long) batch window}.  When reached, the buffered events are delivered
+	 * before the end of the window.  Defaults to no limit.
+	 *
+	 * @param maxBatchSize maximum number of buffered CQ events; must be greater than 0.
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		Assert.isTrue(maxBatchSize > 0, String.format("maxBatchSize [%d] must be greater than 0", maxBatchSize));
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Returns the maximum number of CQ events buffered per {@link ContinuousQueryListener} during a batch window.
+	 *
+	 * @return the maximum number of buffered CQ events.
+	 */
+	public int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	/**
+	 * Sets the number of single-threaded lanes used to dispatch CQ events in order per key.
+	 *
+	 * When greater than 0, each CQ event is assigned to a lane by the hash of the key returned by the
+	 * {@link #setEventKeyExtractor(Function) event key extractor}, so that events with the same key are delivered
+	 * to listeners one at a time, in the order they were received, while events with different keys are processed
+	 * in parallel.  The configured {@link #setTaskExecutor(Executor) TaskExecutor} is not used in this mode.
+	 * When {@link #setBatchWindow(long) batching} is enabled, the batches are spread across the lanes.
+	 *
+	 * By default, ordered dispatch is disabled and events are dispatched independently of each other.
+	 *
+	 * @param dispatchLanes number of lanes; 0 disables ordered dispatch.
+	 */
+	public void setDispatchLanes(int dispatchLanes) {
+		Assert.isTrue(dispatchLanes >= 0, String.format("dispatchLanes [%d] must be greater than or equal to 0",
+			dispatchLanes));
+		this.dispatchLanes = dispatchLanes;
+	}
+
+	/**
+	 * Returns the number of lanes used to dispatch CQ events in order per key.
+	 *
+	 * @return the number of lanes; 0 if ordered dispatch is disabled.
+	 */
+	public int getDispatchLanes() {
+		return this.dispatchLanes;
+	}
+
+	/**
+	 * Returns the lanes dispatching CQ events in order per key, providing access to their queue depth, lag
+	 * and throughput.
+	 *
+	 * @return an unmodifiable {@link List} of lanes, or an empty {@link List} if ordered dispatch is disabled
+	 * or this container has not been initialized.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryEventDispatcher
+	 */
+	public List<ContinuousQueryEventDispatcher> getEventDispatchLanes() {
+		return this.eventDispatchLanes;
+	}
+
+	/**
+	 * Sets the {@link Function} extracting the key by which CQ events are ordered when
+	 * {@link #setDispatchLanes(int) ordered dispatch} is enabled.  Defaults to {@link CqEvent#getKey()};
+	 * an entity attribute of the {@link CqEvent#getNewValue() new value} may be used to order all events
+	 * concerning, for example, the same account.
+	 *
+	 * @param eventKeyExtractor {@link Function} extracting the ordering key from a {@link CqEvent}.
+	 */
+	public void setEventKeyExtractor(Function<CqEvent, ?> eventKeyExtractor) {
+		Assert.notNull(eventKeyExtractor, "Event key extractor must not be null");
+		this.eventKeyExtractor = eventKeyExtractor;
+	}
+
+	/**
+	 * Returns the {@link Function} extracting the key by which CQ events are ordered.
+	 *
+	 * @return the {@link Function} extracting the ordering key from a {@link CqEvent}.
+	 */
+	public Function<CqEvent, ?> getEventKeyExtractor() {
+		return this.eventKeyExtractor;
+	}
+
+	/**
+	 * Sets the maximum number of CQ events queued per lane when {@link #setDispatchLanes(int) ordered dispatch}
+	 * is enabled.  When a lane is full, the CQ thread waits for room in the lane.
+	 *
+	 * @param laneQueueCapacity capacity of the queue of each lane; must be greater than 0.
+	 */
+	public void setLaneQueueCapacity(int laneQueueCapacity) {
+		Assert.isTrue(laneQueueCapacity > 0, String.format("laneQueueCapacity [%d] must be greater than 0",
+			laneQueueCapacity));
+		this.laneQueueCapacity = laneQueueCapacity;
+	}
+
 	/**
 	 * Set an {@link ErrorHandler} to be invoked in case of any uncaught {@link Exception Exceptions} thrown
 	 * while processing a CQ event.
@@ -570,7 +819,7 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	/**
 	 * Sets the Task Executor used for running the event listeners when messages are received.
-	 * If no task executor is set, an instance of {@link SimpleAsyncTaskExecutor} will be used by default.
+	 * If no task executor is set, an instance of {@link ContinuousQueryEventDispatcher} will be used by default.
 	 * The task executor can be adjusted depending on the work done by the listeners and the number of
 	 * messages coming in.
 	 *
@@ -676,7 +925,16 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	private void execute(CqQuery query) {
 
 		try {
-			query.execute();
+			Optional<InitialResultsContinuousQueryListener> initialResultsListener =
+				resolveInitialResultsListener(query);
+
+			if (initialResultsListener.isPresent()) {
+				initialResultsListener.get().beforeInitialResults(query);
+				initialResultsListener.get().onInitialResults(query, query.executeWithInitialResults());
+			}
+			else {
+				query.execute();
+			}
 		}
 		catch (QueryException cause) {
 			throw new GemfireQueryException(String.format("Could not execute query [%1$s]; state is [%2$s]",
@@ -684,6 +942,21 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 	}
 
+	/**
+	 * Resolves the {@link InitialResultsContinuousQueryListener} registered for the given {@link CqQuery}, if any.
+	 */
+	Optional<InitialResultsContinuousQueryListener> resolveInitialResultsListener(CqQuery query) {
+
+		return Optional.ofNullable(query.getCqAttributes())
+			.map(CqAttributes::getCqListeners)
+			.flatMap(cqListeners -> Arrays.stream(nullSafeArray(cqListeners, CqListener.class))
+				.filter(EventDispatcherAdapter.class::isInstance)
+				.map(cqListener -> ((EventDispatcherAdapter) cqListener).getListener())
+				.filter(InitialResultsContinuousQueryListener.class::isInstance)
+				.map(InitialResultsContinuousQueryListener.class::cast)
+				.findFirst());
+	}
+
 	/**
 	 * Asynchronously dispatches the {@link CqEvent CQ event} to the targeted {@link ContinuousQueryListener}.
 	 *
@@ -693,7 +966,105 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	 * @see org.apache.geode.cache.query.CqEvent
 	 */
 	protected void dispatchEvent(ContinuousQueryListener listener, CqEvent event) {
-		getTaskExecutor().execute(() -> notify(listener, event));
+
+		if (getBatchWindow() > 0L) {
+			bufferEvent(listener, event);
+		}
+		else {
+			resolveExecutor(event).execute(() -> notify(listener, event));
+		}
+	}
+
+	/**
+	 * Buffers the {@link CqEvent CQ event} for the targeted {@link ContinuousQueryListener} until the end of
+	 * the {@link #setBatchWindow(long) batch window}, which is started by the first buffered event, or until
+	 * the {@link #setMaxBatchSize(int) maximum batch size} is reached.
+	 */
+	private void bufferEvent(ContinuousQueryListener listener, CqEvent event) {
+
+		ContinuousQueryEventBuffer eventBuffer = this.eventBuffers.computeIfAbsent(listener,
+			it -> new ContinuousQueryEventBuffer(isConflateEvents() ? getEventKeyExtractor() : null,
+				this::dispatchBatch));
+
+		synchronized (eventBuffer) {
+
+			boolean batchWindowStarted = eventBuffer.add(event);
+
+			if (eventBuffer.size() >= getMaxBatchSize()) {
+				flushEvents(listener, eventBuffer);
+			}
+			else if (batchWindowStarted) {
+
+				long batchWindow = eventBuffer.getBatchWindow();
+
+				eventBuffer.setScheduledFlush(initBatchScheduler().schedule(() ->
+					flushEvents(listener, eventBuffer, batchWindow), getBatchWindow(), TimeUnit.MILLISECONDS));
+			}
+		}
+	}
+
+	/**
+	 * Asynchronously dispatches the {@link CqEvent CQ events} buffered for the targeted
+	 * {@link ContinuousQueryListener}.  Batches are drained and submitted while holding the lock of the buffer,
+	 * and the buffer delivers them one at a time, so the batches of a listener are delivered in order.
+	 */
+	private void flushEvents(ContinuousQueryListener listener, ContinuousQueryEventBuffer eventBuffer) {
+
+		synchronized (eventBuffer) {
+			dispatchEvents(listener, eventBuffer, eventBuffer.drain());
+		}
+	}
+
+	private void flushEvents(ContinuousQueryListener listener, ContinuousQueryEventBuffer eventBuffer,
+			long batchWindow) {
+
+		synchronized (eventBuffer) {
+			dispatchEvents(listener, eventBuffer, eventBuffer.drain(batchWindow));
+		}
+	}
+
+	private void dispatchEvents(ContinuousQueryListener listener, ContinuousQueryEventBuffer eventBuffer,
+			List<CqEvent> events) {
+
+		if (!events.isEmpty()) {
+			eventBuffer.getExecutor().execute(() -> notify(listener, events));
+		}
+	}
+
+	/**
+	 * Runs the task delivering the pending batches of a listener on the configured
+	 * {@link #getTaskExecutor() TaskExecutor}, or, when {@link #setDispatchLanes(int) ordered dispatch}
+	 * is enabled, on the lanes in turn.  Only called by the threads flushing the buffers, never by a lane,
+	 * so a full lane blocks the flushing thread rather than the lane that would have to drain it.
+	 */
+	private void dispatchBatch(Runnable batch) {
+
+		List<ContinuousQueryEventDispatcher> lanes = this.eventDispatchLanes;
+
+		Executor executor = (lanes.isEmpty() ? getTaskExecutor()
+			: lanes.get(Math.floorMod(this.batchCount.getAndIncrement(), lanes.size())));
+
+		executor.execute(batch);
+	}
+
+	/**
+	 * Resolves the {@link Executor} dispatching the given {@link CqEvent}, which is the lane assigned to the key
+	 * of the {@link CqEvent} when {@link #setDispatchLanes(int) ordered dispatch} is enabled, and the configured
+	 * {@link #getTaskExecutor() TaskExecutor} otherwise.
+	 */
+	Executor resolveExecutor(CqEvent event) {
+
+		List<ContinuousQueryEventDispatcher> lanes = this.eventDispatchLanes;
+
+		if (lanes.isEmpty()) {
+			return getTaskExecutor();
+		}
+
+		Object key = getEventKeyExtractor().apply(event);
+
+		int hash = (key != null ? key.hashCode() : 0);
+
+		return lanes.get(Math.floorMod(hash ^ (hash >>> 16), lanes.size()));
 	}
 
 	/**
@@ -713,6 +1084,28 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		}
 	}
 
+	/**
+	 * Invoke the specified {@link ContinuousQueryListener listener} to process/handle a batch of
+	 * {@link CqEvent CQ events}, all at once if the listener is a {@link BatchContinuousQueryListener}.
+	 *
+	 * @param listener {@link ContinuousQueryListener} to notify of the {@link CqEvent CQ events}.
+	 * @param events {@link List} of {@link CqEvent CQ events} to process/handle.
+	 */
+	private void notify(ContinuousQueryListener listener, List<CqEvent> events) {
+
+		if (listener instanceof BatchContinuousQueryListener) {
+			try {
+				((BatchContinuousQueryListener) listener).onEvents(events);
+			}
+			catch (Throwable cause) {
+				handleListenerError(cause);
+			}
+		}
+		else {
+			events.forEach(event -> notify(listener, event));
+		}
+	}
+
 	/**
 	 * Invokes the configured {@link ErrorHandler} (if any) to handle the {@link Exception} thrown by the CQ listener.
 	 *
@@ -785,7 +1178,9 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	public void destroy() throws Exception {
 		stop();
 		closeQueries();
+		destroyBatchScheduler();
 		destroyExecutor();
+		destroyEventDispatchLanes();
 		this.initialized = false;
 	}
 
@@ -807,6 +1202,18 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		getContinuousQueries().clear();
 	}
 
+	/* (non-Javadoc) */
+	private synchronized void destroyBatchScheduler() {
+
+		Optional.ofNullable(this.batchScheduler).ifPresent(ExecutorService::shutdownNow);
+
+		this.batchScheduler = null;
+
+		// deliver the CQ events buffered in the current batch window before the dispatching executors are destroyed
+		this.eventBuffers.forEach(this::flushEvents);
+		this.eventBuffers.clear();
+	}
+
 	/* (non-Javadoc) */
 	private void destroyExecutor() {
 
@@ -827,6 +1234,12 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 			});
 	}
 
+	/* (non-Javadoc) */
+	private void destroyEventDispatchLanes() {
+		this.eventDispatchLanes.forEach(ContinuousQueryEventDispatcher::destroy);
+		this.eventDispatchLanes = Collections.emptyList();
+	}
+
 	protected class EventDispatcherAdapter implements CqListener {
 
 		private final ContinuousQueryListener listener;
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Client-side, materialized view of the entries of a server {@link org.apache.geode.cache.Region} matching
+ * the query of a Continuous Query (CQ), maintained by a {@link ContinuousQueryListenerContainer}.
+ *
+ * The view is seeded with the initial results of the CQ and then applies CQ create, update and destroy events
+ * incrementally.  CQ events delivered while the initial results are being computed are held back and applied
+ * after the initial results, so that the view never regresses to an older value.  Lookups by key, by
+ * {@link #addIndex(String, Function) secondary index} and by {@link Predicate} are answered locally without
+ * a round trip to the servers.
+ *
+ * Events for the same key must be delivered in order, which is the case when the container is configured with
+ * {@link ContinuousQueryListenerContainer#setDispatchLanes(int) dispatch lanes}.
+ *
+ * @author agent
+ * @param <K> {@link Class type} of the keys.
+ * @param <V> {@link Class type} of the values.
+ * @see org.apache.geode.cache.query.CqQuery#executeWithInitialResults()
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @see org.springframework.data.gemfire.listener.InitialResultsContinuousQueryListener
+ * @since 2.1.0
+ */
+@SuppressWarnings("unused")
+public class ContinuousQueryMaterializedView<K, V> implements InitialResultsContinuousQueryListener {
+
+	private final ConcurrentMap<K, V> entries = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, SecondaryIndex<K, V>> indexes = new ConcurrentHashMap<>();
+
+	private final CountDownLatch seededLatch = new CountDownLatch(1);
+
+	private List<CqEvent> pendingEvents = new ArrayList<>();
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final Object lock = new Object();
+
+	/**
+	 * Reads the named property of the given value, which is either a {@link PdxInstance} or a JavaBean.
+	 */
+	static Object readProperty(Object value, String propertyName) {
+
+		return (value instanceof PdxInstance ? ((PdxInstance) value).getField(propertyName)
+			: value != null ? PropertyAccessorFactory.forBeanPropertyAccess(value).getPropertyValue(propertyName)
+			: null);
+	}
+
+	/**
+	 * Adds a secondary index on the values of this view, keyed by the result of the given {@link Function}.
+	 * Existing entries are indexed immediately.
+	 *
+	 * @param indexName {@link String name} of the index.
+	 * @param indexedValueFunction {@link Function} computing the indexed value from a value of this view.
+	 * @return this {@link ContinuousQueryMaterializedView}.
+	 * @see #findBy(String, Object)
+	 */
+	public ContinuousQueryMaterializedView<K, V> addIndex(String indexName, Function<? super V, ?> indexedValueFunction) {
+
+		Assert.hasText(indexName, "Index name is required");
+		Assert.notNull(indexedValueFunction, "Indexed value Function must not be null");
+
+		synchronized (this.lock) {
+
+			SecondaryIndex<K, V> index = new SecondaryIndex<>(indexedValueFunction);
+
+			this.entries.forEach(index::add);
+			this.indexes.put(indexName, index);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Adds a secondary index on the named property of the values of this view, which are either
+	 * {@link PdxInstance PdxInstances} or JavaBeans.  The index is named after the property.
+	 *
+	 * @param propertyName {@link String name} of the indexed property.
+	 * @return this {@link ContinuousQueryMaterializedView}.
+	 * @see #addIndex(String, Function)
+	 */
+	public ContinuousQueryMaterializedView<K, V> addPropertyIndex(String propertyName) {
+		return addIndex(propertyName, value -> readProperty(value, propertyName));
+	}
+
+	public Set<String> getIndexNames() {
+		return Collections.unmodifiableSet(this.indexes.keySet());
+	}
+
+	/**
+	 * Determines whether this view has been seeded with the initial results of its CQ.
+	 *
+	 * @return a boolean indicating whether this view has been seeded.
+	 */
+	public boolean isSeeded() {
+		synchronized (this.lock) {
+			return (this.pendingEvents == null);
+		}
+	}
+
+	/**
+	 * Waits for this view to be seeded with the initial results of its CQ for the first time.
+	 *
+	 * @param timeout maximum time to wait.
+	 * @param unit {@link TimeUnit} of the timeout.
+	 * @return a boolean indicating whether this view was seeded before the timeout.
+	 * @throws InterruptedException if the current {@link Thread} is interrupted while waiting.
+	 */
+	public boolean awaitSeeded(long timeout, TimeUnit unit) throws InterruptedException {
+		return this.seededLatch.await(timeout, unit);
+	}
+
+	public boolean containsKey(K key) {
+		return this.entries.containsKey(key);
+	}
+
+	public V get(K key) {
+		return this.entries.get(key);
+	}
+
+	public boolean isEmpty() {
+		return this.entries.isEmpty();
+	}
+
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Returns a live, read-only {@link Map} of the entries of this view.
+	 *
+	 * @return an unmodifiable {@link Map} of the entries of this view.
+	 */
+	public Map<K, V> asMap() {
+		return Collections.unmodifiableMap(this.entries);
+	}
+
+	/**
+	 * Finds all values matching the given {@link Predicate} by scanning this view.
+	 *
+	 * @param predicate {@link Predicate} evaluated against each value.
+	 * @return a {@link List} of matching values.
+	 */
+	public List<V> findAll(Predicate<? super V> predicate) {
+		return this.entries.values().stream().filter(predicate).collect(Collectors.toList());
+	}
+
+	/**
+	 * Finds all values whose indexed value in the named index equals the given value.
+	 *
+	 * @param indexName {@link String name} of the index.
+	 * @param indexedValue value to look up.
+	 * @return a {@link List} of matching values.
+	 * @throws IllegalArgumentException if no index with the given name exists.
+	 */
+	public List<V> findBy(String indexName, Object indexedValue) {
+		return findBy(indexName, indexedValue, value -> true);
+	}
+
+	/**
+	 * Finds all values whose indexed value in the named index equals the given value and that match
+	 * the given {@link Predicate}.
+	 *
+	 * @param indexName {@link String name} of the index.
+	 * @param indexedValue value to look up.
+	 * @param predicate {@link Predicate} further filtering the values found in the index.
+	 * @return a {@link List} of matching values.
+	 * @throws IllegalArgumentException if no index with the given name exists.
+	 */
+	public List<V> findBy(String indexName, Object indexedValue, Predicate<? super V> predicate) {
+
+		SecondaryIndex<K, V> index = Optional.ofNullable(this.indexes.get(indexName))
+			.orElseThrow(() -> newIllegalArgumentException("Index [%s] does not exist", indexName));
+
+		// the entry may have changed since its key was read from the index, so the indexed value is verified
+		return index.getKeys(indexedValue).stream()
+			.map(this.entries::get)
+			.filter(Objects::nonNull)
+			.filter(value -> index.matches(value, indexedValue))
+			.filter(predicate)
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	public void beforeInitialResults(CqQuery query) {
+
+		synchronized (this.lock) {
+			if (this.pendingEvents == null) {
+				this.pendingEvents = new ArrayList<>();
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void onInitialResults(CqQuery query, CqResults<?> initialResults) {
+
+		synchronized (this.lock) {
+
+			clear();
+
+			for (Object result : initialResults) {
+				if (result instanceof Struct) {
+					put((K) ((Struct) result).get("key"), (V) ((Struct) result).get("value"));
+				}
+			}
+
+			List<CqEvent> eventsReceivedWhileSeeding = Optional.ofNullable(this.pendingEvents)
+				.orElseGet(Collections::emptyList);
+
+			eventsReceivedWhileSeeding.forEach(this::apply);
+
+			this.pendingEvents = null;
+		}
+
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Seeded view of CQ [%1$s] with [%2$d] entries", query.getName(), size()));
+		}
+
+		this.seededLatch.countDown();
+	}
+
+	@Override
+	public void onEvent(CqEvent event) {
+
+		synchronized (this.lock) {
+			if (this.pendingEvents != null) {
+				this.pendingEvents.add(event);
+			}
+			else {
+				apply(event);
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	@SuppressWarnings("unchecked")
+	private void apply(CqEvent event) {
+
+		if (event.getThrowable() != null) {
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("Ignoring CQ error event for key [%s]", event.getKey()),
+					event.getThrowable());
+			}
+		}
+		else if (isRegionWide(event.getBaseOperation())) {
+			clear();
+		}
+		else if (event.getQueryOperation() != null && event.getQueryOperation().isDestroy()) {
+			remove((K) event.getKey());
+		}
+		else if (event.getKey() != null) {
+			put((K) event.getKey(), (V) event.getNewValue());
+		}
+	}
+
+	/* (non-Javadoc) */
+	private boolean isRegionWide(Operation operation) {
+		return (operation != null && (operation.isClear() || operation.isRegionDestroy()));
+	}
+
+	/* (non-Javadoc) */
+	private void clear() {
+		this.entries.clear();
+		this.indexes.values().forEach(SecondaryIndex::clear);
+	}
+
+	/* (non-Javadoc) */
+	private void put(K key, V value) {
+
+		V oldValue = this.entries.put(key, value);
+
+		this.indexes.values().forEach(index -> {
+			if (oldValue != null) {
+				index.remove(key, oldValue);
+			}
+			index.add(key, value);
+		});
+	}
+
+	/* (non-Javadoc) */
+	private void remove(K key) {
+
+		V oldValue = this.entries.remove(key);
+
+		if (oldValue != null) {
+			this.indexes.values().forEach(index -> index.remove(key, oldValue));
+		}
+	}
+
+	/**
+	 * In-memory index of the keys of a view by the indexed value of their values.
+	 */
+	static class SecondaryIndex<K, V> {
+
+		private static final Object NULL = new Object();
+
+		private final ConcurrentMap<Object, Set<K>> keysByIndexedValue = new ConcurrentHashMap<>();
+
+		private final Function<? super V, ?> indexedValueFunction;
+
+		SecondaryIndex(Function<? super V, ?> indexedValueFunction) {
+			this.indexedValueFunction = indexedValueFunction;
+		}
+
+		private Object indexedValueOf(V value) {
+			return Optional.<Object>ofNullable(this.indexedValueFunction.apply(value)).orElse(NULL);
+		}
+
+		void add(K key, V value) {
+			this.keysByIndexedValue.computeIfAbsent(indexedValueOf(value), it -> ConcurrentHashMap.newKeySet())
+				.add(key);
+		}
+
+		void remove(K key, V value) {
+			this.keysByIndexedValue.computeIfPresent(indexedValueOf(value), (indexedValue, keys) -> {
+				keys.remove(key);
+				return (keys.isEmpty() ? null : keys);
+			});
+		}
+
+		void clear() {
+			this.keysByIndexedValue.clear();
+		}
+
+		Set<K> getKeys(Object indexedValue) {
+			return this.keysByIndexedValue.getOrDefault(indexedValue != null ? indexedValue : NULL,
+				Collections.emptySet());
+		}
+
+		boolean matches(V value, Object indexedValue) {
+			return indexedValueOf(value).equals(indexedValue != null ? indexedValue : NULL);
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
+
+/**
+ * {@link ContinuousQueryListener} receiving the initial results of its CQ before any CQ event.
+ *
+ * The {@link ContinuousQueryListenerContainer} executes the CQ of this listener with
+ * {@link CqQuery#executeWithInitialResults()} every time the container is started.
+ * CQ events may be delivered after {@link #beforeInitialResults(CqQuery)} and before
+ * {@link #onInitialResults(CqQuery, CqResults)}, in which case they occurred after the CQ was registered
+ * and must be applied after the initial results.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.query.CqQuery#executeWithInitialResults()
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListener
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @since 2.1.0
+ */
+public interface InitialResultsContinuousQueryListener extends ContinuousQueryListener {
+
+	/**
+	 * Action performed by the listener before the CQ is executed with initial results.
+	 *
+	 * @param query {@link CqQuery} about to be executed.
+	 */
+	default void beforeInitialResults(CqQuery query) {
+	}
+
+	/**
+	 * Action performed by the listener when the CQ has been executed with initial results.
+	 *
+	 * @param query executed {@link CqQuery}.
+	 * @param initialResults {@link CqResults} of the CQ, a {@link org.apache.geode.cache.query.Struct}
+	 * with {@literal key} and {@literal value} fields per matching entry.
+	 */
+	void onInitialResults(CqQuery query, CqResults<?> initialResults);
+
+}
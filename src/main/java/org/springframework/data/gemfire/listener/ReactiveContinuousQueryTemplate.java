@@ -0,0 +1,497 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.query.CqAttributes;
+import org.apache.geode.cache.query.CqAttributesFactory;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqListener;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
+import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.Struct;
+import org.springframework.data.gemfire.GemfireQueryException;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Template exposing Pivotal GemFire / Apache Geode Continuous Queries (CQ) as a {@link Flux} of {@link CqEvent CQ events}.
+ *
+ * The CQ is registered with the {@link QueryService} when the {@link Flux} is subscribed to and is closed when
+ * the subscription is cancelled.  CQ events are held in a bounded buffer until requested by the subscriber;
+ * the {@link OverflowStrategy} determines what happens when the subscriber falls behind and the buffer is full.
+ *
+ * Optionally, the {@link Flux} is seeded with the results of the query at the time the CQ was registered,
+ * each of which is emitted as a {@link CqEvent} with a {@link Operation#CREATE} query operation.
+ * Pivotal GemFire / Apache Geode queues CQ events received while the initial results are being computed,
+ * and those events are emitted after the initial results.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.query.CqEvent
+ * @see org.apache.geode.cache.query.CqQuery
+ * @see org.apache.geode.cache.query.QueryService
+ * @see reactor.core.publisher.Flux
+ * @since 2.1.0
+ */
+public class ReactiveContinuousQueryTemplate {
+
+	public static final int DEFAULT_BUFFER_SIZE = 256;
+
+	/**
+	 * Strategy applied when a CQ event is received and the buffer of CQ events not yet requested
+	 * by the subscriber is full.
+	 */
+	public enum OverflowStrategy {
+
+		/**
+		 * Makes the CQ thread wait for the subscriber to request more events, applying back-pressure
+		 * to the subscription queue of the server.
+		 */
+		BLOCK,
+
+		/**
+		 * Discards the received CQ event.
+		 */
+		DROP_LATEST,
+
+		/**
+		 * Discards the oldest buffered CQ event.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Terminates the {@link Flux} with an {@link IllegalStateException} and closes the CQ.
+		 */
+		ERROR
+
+	}
+
+	private volatile boolean seedWithInitialResults = false;
+
+	private volatile int bufferSize = DEFAULT_BUFFER_SIZE;
+
+	private volatile OverflowStrategy overflowStrategy = OverflowStrategy.BLOCK;
+
+	private final QueryService queryService;
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	/**
+	 * Constructs a new instance of {@link ReactiveContinuousQueryTemplate} registering CQs with
+	 * the given {@link QueryService}.
+	 *
+	 * @param queryService {@link QueryService} used to register CQs; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link QueryService} is {@literal null}.
+	 */
+	public ReactiveContinuousQueryTemplate(QueryService queryService) {
+		Assert.notNull(queryService, "QueryService must not be null");
+		this.queryService = queryService;
+	}
+
+	/**
+	 * Sets the maximum number of CQ events buffered per subscription until requested by the subscriber.
+	 *
+	 * @param bufferSize maximum number of buffered CQ events; must be greater than 0.
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, String.format("bufferSize [%d] must be greater than 0", bufferSize));
+		this.bufferSize = bufferSize;
+	}
+
+	public int getBufferSize() {
+		return this.bufferSize;
+	}
+
+	/**
+	 * Sets the {@link OverflowStrategy} applied when the buffer of a subscription is full.
+	 * Defaults to {@link OverflowStrategy#BLOCK}.
+	 *
+	 * @param overflowStrategy {@link OverflowStrategy} applied when the buffer is full.
+	 */
+	public void setOverflowStrategy(OverflowStrategy overflowStrategy) {
+		Assert.notNull(overflowStrategy, "OverflowStrategy must not be null");
+		this.overflowStrategy = overflowStrategy;
+	}
+
+	public OverflowStrategy getOverflowStrategy() {
+		return this.overflowStrategy;
+	}
+
+	/**
+	 * Sets whether the CQ is executed with initial results, which are emitted before any CQ event.
+	 *
+	 * @param seedWithInitialResults boolean indicating whether the {@link Flux} is seeded with the results
+	 * of the query.
+	 * @see org.apache.geode.cache.query.CqQuery#executeWithInitialResults()
+	 */
+	public void setSeedWithInitialResults(boolean seedWithInitialResults) {
+		this.seedWithInitialResults = seedWithInitialResults;
+	}
+
+	public boolean isSeedWithInitialResults() {
+		return this.seedWithInitialResults;
+	}
+
+	public QueryService getQueryService() {
+		return this.queryService;
+	}
+
+	/**
+	 * Returns a {@link Flux} of the {@link CqEvent CQ events} of an unnamed, non-durable CQ.
+	 *
+	 * @param query {@link String OQL query} of the CQ.
+	 * @return a {@link Flux} of {@link CqEvent CQ events}.
+	 * @see #listen(String, String, boolean)
+	 */
+	public Flux<CqEvent> listen(String query) {
+		return listen(null, query, false);
+	}
+
+	/**
+	 * Returns a {@link Flux} of the {@link CqEvent CQ events} of the CQ defined by the given
+	 * {@link ContinuousQueryDefinition}.  The {@link ContinuousQueryListener} of the definition is not registered;
+	 * the subscriber of the {@link Flux} takes its place.
+	 *
+	 * @param definition {@link ContinuousQueryDefinition} defining the name, query and durability of the CQ.
+	 * @return a {@link Flux} of {@link CqEvent CQ events}.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryDefinition
+	 * @see #listen(String, String, boolean)
+	 */
+	public Flux<CqEvent> listen(ContinuousQueryDefinition definition) {
+		Assert.notNull(definition, "ContinuousQueryDefinition must not be null");
+		return listen(definition.getName(), definition.getQuery(), definition.isDurable());
+	}
+
+	/**
+	 * Returns a {@link Flux} of the {@link CqEvent CQ events} of a CQ, which is registered when the {@link Flux}
+	 * is subscribed to and closed when the subscription is cancelled.  Each subscription registers its own CQ,
+	 * and therefore named CQs support a single subscription at a time.
+	 *
+	 * @param name {@link String name} of the CQ; may be {@literal null}.
+	 * @param query {@link String OQL query} of the CQ.
+	 * @param durable boolean indicating whether the CQ is durable.
+	 * @return a {@link Flux} of {@link CqEvent CQ events}.
+	 */
+	public Flux<CqEvent> listen(String name, String query, boolean durable) {
+
+		Assert.hasText(query, "Query is required");
+
+		return Flux.create(sink -> subscribe(sink, name, query, durable), FluxSink.OverflowStrategy.ERROR);
+	}
+
+	/* (non-Javadoc) */
+	private void subscribe(FluxSink<CqEvent> sink, String name, String query, boolean durable) {
+
+		FluxSinkCqListener listener = new FluxSinkCqListener(sink, getBufferSize(), getOverflowStrategy());
+
+		try {
+			CqAttributesFactory attributesFactory = new CqAttributesFactory();
+
+			attributesFactory.addCqListener(listener);
+
+			CqAttributes attributes = attributesFactory.create();
+
+			CqQuery continuousQuery = (StringUtils.hasText(name)
+				? getQueryService().newCq(name, query, attributes, durable)
+				: getQueryService().newCq(query, attributes, durable));
+
+			sink.onRequest(requested -> listener.drain());
+			sink.onDispose(() -> close(continuousQuery));
+
+			if (isSeedWithInitialResults()) {
+				listener.holdEventsUntilSeeded();
+				listener.seed(continuousQuery, continuousQuery.executeWithInitialResults());
+			}
+			else {
+				continuousQuery.execute();
+			}
+		}
+		catch (QueryException cause) {
+			sink.error(new GemfireQueryException(String.format("Could not execute query [%1$s]; %2$s",
+				query, cause.getMessage()), cause));
+		}
+		catch (RuntimeException cause) {
+			sink.error(cause);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void close(CqQuery continuousQuery) {
+
+		try {
+			if (!continuousQuery.isClosed()) {
+				continuousQuery.close();
+			}
+		}
+		catch (Exception cause) {
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("Cannot close query [%1$s]; state is [%2$s]",
+					continuousQuery.getName(), continuousQuery.getState()), cause);
+			}
+		}
+	}
+
+	/**
+	 * {@link CqListener} buffering CQ events for a {@link FluxSink} and emitting them as requested.
+	 */
+	static class FluxSinkCqListener implements CqListener {
+
+		private final AtomicInteger workInProgress = new AtomicInteger(0);
+
+		private volatile boolean closed = false;
+		private volatile boolean seeding = false;
+
+		private volatile CqQuery continuousQuery;
+
+		private volatile Iterator<?> initialResults;
+
+		private final BlockingQueue<CqEvent> buffer;
+
+		private final FluxSink<CqEvent> sink;
+
+		private final OverflowStrategy overflowStrategy;
+
+		FluxSinkCqListener(FluxSink<CqEvent> sink, int bufferSize, OverflowStrategy overflowStrategy) {
+			this.sink = sink;
+			this.buffer = new ArrayBlockingQueue<>(bufferSize);
+			this.overflowStrategy = overflowStrategy;
+		}
+
+		/**
+		 * Holds back CQ events until the initial results are {@link #seed(CqQuery, CqResults) seeded},
+		 * so that CQ events are emitted after the initial results.
+		 */
+		void holdEventsUntilSeeded() {
+			this.seeding = true;
+		}
+
+		/**
+		 * Emits the initial results of the CQ as requested by the subscriber, before any buffered CQ event.
+		 * Initial results are never dropped and, since Pivotal GemFire / Apache Geode already holds them in memory,
+		 * are not copied into the bounded buffer; the subscribing thread therefore never waits for demand.
+		 */
+		void seed(CqQuery continuousQuery, CqResults<?> initialResults) {
+
+			this.continuousQuery = continuousQuery;
+			this.initialResults = initialResults.iterator();
+
+			drain();
+		}
+
+		@Override
+		public void onError(CqEvent event) {
+			onEvent(event);
+		}
+
+		@Override
+		public void onEvent(CqEvent event) {
+
+			if (!this.sink.isCancelled() && offer(event)) {
+				drain();
+			}
+		}
+
+		private boolean offer(CqEvent event) {
+
+			switch (this.overflowStrategy) {
+				case BLOCK:
+					try {
+						while (!this.sink.isCancelled()) {
+							if (this.buffer.offer(event, 100, TimeUnit.MILLISECONDS)) {
+								return true;
+							}
+						}
+
+						return false;
+					}
+					catch (InterruptedException cause) {
+						Thread.currentThread().interrupt();
+						return false;
+					}
+				case DROP_OLDEST:
+					while (!this.buffer.offer(event)) {
+						this.buffer.poll();
+					}
+
+					return true;
+				case ERROR:
+					if (!this.buffer.offer(event)) {
+						this.sink.error(new IllegalStateException(String.format(
+							"Buffer of [%d] CQ events is full; the subscriber is not keeping up",
+								this.buffer.size())));
+
+						return false;
+					}
+
+					return true;
+				default:
+					return this.buffer.offer(event);
+			}
+		}
+
+		/**
+		 * Emits the initial results and then the buffered CQ events while the subscriber has outstanding demand,
+		 * and completes the {@link FluxSink} once the CQ is closed and all buffered CQ events have been emitted.
+		 * Called by the thread delivering CQ events, the thread requesting more and the subscribing thread;
+		 * only one thread emits at a time.
+		 */
+		void drain() {
+
+			if (this.workInProgress.getAndIncrement() == 0) {
+				do {
+					long requested = this.sink.requestedFromDownstream();
+
+					for (; requested > 0L && !this.sink.isCancelled(); requested--) {
+
+						CqEvent event = next();
+
+						if (event == null) {
+							break;
+						}
+
+						this.sink.next(event);
+					}
+
+					if (this.closed && isSeeded() && this.buffer.isEmpty()) {
+						this.sink.complete();
+					}
+				}
+				while (this.workInProgress.decrementAndGet() != 0);
+			}
+		}
+
+		private CqEvent next() {
+
+			if (!isSeeded()) {
+
+				Iterator<?> initialResults = this.initialResults;
+
+				return (initialResults != null
+					? new InitialResultCqEvent(this.continuousQuery, initialResults.next()) : null);
+			}
+
+			return this.buffer.poll();
+		}
+
+		/**
+		 * Determines whether all initial results have been emitted; only called while emitting.
+		 */
+		private boolean isSeeded() {
+
+			if (this.seeding) {
+
+				Iterator<?> initialResults = this.initialResults;
+
+				if (initialResults == null || initialResults.hasNext()) {
+					return false;
+				}
+
+				this.initialResults = null;
+				this.seeding = false;
+			}
+
+			return true;
+		}
+
+		/**
+		 * Completes the {@link FluxSink} once the subscriber has received all buffered CQ events.
+		 */
+		@Override
+		public void close() {
+			this.closed = true;
+			drain();
+		}
+	}
+
+	/**
+	 * {@link CqEvent} representing an entry of the initial results of a CQ.
+	 */
+	static class InitialResultCqEvent implements CqEvent {
+
+		private final CqQuery continuousQuery;
+
+		private final Object key;
+		private final Object value;
+
+		InitialResultCqEvent(CqQuery continuousQuery, Object result) {
+
+			this.continuousQuery = continuousQuery;
+
+			if (result instanceof Struct) {
+				this.key = ((Struct) result).get("key");
+				this.value = ((Struct) result).get("value");
+			}
+			else {
+				this.key = null;
+				this.value = result;
+			}
+		}
+
+		@Override
+		public CqQuery getCq() {
+			return this.continuousQuery;
+		}
+
+		@Override
+		public Operation getBaseOperation() {
+			return Operation.CREATE;
+		}
+
+		@Override
+		public Operation getQueryOperation() {
+			return Operation.CREATE;
+		}
+
+		@Override
+		public Object getKey() {
+			return this.key;
+		}
+
+		@Override
+		public Object getNewValue() {
+			return this.value;
+		}
+
+		@Override
+		public Throwable getThrowable() {
+			return null;
+		}
+
+		@Override
+		public byte[] getDeltaValue() {
+			return null;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("InitialResultCqEvent [key = %1$s, value = %2$s]", getKey(), getNewValue());
+		}
+	}
+}
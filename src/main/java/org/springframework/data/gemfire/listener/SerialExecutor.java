@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link Executor} running the submitted tasks one at a time, in the order they were submitted,
+ * on the threads of a delegate {@link Executor}.
+ *
+ * A single drain task is submitted to the delegate {@link Executor} when a task is submitted while no task
+ * is running.  The drain task runs the queued tasks in a loop on its thread until the queue is empty, so
+ * tasks are only ever submitted to the delegate {@link Executor} by the thread calling {@link #execute(Runnable)},
+ * never by a thread of the delegate {@link Executor}, which could otherwise block on a full, bounded delegate
+ * that only it drains.  A serial {@link Executor} does not occupy a thread of the delegate {@link Executor}
+ * while it has no task to run.
+ *
+ * @author agent
+ * @see java.util.concurrent.Executor
+ * @since 2.1.0
+ */
+class SerialExecutor implements Executor {
+
+	private final Executor delegate;
+
+	private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+	private boolean draining;
+
+	/**
+	 * Constructs a new instance of {@link SerialExecutor}.
+	 *
+	 * @param delegate {@link Executor} running the tasks.
+	 */
+	SerialExecutor(Executor delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Queues the task and, unless the queued tasks are already being drained, submits a drain task
+	 * to the delegate {@link Executor}.  The delegate {@link Executor} is called without holding the lock
+	 * of this {@link Executor}, so a blocking delegate does not prevent a running drain task from taking
+	 * the next queued task.
+	 *
+	 * @param task {@link Runnable} to run.
+	 * @throws RejectedExecutionException if the delegate {@link Executor} rejects the drain task,
+	 * in which case the queued tasks are discarded.
+	 */
+	@Override
+	public void execute(Runnable task) {
+
+		synchronized (this) {
+
+			this.tasks.add(task);
+
+			if (this.draining) {
+				return;
+			}
+
+			this.draining = true;
+		}
+
+		try {
+			this.delegate.execute(this::drain);
+		}
+		catch (RejectedExecutionException cause) {
+
+			synchronized (this) {
+				this.draining = false;
+				this.tasks.clear();
+			}
+
+			throw cause;
+		}
+	}
+
+	/**
+	 * Runs the queued tasks until the queue is empty.  If a task fails, the remaining tasks are run
+	 * by the drain task submitted with the next task.
+	 */
+	private void drain() {
+
+		boolean drained = false;
+
+		try {
+			for (Runnable task = next(); task != null; task = next()) {
+				task.run();
+			}
+
+			drained = true;
+		}
+		finally {
+			if (!drained) {
+				synchronized (this) {
+					this.draining = false;
+				}
+			}
+		}
+	}
+
+	private synchronized Runnable next() {
+
+		Runnable task = this.tasks.poll();
+
+		this.draining = (task != null);
+
+		return task;
+	}
+}
@@ -16,6 +16,9 @@
 
 package org.springframework.data.gemfire.listener.adapter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -188,14 +191,17 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 			// Else, find the listener method handler reflectively
 			else {
 
-				String methodName = Optional.ofNullable(getListenerMethodName(event))
-					.filter(StringUtils::hasText)
-					.orElseThrow(() -> new InvalidDataAccessApiUsageException("No default listener method specified;"
+				String methodName = getListenerMethodName(event);
+
+				if (!StringUtils.hasText(methodName)) {
+					throw new InvalidDataAccessApiUsageException("No default listener method specified;"
 						+ " Either specify a non-null value for the 'defaultListenerMethod' property"
-						+ " or override the 'getListenerMethodName' method."));
+						+ " or override the 'getListenerMethodName' method.");
+				}
 
-				this.invoker = Optional.ofNullable(this.invoker)
-					.orElseGet(() -> new MethodInvoker(this.delegate, methodName));
+				if (this.invoker == null) {
+					this.invoker = new MethodInvoker(this.delegate, methodName);
+				}
 
 				invokeListenerMethod(event, methodName);
 			}
@@ -240,22 +246,24 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		}
 	}
 
-	private class MethodInvoker {
-
-		private final Object delegate;
+	/**
+	 * Invokes the listener methods of the delegate matching the listener method name.  Each listener method
+	 * is bound to the delegate once as a {@link MethodHandle} along with the {@link EventArgument arguments}
+	 * to extract from the {@link CqEvent}, so no reflective lookups are performed per event.
+	 */
+	private static class MethodInvoker {
 
-		private final List<Method> methods;
+		private final List<EventMethod> methods;
 
 		MethodInvoker(Object delegate, String methodName) {
 
 			Class<?> delegateType = delegate.getClass();
 
-			this.delegate = delegate;
 			this.methods = new ArrayList<>();
 
 			ReflectionUtils.doWithMethods(delegateType, method -> {
 				ReflectionUtils.makeAccessible(method);
-				this.methods.add(method);
+				this.methods.add(new EventMethod(delegate, method));
 			}, method -> isValidEventMethodSignature(method, methodName));
 
 			Assert.isTrue(!this.methods.isEmpty(), String.format("Cannot find a suitable method named [%1$s#%2$s];"
@@ -315,16 +323,35 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 
 		void invoke(CqEvent event) throws IllegalAccessException, InvocationTargetException {
 
-			for (Method method : this.methods) {
-				method.invoke(this.delegate, getMethodArguments(method, event));
+			for (EventMethod method : this.methods) {
+				method.invoke(event);
 			}
 		}
+	}
+
+	private static class EventMethod {
+
+		private final EventArgument[] arguments;
+
+		private final MethodHandle methodHandle;
+
+		EventMethod(Object delegate, Method method) throws IllegalAccessException {
+
+			this.arguments = resolveEventArguments(method);
+
+			MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+
+			this.methodHandle = (Modifier.isStatic(method.getModifiers()) ? methodHandle
+				: methodHandle.bindTo(delegate))
+				.asSpreader(Object[].class, this.arguments.length)
+				.asType(MethodType.methodType(void.class, Object[].class));
+		}
 
-		private Object[] getMethodArguments(Method method, CqEvent event) {
+		private static EventArgument[] resolveEventArguments(Method method) {
 
 			Class<?>[] parameterTypes = method.getParameterTypes();
 
-			Object[] args = new Object[parameterTypes.length];
+			EventArgument[] arguments = new EventArgument[parameterTypes.length];
 
 			boolean query = false;
 			boolean value = false;
@@ -334,28 +361,98 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 				Class<?> parameterType = parameterTypes[index];
 
 				if (Object.class.equals(parameterType)) {
-					args[index] = (value ? event.getNewValue() : event.getKey());
+					arguments[index] = (value ? EventArgument.NEW_VALUE : EventArgument.KEY);
 					value = true;
 				}
 				else if (Operation.class.equals(parameterType)) {
-					args[index] = (query ? event.getQueryOperation() : event.getBaseOperation());
+					arguments[index] = (query ? EventArgument.QUERY_OPERATION : EventArgument.BASE_OPERATION);
 					query = true;
 				}
 				else if (byte[].class.equals(parameterType)) {
-					args[index] = event.getDeltaValue();
+					arguments[index] = EventArgument.DELTA_VALUE;
 				}
 				else if (CqEvent.class.equals(parameterType)) {
-					args[index] = event;
+					arguments[index] = EventArgument.EVENT;
 				}
 				else if (CqQuery.class.equals(parameterType)) {
-					args[index] = event.getCq();
+					arguments[index] = EventArgument.QUERY;
 				}
-				else if (Throwable.class.equals(parameterType)) {
-					args[index] = event.getThrowable();
+				else {
+					arguments[index] = EventArgument.THROWABLE;
 				}
 			}
 
-			return args;
+			return arguments;
 		}
+
+		void invoke(CqEvent event) throws InvocationTargetException {
+
+			Object[] args = new Object[this.arguments.length];
+
+			for (int index = 0; index < args.length; index++) {
+				args[index] = this.arguments[index].extract(event);
+			}
+
+			try {
+				this.methodHandle.invokeExact(args);
+			}
+			catch (Throwable cause) {
+				throw new InvocationTargetException(cause);
+			}
+		}
+	}
+
+	private enum EventArgument {
+
+		BASE_OPERATION {
+			@Override Object extract(CqEvent event) {
+				return event.getBaseOperation();
+			}
+		},
+
+		DELTA_VALUE {
+			@Override Object extract(CqEvent event) {
+				return event.getDeltaValue();
+			}
+		},
+
+		EVENT {
+			@Override Object extract(CqEvent event) {
+				return event;
+			}
+		},
+
+		KEY {
+			@Override Object extract(CqEvent event) {
+				return event.getKey();
+			}
+		},
+
+		NEW_VALUE {
+			@Override Object extract(CqEvent event) {
+				return event.getNewValue();
+			}
+		},
+
+		QUERY {
+			@Override Object extract(CqEvent event) {
+				return event.getCq();
+			}
+		},
+
+		QUERY_OPERATION {
+			@Override Object extract(CqEvent event) {
+				return event.getQueryOperation();
+			}
+		},
+
+		THROWABLE {
+			@Override Object extract(CqEvent event) {
+				return event.getThrowable();
+			}
+		};
+
+		abstract Object extract(CqEvent event);
+
 	}
 }
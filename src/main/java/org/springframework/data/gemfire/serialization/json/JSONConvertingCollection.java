@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization.json;
+
+import java.io.OutputStream;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * Read-only {@link Collection} view of a source {@link Collection} returned from a JSON Region, which converts
+ * each element with the configured conversion {@link Function} only when the element is accessed.
+ *
+ * Converted elements are not retained, so iterating the view more than once converts the elements again.
+ *
+ * @author agent
+ * @see java.util.AbstractCollection
+ * @see org.springframework.data.gemfire.serialization.json.JSONWritable
+ * @since 2.1.0
+ */
+class JSONConvertingCollection<E> extends AbstractCollection<Object> implements JSONWritable {
+
+	private final Collection<E> source;
+
+	private final Function<Object, Object> conversion;
+
+	private final JSONPdxInstanceConverter converter;
+
+	private final boolean prettyPrint;
+
+	JSONConvertingCollection(Collection<E> source, Function<Object, Object> conversion,
+			JSONPdxInstanceConverter converter, boolean prettyPrint) {
+
+		Assert.notNull(source, "Source Collection must not be null");
+		Assert.notNull(conversion, "Conversion Function must not be null");
+		Assert.notNull(converter, "JSONPdxInstanceConverter must not be null");
+
+		this.source = source;
+		this.conversion = conversion;
+		this.converter = converter;
+		this.prettyPrint = prettyPrint;
+	}
+
+	protected Collection<E> getSource() {
+		return this.source;
+	}
+
+	protected Object convert(Object element) {
+		return this.conversion.apply(element);
+	}
+
+	@Override
+	public Iterator<Object> iterator() {
+
+		Iterator<E> iterator = this.source.iterator();
+
+		return new Iterator<Object>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Object next() {
+				return convert(iterator.next());
+			}
+		};
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.source.isEmpty();
+	}
+
+	@Override
+	public int size() {
+		return this.source.size();
+	}
+
+	/**
+	 * Streams the unconverted source elements as a JSON array.
+	 *
+	 * @param out {@link OutputStream} to write to.
+	 */
+	@Override
+	public void writeJSON(OutputStream out) {
+		this.converter.writeJSON(this.source, out, this.prettyPrint);
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization.json;
+
+import java.io.OutputStream;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * Read-only {@link Map} view of a source {@link Map} returned from a JSON Region, which converts a value
+ * with the configured conversion {@link Function} only when the value is accessed.
+ *
+ * @author agent
+ * @see java.util.AbstractMap
+ * @see org.springframework.data.gemfire.serialization.json.JSONWritable
+ * @since 2.1.0
+ */
+class JSONConvertingMap<K, V> extends AbstractMap<K, Object> implements JSONWritable {
+
+	private final Map<K, V> source;
+
+	private final Function<Object, Object> conversion;
+
+	private final JSONPdxInstanceConverter converter;
+
+	private final boolean prettyPrint;
+
+	private transient Set<Map.Entry<K, Object>> entrySet;
+
+	JSONConvertingMap(Map<K, V> source, Function<Object, Object> conversion,
+			JSONPdxInstanceConverter converter, boolean prettyPrint) {
+
+		Assert.notNull(source, "Source Map must not be null");
+		Assert.notNull(conversion, "Conversion Function must not be null");
+		Assert.notNull(converter, "JSONPdxInstanceConverter must not be null");
+
+		this.source = source;
+		this.conversion = conversion;
+		this.converter = converter;
+		this.prettyPrint = prettyPrint;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return this.source.containsKey(key);
+	}
+
+	@Override
+	public Set<Map.Entry<K, Object>> entrySet() {
+
+		Set<Map.Entry<K, Object>> entrySet = this.entrySet;
+
+		if (entrySet == null) {
+			entrySet = new AbstractSet<Map.Entry<K, Object>>() {
+
+				@Override
+				public Iterator<Map.Entry<K, Object>> iterator() {
+
+					Iterator<Map.Entry<K, V>> iterator = source.entrySet().iterator();
+
+					return new Iterator<Map.Entry<K, Object>>() {
+
+						@Override
+						public boolean hasNext() {
+							return iterator.hasNext();
+						}
+
+						@Override
+						public Map.Entry<K, Object> next() {
+
+							Map.Entry<K, V> entry = iterator.next();
+
+							return new SimpleImmutableEntry<>(entry.getKey(), conversion.apply(entry.getValue()));
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return source.size();
+				}
+			};
+
+			this.entrySet = entrySet;
+		}
+
+		return entrySet;
+	}
+
+	@Override
+	public Object get(Object key) {
+		return this.conversion.apply(this.source.get(key));
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.source.isEmpty();
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return Collections.unmodifiableSet(this.source.keySet());
+	}
+
+	@Override
+	public int size() {
+		return this.source.size();
+	}
+
+	/**
+	 * Streams the unconverted source values as a JSON object using the {@link String} form of the keys
+	 * as field names.
+	 *
+	 * @param out {@link OutputStream} to write to.
+	 */
+	@Override
+	public void writeJSON(OutputStream out) {
+		this.converter.writeJSON(this.source, out, this.prettyPrint);
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization.json;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.internal.types.CollectionTypeImpl;
+import org.apache.geode.cache.query.internal.types.ObjectTypeImpl;
+import org.apache.geode.cache.query.types.CollectionType;
+import org.apache.geode.cache.query.types.ObjectType;
+
+/**
+ * Read-only {@link SelectResults} view of the {@link SelectResults} of an OQL query on a JSON Region,
+ * which converts each result only when it is accessed.
+ *
+ * {@link #asList()} and {@link #asSet()} return converted copies.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.query.SelectResults
+ * @see org.springframework.data.gemfire.serialization.json.JSONConvertingCollection
+ * @since 2.1.0
+ */
+class JSONConvertingSelectResults<E> extends JSONConvertingCollection<E> implements SelectResults<Object> {
+
+	private final CollectionType collectionType;
+
+	JSONConvertingSelectResults(SelectResults<E> source, Function<Object, Object> conversion,
+			JSONPdxInstanceConverter converter, boolean prettyPrint) {
+
+		super(source, conversion, converter, prettyPrint);
+
+		this.collectionType = new CollectionTypeImpl(resolveCollectionClass(source),
+			new ObjectTypeImpl(Object.class));
+	}
+
+	private static Class<?> resolveCollectionClass(SelectResults<?> source) {
+
+		CollectionType collectionType = source.getCollectionType();
+
+		return collectionType != null ? collectionType.resolveClass() : Object.class;
+	}
+
+	@Override
+	public List<Object> asList() {
+		return new ArrayList<>(this);
+	}
+
+	@Override
+	public Set<Object> asSet() {
+		return new LinkedHashSet<>(this);
+	}
+
+	@Override
+	public CollectionType getCollectionType() {
+		return this.collectionType;
+	}
+
+	@Override
+	public boolean isModifiable() {
+		return false;
+	}
+
+	@Override
+	public int occurrences(Object element) {
+
+		int count = 0;
+
+		for (Object convertedElement : this) {
+			if (Objects.equals(convertedElement, element)) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	@Override
+	public void setElementType(ObjectType elementType) {
+		throw new UnsupportedOperationException("JSON query results are read-only");
+	}
+}
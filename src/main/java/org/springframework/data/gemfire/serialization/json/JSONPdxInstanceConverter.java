@@ -0,0 +1,425 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.JSONFormatterException;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxInstanceFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Converts JSON documents and Jackson-serializable objects to {@link PdxInstance PdxInstances}, and
+ * {@link PdxInstance PdxInstances} to JSON, by streaming Jackson tokens without intermediate JSON {@link String Strings}.
+ *
+ * Objects are serialized by the {@link ObjectMapper} into a {@link TokenBuffer} whose tokens are written directly
+ * into a {@link PdxInstanceFactory}, and {@link PdxInstance} fields are written directly to a {@link JsonGenerator}.
+ * Fields are typed the same way as by {@link JSONFormatter}, so {@link PdxInstance PdxInstances} created by either
+ * share the same PDX types.
+ *
+ * Instances of this class are thread-safe, provided the {@link ObjectMapper} is not reconfigured after construction.
+ *
+ * @author agent
+ * @see com.fasterxml.jackson.databind.ObjectMapper
+ * @see org.apache.geode.pdx.JSONFormatter
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.apache.geode.pdx.PdxInstanceFactory
+ * @since 2.1.0
+ */
+public class JSONPdxInstanceConverter {
+
+	private final JsonFactory jsonFactory;
+
+	private final ObjectMapper objectMapper;
+
+	private final Supplier<PdxInstanceFactory> pdxInstanceFactorySupplier;
+
+	/**
+	 * Constructs a new instance of {@link JSONPdxInstanceConverter} with a default {@link ObjectMapper}.
+	 */
+	public JSONPdxInstanceConverter() {
+		this(new ObjectMapper());
+	}
+
+	/**
+	 * Constructs a new instance of {@link JSONPdxInstanceConverter} serializing objects with the given
+	 * {@link ObjectMapper}.
+	 *
+	 * @param objectMapper Jackson {@link ObjectMapper} used to serialize objects; must not be {@literal null}.
+	 */
+	public JSONPdxInstanceConverter(ObjectMapper objectMapper) {
+		this(objectMapper, JSONPdxInstanceConverter::newJSONPdxInstanceFactory);
+	}
+
+	/* (non-Javadoc) */
+	JSONPdxInstanceConverter(ObjectMapper objectMapper, Supplier<PdxInstanceFactory> pdxInstanceFactorySupplier) {
+		Assert.notNull(objectMapper, "ObjectMapper must not be null");
+
+		this.objectMapper = objectMapper;
+		this.pdxInstanceFactorySupplier = pdxInstanceFactorySupplier;
+
+		this.jsonFactory = objectMapper.getFactory().copy()
+			.enable(JsonParser.Feature.ALLOW_BACKSLASH_ESCAPING_ANY_CHARACTER)
+			.enable(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES)
+			.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	}
+
+	/**
+	 * Creates a {@link PdxInstanceFactory} for JSON documents, as {@link JSONFormatter} does.
+	 */
+	private static PdxInstanceFactory newJSONPdxInstanceFactory() {
+		return ((InternalCache) CacheFactory.getAnyInstance())
+			.createPdxInstanceFactory(JSONFormatter.JSON_CLASSNAME, false);
+	}
+
+	/**
+	 * Returns the Jackson {@link ObjectMapper} used to serialize objects.
+	 *
+	 * @return the Jackson {@link ObjectMapper}.
+	 */
+	public ObjectMapper getObjectMapper() {
+		return this.objectMapper;
+	}
+
+	/**
+	 * Converts the given JSON document {@link String}, or object serialized to JSON by the {@link ObjectMapper},
+	 * to a {@link PdxInstance}.  {@link PdxInstance PdxInstances} are returned as is.
+	 *
+	 * @param value JSON document {@link String} or object to convert; may be {@literal null}.
+	 * @return the {@link PdxInstance}, or {@literal null} if the value is {@literal null}.
+	 * @throws JSONFormatterException if the JSON document could not be parsed, is not a JSON object,
+	 * or the object could not be serialized.
+	 */
+	public PdxInstance toPdxInstance(Object value) {
+		if (value == null || value instanceof PdxInstance) {
+			return (PdxInstance) value;
+		}
+
+		try (JsonParser parser = newParser(value)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new JSONFormatterException(String.format(
+					"Could not parse JSON document: expected a JSON object at %s", parser.getCurrentLocation()));
+			}
+
+			return readObject(parser);
+		}
+		catch (IOException e) {
+			throw new JSONFormatterException("Could not parse JSON document", e);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private JsonParser newParser(Object value) throws IOException {
+		if (value instanceof String) {
+			return this.jsonFactory.createParser((String) value);
+		}
+
+		TokenBuffer tokens = new TokenBuffer(this.objectMapper, false);
+
+		this.objectMapper.writeValue(tokens, value);
+
+		return tokens.asParser(this.objectMapper);
+	}
+
+	/* (non-Javadoc) */
+	private PdxInstance readObject(JsonParser parser) throws IOException {
+		PdxInstanceFactory factory = this.pdxInstanceFactorySupplier.get();
+
+		for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+			String fieldName = parser.getCurrentName();
+
+			parser.nextToken();
+			writeField(factory, fieldName, readValue(parser));
+		}
+
+		return factory.create();
+	}
+
+	/* (non-Javadoc) */
+	private List<Object> readList(JsonParser parser) throws IOException {
+		List<Object> list = new ArrayList<>();
+
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			list.add(readValue(parser));
+		}
+
+		return list;
+	}
+
+	/* (non-Javadoc) */
+	private Object readValue(JsonParser parser) throws IOException {
+		switch (parser.getCurrentToken()) {
+			case START_OBJECT:
+				return readObject(parser);
+			case START_ARRAY:
+				return readList(parser);
+			case VALUE_STRING:
+				return parser.getText();
+			case VALUE_NUMBER_INT:
+				return readInteger(parser);
+			case VALUE_NUMBER_FLOAT:
+				return parser.getDoubleValue();
+			case VALUE_TRUE:
+			case VALUE_FALSE:
+				return parser.getBooleanValue();
+			case VALUE_NULL:
+				return null;
+			case VALUE_EMBEDDED_OBJECT:
+				Object embeddedObject = parser.getEmbeddedObject();
+
+				return (embeddedObject instanceof byte[]
+					? Base64Variants.getDefaultVariant().encode((byte[]) embeddedObject) : embeddedObject);
+			default:
+				throw new JSONFormatterException(String.format("Unexpected JSON token [%1$s] at %2$s",
+					parser.getCurrentToken(), parser.getCurrentLocation()));
+		}
+	}
+
+	/**
+	 * Reads an integral number as the smallest of {@link Byte}, {@link Short}, {@link Integer}, {@link Long}
+	 * or {@link BigInteger} holding the value, as {@link JSONFormatter} does.
+	 */
+	private Object readInteger(JsonParser parser) throws IOException {
+		BigInteger bigIntegerValue = null;
+		long value;
+
+		if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+			bigIntegerValue = parser.getBigIntegerValue();
+
+			if (bigIntegerValue.bitLength() >= Long.SIZE) {
+				return bigIntegerValue;
+			}
+
+			value = bigIntegerValue.longValue();
+		}
+		else {
+			value = parser.getLongValue();
+		}
+
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			return value;
+		}
+		else if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+			return (int) value;
+		}
+		else if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+			return (short) value;
+		}
+
+		return (byte) value;
+	}
+
+	/* (non-Javadoc) */
+	private void writeField(PdxInstanceFactory factory, String fieldName, Object value) {
+		if (value instanceof Byte) {
+			factory.writeByte(fieldName, (Byte) value);
+		}
+		else if (value instanceof Short) {
+			factory.writeShort(fieldName, (Short) value);
+		}
+		else if (value instanceof Integer) {
+			factory.writeInt(fieldName, (Integer) value);
+		}
+		else if (value instanceof Long) {
+			factory.writeLong(fieldName, (Long) value);
+		}
+		else if (value instanceof Double) {
+			factory.writeDouble(fieldName, (Double) value);
+		}
+		else if (value instanceof Boolean) {
+			factory.writeBoolean(fieldName, (Boolean) value);
+		}
+		else {
+			factory.writeObject(fieldName, value);
+		}
+	}
+
+	/**
+	 * Converts the given {@link PdxInstance} to a compact JSON document.
+	 *
+	 * @param pdxInstance {@link PdxInstance} to convert.
+	 * @return the JSON document.
+	 * @see #toJSON(PdxInstance, boolean)
+	 */
+	public String toJSON(PdxInstance pdxInstance) {
+		return toJSON(pdxInstance, false);
+	}
+
+	/**
+	 * Converts the given {@link PdxInstance} to a JSON document.
+	 *
+	 * @param pdxInstance {@link PdxInstance} to convert.
+	 * @param prettyPrint boolean indicating whether to indent the JSON document.
+	 * @return the JSON document.
+	 * @throws JSONFormatterException if the {@link PdxInstance} could not be written as JSON.
+	 */
+	public String toJSON(PdxInstance pdxInstance, boolean prettyPrint) {
+		StringWriter writer = new StringWriter();
+
+		writeJSON(pdxInstance, writer, prettyPrint);
+
+		return writer.toString();
+	}
+
+	/**
+	 * Writes the given {@link PdxInstance} as a UTF-8 encoded JSON document to the given {@link OutputStream},
+	 * which is flushed, but not closed.
+	 *
+	 * A {@link Collection} of {@link PdxInstance PdxInstances} is written as a JSON array, and a {@link Map} of
+	 * {@link PdxInstance PdxInstances} as a JSON object with the {@link String} form of the keys as field names.
+	 *
+	 * @param value {@link PdxInstance}, {@link Collection} or {@link Map} to write.
+	 * @param out {@link OutputStream} to write to.
+	 * @param prettyPrint boolean indicating whether to indent the JSON document.
+	 * @throws JSONFormatterException if the value could not be written as JSON.
+	 */
+	public void writeJSON(Object value, OutputStream out, boolean prettyPrint) {
+		try (JsonGenerator generator = this.jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+			writeJSON(value, generator, prettyPrint);
+		}
+		catch (IOException e) {
+			throw new JSONFormatterException("Could not create JSON document from PdxInstance", e);
+		}
+	}
+
+	/**
+	 * Writes the given {@link PdxInstance} as a JSON document to the given {@link Writer}, which is flushed,
+	 * but not closed.
+	 *
+	 * @param value {@link PdxInstance}, {@link Collection} or {@link Map} to write.
+	 * @param writer {@link Writer} to write to.
+	 * @param prettyPrint boolean indicating whether to indent the JSON document.
+	 * @throws JSONFormatterException if the value could not be written as JSON.
+	 * @see #writeJSON(Object, OutputStream, boolean)
+	 */
+	public void writeJSON(Object value, Writer writer, boolean prettyPrint) {
+		try (JsonGenerator generator = this.jsonFactory.createGenerator(writer)) {
+			writeJSON(value, generator, prettyPrint);
+		}
+		catch (IOException e) {
+			throw new JSONFormatterException("Could not create JSON document from PdxInstance", e);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void writeJSON(Object value, JsonGenerator generator, boolean prettyPrint) throws IOException {
+		generator.setCodec(this.objectMapper);
+
+		if (prettyPrint) {
+			generator.useDefaultPrettyPrinter();
+		}
+
+		writeValue(generator, value);
+	}
+
+	/* (non-Javadoc) */
+	private void writeValue(JsonGenerator generator, Object value) throws IOException {
+		if (value == null) {
+			generator.writeNull();
+		}
+		else if (value instanceof PdxInstance) {
+			PdxInstance pdxInstance = (PdxInstance) value;
+
+			generator.writeStartObject();
+
+			for (String fieldName : pdxInstance.getFieldNames()) {
+				generator.writeFieldName(fieldName);
+				writeValue(generator, pdxInstance.getField(fieldName));
+			}
+
+			generator.writeEndObject();
+		}
+		else if (value instanceof Map) {
+			generator.writeStartObject();
+
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				generator.writeFieldName(String.valueOf(entry.getKey()));
+				writeValue(generator, entry.getValue());
+			}
+
+			generator.writeEndObject();
+		}
+		else if (value instanceof Collection) {
+			generator.writeStartArray();
+
+			for (Object element : (Collection<?>) value) {
+				writeValue(generator, element);
+			}
+
+			generator.writeEndArray();
+		}
+		else if (value instanceof Object[]) {
+			generator.writeStartArray();
+
+			for (Object element : (Object[]) value) {
+				writeValue(generator, element);
+			}
+
+			generator.writeEndArray();
+		}
+		else if (value instanceof String || value instanceof Character) {
+			generator.writeString(value.toString());
+		}
+		else if (value instanceof Boolean) {
+			generator.writeBoolean((Boolean) value);
+		}
+		else if (value instanceof Byte || value instanceof Short || value instanceof Integer) {
+			generator.writeNumber(((Number) value).intValue());
+		}
+		else if (value instanceof Long) {
+			generator.writeNumber((Long) value);
+		}
+		else if (value instanceof Double) {
+			generator.writeNumber((Double) value);
+		}
+		else if (value instanceof Float) {
+			generator.writeNumber((Float) value);
+		}
+		else if (value instanceof BigDecimal) {
+			generator.writeNumber((BigDecimal) value);
+		}
+		else if (value instanceof BigInteger) {
+			generator.writeNumber((BigInteger) value);
+		}
+		else {
+			generator.writeObject(value);
+		}
+	}
+}
@@ -31,8 +31,6 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.SelectResults;
-import org.apache.geode.cache.query.internal.ResultsBag;
-import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.PdxInstance;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -60,12 +58,16 @@ public class JSONRegionAdvice {
 
 	private List<String> includedRegions;
 
+	private volatile JSONPdxInstanceConverter converter = new JSONPdxInstanceConverter();
+
 	protected final Log log = LogFactory.getLog(JSONRegionAdvice.class);
 
 	/**
-	 * Flag to convert collections returned from cache from @{link PdxInstance} to JSON String. If the returned
-	 * collections are very large, overhead will be incurred to covert all the values from from
-	 * Region.getAll() and Region.values()
+	 * Flag to convert collections returned from cache from @{link PdxInstance} to JSON String. Collections
+	 * returned from Region.getAll(), Region.values() and template queries are read-only views converting
+	 * each value only when it is accessed; the views also implement {@link JSONWritable} to stream
+	 * their contents as JSON without first converting each value to a String.  Like before, the values
+	 * returned from Region.values() are a copy, which does not reflect later changes to the Region.
 	 *
 	 * @param convertReturnedCollections true by default
 	 */
@@ -94,6 +96,16 @@ public class JSONRegionAdvice {
 		this.includedRegions = regionNames;
 	}
 
+	/**
+	 * Sets the Jackson {@link ObjectMapper} used to serialize objects stored in JSON regions, allowing the
+	 * application's configured, thread-safe {@link ObjectMapper} to be reused.
+	 *
+	 * @param objectMapper Jackson {@link ObjectMapper}; must not be {@literal null}.
+	 */
+	public void setObjectMapper(ObjectMapper objectMapper) {
+		this.converter = new JSONPdxInstanceConverter(objectMapper);
+	}
+
 	/**
 	 * Flag to print JSON Strings with proper indentation, etc.
 	 *
@@ -193,10 +205,8 @@ public class JSONRegionAdvice {
 				result = retVal;
 			}
 			else {
-				result = new HashMap<Object, Object>();
-				for (Entry<Object, Object> entry : retVal.entrySet()) {
-					result.put(entry.getKey(), convertPdxInstanceToJSONString(entry.getValue()));
-				}
+				result = new JSONConvertingMap<>(retVal, this::convertPdxInstanceToJSONString,
+					this.converter, this.prettyPrint);
 			}
 		}
 		catch (Throwable t) {
@@ -218,10 +228,9 @@ public class JSONRegionAdvice {
 				result = retVal;
 			}
 			else {
-				result = new ArrayList<Object>();
-				for (Object obj : retVal) {
-					result.add(convertArgumentToPdxInstance(obj));
-				}
+				// Region.values() is a live view of the Region; copy the (unconverted) values as before
+				result = new JSONConvertingCollection<>(new ArrayList<>(retVal),
+					this::convertPdxInstanceToJSONString, this.converter, this.prettyPrint);
 			}
 		}
 		catch (Throwable t) {
@@ -243,11 +252,8 @@ public class JSONRegionAdvice {
 			if (jsonRegion) {
 				returnValue = pjp.proceed();
 				if (returnValue instanceof SelectResults && convertReturnedCollections) {
-					ResultsBag resultsBag = new ResultsBag();
-					for (Object obj : (SelectResults<?>) returnValue) {
-						resultsBag.add(convertPdxInstanceToJSONString(obj));
-					}
-					returnValue = resultsBag;
+					returnValue = new JSONConvertingSelectResults<>((SelectResults<?>) returnValue,
+						this::convertPdxInstanceToJSONString, this.converter, this.prettyPrint);
 				}
 				else {
 					returnValue = convertPdxInstanceToJSONString(returnValue);
@@ -265,26 +271,7 @@ public class JSONRegionAdvice {
 
 
 	private PdxInstance convertArgumentToPdxInstance(Object value) {
-		PdxInstance pdx = null;
-
-		if (value instanceof PdxInstance) {
-			pdx = (PdxInstance) value;
-		}
-		else if (value instanceof String) {
-			pdx = JSONFormatter.fromJSON((String) value);
-		}
-		else {
-			ObjectMapper mapper = new ObjectMapper();
-			try {
-				String json = mapper.writeValueAsString(value);
-				pdx = JSONFormatter.fromJSON(json);
-			}
-			catch (Throwable t) {
-				handleThrowable(t);
-			}
-		}
-
-		return pdx;
+		return this.converter.toPdxInstance(value);
 	}
 
 	private boolean isIncludedSONRegion(Object target) {
@@ -304,20 +291,8 @@ public class JSONRegionAdvice {
 	private Object convertPdxInstanceToJSONString(Object returnValue) {
 		Object result = returnValue;
 
-		if (returnValue != null && returnValue instanceof PdxInstance) {
-			result = JSONFormatter.toJSON((PdxInstance) returnValue);
-			if (!prettyPrint) {
-				result = flattenString(result);
-			}
-		}
-
-		return result;
-	}
-
-	private Object flattenString(Object result) {
-		if (result instanceof String) {
-			String json = (String) result;
-			return json.replaceAll("\\s*", "");
+		if (returnValue instanceof PdxInstance) {
+			result = this.converter.toJSON((PdxInstance) returnValue, prettyPrint);
 		}
 
 		return result;
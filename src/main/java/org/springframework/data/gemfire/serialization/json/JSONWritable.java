@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization.json;
+
+import java.io.OutputStream;
+
+/**
+ * The {@link JSONWritable} interface is implemented by the lazy, read-only views returned from JSON Regions
+ * by {@link JSONRegionAdvice} that are able to stream their contents as JSON directly to an {@link OutputStream}
+ * without first rendering each element as a JSON {@link String}.
+ *
+ * @author agent
+ * @see java.io.OutputStream
+ * @see org.springframework.data.gemfire.serialization.json.JSONRegionAdvice
+ * @since 2.1.0
+ */
+public interface JSONWritable {
+
+	/**
+	 * Writes the contents of this object as a UTF-8 encoded JSON document to the given {@link OutputStream},
+	 * which is flushed, but not closed.
+	 *
+	 * @param out {@link OutputStream} to write to.
+	 * @throws org.apache.geode.pdx.JSONFormatterException if the contents could not be written as JSON.
+	 */
+	void writeJSON(OutputStream out);
+
+}
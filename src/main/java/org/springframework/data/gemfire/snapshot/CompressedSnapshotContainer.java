@@ -0,0 +1,487 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link CompressedSnapshotContainer} class reads and writes the compressed snapshot container format,
+ * wrapping a GemFire snapshot file in a sequence of independently compressed blocks, each with
+ * a {@link CRC32} checksum of its uncompressed content.
+ *
+ * The container starts with a header consisting of a magic number, the format version and the block size,
+ * followed by the blocks, each consisting of the uncompressed length, the compressed length, the checksum
+ * and the compressed content, and ends with an empty block followed by the total uncompressed length.
+ *
+ * Because the blocks are independent, they are compressed on export, and decompressed and verified on import,
+ * concurrently.  A truncated or otherwise corrupt container fails with an {@link IOException} instead of
+ * loading incomplete data.
+ *
+ * All containers compressed or decompressed by the same {@link CompressedSnapshotContainer} share one pool of
+ * at most {@link #getConcurrency() concurrency} daemon threads, so that importing or exporting several
+ * snapshot files at once does not start a pool per file.  Idle threads are released after one minute.
+ *
+ * @author agent
+ * @see java.util.zip.CRC32
+ * @see java.util.zip.Deflater
+ * @see java.util.zip.Inflater
+ * @since 2.1.0
+ */
+@SuppressWarnings("unused")
+public class CompressedSnapshotContainer {
+
+	public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+	public static final int MAGIC_NUMBER = 0x53444753;
+	public static final int VERSION = 1;
+
+	protected static final int MAX_BLOCK_SIZE = 64 * 1024 * 1024;
+
+	private final int blockSize;
+	private final int concurrency;
+
+	private volatile ExecutorService executorService;
+
+	/**
+	 * Constructs an instance of {@link CompressedSnapshotContainer} using the {@link #DEFAULT_BLOCK_SIZE}
+	 * and as many threads as there are available processors.
+	 */
+	public CompressedSnapshotContainer() {
+		this(DEFAULT_BLOCK_SIZE, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructs an instance of {@link CompressedSnapshotContainer} with the given block size and concurrency.
+	 *
+	 * @param blockSize number of uncompressed bytes per block.
+	 * @param concurrency maximum number of blocks compressed or decompressed concurrently.
+	 * @throws IllegalArgumentException if the block size is not positive or greater than 64 MB.
+	 */
+	public CompressedSnapshotContainer(int blockSize, int concurrency) {
+
+		Assert.isTrue(blockSize > 0 && blockSize <= MAX_BLOCK_SIZE,
+			String.format("Block size [%1$d] must be greater than 0 and less than or equal to [%2$d]",
+				blockSize, MAX_BLOCK_SIZE));
+
+		this.blockSize = blockSize;
+		this.concurrency = Math.max(concurrency, 1);
+	}
+
+	/**
+	 * Determines whether the given file is a compressed snapshot container.
+	 *
+	 * @param file file to evaluate.
+	 * @return a boolean indicating whether the given file starts with the container's magic number.
+	 */
+	public static boolean isContainer(File file) {
+
+		if (file != null && file.isFile() && file.length() >= Integer.BYTES) {
+			try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+				return in.readInt() == MAGIC_NUMBER;
+			}
+			catch (IOException ignore) {
+				return false;
+			}
+		}
+
+		return false;
+	}
+
+	public int getBlockSize() {
+		return this.blockSize;
+	}
+
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * Compresses the given snapshot file into a container.
+	 *
+	 * @param snapshot GemFire snapshot file to compress.
+	 * @param container container file to write.
+	 * @return the number of bytes written to the container.
+	 * @throws IOException if the snapshot could not be read or the container written.
+	 */
+	public long compress(File snapshot, File container) throws IOException {
+
+		ExecutorService executorService = getExecutorService();
+
+		Deque<Future<Block>> pendingBlocks = new ArrayDeque<>();
+
+		try (InputStream in = new BufferedInputStream(new FileInputStream(snapshot), getBlockSize());
+			 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(container),
+			 	getBlockSize()))) {
+
+			out.writeInt(MAGIC_NUMBER);
+			out.writeByte(VERSION);
+			out.writeInt(getBlockSize());
+
+			long uncompressedLength = 0L;
+
+			for (byte[] data = readBlock(in); data.length > 0; data = readBlock(in)) {
+
+				byte[] uncompressedData = data;
+
+				uncompressedLength += uncompressedData.length;
+				pendingBlocks.add(submit(executorService, () -> Block.compress(uncompressedData)));
+
+				if (pendingBlocks.size() >= getMaxPendingBlocks()) {
+					await(pendingBlocks.poll()).writeTo(out);
+				}
+			}
+
+			while (!pendingBlocks.isEmpty()) {
+				await(pendingBlocks.poll()).writeTo(out);
+			}
+
+			out.writeInt(0);
+			out.writeLong(uncompressedLength);
+		}
+		finally {
+			cancel(pendingBlocks);
+		}
+
+		return container.length();
+	}
+
+	/**
+	 * Decompresses the given container into a GemFire snapshot file, verifying the checksum of every block.
+	 *
+	 * @param container container file to read.
+	 * @param snapshot GemFire snapshot file to write.
+	 * @return the number of bytes written to the snapshot.
+	 * @throws IOException if the container could not be read, is corrupt, or the snapshot could not be written.
+	 */
+	public long decompress(File container, File snapshot) throws IOException {
+
+		ExecutorService executorService = getExecutorService();
+
+		Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(container),
+				getBlockSize()));
+			 BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(snapshot), getBlockSize())) {
+
+			readHeader(container, in);
+
+			long uncompressedLength = 0L;
+			long blockIndex = 0L;
+
+			for (Block block = Block.readFrom(container, in); block != null; block = Block.readFrom(container, in)) {
+
+				Block compressedBlock = block;
+				long compressedBlockIndex = blockIndex++;
+
+				pendingBlocks.add(submit(executorService,
+					() -> compressedBlock.decompress(container, compressedBlockIndex)));
+
+				if (pendingBlocks.size() >= getMaxPendingBlocks()) {
+					uncompressedLength += write(await(pendingBlocks.poll()), out);
+				}
+			}
+
+			while (!pendingBlocks.isEmpty()) {
+				uncompressedLength += write(await(pendingBlocks.poll()), out);
+			}
+
+			long expectedUncompressedLength = in.readLong();
+
+			if (expectedUncompressedLength != uncompressedLength) {
+				throw new IOException(String.format(
+					"Snapshot container [%1$s] is corrupt; expected [%2$d] bytes but was [%3$d] bytes",
+						container, expectedUncompressedLength, uncompressedLength));
+			}
+
+			return uncompressedLength;
+		}
+		catch (EOFException cause) {
+			throw new IOException(String.format("Snapshot container [%s] is truncated", container), cause);
+		}
+		finally {
+			cancel(pendingBlocks);
+		}
+	}
+
+	private void readHeader(File container, DataInputStream in) throws IOException {
+
+		if (in.readInt() != MAGIC_NUMBER) {
+			throw new IOException(String.format("[%s] is not a snapshot container", container));
+		}
+
+		int version = in.readByte();
+
+		if (version != VERSION) {
+			throw new IOException(String.format("Snapshot container [%1$s] version [%2$d] is not supported",
+				container, version));
+		}
+
+		in.readInt();
+	}
+
+	private byte[] readBlock(InputStream in) throws IOException {
+
+		byte[] buffer = new byte[getBlockSize()];
+
+		int length = 0;
+
+		for (int count = 0; count > -1 && length < buffer.length;
+				count = in.read(buffer, length, buffer.length - length)) {
+
+			length += count;
+		}
+
+		return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+	}
+
+	private int write(byte[] data, BufferedOutputStream out) throws IOException {
+		out.write(data);
+		return data.length;
+	}
+
+	private int getMaxPendingBlocks() {
+		return getConcurrency() * 2;
+	}
+
+	private ExecutorService getExecutorService() {
+
+		if (getConcurrency() > 1 && this.executorService == null) {
+			synchronized (this) {
+				if (this.executorService == null) {
+
+					CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("SnapshotContainer-");
+
+					threadFactory.setDaemon(true);
+
+					ThreadPoolExecutor executorService = new ThreadPoolExecutor(getConcurrency(), getConcurrency(),
+						60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+
+					executorService.allowCoreThreadTimeOut(true);
+
+					this.executorService = executorService;
+				}
+			}
+		}
+
+		return this.executorService;
+	}
+
+	/**
+	 * Cancels the blocks still pending after a failure, since the shared threads outlive this operation.
+	 */
+	private void cancel(Deque<? extends Future<?>> pendingBlocks) {
+		pendingBlocks.forEach(pendingBlock -> pendingBlock.cancel(true));
+	}
+
+	private <T> Future<T> submit(ExecutorService executorService, Callable<T> task) throws IOException {
+
+		if (executorService != null) {
+			return executorService.submit(task);
+		}
+
+		CompletableFuture<T> future = new CompletableFuture<>();
+
+		try {
+			future.complete(task.call());
+		}
+		catch (Exception cause) {
+			future.completeExceptionally(cause);
+		}
+
+		return future;
+	}
+
+	private <T> T await(Future<T> future) throws IOException {
+
+		try {
+			return future.get();
+		}
+		catch (ExecutionException cause) {
+
+			Throwable failure = cause.getCause();
+
+			if (failure instanceof IOException) {
+				throw (IOException) failure;
+			}
+
+			throw new IOException(failure);
+		}
+		catch (InterruptedException cause) {
+
+			Thread.currentThread().interrupt();
+
+			InterruptedIOException interrupted = new InterruptedIOException("Interrupted while processing block");
+
+			interrupted.initCause(cause);
+
+			throw interrupted;
+		}
+	}
+
+	/**
+	 * A single compressed block of the container.
+	 */
+	static class Block {
+
+		private final byte[] compressedData;
+
+		private final int checksum;
+		private final int uncompressedLength;
+
+		Block(byte[] compressedData, int uncompressedLength, int checksum) {
+			this.compressedData = compressedData;
+			this.uncompressedLength = uncompressedLength;
+			this.checksum = checksum;
+		}
+
+		static Block compress(byte[] data) {
+
+			CRC32 crc = new CRC32();
+
+			crc.update(data, 0, data.length);
+
+			Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+
+			try {
+				deflater.setInput(data);
+				deflater.finish();
+
+				byte[] buffer = new byte[data.length + data.length / 16 + 64];
+
+				int length = 0;
+
+				while (!deflater.finished()) {
+
+					if (length == buffer.length) {
+						buffer = Arrays.copyOf(buffer, buffer.length * 2);
+					}
+
+					length += deflater.deflate(buffer, length, buffer.length - length);
+				}
+
+				return new Block(Arrays.copyOf(buffer, length), data.length, (int) crc.getValue());
+			}
+			finally {
+				deflater.end();
+			}
+		}
+
+		static Block readFrom(File container, DataInputStream in) throws IOException {
+
+			int uncompressedLength = in.readInt();
+
+			if (uncompressedLength == 0) {
+				return null;
+			}
+
+			int compressedLength = in.readInt();
+
+			if (uncompressedLength < 0 || uncompressedLength > MAX_BLOCK_SIZE
+					|| compressedLength < 0 || compressedLength > MAX_BLOCK_SIZE * 2) {
+
+				throw new IOException(String.format("Snapshot container [%1$s] is corrupt; invalid block lengths"
+					+ " [%2$d, %3$d]", container, uncompressedLength, compressedLength));
+			}
+
+			int checksum = in.readInt();
+
+			byte[] compressedData = new byte[compressedLength];
+
+			in.readFully(compressedData);
+
+			return new Block(compressedData, uncompressedLength, checksum);
+		}
+
+		byte[] decompress(File container, long blockIndex) throws IOException {
+
+			Inflater inflater = new Inflater(true);
+
+			try {
+
+				// a dummy trailing byte is required by the Inflater when using the raw (nowrap) format
+				inflater.setInput(Arrays.copyOf(this.compressedData, this.compressedData.length + 1));
+
+				byte[] data = new byte[this.uncompressedLength];
+
+				int length = 0;
+
+				while (length < data.length && !inflater.finished()) {
+
+					int count = inflater.inflate(data, length, data.length - length);
+
+					if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+						break;
+					}
+
+					length += count;
+				}
+
+				CRC32 crc = new CRC32();
+
+				crc.update(data, 0, length);
+
+				if (length != this.uncompressedLength || (int) crc.getValue() != this.checksum) {
+					throw new IOException(String.format("Snapshot container [%1$s] is corrupt; checksum of block"
+						+ " [%2$d] does not match", container, blockIndex));
+				}
+
+				return data;
+			}
+			catch (DataFormatException cause) {
+				throw new IOException(String.format("Snapshot container [%1$s] is corrupt; block [%2$d]"
+					+ " cannot be decompressed", container, blockIndex), cause);
+			}
+			finally {
+				inflater.end();
+			}
+		}
+
+		void writeTo(DataOutputStream out) throws IOException {
+			out.writeInt(this.uncompressedLength);
+			out.writeInt(this.compressedData.length);
+			out.writeInt(this.checksum);
+			out.write(this.compressedData);
+		}
+	}
+}
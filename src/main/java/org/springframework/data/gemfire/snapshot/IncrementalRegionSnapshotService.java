@@ -0,0 +1,551 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import static org.apache.geode.cache.snapshot.SnapshotOptions.SnapshotFormat;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.snapshot.RegionSnapshotService;
+import org.apache.geode.cache.snapshot.SnapshotOptions;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link IncrementalRegionSnapshotService} class exports a {@link Region} incrementally, as a full base snapshot
+ * followed by a sequence of delta snapshots, each containing only the entries created, updated or destroyed since
+ * the previous snapshot.
+ *
+ * Changes are tracked by a {@link org.apache.geode.cache.CacheListener} registered on the {@link Region}.  A delta
+ * consists of a GemFire snapshot file containing the created and updated entries, written with a
+ * {@link org.apache.geode.cache.snapshot.SnapshotFilter} accepting only the changed keys, and a file containing
+ * the keys of the destroyed (or invalidated) entries, which GemFire snapshots cannot represent.
+ *
+ * {@link #restore()} loads the base snapshot followed by each delta in the order the deltas were saved.
+ *
+ * Changes made before this service was initialized, or while it was not running, are unknown.  Therefore,
+ * the first {@link #save()} always saves a base snapshot, as does any {@link #save()} following a clear
+ * of the {@link Region} or after the configured maximum number of deltas has been reached.
+ *
+ * Only changes applied in this JVM are tracked, so {@link org.apache.geode.cache.DataPolicy#PARTITION PARTITION}
+ * {@link Region Regions}, whose entries are changed on the members hosting them, are not supported.  Nor are
+ * client {@link Region Regions}, which are exported from the servers, where the changed keys are unknown.
+ *
+ * @param <K> the class type of the Region key.
+ * @param <V> the class type of the Region value.
+ * @author agent
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.snapshot.RegionSnapshotService
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.beans.factory.InitializingBean
+ * @since 2.1.0
+ */
+@SuppressWarnings("unused")
+public class IncrementalRegionSnapshotService<K, V> implements InitializingBean, DisposableBean {
+
+	protected static final int UNLIMITED_DELTAS = 0;
+
+	protected static final String BASE_SNAPSHOT_FILENAME = "base.gfd";
+	protected static final String TEMPORARY_BASE_SNAPSHOT_FILENAME = "base.tmp.gfd";
+	protected static final String DELTA_SNAPSHOT_FILENAME_FORMAT = "delta-%06d.gfd";
+	protected static final String DESTROYED_KEYS_FILENAME_FORMAT = "delta-%06d.destroyed";
+
+	protected static final Pattern DELTA_SNAPSHOT_FILENAME_PATTERN = Pattern.compile("delta-(\\d{6})\\.gfd");
+
+	private volatile boolean baseRequired = true;
+	private volatile boolean restoring = false;
+
+	private volatile int maxDeltas = UNLIMITED_DELTAS;
+
+	private final File directory;
+
+	protected final Log log = LogFactory.getLog(getClass());
+
+	private final ReadWriteLock changeTrackingLock = new ReentrantReadWriteLock();
+
+	private final Region<K, V> region;
+
+	private final ChangeTrackingCacheListener cacheListener = new ChangeTrackingCacheListener();
+
+	private volatile Changes<K> changes = new Changes<>();
+
+	/**
+	 * Constructs an instance of {@link IncrementalRegionSnapshotService} saving snapshots of the given {@link Region}
+	 * to, and restoring them from, the given directory.
+	 *
+	 * @param region {@link Region} to snapshot.
+	 * @param directory directory containing the base and delta snapshots of the {@link Region}.
+	 * @throws IllegalArgumentException if either the {@link Region} or the directory is {@literal null}.
+	 */
+	public IncrementalRegionSnapshotService(Region<K, V> region, File directory) {
+
+		Assert.notNull(region, "Region must not be null");
+		Assert.notNull(directory, "Directory must not be null");
+
+		this.region = region;
+		this.directory = directory;
+	}
+
+	/**
+	 * Registers the {@link org.apache.geode.cache.CacheListener} tracking changes to the {@link Region}.
+	 *
+	 * @throws IllegalStateException if the {@link Region} is a client or a {@literal PARTITION} {@link Region}.
+	 * @see org.springframework.data.gemfire.util.RegionUtils#isClient(Region)
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		Assert.state(!RegionUtils.isClient(getRegion()), String.format(
+			"Incremental snapshots of client Region [%s] are not supported", getRegion().getFullPath()));
+
+		Assert.state(!PartitionRegionHelper.isPartitionedRegion(getRegion()), String.format(
+			"Incremental snapshots of PARTITION Region [%s] are not supported", getRegion().getFullPath()));
+
+		getRegion().getAttributesMutator().addCacheListener(this.cacheListener);
+	}
+
+	/**
+	 * Unregisters the {@link org.apache.geode.cache.CacheListener} tracking changes to the {@link Region}.
+	 */
+	@Override
+	public void destroy() {
+		getRegion().getAttributesMutator().removeCacheListener(this.cacheListener);
+	}
+
+	protected File getDirectory() {
+		return this.directory;
+	}
+
+	/**
+	 * Sets the maximum number of deltas saved after a base snapshot before {@link #save()} saves a new
+	 * base snapshot, bounding the time to {@link #restore()} the {@link Region}.  A value of {@literal 0},
+	 * the default, does not limit the number of deltas.
+	 *
+	 * @param maxDeltas maximum number of deltas saved after a base snapshot.
+	 */
+	public void setMaxDeltas(int maxDeltas) {
+		this.maxDeltas = Math.max(maxDeltas, UNLIMITED_DELTAS);
+	}
+
+	protected int getMaxDeltas() {
+		return this.maxDeltas;
+	}
+
+	protected Region<K, V> getRegion() {
+		return this.region;
+	}
+
+	protected RegionSnapshotService<K, V> getSnapshotService() {
+		return getRegion().getSnapshotService();
+	}
+
+	/**
+	 * Determines whether the next {@link #save()} must save a base snapshot.
+	 *
+	 * @return a boolean indicating whether the next {@link #save()} must save a base snapshot.
+	 */
+	public boolean isBaseRequired() {
+		return this.baseRequired || !getBaseSnapshot().isFile()
+			|| (getMaxDeltas() != UNLIMITED_DELTAS && getDeltaSnapshots().size() >= getMaxDeltas());
+	}
+
+	/**
+	 * Returns the base snapshot file.
+	 *
+	 * @return the base snapshot file.
+	 */
+	public File getBaseSnapshot() {
+		return new File(getDirectory(), BASE_SNAPSHOT_FILENAME);
+	}
+
+	/**
+	 * Returns the delta snapshot files in the order in which the deltas were saved.
+	 *
+	 * @return the delta snapshot files in the order in which the deltas were saved.
+	 */
+	public List<File> getDeltaSnapshots() {
+
+		File[] deltaSnapshots = getDirectory().listFiles(file -> file.isFile()
+			&& DELTA_SNAPSHOT_FILENAME_PATTERN.matcher(file.getName()).matches());
+
+		List<File> sortedDeltaSnapshots = new ArrayList<>(Arrays.asList(deltaSnapshots != null ? deltaSnapshots
+			: new File[0]));
+
+		sortedDeltaSnapshots.sort((one, two) -> Integer.compare(sequenceOf(one), sequenceOf(two)));
+
+		return sortedDeltaSnapshots;
+	}
+
+	private int sequenceOf(File deltaSnapshot) {
+
+		Matcher matcher = DELTA_SNAPSHOT_FILENAME_PATTERN.matcher(deltaSnapshot.getName());
+
+		return matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0;
+	}
+
+	private File toDestroyedKeysFile(File deltaSnapshot) {
+		return new File(deltaSnapshot.getParentFile(), String.format(DESTROYED_KEYS_FILENAME_FORMAT,
+			sequenceOf(deltaSnapshot)));
+	}
+
+	/**
+	 * Saves a base snapshot if {@link #isBaseRequired() required}, otherwise a delta.
+	 *
+	 * @return the saved base or delta snapshot file.
+	 * @throws ExportSnapshotException if the snapshot could not be saved.
+	 * @see #saveBase()
+	 * @see #saveDelta()
+	 */
+	public File save() {
+		return isBaseRequired() ? saveBase() : saveDelta();
+	}
+
+	/**
+	 * Saves a full snapshot of the {@link Region} as the new base snapshot and removes all existing deltas.
+	 *
+	 * The base snapshot is first written to a temporary file, which replaces the existing base snapshot only after
+	 * the existing deltas have been removed.  Therefore, a failure or crash while saving never leaves an incomplete
+	 * base snapshot, nor the new base snapshot combined with the deltas of the previous one, in the directory.
+	 *
+	 * @return the base snapshot file.
+	 * @throws ExportSnapshotException if the base snapshot could not be saved.
+	 */
+	public File saveBase() {
+
+		File baseSnapshot = getBaseSnapshot();
+		File temporaryBaseSnapshot = new File(getDirectory(), TEMPORARY_BASE_SNAPSHOT_FILENAME);
+
+		this.baseRequired = false;
+
+		resetChanges();
+
+		try {
+			createDirectory();
+			getSnapshotService().save(temporaryBaseSnapshot, SnapshotFormat.GEMFIRE);
+
+			List<File> deltaSnapshots = getDeltaSnapshots();
+
+			// remove the latest delta first so the remaining deltas always apply to the existing base snapshot
+			Collections.reverse(deltaSnapshots);
+
+			for (File deltaSnapshot : deltaSnapshots) {
+				deleteOrFail(deltaSnapshot);
+				deleteOrFail(toDestroyedKeysFile(deltaSnapshot));
+			}
+
+			move(temporaryBaseSnapshot, baseSnapshot);
+		}
+		catch (IOException | RuntimeException cause) {
+
+			this.baseRequired = true;
+			delete(temporaryBaseSnapshot);
+
+			throw new ExportSnapshotException(String.format("Failed to save base snapshot of Region [%1$s] to [%2$s]",
+				getRegion().getFullPath(), baseSnapshot), cause);
+		}
+
+		return baseSnapshot;
+	}
+
+	/**
+	 * Saves the entries created, updated or destroyed since the previous snapshot as a delta.
+	 *
+	 * @return the delta snapshot file.
+	 * @throws IllegalStateException if a base snapshot is required.
+	 * @throws ExportSnapshotException if the delta could not be saved.
+	 * @see #isBaseRequired()
+	 */
+	@SuppressWarnings("unchecked")
+	public File saveDelta() {
+
+		Assert.state(!this.baseRequired && getBaseSnapshot().isFile(),
+			String.format("A base snapshot of Region [%s] is required", getRegion().getFullPath()));
+
+		List<File> deltaSnapshots = getDeltaSnapshots();
+
+		int sequence = deltaSnapshots.isEmpty() ? 1 : sequenceOf(deltaSnapshots.get(deltaSnapshots.size() - 1)) + 1;
+
+		File deltaSnapshot = new File(getDirectory(), String.format(DELTA_SNAPSHOT_FILENAME_FORMAT, sequence));
+
+		Changes<K> changes = resetChanges();
+
+		try {
+
+			SnapshotOptions<K, V> options = getSnapshotService().createOptions()
+				.setFilter(entry -> changes.updatedKeys.contains(entry.getKey()));
+
+			getSnapshotService().save(deltaSnapshot, SnapshotFormat.GEMFIRE, options);
+			writeKeys(toDestroyedKeysFile(deltaSnapshot), changes.destroyedKeys);
+		}
+		catch (IOException | RuntimeException cause) {
+
+			// the changes are lost, so a new base snapshot must be saved
+			this.baseRequired = true;
+			delete(deltaSnapshot);
+
+			throw new ExportSnapshotException(String.format("Failed to save delta snapshot of Region [%1$s] to [%2$s]",
+				getRegion().getFullPath(), deltaSnapshot), cause);
+		}
+
+		if (this.log.isDebugEnabled()) {
+			this.log.debug(String.format("Saved delta snapshot [%1$s] of Region [%2$s] with [%3$d] updated"
+				+ " and [%4$d] destroyed entries", deltaSnapshot, getRegion().getFullPath(),
+					changes.updatedKeys.size(), changes.destroyedKeys.size()));
+		}
+
+		return deltaSnapshot;
+	}
+
+	/**
+	 * Restores the {@link Region} by loading the base snapshot followed by each delta in the order
+	 * in which the deltas were saved.
+	 *
+	 * Changes are not tracked while restoring, since the restored entries are already contained in the snapshots;
+	 * the {@link Region} must therefore not be changed by the application during the restore.  Unless
+	 * the {@link Region} was empty and the restore succeeded, the next {@link #save()} saves a base snapshot,
+	 * since the {@link Region} may then contain entries that are not contained in the snapshots.
+	 *
+	 * @throws ImportSnapshotException if the base snapshot does not exist or any snapshot could not be loaded.
+	 */
+	public void restore() {
+
+		File baseSnapshot = getBaseSnapshot();
+
+		if (!baseSnapshot.isFile()) {
+			throw new ImportSnapshotException(String.format("Base snapshot [%1$s] of Region [%2$s] does not exist",
+				baseSnapshot, getRegion().getFullPath()));
+		}
+
+		boolean empty = getRegion().isEmpty();
+		boolean restored = false;
+
+		this.restoring = true;
+
+		try {
+			restore(baseSnapshot);
+			restored = true;
+		}
+		finally {
+			resetChanges();
+			this.baseRequired = !(empty && restored);
+			this.restoring = false;
+		}
+	}
+
+	private void restore(File baseSnapshot) {
+
+		load(baseSnapshot);
+
+		for (File deltaSnapshot : getDeltaSnapshots()) {
+
+			load(deltaSnapshot);
+
+			File destroyedKeysFile = toDestroyedKeysFile(deltaSnapshot);
+
+			if (destroyedKeysFile.isFile()) {
+				try {
+					getRegion().removeAll(readKeys(destroyedKeysFile));
+				}
+				catch (IOException | ClassNotFoundException | RuntimeException cause) {
+					throw new ImportSnapshotException(String.format(
+						"Failed to remove destroyed entries [%1$s] from Region [%2$s]",
+							destroyedKeysFile, getRegion().getFullPath()), cause);
+				}
+			}
+		}
+	}
+
+	private void load(File snapshot) {
+
+		try {
+			getSnapshotService().load(snapshot, SnapshotFormat.GEMFIRE);
+		}
+		catch (IOException | ClassNotFoundException | RuntimeException cause) {
+			throw new ImportSnapshotException(String.format("Failed to load snapshot [%1$s] into Region [%2$s]",
+				snapshot, getRegion().getFullPath()), cause);
+		}
+	}
+
+	private Changes<K> resetChanges() {
+
+		this.changeTrackingLock.writeLock().lock();
+
+		try {
+			Changes<K> changes = this.changes;
+			this.changes = new Changes<>();
+			return changes;
+		}
+		finally {
+			this.changeTrackingLock.writeLock().unlock();
+		}
+	}
+
+	private void trackChange(Runnable change) {
+
+		if (this.restoring) {
+			return;
+		}
+
+		this.changeTrackingLock.readLock().lock();
+
+		try {
+			change.run();
+		}
+		finally {
+			this.changeTrackingLock.readLock().unlock();
+		}
+	}
+
+	private void createDirectory() throws IOException {
+
+		if (!(getDirectory().isDirectory() || getDirectory().mkdirs())) {
+			throw new IOException(String.format("Failed to create directory [%s]", getDirectory()));
+		}
+	}
+
+	private void delete(File file) {
+
+		if (file.exists() && !file.delete() && this.log.isWarnEnabled()) {
+			this.log.warn(String.format("Failed to delete [%s]", file));
+		}
+	}
+
+	private void deleteOrFail(File file) throws IOException {
+		Files.deleteIfExists(file.toPath());
+	}
+
+	private void move(File source, File target) throws IOException {
+
+		try {
+			Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE,
+				StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (AtomicMoveNotSupportedException ignore) {
+			Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private void writeKeys(File file, Set<K> keys) throws IOException {
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+
+			out.writeInt(keys.size());
+
+			for (K key : keys) {
+				DataSerializer.writeObject(key, out);
+			}
+		}
+	}
+
+	private List<K> readKeys(File file) throws IOException, ClassNotFoundException {
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+
+			int size = in.readInt();
+
+			List<K> keys = new ArrayList<>(size);
+
+			for (int index = 0; index < size; index++) {
+				keys.add(DataSerializer.readObject(in));
+			}
+
+			return Collections.unmodifiableList(keys);
+		}
+	}
+
+	/**
+	 * Keys of the entries updated and destroyed since the previous snapshot; a key is in at most one of both sets.
+	 */
+	static class Changes<K> {
+
+		final Set<K> destroyedKeys = ConcurrentHashMap.newKeySet();
+		final Set<K> updatedKeys = ConcurrentHashMap.newKeySet();
+
+		void destroyed(K key) {
+			this.updatedKeys.remove(key);
+			this.destroyedKeys.add(key);
+		}
+
+		void updated(K key) {
+			this.destroyedKeys.remove(key);
+			this.updatedKeys.add(key);
+		}
+	}
+
+	class ChangeTrackingCacheListener extends CacheListenerAdapter<K, V> {
+
+		@Override
+		public void afterCreate(EntryEvent<K, V> event) {
+			trackChange(() -> changes.updated(event.getKey()));
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<K, V> event) {
+			trackChange(() -> changes.updated(event.getKey()));
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<K, V> event) {
+			trackChange(() -> changes.destroyed(event.getKey()));
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<K, V> event) {
+			trackChange(() -> changes.destroyed(event.getKey()));
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<K, V> event) {
+			baseRequired = true;
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<K, V> event) {
+			baseRequired = true;
+		}
+	}
+}
@@ -23,36 +23,62 @@ import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newI
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
 import java.io.Closeable;
-import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.PartitionAttributes;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.snapshot.CacheSnapshotService;
 import org.apache.geode.cache.snapshot.RegionSnapshotService;
 import org.apache.geode.cache.snapshot.SnapshotFilter;
 import org.apache.geode.cache.snapshot.SnapshotOptions;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.ApplicationListener;
+import org.springframework.data.gemfire.util.LatencyHistogram;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent;
 import org.springframework.data.gemfire.support.AbstractFactoryBeanSupport;
 import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -65,6 +91,7 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.FactoryBean
  * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.context.ApplicationEventPublisherAware
  * @see org.springframework.context.ApplicationListener
  * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
  * @see org.apache.geode.cache.snapshot.CacheSnapshotService
@@ -73,14 +100,21 @@ import org.springframework.util.StringUtils;
  */
 @SuppressWarnings("unused")
 public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport<SnapshotServiceAdapter<K, V>>
-		implements InitializingBean, DisposableBean, ApplicationListener<SnapshotApplicationEvent<K, V>> {
+		implements InitializingBean, DisposableBean, ApplicationEventPublisherAware,
+			ApplicationListener<SnapshotApplicationEvent<K, V>> {
 
 	protected static final SnapshotMetadata[] EMPTY_ARRAY = new SnapshotMetadata[0];
 
+	private ApplicationEventPublisher applicationEventPublisher;
+
 	private Boolean suppressImportOnInit;
 
 	private Cache cache;
 
+	private Integer maxConcurrency;
+
+	private Long progressInterval;
+
 	private Region<K, V> region;
 
 	private SnapshotMetadata<K, V>[] exports;
@@ -138,9 +172,21 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 */
 	protected SnapshotServiceAdapter create() {
 
-		return Optional.ofNullable(getRegion())
+		SnapshotServiceAdapter snapshotServiceAdapter = Optional.ofNullable(getRegion())
 			.<SnapshotServiceAdapter>map(region -> wrap(region.getSnapshotService()))
 			.orElseGet(() -> wrap(getCache().getSnapshotService()));
+
+		if (snapshotServiceAdapter instanceof SnapshotServiceAdapterSupport) {
+
+			SnapshotServiceAdapterSupport snapshotServiceAdapterSupport =
+				(SnapshotServiceAdapterSupport) snapshotServiceAdapter;
+
+			snapshotServiceAdapterSupport.setApplicationEventPublisher(this.applicationEventPublisher);
+			snapshotServiceAdapterSupport.setMaxConcurrency(getMaxConcurrency());
+			snapshotServiceAdapterSupport.setProgressInterval(getProgressInterval());
+		}
+
+		return snapshotServiceAdapter;
 	}
 
 	/**
@@ -154,7 +200,7 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 * @see org.apache.geode.cache.snapshot.CacheSnapshotService
 	 */
 	protected SnapshotServiceAdapter<Object, Object> wrap(CacheSnapshotService cacheSnapshotService) {
-		return new CacheSnapshotServiceAdapter(cacheSnapshotService);
+		return new CacheSnapshotServiceAdapter(cacheSnapshotService, this.cache);
 	}
 
 	/**
@@ -168,7 +214,19 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 * @see org.apache.geode.cache.snapshot.RegionSnapshotService
 	 */
 	protected SnapshotServiceAdapter<K, V> wrap(RegionSnapshotService<K, V> regionSnapshotService) {
-		return new RegionSnapshotServiceAdapter<>(regionSnapshotService);
+		return new RegionSnapshotServiceAdapter<>(regionSnapshotService, getRegion());
+	}
+
+	/**
+	 * Sets the {@link ApplicationEventPublisher} used to publish {@link SnapshotProgressApplicationEvent
+	 * SnapshotProgressApplicationEvents} while importing and exporting snapshots.
+	 *
+	 * @param applicationEventPublisher {@link ApplicationEventPublisher} used to publish progress events.
+	 * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent
+	 */
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
 	/**
@@ -239,6 +297,53 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 		return nullSafeArray(imports);
 	}
 
+	/**
+	 * Sets the maximum number of snapshot files imported or exported concurrently.  When greater than {@literal 1},
+	 * independent Regions and snapshot files are imported and exported in parallel by a bounded pool
+	 * of worker threads, importing Regions colocated with a {@literal PARTITION} Region after the Region
+	 * they are colocated with.  Defaults to {@literal 1}, processing snapshots one after another
+	 * on the calling thread.
+	 *
+	 * @param maxConcurrency maximum number of snapshot files imported or exported concurrently.
+	 * @see #getMaxConcurrency()
+	 */
+	public void setMaxConcurrency(Integer maxConcurrency) {
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	/**
+	 * Returns the maximum number of snapshot files imported or exported concurrently.
+	 *
+	 * @return the maximum number of snapshot files imported or exported concurrently.
+	 * @see #setMaxConcurrency(Integer)
+	 */
+	protected int getMaxConcurrency() {
+		return Optional.ofNullable(this.maxConcurrency).filter(maxConcurrency -> maxConcurrency > 0)
+			.orElse(SnapshotServiceAdapterSupport.DEFAULT_MAX_CONCURRENCY);
+	}
+
+	/**
+	 * Sets the minimum interval, in milliseconds, between {@link SnapshotProgressApplicationEvent progress events}
+	 * published while a snapshot file is being imported or exported.  Defaults to {@literal 1000} milliseconds.
+	 *
+	 * @param progressInterval minimum interval in milliseconds between progress events for a snapshot file.
+	 * @see #getProgressInterval()
+	 */
+	public void setProgressInterval(Long progressInterval) {
+		this.progressInterval = progressInterval;
+	}
+
+	/**
+	 * Returns the minimum interval, in milliseconds, between progress events for a snapshot file.
+	 *
+	 * @return the minimum interval in milliseconds between progress events for a snapshot file.
+	 * @see #setProgressInterval(Long)
+	 */
+	protected long getProgressInterval() {
+		return Optional.ofNullable(this.progressInterval).filter(progressInterval -> progressInterval >= 0L)
+			.orElse(SnapshotServiceAdapterSupport.DEFAULT_PROGRESS_INTERVAL);
+	}
+
 	/**
 	 * Sets a reference to the GemFire Region for which the snapshot will be taken.
 	 *
@@ -366,7 +471,8 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 
 	/**
 	 * Determines whether the details of the given SnapshotApplicationEvent match the criteria of this factory
-	 * to trigger a GemFire Cache or Region data export.
+	 * to trigger a GemFire Cache or Region data export.  {@link SnapshotProgressApplicationEvent
+	 * SnapshotProgressApplicationEvents} never match.
 	 *
 	 * @param event the SnapshotApplicationEvent containing details of the application requested data export.
 	 * @return a boolean value indicating whether the application requested snapshot event details match
@@ -374,7 +480,8 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 * @see SnapshotApplicationEvent
 	 */
 	protected boolean isMatch(SnapshotApplicationEvent event) {
-		return (event.isCacheSnapshotEvent() || event.matches(getRegion()));
+		return (!(event instanceof SnapshotProgressApplicationEvent)
+			&& (event.isCacheSnapshotEvent() || event.matches(getRegion())));
 	}
 
 	/**
@@ -433,14 +540,58 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 */
 	protected static abstract class SnapshotServiceAdapterSupport<K, V> implements SnapshotServiceAdapter<K, V> {
 
+		protected static final int COPY_CHUNK_SIZE = 8 * 1024 * 1024;
+		protected static final int DEFAULT_MAX_CONCURRENCY = 1;
+		protected static final int MAX_COLOCATION_DEPTH = 64;
+
+		// GemFire only loads snapshot files with this extension
+		protected static final String SNAPSHOT_FILE_EXTENSION = ".gfd";
+
+		protected static final long DEFAULT_PROGRESS_INTERVAL = 1000L;
+
+		private static final ThreadLocal<RunningSnapshotTask> CURRENT_TASK = new ThreadLocal<>();
+
 		protected static final File TEMPORARY_DIRECTORY = new File(System.getProperty("java.io.tmpdir"));
 
 		protected final Log log = createLog();
 
+		private volatile ApplicationEventPublisher applicationEventPublisher;
+
+		private final CompressedSnapshotContainer compressedSnapshotContainer = new CompressedSnapshotContainer();
+
+		private volatile int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+		private volatile long progressInterval = DEFAULT_PROGRESS_INTERVAL;
+
+		private final Map<SnapshotProgressApplicationEvent.Operation, LatencyHistogram> durations =
+			stream(SnapshotProgressApplicationEvent.Operation.values()).collect(Collectors.toMap(Function.identity(),
+				operation -> new LatencyHistogram(), (one, two) -> one,
+					() -> new EnumMap<>(SnapshotProgressApplicationEvent.Operation.class)));
+
 		Log createLog() {
 			return LogFactory.getLog(getClass());
 		}
 
+		public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+			this.applicationEventPublisher = applicationEventPublisher;
+		}
+
+		protected Optional<ApplicationEventPublisher> getApplicationEventPublisher() {
+			return Optional.ofNullable(this.applicationEventPublisher);
+		}
+
+		public void setMaxConcurrency(int maxConcurrency) {
+			this.maxConcurrency = Math.max(maxConcurrency, DEFAULT_MAX_CONCURRENCY);
+		}
+
+		public int getMaxConcurrency() {
+			return this.maxConcurrency;
+		}
+
+		protected boolean isConcurrent() {
+			return getMaxConcurrency() > DEFAULT_MAX_CONCURRENCY;
+		}
+
 		@Override
 		public SnapshotOptions<K, V> createOptions() {
 			throw new UnsupportedOperationException("not implemented");
@@ -448,76 +599,622 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 
 		protected SnapshotOptions<K, V> createOptions(SnapshotMetadata<K, V> metadata) {
 
+			SnapshotFilter<K, V> filter = isProgressTracked(metadata)
+				? new ProgressTrackingSnapshotFilter<>(this, metadata.getFilter())
+				: metadata.getFilter();
+
 			return createOptions()
 				.invokeCallbacks(metadata.isInvokeCallbacks())
-				.setFilter(metadata.getFilter())
+				.setFilter(filter)
 				.setParallelMode(metadata.isParallel());
 		}
 
+		/**
+		 * Determines whether the entries imported or exported with the given snapshot configuration are counted
+		 * to report progress, which requires an {@link ApplicationEventPublisher} and is not possible
+		 * in parallel mode, where the entries are imported or exported by each member of the cluster,
+		 * nor when the snapshot filter is applied by other members or servers.
+		 *
+		 * @see #isFilteredRemotely()
+		 */
+		protected boolean isProgressTracked(SnapshotMetadata<K, V> metadata) {
+			return getApplicationEventPublisher().isPresent() && !metadata.isParallel() && !isFilteredRemotely();
+		}
+
+		/**
+		 * Determines whether the snapshot filter may be serialized and applied by other members or servers,
+		 * on threads where the entries cannot be counted for the snapshot task running in this JVM.
+		 */
+		protected boolean isFilteredRemotely() {
+			return false;
+		}
+
+		/**
+		 * Determines whether GemFire applies the snapshot filter for the given Region on other members or servers,
+		 * which is the case for {@literal PARTITION} Regions, whose entries are exported from the members
+		 * hosting the buckets, and client Regions, whose entries are exported by the server.
+		 */
+		protected static boolean isFilteredRemotely(Region<?, ?> region) {
+
+			return RegionUtils.isClient(region) || Optional.ofNullable(region)
+				.map(Region::getAttributes)
+				.map(RegionAttributes::getDataPolicy)
+				.filter(DataPolicy::withPartitioning)
+				.isPresent();
+		}
+
+		public void setProgressInterval(long progressInterval) {
+			this.progressInterval = Math.max(progressInterval, 0L);
+		}
+
+		/**
+		 * Returns the minimum interval, in milliseconds, between progress events published for a snapshot file
+		 * while it is being imported or exported.
+		 */
+		public long getProgressInterval() {
+			return this.progressInterval;
+		}
+
+		/**
+		 * Returns the {@link LatencyHistogram} of the durations of the imports or exports of single snapshot files
+		 * completed by this Snapshot Service.
+		 */
+		public LatencyHistogram getDurations(SnapshotProgressApplicationEvent.Operation operation) {
+			return this.durations.get(operation);
+		}
+
 		@Override
 		@SuppressWarnings("unchecked")
 		public void doExport(SnapshotMetadata<K, V>... configurations) {
 
-			stream(nullSafeArray(configurations)).forEach(configuration ->
-				save(configuration.getLocation(), configuration.getFormat(), createOptions(configuration)));
+			SnapshotMetadata<K, V>[] resolvedConfigurations = nullSafeArray(configurations);
+
+			execute(SnapshotProgressApplicationEvent.Operation.EXPORT, isConcurrent()
+				? newConcurrentExportTasks(resolvedConfigurations)
+				: stream(resolvedConfigurations).map(configuration -> new SnapshotTask(configuration.getLocation(),
+					resolveRegion(configuration.getLocation()), () -> save(configuration,
+						createOptions(configuration))))
+					.collect(Collectors.toList()));
+		}
+
+		/**
+		 * Creates the tasks exporting the given snapshot configurations concurrently; by default,
+		 * one task per configuration.
+		 */
+		protected List<SnapshotTask> newConcurrentExportTasks(SnapshotMetadata<K, V>[] configurations) {
+
+			return stream(configurations).map(configuration -> {
+
+				SnapshotOptions<K, V> options = createOptions(configuration);
+
+				return new SnapshotTask(configuration.getLocation(), resolveRegion(configuration.getLocation()),
+					() -> save(configuration, options));
+
+			}).collect(Collectors.toList());
+		}
+
+		/**
+		 * Exports the given snapshot configuration, compressing the exported snapshots into
+		 * {@link CompressedSnapshotContainer containers} if the configuration's
+		 * {@link SnapshotMetadata#getContainerFormat() container format} is
+		 * {@link SnapshotMetadata.ContainerFormat#COMPRESSED}.
+		 */
+		protected void save(SnapshotMetadata<K, V> configuration, SnapshotOptions<K, V> options) {
+
+			if (configuration.isCompressed()) {
+				try {
+					saveCompressed(configuration.getLocation(), isDirectoryExport(),
+						stagedLocation -> save(stagedLocation, configuration.getFormat(), options));
+				}
+				catch (ExportSnapshotException cause) {
+					throw cause;
+				}
+				catch (Exception cause) {
+					throw new ExportSnapshotException(String.format("Failed to save compressed snapshot to [%s]",
+						configuration.getLocation()), cause);
+				}
+			}
+			else {
+				save(configuration.getLocation(), configuration.getFormat(), options);
+			}
+		}
+
+		/**
+		 * Determines whether {@link #save(File, SnapshotFormat, SnapshotOptions)} exports to a directory
+		 * rather than a single file.
+		 */
+		protected boolean isDirectoryExport() {
+			return false;
+		}
+
+		/**
+		 * Saves snapshots to a staging location using the given {@link SnapshotSaver} and then compresses
+		 * the snapshot file, or each snapshot file in the staging directory, into a container at the given location.
+		 */
+		protected void saveCompressed(File location, boolean directory, SnapshotSaver saver) throws Exception {
+
+			File stagingDirectory =
+				Files.createTempDirectory(getStagingDirectory().toPath(), "snapshot-export-").toFile();
+
+			try {
+				if (directory) {
+
+					saver.save(stagingDirectory);
+
+					Assert.state(location.isDirectory() || location.mkdirs(),
+						String.format("Failed to create directory [%s] to export snapshots", location));
+
+					for (File stagedSnapshot : nullSafeFiles(handleDirectoryLocation(stagingDirectory))) {
+						getCompressedSnapshotContainer().compress(stagedSnapshot,
+							new File(location, stagedSnapshot.getName()));
+					}
+				}
+				else {
+
+					File stagedSnapshot = new File(stagingDirectory, location.getName());
+
+					saver.save(stagedSnapshot);
+					getCompressedSnapshotContainer().compress(stagedSnapshot, location);
+				}
+			}
+			finally {
+				deleteRecursive(stagingDirectory);
+			}
+		}
+
+		/**
+		 * Returns the {@link CompressedSnapshotContainer} shared by all imports and exports of this
+		 * Snapshot Service, whose threads bound the number of blocks compressed or decompressed at once,
+		 * however many snapshot files are processed concurrently.
+		 */
+		protected CompressedSnapshotContainer getCompressedSnapshotContainer() {
+			return this.compressedSnapshotContainer;
+		}
+
+		/**
+		 * Loads the given snapshot files, decompressing any {@link CompressedSnapshotContainer containers}
+		 * into temporary files first, which are deleted once loaded.
+		 */
+		protected void loadSnapshots(SnapshotFormat format, SnapshotOptions<K, V> options, File... snapshots) {
+
+			List<File> stagedSnapshots = new ArrayList<>();
+
+			try {
+
+				File[] resolvedSnapshots = snapshots;
+
+				for (int index = 0; index < nullSafeFiles(snapshots).length; index++) {
+
+					File snapshot = snapshots[index];
+
+					if (CompressedSnapshotContainer.isContainer(snapshot)) {
+
+						File stagedSnapshot = Files.createTempFile(getStagingDirectory().toPath(),
+							snapshot.getName(), SNAPSHOT_FILE_EXTENSION).toFile();
+
+						stagedSnapshots.add(stagedSnapshot);
+						getCompressedSnapshotContainer().decompress(snapshot, stagedSnapshot);
+
+						resolvedSnapshots = resolvedSnapshots == snapshots ? snapshots.clone() : resolvedSnapshots;
+						resolvedSnapshots[index] = stagedSnapshot;
+					}
+				}
+
+				load(format, options, resolvedSnapshots);
+			}
+			catch (IOException cause) {
+				throw new ImportSnapshotException(String.format("Failed to decompress snapshots %s",
+					Arrays.toString(snapshots)), cause);
+			}
+			finally {
+				stagedSnapshots.forEach(this::deleteRecursive);
+			}
+		}
+
+		protected void deleteRecursive(File file) {
+
+			File[] files = file.isDirectory() ? file.listFiles() : null;
+
+			for (File child : nullSafeFiles(files)) {
+				deleteRecursive(child);
+			}
+
+			if (file.exists() && !file.delete()) {
+				file.deleteOnExit();
+			}
 		}
 
 		@Override
 		@SuppressWarnings("unchecked")
 		public void doImport(SnapshotMetadata<K, V>... configurations) {
 
-			stream(nullSafeArray(configurations)).forEach(configuration ->
-				load(configuration.getFormat(), createOptions(configuration), handleLocation(configuration)));
+			SnapshotMetadata<K, V>[] resolvedConfigurations = nullSafeArray(configurations);
+
+			execute(SnapshotProgressApplicationEvent.Operation.IMPORT, isConcurrent()
+				? newConcurrentImportTasks(resolvedConfigurations)
+				: newImportTasks(resolvedConfigurations));
 		}
 
-		protected abstract File[] handleLocation(SnapshotMetadata<K, V> configuration);
+		/**
+		 * Creates the tasks importing the given snapshot configurations one after another; by default,
+		 * one task per configuration, or one task per entry of an archive.
+		 */
+		protected List<SnapshotTask> newImportTasks(SnapshotMetadata<K, V>[] configurations) {
 
-		protected File[] handleDirectoryLocation(File directory) {
-			return directory.listFiles(pathname -> nullSafeIsFile(pathname));
+			List<SnapshotTask> tasks = new ArrayList<>();
+
+			for (SnapshotMetadata<K, V> configuration : configurations) {
+				if (isArchiveLocation(configuration)) {
+					tasks.addAll(newArchiveImportTasks(configuration));
+				}
+				else {
+
+					SnapshotOptions<K, V> options = createOptions(configuration);
+
+					tasks.add(new SnapshotTask(configuration.getLocation(), resolveRegion(configuration.getLocation()),
+						() -> loadSnapshots(configuration.getFormat(), options, handleLocation(configuration))));
+				}
+			}
+
+			return tasks;
 		}
 
-		protected File[] handleFileLocation(File file) {
+		/**
+		 * Creates the tasks importing the given snapshot configurations concurrently, one task per snapshot file.
+		 */
+		protected List<SnapshotTask> newConcurrentImportTasks(SnapshotMetadata<K, V>[] configurations) {
+
+			List<SnapshotTask> tasks = new ArrayList<>();
+
+			for (SnapshotMetadata<K, V> configuration : configurations) {
+				if (isArchiveLocation(configuration)) {
+					tasks.addAll(newArchiveImportTasks(configuration));
+				}
+				else {
+
+					SnapshotOptions<K, V> options = createOptions(configuration);
+
+					for (File snapshot : nullSafeFiles(handleLocation(configuration))) {
+						tasks.add(new SnapshotTask(snapshot, resolveRegion(snapshot),
+							() -> loadSnapshots(configuration.getFormat(), options, snapshot)));
+					}
+				}
+			}
+
+			return tasks;
+		}
+
+		/**
+		 * Determines whether the given snapshot configuration refers to an archive (ZIP or JAR) of snapshot files
+		 * imported entry by entry.  Archives are not supported by default.
+		 */
+		protected boolean isArchiveLocation(SnapshotMetadata<K, V> configuration) {
+			return false;
+		}
+
+		/**
+		 * Creates one task per snapshot file contained in the archive of the given snapshot configuration.
+		 *
+		 * Each task stages only its own archive entry as a temporary file, which is required by GemFire's
+		 * snapshot API, loads it and then deletes it, so that at most {@link #getMaxConcurrency()} entries
+		 * occupy temporary disk space at any time rather than the entire uncompressed archive.
+		 */
+		protected List<SnapshotTask> newArchiveImportTasks(SnapshotMetadata<K, V> configuration) {
+
+			File archive = configuration.getLocation();
+
+			SnapshotOptions<K, V> options = createOptions(configuration);
+
+			try (ZipFile zipFile = openArchive(archive)) {
+
+				return zipFile.stream()
+					.filter(entry -> !entry.isDirectory())
+					.map(entry -> {
+
+						File snapshot = new File(archive, toSimpleFilename(entry.getName()));
+
+						return new SnapshotTask(snapshot, resolveRegion(snapshot),
+							() -> loadArchiveEntry(configuration.getFormat(), options, archive, entry.getName()));
+
+					})
+					.collect(Collectors.toList());
+			}
+			catch (IOException cause) {
+				throw new ImportSnapshotException(String.format("Failed to read archive [%s] to import", archive),
+					cause);
+			}
+		}
+
+		private void loadArchiveEntry(SnapshotFormat format, SnapshotOptions<K, V> options, File archive,
+				String entryName) {
+
+			File stagedSnapshot = null;
+
+			try {
+				try (ZipFile zipFile = openArchive(archive)) {
+
+					ZipEntry entry = zipFile.getEntry(entryName);
+
+					if (entry == null) {
+						throw new ImportSnapshotException(String.format("Archive [%1$s] no longer contains entry [%2$s]",
+							archive, entryName));
+					}
+
+					stagedSnapshot = Files.createTempFile(getStagingDirectory().toPath(),
+						toSimpleFilename(entryName), SNAPSHOT_FILE_EXTENSION).toFile();
+
+					try (InputStream entryInputStream = zipFile.getInputStream(entry)) {
+						copy(entryInputStream, stagedSnapshot);
+					}
+				}
+
+				loadSnapshots(format, options, stagedSnapshot);
+			}
+			catch (IOException cause) {
+				throw new ImportSnapshotException(String.format("Failed to import entry [%1$s] from archive [%2$s]",
+					entryName, archive), cause);
+			}
+			finally {
+				if (stagedSnapshot != null && !stagedSnapshot.delete()) {
+					stagedSnapshot.deleteOnExit();
+				}
+			}
+		}
+
+		/**
+		 * Returns the directory in which archive entries and compressed snapshots are staged
+		 * while being imported or exported.
+		 */
+		protected File getStagingDirectory() {
+			return TEMPORARY_DIRECTORY;
+		}
+
+		protected ZipFile openArchive(File archive) throws IOException {
+
+			return (ArchiveFileFilter.INSTANCE.isJarFile(archive)
+				? new JarFile(archive, false, JarFile.OPEN_READ)
+				: new ZipFile(archive, ZipFile.OPEN_READ));
+		}
+
+		/**
+		 * Copies the given stream to the target file through a {@link FileChannel} in large chunks,
+		 * without any intermediate buffering streams.
+		 */
+		protected long copy(InputStream in, File target) throws IOException {
+
+			long position = 0L;
+
+			try (FileChannel targetChannel = FileChannel.open(target.toPath(), StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+				ReadableByteChannel sourceChannel = Channels.newChannel(in);
+
+				for (long count = targetChannel.transferFrom(sourceChannel, position, COPY_CHUNK_SIZE); count > 0;
+						count = targetChannel.transferFrom(sourceChannel, position, COPY_CHUNK_SIZE)) {
+
+					position += count;
+				}
+			}
+
+			return position;
+		}
+
+		/**
+		 * Runs the given snapshot tasks, one after another on the calling thread, or concurrently
+		 * on a bounded pool of worker threads if {@link #isConcurrent()}, in which case tasks for Regions
+		 * colocated with a {@literal PARTITION} Region only start after the tasks for that Region complete.
+		 */
+		protected void execute(SnapshotProgressApplicationEvent.Operation operation, List<SnapshotTask> tasks) {
+
+			AtomicInteger completedCount = new AtomicInteger(0);
+
+			int totalCount = tasks.size();
+
+			if (!isConcurrent() || totalCount < 2) {
+				tasks.forEach(task -> run(operation, task, completedCount, totalCount));
+			}
+			else {
+
+				Map<Integer, List<SnapshotTask>> tasksByColocationDepth = tasks.stream()
+					.collect(Collectors.groupingBy(task -> colocationDepthOf(task.getRegion()), TreeMap::new,
+						Collectors.toList()));
+
+				ExecutorService executorService = newExecutorService(Math.min(getMaxConcurrency(), totalCount));
 
-			if (ArchiveFileFilter.INSTANCE.accept(file)) {
 				try {
+					for (List<SnapshotTask> colocatedTasks : tasksByColocationDepth.values()) {
 
-					File extractedArchiveDirectory =
-						new File(TEMPORARY_DIRECTORY, file.getName().replaceAll("\\.", "-"));
+						List<Future<?>> futures = colocatedTasks.stream()
+							.map(task -> executorService.submit(() -> run(operation, task, completedCount, totalCount)))
+							.collect(Collectors.toList());
 
-					Assert.state(extractedArchiveDirectory.isDirectory() || extractedArchiveDirectory.mkdirs(),
-						String.format("Failed create directory (%1$s) in which to extract archive (%2$s)",
-							extractedArchiveDirectory, file));
+						awaitAll(operation, futures);
+					}
+				}
+				finally {
+					executorService.shutdownNow();
+				}
+			}
+		}
 
-					ZipFile zipFile = (ArchiveFileFilter.INSTANCE.isJarFile(file)
-						? new JarFile(file, false, JarFile.OPEN_READ)
-							: new ZipFile(file, ZipFile.OPEN_READ));
+		protected ExecutorService newExecutorService(int poolSize) {
 
-					for (ZipEntry entry : CollectionUtils.iterable(zipFile.entries())) {
-						if (!entry.isDirectory()) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("SnapshotService-");
 
-							DataInputStream entryInputStream = new DataInputStream(zipFile.getInputStream(entry));
+			threadFactory.setDaemon(true);
 
-							DataOutputStream entryOutputStream = new DataOutputStream(new FileOutputStream(
-								new File(extractedArchiveDirectory, toSimpleFilename(entry.getName()))));
+			return Executors.newFixedThreadPool(poolSize, threadFactory);
+		}
 
-							try {
-								FileCopyUtils.copy(entryInputStream, entryOutputStream);
-							}
-							finally {
-								exceptionSuppressingClose(entryInputStream);
-								exceptionSuppressingClose(entryOutputStream);
-							}
-						}
+		private void awaitAll(SnapshotProgressApplicationEvent.Operation operation, List<Future<?>> futures) {
+
+			RuntimeException failure = null;
+
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException cause) {
+
+					RuntimeException taskFailure = cause.getCause() instanceof RuntimeException
+						? (RuntimeException) cause.getCause()
+						: newSnapshotException(operation, "Snapshot task failed", cause.getCause());
+
+					if (failure == null) {
+						failure = taskFailure;
 					}
+					else {
+						failure.addSuppressed(taskFailure);
+					}
+				}
+				catch (InterruptedException cause) {
+					Thread.currentThread().interrupt();
+					futures.forEach(it -> it.cancel(true));
+					throw newSnapshotException(operation, "Interrupted while waiting for snapshot tasks to complete",
+						cause);
+				}
+			}
+
+			if (failure != null) {
+				throw failure;
+			}
+		}
+
+		private RuntimeException newSnapshotException(SnapshotProgressApplicationEvent.Operation operation,
+				String message, Throwable cause) {
+
+			return SnapshotProgressApplicationEvent.Operation.IMPORT.equals(operation)
+				? new ImportSnapshotException(message, cause)
+				: new ExportSnapshotException(message, cause);
+		}
+
+		private void run(SnapshotProgressApplicationEvent.Operation operation, SnapshotTask task,
+				AtomicInteger completedCount, int totalCount) {
+
+			task.start(expectedEntryCountOf(operation, task));
+
+			publishProgress(operation, SnapshotProgressApplicationEvent.Status.STARTED, task,
+				completedCount.get(), totalCount, null);
+
+			CURRENT_TASK.set(new RunningSnapshotTask(operation, task, completedCount, totalCount));
+
+			try {
+				task.run();
+				getDurations(operation).record(task.getElapsedNanos());
+				publishProgress(operation, SnapshotProgressApplicationEvent.Status.COMPLETED, task,
+					completedCount.incrementAndGet(), totalCount, null);
+			}
+			catch (RuntimeException cause) {
+				publishProgress(operation, SnapshotProgressApplicationEvent.Status.FAILED, task,
+					completedCount.incrementAndGet(), totalCount, cause);
+				throw cause;
+			}
+			finally {
+				CURRENT_TASK.remove();
+			}
+		}
+
+		/**
+		 * Returns the number of entries expected to be exported for the given task, which is the size
+		 * of the task's Region, or {@link SnapshotProgressApplicationEvent#UNKNOWN} when importing or if
+		 * the Region is not known.
+		 */
+		protected long expectedEntryCountOf(SnapshotProgressApplicationEvent.Operation operation, SnapshotTask task) {
+
+			return SnapshotProgressApplicationEvent.Operation.EXPORT.equals(operation) && task.getRegion() != null
+				? task.getRegion().size()
+				: SnapshotProgressApplicationEvent.UNKNOWN;
+		}
+
+		/**
+		 * Counts an entry accepted for import or export by the snapshot task running on the current thread,
+		 * publishing its progress if the progress interval has elapsed.
+		 */
+		void trackEntry() {
+
+			RunningSnapshotTask runningTask = CURRENT_TASK.get();
+
+			if (runningTask != null) {
+
+				runningTask.task.incrementEntryCount();
+
+				if (runningTask.task.isProgressDue(TimeUnit.MILLISECONDS.toNanos(getProgressInterval()))) {
+					publishProgress(runningTask.operation, SnapshotProgressApplicationEvent.Status.IN_PROGRESS,
+						runningTask.task, runningTask.completedCount.get(), runningTask.totalCount, null);
+				}
+			}
+		}
 
-					return handleDirectoryLocation(extractedArchiveDirectory);
+		private void publishProgress(SnapshotProgressApplicationEvent.Operation operation,
+				SnapshotProgressApplicationEvent.Status status, SnapshotTask task, int completedCount, int totalCount,
+				Throwable failure) {
+
+			getApplicationEventPublisher().ifPresent(applicationEventPublisher -> {
+				try {
+					applicationEventPublisher.publishEvent(new SnapshotProgressApplicationEvent<K, V>(this,
+						task.getRegionPath(), operation, status, task.getSnapshot(), completedCount, totalCount,
+							failure, task.getEntryCount(), task.getExpectedEntryCount(), task.getBytes(),
+								task.getElapsedNanos()));
 				}
-				catch (Throwable cause) {
-					throw new ImportSnapshotException(
-						String.format("Failed to extract archive [%1$s] to import", file), cause);
+				catch (RuntimeException ignore) {
+					// the ApplicationContext may no longer publish events while exporting on shutdown
+					logDebug(ignore, "Failed to publish snapshot progress for [%s]", task);
 				}
+			});
+		}
+
+		/**
+		 * Returns the number of {@literal PARTITION} Regions the given Region is transitively colocated with,
+		 * or {@literal 0} if the Region is {@literal null} or not colocated.
+		 */
+		protected int colocationDepthOf(Region<?, ?> region) {
+
+			int colocationDepth = 0;
+
+			Region<?, ?> currentRegion = region;
+
+			while (currentRegion != null && colocationDepth < MAX_COLOCATION_DEPTH) {
+
+				String colocatedWith = Optional.ofNullable(currentRegion.getAttributes())
+					.map(RegionAttributes::getPartitionAttributes)
+					.map(PartitionAttributes::getColocatedWith)
+					.filter(StringUtils::hasText)
+					.orElse(null);
+
+				if (colocatedWith == null) {
+					break;
+				}
+
+				colocationDepth++;
+				currentRegion = currentRegion.getRegionService().getRegion(colocatedWith);
 			}
 
+			return colocationDepth;
+		}
+
+		/**
+		 * Resolves the Region imported from or exported to the given snapshot file, or {@literal null}
+		 * if the Region cannot be determined.
+		 */
+		protected Region<?, ?> resolveRegion(File snapshot) {
+			return null;
+		}
+
+		protected abstract File[] handleLocation(SnapshotMetadata<K, V> configuration);
+
+		private File[] nullSafeFiles(File[] files) {
+			return files != null ? files : new File[0];
+		}
+
+		protected File[] handleDirectoryLocation(File directory) {
+			return directory.listFiles(pathname -> nullSafeIsFile(pathname));
+		}
+
+		/**
+		 * Returns the given snapshot file as is.  Archives are not extracted here, but imported entry by entry
+		 * by the tasks created in {@link #newArchiveImportTasks(SnapshotMetadata)}.
+		 */
+		protected File[] handleFileLocation(File file) {
 			return new File[] { file };
 		}
 
@@ -565,6 +1262,57 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			pathname = (pathSeparatorIndex > -1 ? pathname.substring(pathSeparatorIndex + 1) : pathname);
 			return StringUtils.trimWhitespace(pathname);
 		}
+
+		/**
+		 * {@link SnapshotFilter} counting the entries accepted by the configured {@link SnapshotFilter}, if any,
+		 * for the snapshot task running on the current thread.  The adapter is not serialized, so a deserialized
+		 * filter only delegates to the configured {@link SnapshotFilter}.
+		 */
+		static class ProgressTrackingSnapshotFilter<K, V> implements SnapshotFilter<K, V> {
+
+			private static final long serialVersionUID = 1L;
+
+			private final transient SnapshotServiceAdapterSupport<K, V> adapter;
+
+			private final SnapshotFilter<K, V> delegate;
+
+			ProgressTrackingSnapshotFilter(SnapshotServiceAdapterSupport<K, V> adapter, SnapshotFilter<K, V> delegate) {
+				this.adapter = adapter;
+				this.delegate = delegate;
+			}
+
+			@Override
+			public boolean accept(Map.Entry<K, V> entry) {
+
+				boolean accepted = this.delegate == null || this.delegate.accept(entry);
+
+				if (accepted && this.adapter != null) {
+					this.adapter.trackEntry();
+				}
+
+				return accepted;
+			}
+		}
+
+		static class RunningSnapshotTask {
+
+			final AtomicInteger completedCount;
+
+			final int totalCount;
+
+			final SnapshotProgressApplicationEvent.Operation operation;
+
+			final SnapshotTask task;
+
+			RunningSnapshotTask(SnapshotProgressApplicationEvent.Operation operation, SnapshotTask task,
+					AtomicInteger completedCount, int totalCount) {
+
+				this.operation = operation;
+				this.task = task;
+				this.completedCount = completedCount;
+				this.totalCount = totalCount;
+			}
+		}
 	}
 
 	/**
@@ -574,22 +1322,136 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 */
 	protected static class CacheSnapshotServiceAdapter extends SnapshotServiceAdapterSupport<Object, Object> {
 
+		protected static final String SNAPSHOT_FILE_PREFIX = "snapshot";
+
+		private final Cache cache;
+
 		private final CacheSnapshotService snapshotService;
 
 		public CacheSnapshotServiceAdapter(CacheSnapshotService snapshotService) {
+			this(snapshotService, null);
+		}
+
+		public CacheSnapshotServiceAdapter(CacheSnapshotService snapshotService, Cache cache) {
 			Assert.notNull(snapshotService, "The backing CacheSnapshotService must not be null");
 			this.snapshotService = snapshotService;
+			this.cache = cache;
+		}
+
+		protected Optional<Cache> getCache() {
+			return Optional.ofNullable(this.cache);
 		}
 
 		protected CacheSnapshotService getSnapshotService() {
 			return this.snapshotService;
 		}
 
+		/**
+		 * Returns all Regions in the Cache, including subregions.
+		 */
+		protected List<Region<?, ?>> getRegions() {
+
+			return getCache().map(cache -> CollectionUtils.nullSafeSet(cache.rootRegions()).stream()
+				.flatMap(rootRegion -> Stream.concat(Stream.of(rootRegion),
+					CollectionUtils.nullSafeSet(rootRegion.subregions(true)).stream()))
+				.collect(Collectors.<Region<?, ?>>toList()))
+				.orElseGet(Collections::emptyList);
+		}
+
+		/**
+		 * Returns the name of the snapshot file for the given Region written by a Cache-wide export,
+		 * following the naming convention of the {@link CacheSnapshotService}.
+		 */
+		protected String toSnapshotFilename(Region<?, ?> region) {
+			return SNAPSHOT_FILE_PREFIX + region.getFullPath().replace(Region.SEPARATOR_CHAR, '-')
+				+ SNAPSHOT_FILE_EXTENSION;
+		}
+
+		/**
+		 * Exports each Region of the Cache to its own snapshot file concurrently when the Cache is known,
+		 * otherwise exports each configuration as a whole.
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		protected List<SnapshotTask> newConcurrentExportTasks(SnapshotMetadata<Object, Object>[] configurations) {
+
+			List<Region<?, ?>> regions = getRegions();
+
+			if (regions.isEmpty()) {
+				return super.newConcurrentExportTasks(configurations);
+			}
+
+			List<SnapshotTask> tasks = new ArrayList<>();
+
+			for (SnapshotMetadata<Object, Object> configuration : configurations) {
+
+				File directory = configuration.getLocation();
+				SnapshotOptions<Object, Object> options = createOptions(configuration);
+
+				Assert.state(directory.isDirectory() || directory.mkdirs(),
+					String.format("Failed to create directory [%s] to export snapshots", directory));
+
+				for (Region<?, ?> region : regions) {
+
+					File snapshot = new File(directory, toSnapshotFilename(region));
+
+					tasks.add(new SnapshotTask(snapshot, region, () -> {
+						try {
+
+							RegionSnapshotService<Object, Object> regionSnapshotService =
+								((Region<Object, Object>) region).getSnapshotService();
+
+							if (configuration.isCompressed()) {
+								saveCompressed(snapshot, false, stagedSnapshot ->
+									regionSnapshotService.save(stagedSnapshot, configuration.getFormat(), options));
+							}
+							else {
+								regionSnapshotService.save(snapshot, configuration.getFormat(), options);
+							}
+						}
+						catch (Throwable cause) {
+							throw new ExportSnapshotException(String.format(
+								"Failed to save snapshot of Region [%1$s] to file [%2$s] in format [%3$s]",
+									region.getFullPath(), snapshot, configuration.getFormat()), cause);
+						}
+					}));
+				}
+			}
+
+			return tasks;
+		}
+
+		@Override
+		protected Region<?, ?> resolveRegion(File snapshot) {
+
+			String snapshotFilename = snapshot.getName();
+
+			return getRegions().stream()
+				.filter(region -> toSnapshotFilename(region).equals(snapshotFilename))
+				.findFirst()
+				.orElse(null);
+		}
+
 		@Override
 		public SnapshotOptions<Object, Object> createOptions() {
 			return getSnapshotService().createOptions();
 		}
 
+		@Override
+		protected boolean isFilteredRemotely() {
+			return getRegions().stream().anyMatch(SnapshotServiceAdapterSupport::isFilteredRemotely);
+		}
+
+		@Override
+		protected boolean isDirectoryExport() {
+			return true;
+		}
+
+		@Override
+		protected boolean isArchiveLocation(SnapshotMetadata<Object, Object> configuration) {
+			return configuration.isFile() && ArchiveFileFilter.INSTANCE.accept(configuration.getLocation());
+		}
+
 		@Override
 		protected File[] handleLocation(SnapshotMetadata<Object, Object> configuration) {
 
@@ -658,11 +1520,23 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 */
 	protected static class RegionSnapshotServiceAdapter<K, V> extends SnapshotServiceAdapterSupport<K, V> {
 
+		private final Region<K, V> region;
+
 		private final RegionSnapshotService<K, V> snapshotService;
 
 		public RegionSnapshotServiceAdapter(RegionSnapshotService<K, V> snapshotService) {
+			this(snapshotService, null);
+		}
+
+		public RegionSnapshotServiceAdapter(RegionSnapshotService<K, V> snapshotService, Region<K, V> region) {
 			Assert.notNull(snapshotService, "The backing RegionSnapshotService must not be null");
 			this.snapshotService = snapshotService;
+			this.region = region;
+		}
+
+		@Override
+		protected Region<?, ?> resolveRegion(File snapshot) {
+			return this.region;
 		}
 
 		protected RegionSnapshotService<K, V> getSnapshotService() {
@@ -674,6 +1548,11 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			return getSnapshotService().createOptions();
 		}
 
+		@Override
+		protected boolean isFilteredRemotely() {
+			return isFilteredRemotely(this.region);
+		}
+
 		@Override
 		protected File[] handleLocation(SnapshotMetadata<K, V> configuration) {
 			return new File[] { configuration.getLocation() };
@@ -746,8 +1625,12 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 		protected static final boolean DEFAULT_INVOKE_CALLBACKS = false;
 		protected static final boolean DEFAULT_PARALLEL = false;
 
+		protected static final ContainerFormat DEFAULT_CONTAINER_FORMAT = ContainerFormat.NONE;
+
 		protected static final SnapshotFormat DEFAULT_SNAPSHOT_FORMAT = SnapshotFormat.GEMFIRE;
 
+		private ContainerFormat containerFormat = DEFAULT_CONTAINER_FORMAT;
+
 		private boolean invokeCallbacks = DEFAULT_INVOKE_CALLBACKS;
 		private boolean parallel = DEFAULT_PARALLEL;
 
@@ -790,6 +1673,18 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			return Optional.ofNullable(this.format).orElse(DEFAULT_SNAPSHOT_FORMAT);
 		}
 
+		public void setContainerFormat(ContainerFormat containerFormat) {
+			this.containerFormat = containerFormat;
+		}
+
+		public ContainerFormat getContainerFormat() {
+			return Optional.ofNullable(this.containerFormat).orElse(DEFAULT_CONTAINER_FORMAT);
+		}
+
+		public boolean isCompressed() {
+			return ContainerFormat.COMPRESSED.equals(getContainerFormat());
+		}
+
 		public boolean isFilterPresent() {
 			return (getFilter() != null);
 		}
@@ -817,11 +1712,140 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 		@Override
 		public String toString() {
 
-			return String.format(
-				"{ @type = %1$s, location = %2$s, format = %3$s, filter = %4$s, invokeCallbacks = %5$s, parallel = %6$s }",
-					getClass().getName(), getLocation().getAbsolutePath(), getFormat(), getFilter(),
+			return String.format("{ @type = %1$s, location = %2$s, format = %3$s, containerFormat = %4$s,"
+				+ " filter = %5$s, invokeCallbacks = %6$s, parallel = %7$s }", getClass().getName(),
+					getLocation().getAbsolutePath(), getFormat(), getContainerFormat(), getFilter(),
 						isInvokeCallbacks(), isParallel());
 		}
+
+		/**
+		 * The ContainerFormat enum defines the on-disk container of exported snapshot files.  Imports detect
+		 * the container of each snapshot file automatically.
+		 */
+		public enum ContainerFormat {
+
+			/**
+			 * Snapshot files are written as is, in the {@link SnapshotFormat}.
+			 */
+			NONE,
+
+			/**
+			 * Snapshot files are compressed into blocks with per-block checksums.
+			 *
+			 * @see CompressedSnapshotContainer
+			 */
+			COMPRESSED
+
+		}
+	}
+
+	/**
+	 * The SnapshotSaver interface saves snapshots to a given file or directory.
+	 */
+	@FunctionalInterface
+	protected interface SnapshotSaver {
+		void save(File location) throws Exception;
+	}
+
+	/**
+	 * The SnapshotTask class is a unit of work importing or exporting a single snapshot file.
+	 */
+	protected static class SnapshotTask implements Runnable {
+
+		private final File snapshot;
+
+		private final Region<?, ?> region;
+
+		private final Runnable action;
+
+		private final AtomicLong entryCount = new AtomicLong(0L);
+		private final AtomicLong lastProgressNanos = new AtomicLong(0L);
+
+		private volatile long expectedEntryCount = SnapshotProgressApplicationEvent.UNKNOWN;
+		private volatile long startNanos;
+
+		public SnapshotTask(File snapshot, Region<?, ?> region, Runnable action) {
+
+			Assert.notNull(action, "Action must not be null");
+
+			this.snapshot = snapshot;
+			this.region = region;
+			this.action = action;
+		}
+
+		public Region<?, ?> getRegion() {
+			return this.region;
+		}
+
+		public String getRegionPath() {
+			return Optional.ofNullable(getRegion()).map(Region::getFullPath).orElse(null);
+		}
+
+		public File getSnapshot() {
+			return this.snapshot;
+		}
+
+		/**
+		 * Returns the size in bytes of the snapshot file, or the sum of the sizes of the snapshot files
+		 * in the snapshot directory, or {@literal 0} if the snapshot does not exist.
+		 */
+		public long getBytes() {
+
+			File snapshot = getSnapshot();
+
+			if (nullSafeIsDirectory(snapshot)) {
+				return stream(Optional.ofNullable(snapshot.listFiles()).orElseGet(() -> new File[0]))
+					.filter(File::isFile)
+					.mapToLong(File::length)
+					.sum();
+			}
+
+			return snapshot != null ? snapshot.length() : 0L;
+		}
+
+		public long getElapsedNanos() {
+			return this.startNanos > 0L ? System.nanoTime() - this.startNanos : 0L;
+		}
+
+		public long getEntryCount() {
+			return this.entryCount.get();
+		}
+
+		public long getExpectedEntryCount() {
+			return this.expectedEntryCount;
+		}
+
+		long incrementEntryCount() {
+			return this.entryCount.incrementAndGet();
+		}
+
+		/**
+		 * Determines whether progress should be reported, which is at most once per the given interval.
+		 */
+		boolean isProgressDue(long intervalNanos) {
+
+			long now = System.nanoTime();
+			long lastProgressNanos = this.lastProgressNanos.get();
+
+			return now - lastProgressNanos >= intervalNanos
+				&& this.lastProgressNanos.compareAndSet(lastProgressNanos, now);
+		}
+
+		void start(long expectedEntryCount) {
+			this.expectedEntryCount = expectedEntryCount;
+			this.startNanos = System.nanoTime();
+			this.lastProgressNanos.set(this.startNanos);
+		}
+
+		@Override
+		public void run() {
+			this.action.run();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ snapshot = %1$s, regionPath = %2$s }", getSnapshot(), getRegionPath());
+		}
 	}
 
 	/**
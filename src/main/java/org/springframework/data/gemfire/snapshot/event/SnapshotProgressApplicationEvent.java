@@ -0,0 +1,266 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.event;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link SnapshotProgressApplicationEvent} class is a {@link SnapshotApplicationEvent} published by
+ * the {@link org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter}
+ * to report the progress of an import or export, one event each time the import or export
+ * of a single snapshot file starts, completes or fails, and periodically while it is in progress.
+ *
+ * Each event carries the number of entries and bytes of the snapshot file processed so far, along with
+ * the elapsed time, from which the throughput and, when the expected number of entries is known,
+ * the percentage complete are derived.
+ *
+ * Unlike {@link ExportSnapshotApplicationEvent} and {@link ImportSnapshotApplicationEvent},
+ * this event does not trigger a snapshot.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent
+ * @since 2.1.0
+ */
+@SuppressWarnings("unused")
+public class SnapshotProgressApplicationEvent<K, V> extends SnapshotApplicationEvent<K, V> {
+
+	public static final int UNKNOWN = -1;
+
+	private final File snapshot;
+
+	private final int completedCount;
+	private final int totalCount;
+
+	private final long bytes;
+	private final long elapsedNanos;
+	private final long entryCount;
+	private final long expectedEntryCount;
+
+	private final Operation operation;
+
+	private final Status status;
+
+	private final Throwable failure;
+
+	/**
+	 * Constructs an instance of {@link SnapshotProgressApplicationEvent} reporting the progress of
+	 * a snapshot import or export.
+	 *
+	 * @param source the source of the ApplicationEvent.
+	 * @param regionPath absolute pathname of the Region, or {@literal null} if unknown.
+	 * @param operation {@link Operation} in progress.
+	 * @param status {@link Status} of the snapshot file.
+	 * @param snapshot snapshot file, or directory, being imported or exported.
+	 * @param completedCount number of snapshot files that have completed or failed so far.
+	 * @param totalCount total number of snapshot files in the import or export.
+	 * @param failure cause of the failure when the {@link Status} is {@link Status#FAILED}.
+	 */
+	public SnapshotProgressApplicationEvent(Object source, String regionPath, Operation operation, Status status,
+			File snapshot, int completedCount, int totalCount, Throwable failure) {
+
+		this(source, regionPath, operation, status, snapshot, completedCount, totalCount, failure,
+			0L, UNKNOWN, 0L, 0L);
+	}
+
+	/**
+	 * Constructs an instance of {@link SnapshotProgressApplicationEvent} reporting the progress of
+	 * a snapshot import or export, including the entries and bytes processed so far.
+	 *
+	 * @param source the source of the ApplicationEvent.
+	 * @param regionPath absolute pathname of the Region, or {@literal null} if unknown.
+	 * @param operation {@link Operation} in progress.
+	 * @param status {@link Status} of the snapshot file.
+	 * @param snapshot snapshot file, or directory, being imported or exported.
+	 * @param completedCount number of snapshot files that have completed or failed so far.
+	 * @param totalCount total number of snapshot files in the import or export.
+	 * @param failure cause of the failure when the {@link Status} is {@link Status#FAILED}.
+	 * @param entryCount number of entries imported or exported so far.
+	 * @param expectedEntryCount expected number of entries, or {@link #UNKNOWN}.
+	 * @param bytes size in bytes of the snapshot file imported, or written so far.
+	 * @param elapsedNanos time elapsed since the import or export of the snapshot file started, in nanoseconds.
+	 */
+	@SuppressWarnings("unchecked")
+	public SnapshotProgressApplicationEvent(Object source, String regionPath, Operation operation, Status status,
+			File snapshot, int completedCount, int totalCount, Throwable failure, long entryCount,
+			long expectedEntryCount, long bytes, long elapsedNanos) {
+
+		super(source, regionPath);
+
+		this.operation = operation;
+		this.status = status;
+		this.snapshot = snapshot;
+		this.completedCount = completedCount;
+		this.totalCount = totalCount;
+		this.failure = failure;
+		this.entryCount = entryCount;
+		this.expectedEntryCount = expectedEntryCount;
+		this.bytes = bytes;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Returns the size in bytes of the snapshot file imported, or written so far when exporting.
+	 *
+	 * @return the size in bytes of the snapshot file.
+	 */
+	public long getBytes() {
+		return this.bytes;
+	}
+
+	/**
+	 * Returns the number of bytes of the snapshot file processed per second.
+	 *
+	 * @return the number of bytes processed per second, or {@literal 0} if no time has elapsed.
+	 */
+	public double getBytesPerSecond() {
+		return perSecond(getBytes());
+	}
+
+	/**
+	 * Returns the number of snapshot files that have completed or failed so far.
+	 *
+	 * @return the number of snapshot files that have completed or failed so far.
+	 */
+	public int getCompletedCount() {
+		return this.completedCount;
+	}
+
+	/**
+	 * Returns the time elapsed since the import or export of the snapshot file started.
+	 *
+	 * @param timeUnit {@link TimeUnit} of the returned elapsed time.
+	 * @return the time elapsed since the import or export of the snapshot file started.
+	 */
+	public long getElapsedTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of entries imported or exported so far.  Entries are only counted when
+	 * the snapshot is not imported or exported in parallel mode across the members of the cluster.
+	 *
+	 * @return the number of entries imported or exported so far.
+	 */
+	public long getEntryCount() {
+		return this.entryCount;
+	}
+
+	/**
+	 * Returns the number of entries imported or exported per second.
+	 *
+	 * @return the number of entries processed per second, or {@literal 0} if no time has elapsed.
+	 */
+	public double getEntriesPerSecond() {
+		return perSecond(getEntryCount());
+	}
+
+	/**
+	 * Returns the expected number of entries, which is the size of the Region when exporting,
+	 * or {@link #UNKNOWN} if the expected number of entries is not known, as is the case when importing.
+	 *
+	 * @return the expected number of entries, or {@link #UNKNOWN}.
+	 */
+	public long getExpectedEntryCount() {
+		return this.expectedEntryCount;
+	}
+
+	/**
+	 * Returns the percentage, between {@literal 0} and {@literal 100}, of the snapshot file imported or exported,
+	 * or {@link #UNKNOWN} if the percentage cannot be determined before the import or export completes.
+	 *
+	 * @return the percentage of the snapshot file imported or exported, or {@link #UNKNOWN}.
+	 */
+	public double getPercentComplete() {
+
+		if (Status.COMPLETED.equals(getStatus())) {
+			return 100.0d;
+		}
+
+		long expectedEntryCount = getExpectedEntryCount();
+
+		return expectedEntryCount > 0L ? Math.min(getEntryCount() * 100.0d / expectedEntryCount, 100.0d)
+			: expectedEntryCount == 0L ? 100.0d
+			: UNKNOWN;
+	}
+
+	private double perSecond(long count) {
+		return this.elapsedNanos > 0L ? count * 1.0e9d / this.elapsedNanos : 0.0d;
+	}
+
+	/**
+	 * Returns the cause of the failure when the {@link #getStatus() Status} is {@link Status#FAILED}.
+	 *
+	 * @return the cause of the failure, or {@literal null}.
+	 */
+	public Throwable getFailure() {
+		return this.failure;
+	}
+
+	/**
+	 * Returns the snapshot {@link Operation} in progress.
+	 *
+	 * @return the snapshot {@link Operation} in progress.
+	 */
+	public Operation getOperation() {
+		return this.operation;
+	}
+
+	/**
+	 * Returns the snapshot file, or directory, being imported or exported.
+	 *
+	 * @return the snapshot file being imported or exported.
+	 */
+	public File getSnapshot() {
+		return this.snapshot;
+	}
+
+	/**
+	 * Returns the {@link Status} of the snapshot file.
+	 *
+	 * @return the {@link Status} of the snapshot file.
+	 */
+	public Status getStatus() {
+		return this.status;
+	}
+
+	/**
+	 * Returns the total number of snapshot files in the import or export.
+	 *
+	 * @return the total number of snapshot files in the import or export.
+	 */
+	public int getTotalCount() {
+		return this.totalCount;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("{ @type = %1$s, operation = %2$s, status = %3$s, regionPath = %4$s, snapshot = %5$s,"
+			+ " completed = %6$d/%7$d, entries = %8$d, bytes = %9$d, elapsedTime = %10$d ms }", getClass().getName(),
+				getOperation(), getStatus(), getRegionPath(), getSnapshot(), getCompletedCount(), getTotalCount(),
+					getEntryCount(), getBytes(), getElapsedTime(TimeUnit.MILLISECONDS));
+	}
+
+	public enum Operation {
+		EXPORT, IMPORT
+	}
+
+	public enum Status {
+		STARTED, IN_PROGRESS, COMPLETED, FAILED
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Lock-free histogram of durations in nanoseconds.
+ *
+ * Values are counted in log-linear buckets; each power of two is divided into 8 linear sub-buckets,
+ * bounding the relative error of a reported percentile to 12.5% while using a fixed amount of memory
+ * regardless of the number or range of recorded values.  Recording a duration is lock-free and does not allocate.
+ *
+ * @author agent
+ * @see java.util.concurrent.atomic.AtomicLongArray
+ * @see java.util.concurrent.atomic.LongAdder
+ * @since 2.1.0
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+
+	static int bucketIndex(long value) {
+
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) Math.max(value, 0L);
+		}
+
+		int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+
+		return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long bucketUpperBound(int index) {
+
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		int subBucket = index % SUB_BUCKET_COUNT;
+
+		return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+	}
+
+	/**
+	 * Records a single duration.
+	 *
+	 * @param duration duration to record; negative values are recorded as 0.
+	 * @param unit {@link TimeUnit} of the {@code duration}.
+	 */
+	public void record(long duration, TimeUnit unit) {
+		record(unit.toNanos(duration));
+	}
+
+	/**
+	 * Records a single duration.
+	 *
+	 * @param durationNanos duration in nanoseconds; negative values are recorded as 0.
+	 */
+	public void record(long durationNanos) {
+
+		long value = Math.max(durationNanos, 0L);
+
+		this.buckets.incrementAndGet(bucketIndex(value));
+		this.count.increment();
+		this.total.add(value);
+		this.max.accumulate(value);
+	}
+
+	public long getCount() {
+		return this.count.sum();
+	}
+
+	public long getMax(TimeUnit unit) {
+		return unit.convert(this.max.get(), TimeUnit.NANOSECONDS);
+	}
+
+	public double getMean(TimeUnit unit) {
+
+		long count = getCount();
+
+		return (count > 0 ? (double) this.total.sum() / count / unit.toNanos(1L) : 0.0d);
+	}
+
+	public long getTotal(TimeUnit unit) {
+		return unit.convert(this.total.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns an upper bound of the duration below which the given percentage of the recorded durations fall.
+	 *
+	 * @param percentile percentile between 0.0 and 1.0, e.g. {@literal 0.99} for the 99th percentile.
+	 * @param unit {@link TimeUnit} of the returned duration.
+	 * @return the duration at the given percentile, or 0 if no durations were recorded.
+	 * @throws IllegalArgumentException if {@code percentile} is not between 0.0 and 1.0.
+	 */
+	public long getPercentile(double percentile, TimeUnit unit) {
+
+		Assert.isTrue(percentile >= 0.0d && percentile <= 1.0d,
+			() -> String.format("percentile [%s] must be between 0.0 and 1.0", percentile));
+
+		long count = getCount();
+
+		if (count == 0) {
+			return 0L;
+		}
+
+		long rank = Math.max(1L, (long) Math.ceil(percentile * count));
+		long seen = 0L;
+
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+
+			seen += this.buckets.get(index);
+
+			if (seen >= rank) {
+				return unit.convert(Math.min(bucketUpperBound(index), this.max.get()), TimeUnit.NANOSECONDS);
+			}
+		}
+
+		return getMax(unit);
+	}
+
+	/**
+	 * Clears all recorded durations.
+	 */
+	public void reset() {
+
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			this.buckets.set(index, 0L);
+		}
+
+		this.count.reset();
+		this.total.reset();
+		this.max.reset();
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s{count = %2$d, mean = %3$.3f ms, p50 = %4$d us, p99 = %5$d us, max = %6$d us}",
+			getClass().getSimpleName(), getCount(), getMean(TimeUnit.MILLISECONDS),
+			getPercentile(0.5d, TimeUnit.MICROSECONDS), getPercentile(0.99d, TimeUnit.MICROSECONDS),
+			getMax(TimeUnit.MICROSECONDS));
+	}
+}
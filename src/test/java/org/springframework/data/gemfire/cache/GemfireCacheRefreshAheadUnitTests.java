@@ -0,0 +1,255 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for refreshing {@link GemfireCache} entries ahead of expiration using a {@link RefreshAheadPolicy}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @see org.springframework.data.gemfire.cache.RefreshAheadPolicy
+ * @since 2.1.0
+ */
+@SuppressWarnings("unchecked")
+public class GemfireCacheRefreshAheadUnitTests {
+
+	private GemfireCache cache;
+
+	private List<Runnable> refreshTasks;
+
+	private AtomicReference<Long> lastModifiedTime;
+
+	private RefreshAheadPolicy refreshAheadPolicy;
+
+	private Region<Object, Object> mockRegion;
+
+	@Before
+	public void setup() {
+
+		mockRegion = mock(Region.class);
+		refreshTasks = new ArrayList<>();
+		lastModifiedTime = new AtomicReference<>();
+		refreshAheadPolicy = new RefreshAheadPolicy();
+
+		refreshAheadPolicy.setExecutor(refreshTasks::add);
+		refreshAheadPolicy.setRefreshAheadFactor(0.5d);
+		refreshAheadPolicy.setTimeToLive(10000L);
+
+		when(mockRegion.getName()).thenReturn("Example");
+
+		Region.Entry<Object, Object> mockEntry = mock(Region.Entry.class);
+
+		CacheStatistics mockStatistics = mock(CacheStatistics.class);
+
+		when(mockEntry.getStatistics()).thenReturn(mockStatistics);
+		when(mockStatistics.getLastModifiedTime()).thenAnswer(invocation -> lastModifiedTime.get());
+
+		when(mockRegion.getEntry(eq("key"))).thenAnswer(invocation ->
+			lastModifiedTime.get() != null ? mockEntry : null);
+
+		when(mockRegion.put(eq("key"), any())).thenAnswer(invocation -> {
+			lastModifiedTime.set(System.currentTimeMillis());
+			return null;
+		});
+
+		cache = new GemfireCache(mockRegion);
+		cache.setRefreshAheadPolicy(refreshAheadPolicy);
+	}
+
+	private void age(long milliseconds) {
+		lastModifiedTime.updateAndGet(time -> time - milliseconds);
+	}
+
+	private void runRefreshTasks() {
+		refreshTasks.forEach(Runnable::run);
+		refreshTasks.clear();
+	}
+
+	@Test
+	public void freshnessOfEntryAge() {
+
+		refreshAheadPolicy.setStaleWhileRevalidate(50L);
+
+		assertThat(refreshAheadPolicy.freshnessOf(10L, 100L)).isEqualTo(RefreshAheadPolicy.Freshness.FRESH);
+		assertThat(refreshAheadPolicy.freshnessOf(50L, 100L)).isEqualTo(RefreshAheadPolicy.Freshness.REFRESH_DUE);
+		assertThat(refreshAheadPolicy.freshnessOf(100L, 100L)).isEqualTo(RefreshAheadPolicy.Freshness.STALE);
+		assertThat(refreshAheadPolicy.freshnessOf(150L, 100L)).isEqualTo(RefreshAheadPolicy.Freshness.EXPIRED);
+	}
+
+	@Test
+	public void returnsCurrentValueAndRefreshesOnceWhenRefreshIsDue() throws Exception {
+
+		AtomicInteger loadCount = new AtomicInteger(0);
+
+		assertThat(cache.get("key", () -> "value" + loadCount.incrementAndGet())).isEqualTo("value1");
+
+		verify(mockRegion, times(1)).put(eq("key"), eq("value1"));
+
+		when(mockRegion.get(eq("key"))).thenReturn("value1");
+
+		assertThat(cache.get("key", () -> "value" + loadCount.incrementAndGet())).isEqualTo("value1");
+		assertThat(refreshTasks).isEmpty();
+
+		age(6000L);
+
+		assertThat(cache.get("key", () -> "value" + loadCount.incrementAndGet())).isEqualTo("value1");
+		assertThat(cache.get("key", () -> "value" + loadCount.incrementAndGet())).isEqualTo("value1");
+		assertThat(refreshTasks).hasSize(1);
+		assertThat(loadCount.get()).isEqualTo(1);
+
+		runRefreshTasks();
+
+		verify(mockRegion, times(1)).put(eq("key"), eq("value2"));
+
+		assertThat(cache.freshnessOf("key")).isEqualTo(RefreshAheadPolicy.Freshness.FRESH);
+	}
+
+	@Test
+	public void servesStaleValueWhileRevalidating() throws Exception {
+
+		refreshAheadPolicy.setRefreshAheadFactor(1.0d);
+		refreshAheadPolicy.setStaleWhileRevalidate(10000L);
+
+		cache.put("key", "value1");
+
+		when(mockRegion.get(eq("key"))).thenReturn("value1");
+
+		age(11000L);
+
+		assertThat(cache.freshnessOf("key")).isEqualTo(RefreshAheadPolicy.Freshness.STALE);
+		assertThat(cache.get("key", () -> "value2")).isEqualTo("value1");
+		assertThat(refreshTasks).hasSize(1);
+	}
+
+	@Test
+	public void reloadsExpiredValueSynchronously() throws Exception {
+
+		cache.put("key", "value1");
+
+		when(mockRegion.get(eq("key"))).thenReturn("value1");
+
+		age(11000L);
+
+		assertThat(cache.get("key", () -> "value2")).isEqualTo("value2");
+		assertThat(refreshTasks).isEmpty();
+
+		verify(mockRegion, times(1)).put(eq("key"), eq("value2"));
+	}
+
+	@Test
+	public void rejectedRefreshIsRetriedOnNextRead() throws Exception {
+
+		AtomicInteger attempts = new AtomicInteger(0);
+
+		refreshAheadPolicy.setExecutor(task -> {
+			attempts.incrementAndGet();
+			throw new RejectedExecutionException("test");
+		});
+
+		cache.put("key", "value1");
+
+		when(mockRegion.get(eq("key"))).thenReturn("value1");
+
+		age(6000L);
+
+		assertThat(cache.get("key", () -> "value2")).isEqualTo("value1");
+		assertThat(cache.get("key", () -> "value2")).isEqualTo("value1");
+		assertThat(attempts.get()).isEqualTo(2);
+
+		verify(mockRegion, never()).put(eq("key"), eq("value2"));
+	}
+
+	@Test
+	public void usesRegionEntryTimeToLiveByDefault() {
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getEntryTimeToLive()).thenReturn(new ExpirationAttributes(60));
+		when(mockRegionAttributes.getStatisticsEnabled()).thenReturn(true);
+
+		refreshAheadPolicy.setTimeToLive(0L);
+		cache.setRefreshAheadPolicy(refreshAheadPolicy);
+
+		cache.put("key", "value");
+
+		assertThat(cache.freshnessOf("key")).isEqualTo(RefreshAheadPolicy.Freshness.FRESH);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void refreshAheadPolicyWithoutTimeToLiveThrowsIllegalArgumentException() {
+
+		refreshAheadPolicy.setTimeToLive(0L);
+		cache.setRefreshAheadPolicy(refreshAheadPolicy);
+	}
+
+	@Test
+	public void refreshesEntryModifiedByAnotherMember() {
+
+		lastModifiedTime.set(System.currentTimeMillis() - 6000L);
+
+		when(mockRegion.get(eq("key"))).thenReturn("value1");
+
+		assertThat(cache.get("key", () -> "value2")).isEqualTo("value1");
+		assertThat(refreshTasks).hasSize(1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void refreshAheadPolicyWithoutRegionStatisticsThrowsIllegalArgumentException() {
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getStatisticsEnabled()).thenReturn(false);
+
+		cache.setRefreshAheadPolicy(refreshAheadPolicy);
+	}
+
+	@Test
+	public void managerAppliesRefreshAheadPolicy() {
+
+		GemfireCacheManager cacheManager = new GemfireCacheManager();
+
+		cacheManager.setRefreshAheadPolicy(refreshAheadPolicy);
+
+		assertThat(cacheManager.newGemfireCache(mockRegion).getRefreshAheadPolicy()).isSameAs(refreshAheadPolicy);
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.apache.geode.cache.Region;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+
+/**
+ * Unit tests for {@link GemfireCacheStatistics} recorded by {@link GemfireCache} and exposed by
+ * {@link GemfireCacheManager}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @see org.springframework.data.gemfire.cache.GemfireCacheManager
+ * @see org.springframework.data.gemfire.cache.GemfireCacheStatistics
+ * @since 2.1.0
+ */
+@SuppressWarnings("unchecked")
+public class GemfireCacheStatisticsUnitTests {
+
+	private GemfireCache cache;
+
+	private Region<Object, Object> mockRegion;
+
+	@Before
+	public void setup() {
+
+		mockRegion = mock(Region.class);
+
+		when(mockRegion.getName()).thenReturn("Example");
+
+		cache = new GemfireCache(mockRegion);
+		cache.setStatisticsEnabled(true);
+	}
+
+	@Test
+	public void statisticsAreDisabledByDefault() {
+
+		GemfireCache cache = new GemfireCache(mockRegion);
+
+		cache.get("key");
+
+		assertThat(cache.isStatisticsEnabled()).isFalse();
+		assertThat(cache.getStatistics()).isNull();
+	}
+
+	@Test
+	public void recordsHitsMissesAndPuts() {
+
+		when(mockRegion.get(eq("one"))).thenReturn(1);
+
+		cache.get("one");
+		cache.get("one", Integer.class);
+		cache.get("two");
+		cache.put("two", 2);
+		cache.put("three", null);
+		cache.putIfAbsent("four", 4);
+
+		GemfireCacheStatistics statistics = cache.getStatistics();
+
+		assertThat(statistics.getCacheName()).isEqualTo("Example");
+		assertThat(statistics.getHitCount()).isEqualTo(2L);
+		assertThat(statistics.getMissCount()).isEqualTo(1L);
+		assertThat(statistics.getHitRatio()).isEqualTo(2.0d / 3.0d);
+		assertThat(statistics.getPutCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void recordsLoadsAndLoadTime() {
+
+		assertThat(cache.get("key", () -> {
+			Thread.sleep(20L);
+			return "value";
+		})).isEqualTo("value");
+
+		try {
+			cache.get("failure", () -> {
+				throw new IllegalStateException("test");
+			});
+
+			fail("Expected ValueRetrievalException");
+		}
+		catch (Cache.ValueRetrievalException expected) {
+		}
+
+		GemfireCacheStatistics statistics = cache.getStatistics();
+
+		assertThat(statistics.getMissCount()).isEqualTo(2L);
+		assertThat(statistics.getLoadCount()).isEqualTo(1L);
+		assertThat(statistics.getLoadFailureCount()).isEqualTo(1L);
+		assertThat(statistics.getPutCount()).isEqualTo(1L);
+		assertThat(statistics.getTotalLoadTime()).isGreaterThanOrEqualTo(20L);
+		assertThat(statistics.getAverageLoadTime()).isGreaterThanOrEqualTo(10.0d);
+	}
+
+	@Test
+	public void recordsBulkLookupsEvictionsAndClears() {
+
+		when(mockRegion.getAll(anyCollection())).thenReturn(Collections.singletonMap("one", 1));
+
+		cache.getAll(Arrays.asList("one", "two", "three"));
+		cache.evict("one");
+		cache.clear();
+
+		GemfireCacheStatistics statistics = cache.getStatistics();
+
+		assertThat(statistics.getHitCount()).isEqualTo(1L);
+		assertThat(statistics.getMissCount()).isEqualTo(2L);
+		assertThat(statistics.getEvictionCount()).isEqualTo(1L);
+		assertThat(statistics.getClearCount()).isEqualTo(1L);
+
+		statistics.reset();
+
+		assertThat(statistics.getHitCount()).isZero();
+		assertThat(statistics.getClearCount()).isZero();
+	}
+
+	@Test
+	public void managerRegistersAndUnregistersStatisticsMBeans() throws Exception {
+
+		MBeanServer mbeanServer = MBeanServerFactory.newMBeanServer();
+
+		GemfireCacheManager cacheManager = new GemfireCacheManager();
+
+		cacheManager.setBeanName("cacheManager");
+		cacheManager.setMBeanServer(mbeanServer);
+		cacheManager.setRegions(Collections.singleton(mockRegion));
+		cacheManager.setStatisticsEnabled(true);
+		cacheManager.afterPropertiesSet();
+
+		cacheManager.getCache("Example").get("key");
+
+		ObjectName objectName = new ObjectName("org.springframework.data.gemfire:type=GemfireCacheStatistics,"
+			+ "manager=\"cacheManager\",name=\"Example\"");
+
+		assertThat(mbeanServer.isRegistered(objectName)).isTrue();
+		assertThat(mbeanServer.getAttribute(objectName, "MissCount")).isEqualTo(1L);
+		assertThat(cacheManager.getCacheStatistics()).containsOnlyKeys("Example");
+
+		cacheManager.destroy();
+
+		assertThat(mbeanServer.isRegistered(objectName)).isFalse();
+	}
+
+	@Test
+	public void managersSharingMBeanServerRegisterStatisticsOfSameCacheName() throws Exception {
+
+		MBeanServer mbeanServer = MBeanServerFactory.newMBeanServer();
+
+		GemfireCacheManager cacheManagerOne = new GemfireCacheManager();
+		GemfireCacheManager cacheManagerTwo = new GemfireCacheManager();
+
+		for (GemfireCacheManager cacheManager : Arrays.asList(cacheManagerOne, cacheManagerTwo)) {
+			cacheManager.setMBeanServer(mbeanServer);
+			cacheManager.setRegions(Collections.singleton(mockRegion));
+			cacheManager.setStatisticsEnabled(true);
+			cacheManager.afterPropertiesSet();
+		}
+
+		ObjectName objectNames = new ObjectName(
+			"org.springframework.data.gemfire:type=GemfireCacheStatistics,name=\"Example\",*");
+
+		assertThat(mbeanServer.queryNames(objectNames, null)).hasSize(2);
+
+		cacheManagerOne.destroy();
+
+		assertThat(mbeanServer.queryNames(objectNames, null)).hasSize(1);
+
+		cacheManagerTwo.destroy();
+	}
+
+	@Test
+	public void managersWithSameBeanNameSkipRegistrationOfExistingStatistics() throws Exception {
+
+		MBeanServer mbeanServer = MBeanServerFactory.newMBeanServer();
+
+		GemfireCacheManager cacheManagerOne = new GemfireCacheManager();
+		GemfireCacheManager cacheManagerTwo = new GemfireCacheManager();
+
+		for (GemfireCacheManager cacheManager : Arrays.asList(cacheManagerOne, cacheManagerTwo)) {
+			cacheManager.setBeanName("cacheManager");
+			cacheManager.setMBeanServer(mbeanServer);
+			cacheManager.setRegions(Collections.singleton(mockRegion));
+			cacheManager.setStatisticsEnabled(true);
+			cacheManager.afterPropertiesSet();
+		}
+
+		ObjectName objectName = new ObjectName("org.springframework.data.gemfire:type=GemfireCacheStatistics,"
+			+ "manager=\"cacheManager\",name=\"Example\"");
+
+		assertThat(mbeanServer.isRegistered(objectName)).isTrue();
+		assertThat(cacheManagerTwo.getCacheStatistics()).containsOnlyKeys("Example");
+
+		cacheManagerTwo.destroy();
+
+		assertThat(mbeanServer.isRegistered(objectName)).isTrue();
+
+		cacheManagerOne.destroy();
+
+		assertThat(mbeanServer.isRegistered(objectName)).isFalse();
+	}
+}
@@ -18,26 +18,42 @@
 package org.springframework.data.gemfire.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 
 import org.apache.geode.cache.Region;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.cache.Cache;
@@ -207,6 +223,135 @@ public class GemfireCacheUnitTests {
 		}
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderLoadsValueOnceForConcurrentCallers() throws Exception {
+		Map<Object, Object> entries = new ConcurrentHashMap<>();
+
+		when(mockRegion.get(any())).thenAnswer(invocation -> entries.get(invocation.getArgument(0)));
+		when(mockRegion.put(any(), any())).thenAnswer(invocation ->
+			entries.put(invocation.getArgument(0), invocation.getArgument(1)));
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		AtomicInteger loads = new AtomicInteger(0);
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch releaseLoad = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			List<Future<Object>> slowKeyResults = new ArrayList<>();
+
+			for (int count = 0; count < 3; count++) {
+				slowKeyResults.add(executor.submit(() -> cache.get("slowKey", () -> {
+					loads.incrementAndGet();
+					loading.countDown();
+					releaseLoad.await(5, TimeUnit.SECONDS);
+					return "slowValue";
+				})));
+			}
+
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			// a slow load of one key does not block loading other keys
+			assertThat(executor.submit(() -> cache.get("otherKey", () -> "otherValue")).get(1, TimeUnit.SECONDS))
+				.isEqualTo("otherValue");
+
+			releaseLoad.countDown();
+
+			for (Future<Object> result : slowKeyResults) {
+				assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("slowValue");
+			}
+
+			assertThat(loads.get()).isEqualTo(1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getWithValueLoaderReleasesConcurrentCallersWhenLoaderThrowsError() throws Exception {
+		when(mockRegion.get(any())).thenReturn(null);
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch releaseLoad = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			Future<Object> failedLoad = executor.submit(() -> cache.get("key", () -> {
+				loading.countDown();
+				releaseLoad.await(5, TimeUnit.SECONDS);
+				throw new AssertionError("test");
+			}));
+
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			Future<Object> waitingLoad = executor.submit(() -> cache.get("key", () -> "value"));
+
+			releaseLoad.countDown();
+
+			assertThatThrownBy(() -> failedLoad.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+			assertThat(waitingLoad.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getWithValueLoaderFailsRecursiveLoadOfSameKey() {
+		when(mockRegion.get(any())).thenReturn(null);
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		assertThatThrownBy(() -> cache.get("key", () -> cache.get("key", () -> "value")))
+			.isInstanceOf(Cache.ValueRetrievalException.class)
+			.hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderUsingPutIfAbsentReturnsValueStoredFirst() throws Exception {
+		when(mockRegion.get(anyString())).thenReturn(null);
+		when(mockRegion.putIfAbsent(eq("key"), eq("mockValue"))).thenReturn("existingValue");
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setLoadCoordination(GemfireCache.LoadCoordination.PUT_IF_ABSENT);
+
+		assertThat(cache.get("key", mockCallable)).isEqualTo("existingValue");
+
+		verify(mockRegion, never()).put(any(), any());
+	}
+
+	@Test
+	public void getWithValueLoaderUsingDistributedLockLoadsValueWhileHoldingLock() throws Exception {
+		Lock mockLock = mock(Lock.class);
+
+		when(mockRegion.get(anyString())).thenReturn(null);
+		when(mockRegion.getDistributedLock(eq("key"))).thenReturn(mockLock);
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setLoadCoordination(GemfireCache.LoadCoordination.DISTRIBUTED_LOCK);
+
+		assertThat(cache.get("key", mockCallable)).isEqualTo("mockValue");
+
+		InOrder inOrder = inOrder(mockLock, mockCallable);
+
+		inOrder.verify(mockLock).lock();
+		inOrder.verify(mockCallable).call();
+		inOrder.verify(mockLock).unlock();
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void putCachesValue() {
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit tests for {@link TieredGemfireCache} and {@link TieredGemfireCacheManager}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.cache.TieredGemfireCache
+ * @see org.springframework.data.gemfire.cache.TieredGemfireCacheManager
+ * @since 2.1.0
+ */
+@SuppressWarnings("unchecked")
+public class TieredGemfireCacheUnitTests {
+
+	private AttributesMutator<Object, Object> mockAttributesMutator;
+
+	private LocalCacheSpec localCacheSpec;
+
+	private Region<Object, Object> mockRegion;
+
+	@Before
+	public void setup() {
+
+		mockAttributesMutator = mock(AttributesMutator.class);
+		mockRegion = mock(Region.class);
+		localCacheSpec = new LocalCacheSpec();
+
+		when(mockRegion.getName()).thenReturn("Example");
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+	}
+
+	private CacheListener<Object, Object> captureCacheListener() {
+
+		ArgumentCaptor<CacheListener> cacheListener = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(mockAttributesMutator, times(1)).addCacheListener(cacheListener.capture());
+
+		return cacheListener.getValue();
+	}
+
+	private EntryEvent<Object, Object> newEntryEvent(Object key, boolean originRemote) {
+
+		EntryEvent<Object, Object> mockEvent = mock(EntryEvent.class);
+
+		when(mockEvent.getKey()).thenReturn(key);
+		when(mockEvent.isOriginRemote()).thenReturn(originRemote);
+
+		return mockEvent;
+	}
+
+	@Test
+	public void repeatedReadsAreServedByLocalTier() {
+
+		when(mockRegion.get(eq("key"))).thenReturn("value");
+
+		TieredGemfireCache cache = new TieredGemfireCache(mockRegion, localCacheSpec);
+
+		assertThat(cache.get("key").get()).isEqualTo("value");
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+		assertThat(cache.get("key", () -> "loadedValue")).isEqualTo("value");
+
+		verify(mockRegion, times(1)).get(eq("key"));
+
+		assertThat(cache.getLocalStatistics().getHitCount()).isEqualTo(2L);
+		assertThat(cache.getLocalStatistics().getMissCount()).isEqualTo(1L);
+		assertThat(cache.getRegionStatistics().getHitCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void putWritesThroughToRegionAndLocalTier() {
+
+		TieredGemfireCache cache = new TieredGemfireCache(mockRegion, localCacheSpec);
+
+		cache.put("key", "value");
+
+		assertThat(cache.get("key").get()).isEqualTo("value");
+
+		verify(mockRegion, times(1)).put(eq("key"), eq("value"));
+		verify(mockRegion, never()).get(any());
+	}
+
+	@Test
+	public void getAllReadsOnlyLocallyMissingKeysFromRegion() {
+
+		when(mockRegion.getAll(eq(Arrays.asList("two", "three")))).thenReturn(Collections.singletonMap("two", 2));
+
+		TieredGemfireCache cache = new TieredGemfireCache(mockRegion, localCacheSpec);
+
+		cache.put("one", 1);
+
+		assertThat(cache.getAll(Arrays.asList("one", "two", "three"))).containsOnlyKeys("one", "two");
+		assertThat(cache.getAll(Arrays.asList("two", "one"))).containsOnlyKeys("two", "one");
+
+		verify(mockRegion, times(1)).getAll(any());
+		assertThat(cache.getRegionStatistics().getHitCount()).isEqualTo(1L);
+		assertThat(cache.getRegionStatistics().getMissCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedEntryWhenMaxEntriesIsExceeded() {
+
+		localCacheSpec.setMaxEntries(2);
+
+		TieredGemfireCache cache = new TieredGemfireCache(mockRegion, localCacheSpec);
+
+		cache.put("one", 1);
+		cache.put("two", 2);
+		cache.get("one");
+		cache.put("three", 3);
+
+		assertThat(cache.getLocalSize()).isEqualTo(2);
+		assertThat(cache.getLocalStatistics().getEvictionCount()).isEqualTo(1L);
+
+		cache.get("two");
+
+		verify(mockRegion, times(1)).get(eq("two"));
+		verify(mockRegion, never()).get(eq("one"));
+	}
+
+	@Test
+	public void evictsEntriesWhenMaxWeightIsExceeded() {
+
+		localCacheSpec.setMaxWeight(10L);
+		localCacheSpec.setWeigher((key, value) -> String.valueOf(value).length());
+
+		TieredGemfireCache cache = new TieredGemfireCache(mockRegion, localCacheSpec);
+
+		cache.put("one", "123456");
+		cache.put("two", "123456");
+
+		assertThat(cache.getLocalSize()).isEqualTo(1);
+		assertThat(cache.getLocalStatistics().getEvictionCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void expiresEntriesAfterTimeToLive() throws Exception {
+
+		localCacheSpec.setTimeToLive(20L);
+
+		when(mockRegion.get(eq("key"))).thenReturn("value");
+
+		TieredGemfireCache cache = new TieredGemfireCache(mockRegion, localCacheSpec);
+
+		cache.get("key");
+		cache.get("key");
+
+		verify(mockRegion, times(1)).get(eq("key"));
+
+		Thread.sleep(50L);
+
+		cache.get("key");
+
+		verify(mockRegion, times(2)).get(eq("key"));
+		assertThat(cache.getLocalStatistics().getExpirationCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void remoteRegionEventsInvalidateLocalTier() {
+
+		TieredGemfireCache cache = new TieredGemfireCache(mockRegion, localCacheSpec).subscribeToRegionEvents(true);
+
+		CacheListener<Object, Object> listener = captureCacheListener();
+
+		cache.put("local", 1);
+		cache.put("remote", 2);
+
+		listener.afterUpdate(newEntryEvent("local", false));
+		listener.afterUpdate(newEntryEvent("remote", true));
+
+		assertThat(cache.getLocalSize()).isEqualTo(1);
+		assertThat(cache.getLocalStatistics().getInvalidationCount()).isEqualTo(1L);
+
+		listener.afterRegionClear(mock(RegionEvent.class));
+
+		assertThat(cache.getLocalSize()).isEqualTo(0);
+	}
+
+	@Test
+	public void managerCreatesTieredCachesWithLocalCacheSpecOfCacheName() {
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+
+		LocalCacheSpec exampleSpec = new LocalCacheSpec();
+
+		exampleSpec.setMaxEntries(1);
+
+		TieredGemfireCacheManager cacheManager = new TieredGemfireCacheManager();
+
+		cacheManager.setLocalCacheSpecs(Collections.singletonMap("Example", exampleSpec));
+		cacheManager.setLoadCoordination(GemfireCache.LoadCoordination.PUT_IF_ABSENT);
+
+		GemfireCache cache = cacheManager.newGemfireCache(mockRegion);
+
+		assertThat(cache).isInstanceOf(TieredGemfireCache.class);
+		assertThat(cache.getLoadCoordination()).isEqualTo(GemfireCache.LoadCoordination.PUT_IF_ABSENT);
+
+		cache.put("one", 1);
+		cache.put("two", 2);
+
+		assertThat(((TieredGemfireCache) cache).getLocalSize()).isEqualTo(1);
+
+		captureCacheListener();
+
+		verify(mockRegion, never()).registerInterest(any(), any(InterestResultPolicy.class));
+	}
+
+	@Test
+	public void managerRegistersInterestWhenConfigured() {
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+
+		TieredGemfireCacheManager cacheManager = new TieredGemfireCacheManager();
+
+		cacheManager.setRegisterInterest(true);
+		cacheManager.newGemfireCache(mockRegion);
+
+		captureCacheListener();
+
+		verify(mockRegion, times(1)).registerInterest(eq("ALL_KEYS"), eq(InterestResultPolicy.NONE));
+	}
+
+	@Test
+	public void regionValueReadWhileEntryIsInvalidatedIsNotKeptLocally() {
+
+		TieredGemfireCache cache = new TieredGemfireCache(mockRegion, localCacheSpec).subscribeToRegionEvents(false);
+
+		CacheListener<Object, Object> listener = captureCacheListener();
+
+		when(mockRegion.get(eq("key"))).thenAnswer(invocation -> {
+			listener.afterUpdate(newEntryEvent("key", true));
+			return "staleValue";
+		});
+
+		assertThat(cache.get("key").get()).isEqualTo("staleValue");
+		assertThat(cache.getLocalSize()).isEqualTo(0);
+
+		when(mockRegion.get(eq("key"))).thenReturn("value");
+
+		assertThat(cache.get("key").get()).isEqualTo("value");
+		assertThat(cache.get("key").get()).isEqualTo("value");
+		assertThat(cache.getLocalSize()).isEqualTo(1);
+
+		verify(mockRegion, times(2)).get(eq("key"));
+	}
+
+	@Test
+	public void regionValueDoesNotReplaceValuePutConcurrently() {
+
+		TieredGemfireCache cache = new TieredGemfireCache(mockRegion, localCacheSpec);
+
+		when(mockRegion.get(eq("key"))).thenAnswer(invocation -> {
+			cache.put("key", "newValue");
+			return "oldValue";
+		});
+
+		assertThat(cache.get("key").get()).isEqualTo("oldValue");
+		assertThat(cache.get("key").get()).isEqualTo("newValue");
+
+		verify(mockRegion, times(1)).get(eq("key"));
+	}
+
+	@Test
+	public void putIfAbsentOfExistingKeyDoesNotCountPut() {
+
+		when(mockRegion.putIfAbsent(eq("key"), eq("newValue"))).thenReturn("value");
+
+		TieredGemfireCache cache = new TieredGemfireCache(mockRegion, localCacheSpec);
+
+		assertThat(cache.putIfAbsent("key", "newValue").get()).isEqualTo("value");
+		assertThat(cache.getRegionStatistics().getPutCount()).isEqualTo(0L);
+		assertThat(cache.get("key").get()).isEqualTo("value");
+
+		assertThat(cache.putIfAbsent("otherKey", "otherValue")).isNull();
+		assertThat(cache.getRegionStatistics().getPutCount()).isEqualTo(1L);
+
+		verify(mockRegion, never()).get(any());
+	}
+
+	@Test
+	public void localTierIsSegmentedWithinLimits() {
+
+		localCacheSpec.setMaxEntries(100);
+
+		LocalCacheTier localTier = new LocalCacheTier(localCacheSpec, new CacheTierStatistics(), 8);
+
+		assertThat(localTier.getSegmentCount()).isEqualTo(4);
+
+		for (int key = 0; key < 1000; key++) {
+			localTier.put(key, key);
+		}
+
+		assertThat(localTier.size()).isEqualTo(100);
+		assertThat(new LocalCacheTier(localCacheSpec, new CacheTierStatistics(), 1).getSegmentCount())
+			.isEqualTo(1);
+	}
+}
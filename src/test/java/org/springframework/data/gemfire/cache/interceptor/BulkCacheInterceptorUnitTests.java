@@ -0,0 +1,236 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.cache.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.geode.cache.Region;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.gemfire.cache.GemfireCache;
+import org.springframework.data.gemfire.cache.annotation.BulkCacheable;
+
+/**
+ * Unit tests for {@link BulkCacheInterceptor} and {@link BulkCacheableAdvisor}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.cache.annotation.BulkCacheable
+ * @see org.springframework.data.gemfire.cache.interceptor.BulkCacheInterceptor
+ * @see org.springframework.data.gemfire.cache.interceptor.BulkCacheableAdvisor
+ * @since 2.1.0
+ */
+@SuppressWarnings("unchecked")
+public class BulkCacheInterceptorUnitTests {
+
+	private BulkCacheInterceptor interceptor;
+
+	private PriceService priceService;
+
+	private Region<Object, Object> mockRegion;
+
+	private TestPriceService target;
+
+	@Before
+	public void setup() {
+
+		mockRegion = mock(Region.class);
+
+		when(mockRegion.getName()).thenReturn("Prices");
+
+		SimpleCacheManager cacheManager = new SimpleCacheManager();
+
+		cacheManager.setCaches(Collections.singletonList(GemfireCache.wrap(mockRegion)));
+		cacheManager.afterPropertiesSet();
+
+		interceptor = new BulkCacheInterceptor();
+		interceptor.setCacheManager(cacheManager);
+
+		target = new TestPriceService();
+		priceService = newProxy(target, interceptor);
+	}
+
+	private PriceService newProxy(PriceService target, BulkCacheInterceptor interceptor) {
+
+		ProxyFactory proxyFactory = new ProxyFactory(target);
+
+		proxyFactory.addAdvisor(new BulkCacheableAdvisor(interceptor));
+
+		return (PriceService) proxyFactory.getProxy();
+	}
+
+	private Map<Object, Object> mapOf(Object... keysAndValues) {
+
+		Map<Object, Object> map = new HashMap<>();
+
+		for (int index = 0; index < keysAndValues.length; index += 2) {
+			map.put(keysAndValues[index], keysAndValues[index + 1]);
+		}
+
+		return map;
+	}
+
+	@Test
+	public void loadsOnlyMissingKeysAndCachesThemWithSinglePutAll() {
+
+		when(mockRegion.getAll(anyCollection())).thenReturn(mapOf("A", 1.0d, "B", null, "C", 3.0d, "D", null));
+
+		Map<String, Double> prices = priceService.getPrices(Arrays.asList("A", "B", "C", "D"));
+
+		assertThat(prices).containsExactly(entry("A", 1.0d), entry("B", 20.0d), entry("C", 3.0d),
+			entry("D", 40.0d));
+
+		assertThat(target.requestedKeys).containsExactly(Arrays.asList("B", "D"));
+
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList("A", "B", "C", "D")));
+		verify(mockRegion, times(1)).putAll(eq(mapOf("B", 20.0d, "D", 40.0d)));
+		verify(mockRegion, never()).get(eq("A"));
+	}
+
+	@Test
+	public void doesNotInvokeMethodWhenAllKeysAreCached() {
+
+		when(mockRegion.getAll(anyCollection())).thenReturn(mapOf("A", 1.0d, "B", 2.0d));
+
+		assertThat(priceService.getPrices(Arrays.asList("A", "B"))).containsExactly(entry("A", 1.0d),
+			entry("B", 2.0d));
+
+		assertThat(target.requestedKeys).isEmpty();
+
+		verify(mockRegion, never()).putAll(anyMap());
+	}
+
+	@Test
+	public void passesMissingKeysInCollectionTypeOfParameter() {
+
+		when(mockRegion.getAll(anyCollection())).thenReturn(mapOf("A", 1.0d));
+
+		Map<String, Double> prices = priceService.getPricesInCurrency("EUR",
+			new LinkedHashSet<>(Arrays.asList("A", "B")));
+
+		assertThat(prices).containsExactly(entry("A", 1.0d), entry("B", 20.0d));
+		assertThat(target.requestedKeys).hasSize(1);
+		assertThat(target.requestedKeys.get(0)).isInstanceOf(Set.class).containsExactly("B");
+	}
+
+	@Test
+	public void keysWithoutLoadedValuesAreNotCached() {
+
+		when(mockRegion.getAll(anyCollection())).thenReturn(mapOf("A", null, "X", null));
+
+		Map<String, Double> prices = priceService.getPrices(Arrays.asList("A", "X"));
+
+		assertThat(prices).containsExactly(entry("A", 10.0d));
+
+		verify(mockRegion, times(1)).putAll(eq(mapOf("A", 10.0d)));
+	}
+
+	@Test
+	public void usesSingleKeyOperationsForOtherCaches() {
+
+		BulkCacheInterceptor interceptor = new BulkCacheInterceptor();
+
+		interceptor.setCacheManager(new ConcurrentMapCacheManager("Prices"));
+
+		TestPriceService target = new TestPriceService();
+		PriceService priceService = newProxy(target, interceptor);
+
+		priceService.getPrices(Arrays.asList("A", "B"));
+		priceService.getPrices(Arrays.asList("A", "B", "C"));
+
+		assertThat(target.requestedKeys).containsExactly(Arrays.asList("A", "B"), Collections.singletonList("C"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void methodNotReturningMapThrowsIllegalStateException() {
+		priceService.getPriceList(Collections.singletonList("A"));
+	}
+
+	private static Map.Entry<String, Double> entry(String key, Double value) {
+		return new AbstractMap.SimpleImmutableEntry<>(key, value);
+	}
+
+	public interface PriceService {
+
+		@BulkCacheable("Prices")
+		Map<String, Double> getPrices(List<String> instrumentIds);
+
+		@BulkCacheable(cacheName = "Prices", keysParameterIndex = 1)
+		Map<String, Double> getPricesInCurrency(String currency, Set<String> instrumentIds);
+
+		@BulkCacheable("Prices")
+		List<Double> getPriceList(List<String> instrumentIds);
+
+	}
+
+	static class TestPriceService implements PriceService {
+
+		final List<Collection<String>> requestedKeys = new CopyOnWriteArrayList<>();
+
+		@Override
+		public Map<String, Double> getPrices(List<String> instrumentIds) {
+			return load(instrumentIds);
+		}
+
+		@Override
+		public Map<String, Double> getPricesInCurrency(String currency, Set<String> instrumentIds) {
+			return load(instrumentIds);
+		}
+
+		@Override
+		public List<Double> getPriceList(List<String> instrumentIds) {
+			return new ArrayList<>(load(instrumentIds).values());
+		}
+
+		private Map<String, Double> load(Collection<String> instrumentIds) {
+
+			this.requestedKeys.add(instrumentIds);
+
+			Map<String, Double> prices = new LinkedHashMap<>();
+
+			instrumentIds.stream().filter(id -> !"X".equals(id))
+				.forEach(id -> prices.put(id, (id.charAt(0) - 'A' + 1) * 10.0d));
+
+			return prices;
+		}
+	}
+}
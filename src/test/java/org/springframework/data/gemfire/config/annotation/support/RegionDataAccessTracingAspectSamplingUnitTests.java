@@ -0,0 +1,205 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Region;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.springframework.data.gemfire.util.LatencyHistogram;
+
+/**
+ * Unit tests for the sampling, timing and slow operation capture of {@link RegionDataAccessTracingAspect}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect
+ * @since 2.1.0
+ */
+public class RegionDataAccessTracingAspectSamplingUnitTests {
+
+	private Logger mockLogger;
+
+	private ProceedingJoinPoint mockJoinPoint;
+
+	private RegionDataAccessTracingAspect aspect;
+
+	@Before
+	public void setup() throws Throwable {
+
+		mockLogger = mock(Logger.class);
+		mockJoinPoint = mock(ProceedingJoinPoint.class);
+
+		Region<?, ?> mockRegion = mock(Region.class);
+		Signature mockSignature = mock(Signature.class);
+
+		when(mockLogger.isTraceEnabled()).thenReturn(true);
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockSignature.getName()).thenReturn("get");
+		when(mockJoinPoint.getTarget()).thenReturn(mockRegion);
+		when(mockJoinPoint.getSignature()).thenReturn(mockSignature);
+		when(mockJoinPoint.proceed()).thenReturn("value");
+
+		aspect = new RegionDataAccessTracingAspect() {
+
+			@Override
+			protected Logger newLogger() {
+				return mockLogger;
+			}
+		};
+	}
+
+	private void invoke(int times) throws Throwable {
+		for (int count = 0; count < times; count++) {
+			assertThat(aspect.regionDataAccessTracingAdvice(mockJoinPoint)).isEqualTo("value");
+		}
+	}
+
+	@Test
+	public void recordsLatencyPerRegionAndOperation() throws Throwable {
+
+		invoke(3);
+
+		LatencyHistogram histogram = aspect.getLatencyHistogram("/Example", "get");
+
+		assertThat(histogram).isNotNull();
+		assertThat(histogram.getCount()).isEqualTo(3L);
+		assertThat(aspect.getLatencyHistograms()).containsOnlyKeys("/Example");
+		assertThat(aspect.getLatencyHistogram("/Example", "put")).isNull();
+	}
+
+	@Test
+	public void doesNotCaptureStackTraceWhenTraceLoggingIsDisabled() throws Throwable {
+
+		when(mockLogger.isTraceEnabled()).thenReturn(false);
+
+		invoke(1);
+
+		verify(mockLogger, never()).trace(anyString(), any(), any());
+		assertThat(aspect.getLatencyHistogram("/Example", "get").getCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void zeroSamplingRateTracesNoOperations() throws Throwable {
+
+		aspect.setSamplingRate(0.0d);
+
+		invoke(10);
+
+		verify(mockLogger, never()).trace(anyString(), any(), any());
+	}
+
+	@Test
+	public void rateLimitBoundsTracedOperations() throws Throwable {
+
+		aspect.setRateLimit(2);
+
+		invoke(10);
+
+		verify(mockLogger, times(2)).trace(anyString(), any(), any());
+	}
+
+	@Test
+	public void capturesCallerFramesUpToMaxStackDepth() {
+
+		aspect.setMaxStackDepth(2);
+
+		List<StackTraceElement> callerFrames = aspect.captureCallerFrames();
+
+		assertThat(callerFrames).hasSize(2);
+		assertThat(callerFrames.get(0).getClassName()).isEqualTo(getClass().getName());
+		assertThat(callerFrames.get(0).getMethodName()).isEqualTo("capturesCallerFramesUpToMaxStackDepth");
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void currentThreadStackTraceFormatsCallerFrames() {
+
+		aspect.setMaxStackDepth(1);
+
+		String stackTrace = aspect.getCurrentThreadStackTrace();
+
+		assertThat(stackTrace).startsWith(String.format("%1$s\tat %2$s.currentThreadStackTraceFormatsCallerFrames(",
+			System.lineSeparator(), getClass().getName()));
+		assertThat(stackTrace.trim()).doesNotContain(System.lineSeparator());
+	}
+
+	@Test
+	public void recordsSlowOperationsAboveThreshold() throws Throwable {
+
+		aspect.setMaxSlowOperations(2);
+		aspect.setSlowOperationThreshold(1L, TimeUnit.MILLISECONDS);
+
+		when(mockJoinPoint.proceed()).thenAnswer(invocation -> {
+			Thread.sleep(5L);
+			return "value";
+		});
+
+		invoke(3);
+
+		assertThat(aspect.getSlowOperations()).hasSize(2);
+
+		RegionDataAccessTracingAspect.SlowOperation slowOperation = aspect.getSlowOperations().get(0);
+
+		assertThat(slowOperation.getRegionPath()).isEqualTo("/Example");
+		assertThat(slowOperation.getOperation()).isEqualTo("get");
+		assertThat(slowOperation.getDurationNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1L));
+		assertThat(slowOperation.getCallerFrames()).extracting(StackTraceElement::getMethodName).contains("invoke");
+
+		verify(mockLogger, times(3)).warn(anyString(), eq("get"), eq("/Example"), any(), any());
+	}
+
+	@Test
+	public void slowOperationRateLimitBoundsCapturedSlowOperations() throws Throwable {
+
+		aspect.setSlowOperationRateLimit(2);
+		aspect.setSlowOperationThreshold(1L, TimeUnit.NANOSECONDS);
+
+		when(mockJoinPoint.proceed()).thenAnswer(invocation -> {
+			Thread.sleep(1L);
+			return "value";
+		});
+
+		invoke(5);
+
+		assertThat(aspect.getSlowOperations()).hasSize(2);
+		assertThat(aspect.getLatencyHistogram("/Example", "get").getCount()).isEqualTo(5L);
+
+		verify(mockLogger, times(2)).warn(anyString(), eq("get"), eq("/Example"), any(), any());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void samplingRateGreaterThanOneThrowsIllegalArgumentException() {
+		aspect.setSamplingRate(1.5d);
+	}
+}
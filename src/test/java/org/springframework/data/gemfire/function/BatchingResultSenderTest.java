@@ -16,9 +16,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.execute.ResultSender;
 import org.junit.Test;
@@ -49,6 +54,167 @@ public class BatchingResultSenderTest {
 		testBatchingResultSender(new TestListResultSender(),1000);
 	}
 
+	@Test
+	public void testPrimitiveArrayChunking() {
+
+		int[] result = IntStream.range(0, 100).toArray();
+
+		TestPrimitiveArrayResultSender resultSender = new TestPrimitiveArrayResultSender();
+
+		new BatchingResultSender(9, resultSender).sendArrayResults(result);
+
+		assertEquals(100, resultSender.getResults().size());
+		assertEquals(1, resultSender.getLastResultCount());
+		assertEquals(12, resultSender.getSendCount());
+
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, resultSender.getResults().get(i));
+		}
+	}
+
+	@Test
+	public void testPrimitiveArrayChunkingBySize() {
+
+		long[] result = new long[100];
+
+		TestPrimitiveArrayResultSender resultSender = new TestPrimitiveArrayResultSender();
+
+		new BatchingResultSender(0, 80, resultSender).sendArrayResults(result);
+
+		assertEquals(100, resultSender.getResults().size());
+		assertEquals(1, resultSender.getLastResultCount());
+		assertEquals(10, resultSender.getSendCount());
+	}
+
+	@Test
+	public void testLastResultSentForEvenlyDividedArray() {
+
+		TestArrayResultSender resultSender = new TestArrayResultSender();
+
+		new BatchingResultSender(10, resultSender).sendArrayResults(new Integer[100]);
+
+		assertEquals(1, resultSender.getLastResultCount());
+		assertEquals(10, resultSender.getSendCount());
+	}
+
+	@Test
+	public void testIteratorChunking() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		new BatchingResultSender(9, resultSender).sendResults(IntStream.range(0, 100).boxed().iterator());
+
+		assertEquals(100, resultSender.getResults().size());
+		assertEquals(1, resultSender.getLastResultCount());
+		assertEquals(12, resultSender.getSendCount());
+
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, resultSender.getResults().get(i));
+		}
+	}
+
+	@Test
+	public void testStreamChunkingClosesStream() {
+
+		AtomicBoolean closed = new AtomicBoolean(false);
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		Stream<Integer> result = IntStream.range(0, 100).boxed().onClose(() -> closed.set(true));
+
+		new BatchingResultSender(10, resultSender).sendResults(result);
+
+		assertEquals(100, resultSender.getResults().size());
+		assertEquals(1, resultSender.getLastResultCount());
+		assertTrue(closed.get());
+	}
+
+	@Test
+	public void testStreamWithoutBatchingSendsSingleLastResult() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		new BatchingResultSender(0, resultSender).sendResults(IntStream.range(0, 100).boxed());
+
+		assertEquals(100, resultSender.getResults().size());
+		assertEquals(1, resultSender.getLastResultCount());
+		assertEquals(1, resultSender.getSendCount());
+	}
+
+	@Test
+	public void testIteratorChunkingBySize() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		new BatchingResultSender(0, 100, object -> 10, resultSender)
+			.sendResults(IntStream.range(0, 100).boxed().iterator());
+
+		assertEquals(100, resultSender.getResults().size());
+		assertEquals(1, resultSender.getLastResultCount());
+		assertEquals(11, resultSender.getSendCount());
+	}
+
+	@Test
+	public void testIteratorChunkIsSentBeforeNextElementIsRequested() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		Iterator<Integer> result = new Iterator<Integer>() {
+
+			private int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				assertEquals(next / 10, resultSender.getSendCount());
+				return next < 20;
+			}
+
+			@Override
+			public Integer next() {
+				return next++;
+			}
+		};
+
+		new BatchingResultSender(10, resultSender).sendResults(result);
+
+		assertEquals(20, resultSender.getResults().size());
+		assertEquals(3, resultSender.getSendCount());
+	}
+
+	@Test
+	public void testObjectArrayChunkingBySize() {
+
+		TestArrayResultSender resultSender = new TestArrayResultSender();
+
+		Integer[] result = IntStream.range(0, 100).boxed().toArray(Integer[]::new);
+
+		new BatchingResultSender(0, 100, object -> 10, resultSender).sendArrayResults(result);
+
+		assertEquals(100, resultSender.getResults().size());
+		assertEquals(1, resultSender.getLastResultCount());
+		assertEquals(10, resultSender.getSendCount());
+
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, resultSender.getResults().get(i));
+		}
+	}
+
+	@Test
+	public void testEmptyResultsSendLastResult() {
+
+		TestListResultSender listResultSender = new TestListResultSender();
+
+		new BatchingResultSender(10, listResultSender).sendResults(new ArrayList<>());
+
+		assertEquals(1, listResultSender.getLastResultCount());
+
+		TestArrayResultSender arrayResultSender = new TestArrayResultSender();
+
+		new BatchingResultSender(10, arrayResultSender).sendArrayResults(new Integer[0]);
+
+		assertEquals(1, arrayResultSender.getLastResultCount());
+	}
+
 	private void testBatchingResultSender(AbstractTestResultSender resultSender, int batchSize){
 		BatchingResultSender brs = new BatchingResultSender(batchSize, resultSender);
 
@@ -74,11 +240,16 @@ public class BatchingResultSenderTest {
 	public static abstract class AbstractTestResultSender implements ResultSender<Object> {
 		private List<Object> results = new ArrayList<Object>();
 
+		private int lastResultCount;
+		private int sendCount;
+
 		/* (non-Javadoc)
 		 * @see org.apache.geode.cache.execute.ResultSender#lastResult(java.lang.Object)
 		 */
 		@Override
 		public void lastResult(Object arg0) {
+			lastResultCount++;
+			sendCount++;
 			if (arg0 == null) {
 				return;
 			}
@@ -99,6 +270,7 @@ public class BatchingResultSenderTest {
 		 */
 		@Override
 		public void sendResult(Object arg0) {
+			sendCount++;
 			if (arg0 == null) {
 				return;
 			}
@@ -111,6 +283,14 @@ public class BatchingResultSenderTest {
 			return this.results;
 		}
 
+		public int getLastResultCount() {
+			return this.lastResultCount;
+		}
+
+		public int getSendCount() {
+			return this.sendCount;
+		}
+
 
 	}
 
@@ -125,6 +305,16 @@ public class BatchingResultSenderTest {
 		}
 	}
 
+	public static class TestPrimitiveArrayResultSender extends AbstractTestResultSender {
+
+		protected void addResults(Object arg0, List<Object> results) {
+			assertTrue(arg0.getClass().getComponentType().isPrimitive());
+			for (int i = 0, length = Array.getLength(arg0); i < length; i++) {
+				results.add(Array.get(arg0, i));
+			}
+		}
+	}
+
 	public static class TestListResultSender extends AbstractTestResultSender {
 		protected void addResults(Object arg0, List<Object> results) {
 			if (arg0 == null) {
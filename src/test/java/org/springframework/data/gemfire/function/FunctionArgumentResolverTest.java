@@ -285,6 +285,32 @@ public class FunctionArgumentResolverTest {
         assertSame(resultSender, args[1]);
     }
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMethodWithResultSenderBeforeRegionAndArguments() throws NoSuchMethodException {
+
+		RegionFunctionContext functionContext = mock(RegionFunctionContext.class);
+		ResultSender resultSender = mock(ResultSender.class);
+		Region<Object, Object> region = mock(Region.class);
+
+		Method method = TestFunction.class.getDeclaredMethod("methodWithResultSenderBeforeRegion",
+			ResultSender.class, String.class, Region.class, Object.class);
+
+		FunctionArgumentResolver far = new FunctionContextInjectingArgumentResolver(method);
+
+		when(functionContext.getArguments()).thenReturn(new Object[] { "one", "two" });
+		when(functionContext.getDataSet()).thenReturn(region);
+		when(functionContext.getResultSender()).thenReturn(resultSender);
+
+		Object[] args = far.resolveFunctionArguments(functionContext);
+
+		assertEquals(4, args.length);
+		assertSame(resultSender, args[0]);
+		assertEquals("one", args[1]);
+		assertSame(region, args[2]);
+		assertEquals("two", args[3]);
+	}
+
 	@SuppressWarnings("unused")
     static class TestFunction {
 
@@ -309,6 +335,9 @@ public class FunctionArgumentResolverTest {
         public void methodWithFilterAndRegion(@RegionData Map<String, Object> region, @Filter Set<String> keys, Object arg) {
         }
 
+        public void methodWithResultSenderBeforeRegion(ResultSender<?> rs, String s1, Region<?, ?> region, Object arg) {
+        }
+
         //Invalid Method Signatures
         public void methodWithMultipleRegionData(@RegionData Map<?, ?> r1, @RegionData Map<?, ?> r2) {
         }
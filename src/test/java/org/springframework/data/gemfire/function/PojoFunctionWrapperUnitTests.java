@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.junit.Test;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link PojoFunctionWrapper}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.PojoFunctionWrapper
+ * @since 2.1.0
+ */
+@SuppressWarnings("unchecked")
+public class PojoFunctionWrapperUnitTests {
+
+	private FunctionContext newFunctionContext(ResultSender<Object> resultSender, Object... args) {
+
+		FunctionContext mockFunctionContext = mock(FunctionContext.class);
+
+		when(mockFunctionContext.getArguments()).thenReturn(args);
+		when(mockFunctionContext.getResultSender()).thenReturn(resultSender);
+
+		return mockFunctionContext;
+	}
+
+	@Test
+	public void executesInstanceMethod() {
+
+		ResultSender<Object> mockResultSender = mock(ResultSender.class);
+
+		new PojoFunctionWrapper(new Functions(), ReflectionUtils.findMethod(Functions.class, "greet", String.class),
+			null).execute(newFunctionContext(mockResultSender, "Jon"));
+
+		verify(mockResultSender).lastResult(eq("Hello Jon"));
+	}
+
+	@Test
+	public void executesStaticMethod() {
+
+		ResultSender<Object> mockResultSender = mock(ResultSender.class);
+
+		new PojoFunctionWrapper(new Functions(), ReflectionUtils.findMethod(Functions.class, "concat", String.class,
+			String.class), null).execute(newFunctionContext(mockResultSender, "one", "two"));
+
+		verify(mockResultSender).lastResult(eq("onetwo"));
+	}
+
+	public static class Functions {
+
+		public static String concat(String one, String two) {
+			return one + two;
+		}
+
+		public String greet(String name) {
+			return "Hello " + name;
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.springframework.data.gemfire.function.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.ResultSender;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.data.gemfire.function.FunctionExecutionMetrics;
+import org.springframework.data.gemfire.function.SimpleFunctionExecutionMetrics;
+import org.springframework.data.gemfire.function.annotation.GemfireFunction;
+
+/**
+ * Unit tests for the resolution of the {@link FunctionExecutionMetrics} bean by
+ * the {@link GemfireFunctionBeanPostProcessor}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.config.GemfireFunctionBeanPostProcessor
+ * @since 2.1.0
+ */
+public class GemfireFunctionBeanPostProcessorUnitTests {
+
+	private static final String FUNCTION_ID = "postProcessedFunction";
+
+	@After
+	public void tearDown() {
+		FunctionService.unregisterFunction(FUNCTION_ID);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void invokeFunction() {
+
+		FunctionContext mockFunctionContext = mock(FunctionContext.class);
+
+		when(mockFunctionContext.getArguments()).thenReturn(new Object[0]);
+		when(mockFunctionContext.getResultSender()).thenReturn(mock(ResultSender.class));
+
+		FunctionService.getFunction(FUNCTION_ID).execute(mockFunctionContext);
+	}
+
+	private GemfireFunctionBeanPostProcessor newBeanPostProcessor(DefaultListableBeanFactory beanFactory) {
+
+		GemfireFunctionBeanPostProcessor beanPostProcessor = new GemfireFunctionBeanPostProcessor();
+
+		beanPostProcessor.setBeanFactory(beanFactory);
+		beanPostProcessor.postProcessAfterInitialization(new Functions(), "functions");
+
+		return beanPostProcessor;
+	}
+
+	@Test
+	public void resolvesMetricsBeanOnFirstInvocation() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerBeanDefinition("metrics", new RootBeanDefinition(SimpleFunctionExecutionMetrics.class));
+
+		newBeanPostProcessor(beanFactory);
+
+		assertThat(beanFactory.containsSingleton("metrics")).isFalse();
+
+		invokeFunction();
+
+		assertThat(beanFactory.getBean("metrics", SimpleFunctionExecutionMetrics.class)
+			.getInvocationLatencies(FUNCTION_ID).get("unknown").getCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void resolvesPrimaryMetricsBean() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		FunctionExecutionMetrics mockMetrics = mock(FunctionExecutionMetrics.class);
+
+		RootBeanDefinition primaryBeanDefinition = new RootBeanDefinition(FunctionExecutionMetrics.class,
+			() -> mockMetrics);
+
+		primaryBeanDefinition.setPrimary(true);
+
+		beanFactory.registerBeanDefinition("primaryMetrics", primaryBeanDefinition);
+		beanFactory.registerBeanDefinition("metrics", new RootBeanDefinition(SimpleFunctionExecutionMetrics.class));
+
+		newBeanPostProcessor(beanFactory);
+		invokeFunction();
+
+		verify(mockMetrics).recordInvocation(eq(FUNCTION_ID), eq("unknown"), anyLong(), eq(true));
+	}
+
+	@Test
+	public void ambiguousMetricsBeansAreNotUsed() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerBeanDefinition("metricsOne", new RootBeanDefinition(SimpleFunctionExecutionMetrics.class));
+		beanFactory.registerBeanDefinition("metricsTwo", new RootBeanDefinition(SimpleFunctionExecutionMetrics.class));
+
+		GemfireFunctionBeanPostProcessor beanPostProcessor = newBeanPostProcessor(beanFactory);
+
+		invokeFunction();
+
+		assertThat(beanPostProcessor.resolveMetrics()).isSameAs(FunctionExecutionMetrics.NONE);
+		assertThat(beanFactory.containsSingleton("metricsOne")).isFalse();
+		assertThat(beanFactory.containsSingleton("metricsTwo")).isFalse();
+	}
+
+	public static class Functions {
+
+		@GemfireFunction(id = FUNCTION_ID)
+		public String greet() {
+			return "Hello";
+		}
+	}
+}
@@ -23,7 +23,9 @@ import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -36,17 +38,22 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.execute.Execution;
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.FunctionException;
 import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.gemfire.function.FunctionExecutionMetrics;
 
 /**
  * The AbstractFunctionExecutionTest class is a test suite of test cases testing the contract and functionality
@@ -195,4 +202,149 @@ public class AbstractFunctionExecutionTest {
 		functionExecution.setFunctionId("TestFunction").executeAndExtract();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeRecordsLatencyResultsAndMemberResponses() {
+
+		DistributedMember mockMember = mock(DistributedMember.class);
+		FunctionExecutionMetrics mockMetrics = mock(FunctionExecutionMetrics.class);
+
+		AtomicReference<ResultCollector> resultCollector = new AtomicReference<>();
+
+		when(mockMember.getId()).thenReturn("TestServer");
+		when(mockExecution.withArgs(any())).thenReturn(mockExecution);
+		when(mockExecution.withCollector(any(ResultCollector.class))).thenAnswer(invocation -> {
+			resultCollector.set(invocation.getArgument(0));
+			return mockExecution;
+		});
+		when(mockExecution.execute(eq("TestFunction"))).thenAnswer(invocation -> {
+			resultCollector.get().addResult(mockMember, "one");
+			resultCollector.get().addResult(mockMember, "two");
+			resultCollector.get().endResults();
+			return resultCollector.get();
+		});
+
+		Iterable<Object> results = newTestFunctionExecution().setFunctionId("TestFunction")
+			.setMetrics(mockMetrics).setArgs("arg").execute();
+
+		assertThat(results, is(equalTo((Iterable<Object>) Arrays.<Object>asList("one", "two"))));
+
+		verify(mockMetrics, times(1)).recordResult(eq("TestFunction"), eq("onTest"), eq("one"));
+		verify(mockMetrics, times(1)).recordResult(eq("TestFunction"), eq("onTest"), eq("two"));
+		verify(mockMetrics, times(1)).recordMemberResponse(eq("TestFunction"), eq("onTest"),
+			eq("TestServer"), anyLong());
+		verify(mockMetrics, times(1)).recordExecution(eq("TestFunction"), eq("onTest"), anyLong());
+		verify(mockMetrics, never()).recordException(any(), any(), any());
+		verify(mockMetrics, never()).recordTimeout(any(), any(), anyLong());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeRecordsTimeout() throws Exception {
+
+		FunctionExecutionMetrics mockMetrics = mock(FunctionExecutionMetrics.class);
+		ResultCollector mockResultCollector = mock(ResultCollector.class);
+
+		AtomicReference<ResultCollector> resultCollector = new AtomicReference<>();
+
+		when(mockResultCollector.getResult(50, TimeUnit.MILLISECONDS)).thenAnswer(invocation -> {
+			Thread.sleep(50);
+			throw new FunctionException("All results not received in time provided");
+		});
+
+		when(mockExecution.withArgs(any())).thenReturn(mockExecution);
+		when(mockExecution.withCollector(any(ResultCollector.class))).thenAnswer(invocation -> {
+			resultCollector.set(invocation.getArgument(0));
+			return mockExecution;
+		});
+		when(mockExecution.execute(eq("TestFunction"))).thenAnswer(invocation -> resultCollector.get());
+
+		try {
+			newTestFunctionExecution().setFunctionId("TestFunction").setMetrics(mockMetrics)
+				.setResultCollector(mockResultCollector).setTimeout(50).execute();
+
+			fail("Expected execution to time out");
+		}
+		catch (RuntimeException expected) {
+			assertThat(expected.getCause(), isA((Class) FunctionException.class));
+		}
+
+		verify(mockMetrics, times(1)).recordTimeout(eq("TestFunction"), eq("onTest"), anyLong());
+		verify(mockMetrics, never()).recordException(any(), any(), any());
+		verify(mockMetrics, never()).recordExecution(any(), any(), anyLong());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeAsStreamRecordsExecutionAtEndOfResults() {
+
+		DistributedMember mockMember = mock(DistributedMember.class);
+		FunctionExecutionMetrics mockMetrics = mock(FunctionExecutionMetrics.class);
+
+		AtomicReference<ResultCollector> resultCollector = new AtomicReference<>();
+
+		when(mockMember.getId()).thenReturn("TestServer");
+		when(mockExecution.withArgs(any())).thenReturn(mockExecution);
+		when(mockExecution.withCollector(any(ResultCollector.class))).thenAnswer(invocation -> {
+			resultCollector.set(invocation.getArgument(0));
+			return mockExecution;
+		});
+		when(mockExecution.execute(eq("TestFunction"))).thenAnswer(invocation -> {
+			resultCollector.get().addResult(mockMember, "one");
+			resultCollector.get().addResult(mockMember, "two");
+			resultCollector.get().endResults();
+			return resultCollector.get();
+		});
+
+		try (Stream<Object> results = newTestFunctionExecution().setFunctionId("TestFunction")
+				.setMetrics(mockMetrics).executeAsStream(Runnable::run, 10)) {
+
+			assertThat(results.collect(Collectors.toList()), is(equalTo(Arrays.<Object>asList("one", "two"))));
+		}
+
+		verify(mockMetrics, times(2)).recordResult(eq("TestFunction"), eq("onTest"), any());
+		verify(mockMetrics, times(1)).recordExecution(eq("TestFunction"), eq("onTest"), anyLong());
+		verify(mockMetrics, never()).recordException(any(), any(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeAsStreamTerminatesStreamWhenExecutionThrowsError() {
+
+		when(mockExecution.withArgs(any())).thenReturn(mockExecution);
+		when(mockExecution.withCollector(any(ResultCollector.class))).thenReturn(mockExecution);
+		when(mockExecution.execute(eq("TestFunction"))).thenThrow(new LinkageError("TEST"));
+
+		Stream<Object> results = newTestFunctionExecution().setFunctionId("TestFunction")
+			.executeAsStream(runnable -> {
+				try {
+					runnable.run();
+					fail("Expected Error to be rethrown");
+				}
+				catch (LinkageError expected) {
+				}
+			}, 10);
+
+		try {
+			results.count();
+			fail("Expected FunctionException");
+		}
+		catch (FunctionException expected) {
+			assertThat(expected.getCause(), isA((Class) LinkageError.class));
+		}
+	}
+
+	private AbstractFunctionExecution newTestFunctionExecution() {
+
+		return new AbstractFunctionExecution() {
+
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+
+			@Override protected String getTarget() {
+				return "onTest";
+			}
+		};
+	}
 }
@@ -15,23 +15,27 @@ package org.springframework.data.gemfire.function.execution;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import javax.annotation.Resource;
 
 import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.execute.DefaultResultCollector;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.data.gemfire.fork.ServerProcess;
+import org.springframework.data.gemfire.function.FunctionResultCombiner;
 import org.springframework.data.gemfire.function.annotation.GemfireFunction;
 import org.springframework.data.gemfire.function.annotation.RegionData;
 import org.springframework.data.gemfire.process.ProcessWrapper;
@@ -142,6 +146,47 @@ public class FunctionIntegrationTests extends ClientServerIntegrationTestsSuppor
 		assertEquals(5, template.<Integer>executeAndExtract("twoArg", "two", "three").intValue());
 	}
 
+	@Test
+	public void testCombinedAndReducedResult() {
+		GemfireOnRegionOperations template = new GemfireOnRegionFunctionTemplate(region);
+
+		assertEquals(6L, template.<Long>executeAndReduce("sumValues", Long::sum).longValue());
+	}
+
+	@Test
+	public void testOnRegionFunctionExecutionWithExecutionPolicy() {
+		FunctionExecutionPolicy executionPolicy = new FunctionExecutionPolicy();
+
+		executionPolicy.setIdempotentFunctionIds("noResult", "oneArg", "twoArg", "sumValues");
+		executionPolicy.setMaxAttempts(2);
+		executionPolicy.setMinHedgingDelay(1L);
+
+		GemfireOnRegionFunctionTemplate template = new GemfireOnRegionFunctionTemplate(region);
+
+		template.setExecutionPolicy(executionPolicy);
+		template.setResultCollector(new DefaultResultCollector());
+
+		assertNull(template.execute("noResult"));
+		assertEquals(2, template.<Integer>execute("oneArg", "two").iterator().next().intValue());
+		assertEquals(5, template.<Integer>executeAndExtract("twoArg", "two", "three").intValue());
+		assertEquals(6L, template.<Long>executeAndReduce("sumValues", Long::sum).longValue());
+		assertEquals(1, ((List<?>) template.getResultCollector().getResult()).size());
+	}
+
+	public static class SumCombiner implements FunctionResultCombiner<Integer, Long> {
+
+		@Override
+		public Long combine(Iterator<Integer> results) {
+			long sum = 0L;
+
+			while (results.hasNext()) {
+				sum += results.next();
+			}
+
+			return sum;
+		}
+	}
+
 	/*
 	 * This gets wrapped in a GemFire Function and registered on the forked server.
 	 */
@@ -187,6 +232,11 @@ public class FunctionIntegrationTests extends ClientServerIntegrationTestsSuppor
 		@GemfireFunction
 		public void noResult() {
 		}
+
+		@GemfireFunction(id = "sumValues", combiner = SumCombiner.class)
+		public Iterable<Integer> sumValues(@RegionData Map<String, Integer> region) {
+			return region.values();
+		}
 	}
 
 }
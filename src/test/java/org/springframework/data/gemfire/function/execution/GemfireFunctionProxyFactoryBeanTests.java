@@ -19,21 +19,35 @@ package org.springframework.data.gemfire.function.execution;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
 
 import org.aopalliance.intercept.MethodInvocation;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.ResultCollector;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.data.gemfire.function.annotation.ResultReducer;
 
 /**
  *
@@ -88,6 +102,116 @@ public class GemfireFunctionProxyFactoryBeanTests {
 
 
 
+	@Test
+	public void testInvokeAsync() throws Throwable {
+
+		GemfireFunctionProxyFactoryBean proxy = new GemfireFunctionProxyFactoryBean(IFoo.class, functionOperations);
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		Executor executor = tasks::add;
+
+		proxy.setExecutor(executor);
+
+		MethodInvocation invocation = new TestInvocation(IFoo.class).withMethodNameAndArgTypes("async", String.class)
+			.withArguments("key");
+
+		when(functionOperations.executeAndExtract("async", invocation.getArguments())).thenReturn(1);
+
+		Object result = proxy.invoke(invocation);
+
+		assertTrue(result instanceof CompletableFuture);
+		assertFalse(((CompletableFuture<?>) result).isDone());
+		assertEquals(1, tasks.size());
+
+		tasks.get(0).run();
+
+		assertEquals(1, ((CompletableFuture<?>) result).get(1, TimeUnit.SECONDS));
+		verify(functionOperations).executeAndExtract("async", invocation.getArguments());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testInvokeAsyncCompletesFromEndResultsWithoutWaitingForResults() throws Throwable {
+
+		Execution mockExecution = mock(Execution.class);
+
+		AtomicReference<ResultCollector<Object, ?>> resultCollector = new AtomicReference<>();
+
+		when(mockExecution.withArgs(any())).thenReturn(mockExecution);
+		when(mockExecution.withCollector(any(ResultCollector.class))).thenAnswer(invocation -> {
+			resultCollector.set(invocation.getArgument(0));
+			return mockExecution;
+		});
+
+		GemfireFunctionProxyFactoryBean proxy = new GemfireFunctionProxyFactoryBean(IFoo.class,
+			new TestFunctionTemplate(mockExecution));
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		proxy.setExecutor(tasks::add);
+
+		MethodInvocation invocation = new TestInvocation(IFoo.class).withMethodNameAndArgTypes("async", String.class)
+			.withArguments("key");
+
+		CompletableFuture<?> result = (CompletableFuture<?>) proxy.invoke(invocation);
+
+		assertEquals(1, tasks.size());
+
+		tasks.get(0).run();
+
+		verify(mockExecution).execute(eq("async"));
+		verify(mockExecution, never()).execute(any(org.apache.geode.cache.execute.Function.class));
+		assertFalse(result.isDone());
+
+		resultCollector.get().addResult(null, 1);
+		resultCollector.get().endResults();
+
+		assertTrue(result.isDone());
+		assertEquals(1, result.get());
+	}
+
+	@Test(expected = ExecutionException.class)
+	public void testInvokeAsyncCompletesExceptionally() throws Throwable {
+
+		GemfireFunctionProxyFactoryBean proxy = new GemfireFunctionProxyFactoryBean(IFoo.class, functionOperations);
+
+		proxy.setExecutor(Runnable::run);
+
+		MethodInvocation invocation = new TestInvocation(IFoo.class).withMethodNameAndArgTypes("async", String.class)
+			.withArguments("key");
+
+		when(functionOperations.executeAndExtract("async", invocation.getArguments()))
+			.thenThrow(new IllegalStateException("TEST"));
+
+		((CompletableFuture<?>) proxy.invoke(invocation)).get(1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testInvokeWithResultReducer() throws Throwable {
+
+		GemfireFunctionProxyFactoryBean proxy = new GemfireFunctionProxyFactoryBean(IFoo.class, functionOperations);
+
+		MethodInvocation invocation = new TestInvocation(IFoo.class).withMethodNameAndArgTypes("total", String.class)
+			.withArguments("key");
+
+		when(functionOperations.executeAndReduce(eq("total"), any(BinaryOperator.class), eq("key"))).thenReturn(6L);
+
+		Object result = proxy.invoke(invocation);
+
+		assertEquals(6L, result);
+		verify(functionOperations).executeAndReduce(eq("total"), any(SumReducer.class), eq("key"));
+	}
+
+	public static class SumReducer implements BinaryOperator<Long> {
+
+		@Override
+		public Long apply(Long left, Long right) {
+			return left + right;
+		}
+	}
+
 	static class TestInvocation implements MethodInvocation {
 
 		private Class<?>[] argTypes;
@@ -179,9 +303,34 @@ public class GemfireFunctionProxyFactoryBeanTests {
 
 		public abstract Map<String, Integer> getMapWithNoArgs();
 
+		public abstract CompletableFuture<Integer> async(String key);
+
+		@ResultReducer(SumReducer.class)
+		public abstract Long total(String key);
+
 	}
 
 
+	static class TestFunctionTemplate extends AbstractFunctionTemplate {
+
+		private final Execution execution;
+
+		TestFunctionTemplate(Execution execution) {
+			this.execution = execution;
+		}
+
+		@Override
+		protected AbstractFunctionExecution getFunctionExecution() {
+
+			return new AbstractFunctionExecution() {
+
+				@Override
+				protected Execution getExecution() {
+					return execution;
+				}
+			};
+		}
+	}
 }
 
 
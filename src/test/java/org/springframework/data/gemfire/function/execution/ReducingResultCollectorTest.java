@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ReducingResultCollector}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.ReducingResultCollector
+ * @since 2.1.0
+ */
+public class ReducingResultCollectorTest {
+
+	@Test
+	public void reducesResultsIgnoringNulls() throws Exception {
+
+		ReducingResultCollector<Long> resultCollector = new ReducingResultCollector<>(Long::sum);
+
+		resultCollector.addResult(null, 1L);
+		resultCollector.addResult(null, null);
+		resultCollector.addResult(null, 2L);
+		resultCollector.addResult(null, 3L);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(6L);
+		assertThat(resultCollector.getResult(1, TimeUnit.SECONDS)).isEqualTo(6L);
+	}
+
+	@Test
+	public void noResultsReducesToNull() {
+
+		ReducingResultCollector<Long> resultCollector = new ReducingResultCollector<>(Long::sum);
+
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isNull();
+	}
+
+	@Test
+	public void memberFailureIsThrown() {
+
+		ReducingResultCollector<Long> resultCollector = new ReducingResultCollector<>(Long::sum);
+
+		resultCollector.addResult(null, 1L);
+		resultCollector.addResult(null, new IllegalStateException("TEST"));
+		resultCollector.endResults();
+
+		assertThatThrownBy(resultCollector::getResult).isInstanceOf(FunctionException.class)
+			.hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void timesOutWaitingForEndOfResults() {
+
+		ReducingResultCollector<Long> resultCollector = new ReducingResultCollector<>(Long::sum);
+
+		resultCollector.addResult(null, 1L);
+
+		assertThatThrownBy(() -> resultCollector.getResult(50, TimeUnit.MILLISECONDS))
+			.isInstanceOf(FunctionException.class);
+	}
+
+	@Test
+	public void clearResultsResetsReduction() {
+
+		ReducingResultCollector<Long> resultCollector = new ReducingResultCollector<>(Long::sum);
+
+		resultCollector.addResult(null, 1L);
+		resultCollector.clearResults();
+		resultCollector.addResult(null, 2L);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(2L);
+	}
+
+	@Test
+	public void defaultExecuteAndReduceReducesExecutedResults() {
+
+		GemfireOnRegionOperations mockOperations = mock(GemfireOnRegionOperations.class, CALLS_REAL_METHODS);
+
+		doReturn(Arrays.asList(1L, null, 2L)).when(mockOperations).execute(eq("sum"), any(Object[].class));
+		doReturn(Arrays.asList(3L, 4L)).when(mockOperations).execute(eq("sum"), eq(Collections.singleton("key")),
+			any(Object[].class));
+
+		assertThat(mockOperations.<Long>executeAndReduce("sum", Long::sum)).isEqualTo(3L);
+		assertThat(mockOperations.<Long>executeAndReduce("sum", Collections.singleton("key"), Long::sum))
+			.isEqualTo(7L);
+	}
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.internal.cache.execute.DefaultResultCollector;
+import org.junit.Test;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * Unit tests for {@link ResilientFunctionExecutor}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.AttemptResultCollector
+ * @see org.springframework.data.gemfire.function.execution.FunctionExecutionPolicy
+ * @see org.springframework.data.gemfire.function.execution.ResilientFunctionExecutor
+ * @since 2.1.0
+ */
+public class ResilientFunctionExecutorTest {
+
+	private FunctionExecutionPolicy newPolicy(int maxAttempts) {
+
+		FunctionExecutionPolicy policy = new FunctionExecutionPolicy();
+
+		policy.setIdempotentFunctionIds("idempotentFunction");
+		policy.setMaxAttempts(maxAttempts);
+		policy.setBackOff(new FixedBackOff(10L, FixedBackOff.UNLIMITED_ATTEMPTS));
+
+		return policy;
+	}
+
+	@Test
+	public void retriesIdempotentFunctionUntilSuccessful() {
+
+		AtomicInteger attempts = new AtomicInteger(0);
+
+		Object result = new ResilientFunctionExecutor(newPolicy(3)).execute("idempotentFunction", () -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new FunctionException("TEST");
+			}
+			return "result";
+		});
+
+		assertThat(result).isEqualTo("result");
+		assertThat(attempts.get()).isEqualTo(3);
+	}
+
+	@Test
+	public void stopsRetryingAfterMaxAttempts() {
+
+		AtomicInteger attempts = new AtomicInteger(0);
+
+		assertThatThrownBy(() -> new ResilientFunctionExecutor(newPolicy(2)).execute("idempotentFunction", () -> {
+			attempts.incrementAndGet();
+			throw new RuntimeException(new FunctionException("TEST"));
+		})).isInstanceOf(RuntimeException.class).hasCauseInstanceOf(FunctionException.class);
+
+		assertThat(attempts.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void doesNotRetryNonIdempotentFunction() {
+
+		AtomicInteger attempts = new AtomicInteger(0);
+
+		assertThatThrownBy(() -> new ResilientFunctionExecutor(newPolicy(3)).execute("otherFunction", () -> {
+			attempts.incrementAndGet();
+			throw new FunctionException("TEST");
+		})).isInstanceOf(FunctionException.class);
+
+		assertThat(attempts.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void doesNotRetryNonRetryableException() {
+
+		AtomicInteger attempts = new AtomicInteger(0);
+
+		assertThatThrownBy(() -> new ResilientFunctionExecutor(newPolicy(3)).execute("idempotentFunction", () -> {
+			attempts.incrementAndGet();
+			throw new IllegalArgumentException("TEST");
+		})).isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(attempts.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void runsAttemptOnCallingThreadWithoutHedging() {
+
+		Object result = new ResilientFunctionExecutor(newPolicy(1)).execute("idempotentFunction",
+			() -> Thread.currentThread());
+
+		assertThat(result).isSameAs(Thread.currentThread());
+	}
+
+	@Test
+	public void runsHedgedPrimaryAttemptOnHedgingExecutor() {
+
+		FunctionExecutionPolicy policy = newPolicy(1);
+
+		AtomicInteger executions = new AtomicInteger(0);
+
+		policy.setMinHedgingDelay(5000L);
+		policy.setHedgingExecutor(runnable -> {
+			executions.incrementAndGet();
+			new Thread(runnable).start();
+		});
+
+		Object result = new ResilientFunctionExecutor(policy).execute("idempotentFunction",
+			() -> Thread.currentThread());
+
+		assertThat(result).isNotSameAs(Thread.currentThread());
+		assertThat(executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void hedgesSlowAttempt() {
+
+		FunctionExecutionPolicy policy = newPolicy(1);
+
+		policy.setMinHedgingDelay(50L);
+
+		AtomicInteger attempts = new AtomicInteger(0);
+
+		CompletableFuture<Object> slowAttempt = new CompletableFuture<>();
+
+		long startTime = System.nanoTime();
+
+		Object result = new ResilientFunctionExecutor(policy).execute("idempotentFunction",
+			(Function<Executor, CompletableFuture<Object>>) executor -> attempts.incrementAndGet() == 1
+				? slowAttempt : CompletableFuture.supplyAsync(() -> "fast", executor));
+
+		slowAttempt.complete("slow");
+
+		assertThat(result).isEqualTo("fast");
+		assertThat(attempts.get()).isEqualTo(2);
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)).isLessThan(5000L);
+	}
+
+	@Test
+	public void hedgesBlockingPrimaryAttempt() {
+
+		FunctionExecutionPolicy policy = newPolicy(1);
+
+		policy.setMinHedgingDelay(50L);
+
+		AtomicInteger attempts = new AtomicInteger(0);
+		CountDownLatch primaryReleased = new CountDownLatch(1);
+
+		long startTime = System.nanoTime();
+
+		try {
+			Object result = new ResilientFunctionExecutor(policy).execute("idempotentFunction", () -> {
+				if (attempts.incrementAndGet() == 1) {
+					try {
+						primaryReleased.await(5L, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException ignore) {
+						Thread.currentThread().interrupt();
+					}
+					return "slow";
+				}
+				return "fast";
+			});
+
+			assertThat(result).isEqualTo("fast");
+			assertThat(attempts.get()).isEqualTo(2);
+			assertThat(primaryReleased.getCount()).isEqualTo(1L);
+			assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)).isLessThan(2500L);
+		}
+		finally {
+			primaryReleased.countDown();
+		}
+	}
+
+	@Test
+	public void doesNotHedgeFailedPrimaryAttempt() {
+
+		FunctionExecutionPolicy policy = newPolicy(1);
+
+		policy.setMinHedgingDelay(50L);
+
+		AtomicInteger attempts = new AtomicInteger(0);
+
+		assertThatThrownBy(() -> new ResilientFunctionExecutor(policy).execute("idempotentFunction", () -> {
+			attempts.incrementAndGet();
+			throw new FunctionException("TEST");
+		})).isInstanceOf(FunctionException.class);
+
+		assertThat(attempts.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void hedgingDelayFollowsLatencyPercentile() {
+
+		FunctionExecutionPolicy policy = newPolicy(1);
+
+		policy.setHedgingPercentile(0.9d);
+		policy.setMinHedgingSamples(10);
+
+		ResilientFunctionExecutor executor = new ResilientFunctionExecutor(policy);
+
+		AtomicInteger attempts = new AtomicInteger(0);
+
+		for (int count = 0; count < 10; count++) {
+			executor.execute("idempotentFunction", attempts::incrementAndGet);
+		}
+
+		assertThat(attempts.get()).isEqualTo(10);
+		assertThat(executor.getAttemptLatency("idempotentFunction").getCount()).isEqualTo(10L);
+
+		Object result = executor.execute("idempotentFunction", () -> {
+			if (attempts.incrementAndGet() == 11) {
+				try {
+					Thread.sleep(500L);
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return Thread.currentThread().getName();
+		});
+
+		assertThat(String.valueOf(result)).startsWith("HedgedFunctionExecution-");
+		assertThat(attempts.get()).isEqualTo(12);
+	}
+
+	@Test
+	public void passesOnResultsOfWinningAttemptOnly() throws Exception {
+
+		ResultCollector<Object, List<Object>> configuredResultCollector = new DefaultResultCollector();
+
+		AtomicReference<Object> winner = new AtomicReference<>();
+
+		AttemptResultCollector<Object, List<Object>> primary =
+			new AttemptResultCollector<>(configuredResultCollector, winner);
+
+		AttemptResultCollector<Object, List<Object>> hedge =
+			new AttemptResultCollector<>(configuredResultCollector, winner);
+
+		primary.addResult(null, "primary");
+		hedge.addResult(null, "hedge");
+		hedge.endResults();
+
+		assertThat(hedge.getResult()).containsExactly("hedge");
+
+		primary.endResults();
+
+		assertThatThrownBy(primary::getResult).isInstanceOf(FunctionException.class);
+		assertThat(configuredResultCollector.getResult()).containsExactly("hedge");
+
+		hedge.release();
+
+		assertThat(primary.getResult(1, TimeUnit.SECONDS)).containsExactly("primary");
+		assertThat(configuredResultCollector.getResult()).containsExactly("primary");
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link StreamingResultCollector}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+ * @since 2.1.0
+ */
+public class StreamingResultCollectorTest {
+
+	@Test
+	public void streamsResultsInOrderReceived() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(10);
+
+		resultCollector.addResult(null, "one");
+		resultCollector.addResult(null, null);
+		resultCollector.addResult(null, "three");
+		resultCollector.endResults();
+
+		List<Object> results = resultCollector.stream(0L, TimeUnit.MILLISECONDS).collect(Collectors.toList());
+
+		assertThat(results).containsExactly("one", null, "three");
+	}
+
+	@Test
+	public void fullBufferBlocksSenderUntilConsumed() throws Exception {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>(2);
+
+		AtomicInteger sent = new AtomicInteger(0);
+
+		CountDownLatch done = new CountDownLatch(1);
+
+		Thread sender = new Thread(() -> {
+			for (int index = 0; index < 10; index++) {
+				resultCollector.addResult(null, index);
+				sent.incrementAndGet();
+			}
+			resultCollector.endResults();
+			done.countDown();
+		});
+
+		sender.setDaemon(true);
+		sender.start();
+
+		Iterator<Integer> results = resultCollector.getResult();
+
+		assertThat(done.await(200, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(sent.get()).isLessThanOrEqualTo(3);
+
+		int count = 0;
+
+		while (results.hasNext()) {
+			assertThat(results.next()).isEqualTo(count++);
+		}
+
+		assertThat(count).isEqualTo(10);
+		assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void failureIsRethrownAfterPreviousResults() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(10);
+
+		resultCollector.addResult(null, "one");
+		resultCollector.fail(new IllegalStateException("TEST"));
+
+		Iterator<Object> results = resultCollector.getResult();
+
+		assertThat(results.next()).isEqualTo("one");
+
+		assertThatThrownBy(results::hasNext).isInstanceOf(FunctionException.class)
+			.hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void clearResultsBeforeConsumptionDiscardsBufferedResults() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(10);
+
+		resultCollector.addResult(null, "one");
+		resultCollector.clearResults();
+		resultCollector.addResult(null, "one");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.stream(0L, TimeUnit.MILLISECONDS)).containsExactly("one");
+	}
+
+	@Test
+	public void clearResultsAfterConsumptionFailsConsumer() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(10);
+
+		resultCollector.addResult(null, "one");
+
+		Iterator<Object> results = resultCollector.getResult();
+
+		assertThat(results.next()).isEqualTo("one");
+
+		resultCollector.clearResults();
+		resultCollector.addResult(null, "one");
+		resultCollector.endResults();
+
+		assertThatThrownBy(results::hasNext).isInstanceOf(FunctionException.class)
+			.hasMessageContaining("re-executed");
+	}
+
+	@Test
+	public void timesOutWaitingForResult() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(10);
+
+		Iterator<Object> results = resultCollector.getResult(50L, TimeUnit.MILLISECONDS);
+
+		assertThatThrownBy(results::hasNext).isInstanceOf(FunctionException.class);
+		assertThat(resultCollector.isClosed()).isTrue();
+	}
+
+	@Test
+	public void closingStreamReleasesBlockedSender() throws Exception {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(1);
+
+		CountDownLatch done = new CountDownLatch(1);
+
+		Thread sender = new Thread(() -> {
+			Arrays.asList(1, 2, 3, 4).forEach(result -> resultCollector.addResult(null, result));
+			resultCollector.endResults();
+			done.countDown();
+		});
+
+		sender.setDaemon(true);
+		sender.start();
+
+		try (Stream<Object> results = resultCollector.stream(0L, TimeUnit.MILLISECONDS)) {
+			assertThat(results.findFirst()).contains(1);
+		}
+
+		assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(resultCollector.isClosed()).isTrue();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void resultsCanOnlyBeConsumedOnce() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.getResult();
+		resultCollector.getResult();
+	}
+
+	@Test
+	public void defaultExecuteAsStreamStreamsExecutedResults() {
+
+		GemfireOnRegionOperations mockOperations = mock(GemfireOnRegionOperations.class, CALLS_REAL_METHODS);
+
+		doReturn(Arrays.asList("one", "two")).when(mockOperations).execute(eq("TestFunction"), any(Object[].class));
+		doReturn(Arrays.asList("three")).when(mockOperations).execute(eq("TestFunction"),
+			eq(Collections.singleton("key")), any(Object[].class));
+
+		try (Stream<Object> results = mockOperations.executeAsStream("TestFunction")) {
+			assertThat(results.collect(Collectors.toList())).containsExactly("one", "two");
+		}
+
+		try (Stream<Object> results = mockOperations.executeAsStream("TestFunction", Collections.singleton("key"))) {
+			assertThat(results.collect(Collectors.toList())).containsExactly("three");
+		}
+	}
+}
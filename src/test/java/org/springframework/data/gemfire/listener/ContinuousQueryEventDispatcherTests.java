@@ -0,0 +1,231 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ContinuousQueryEventDispatcher}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryEventDispatcher
+ * @since 2.1.0
+ */
+public class ContinuousQueryEventDispatcherTests {
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private ContinuousQueryEventDispatcher dispatcher;
+
+	@After
+	public void tearDown() {
+		release.countDown();
+		dispatcher.destroy();
+	}
+
+	private ContinuousQueryEventDispatcher newDispatcher(int queueCapacity,
+			ContinuousQueryEventDispatcher.OverflowPolicy overflowPolicy) {
+
+		ContinuousQueryEventDispatcher dispatcher = new ContinuousQueryEventDispatcher("TestDispatcher-");
+
+		dispatcher.setCorePoolSize(1);
+		dispatcher.setMaxPoolSize(1);
+		dispatcher.setQueueCapacity(queueCapacity);
+		dispatcher.setOverflowPolicy(overflowPolicy);
+
+		return dispatcher;
+	}
+
+	private void awaitRelease() {
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void blockPolicyBlocksDispatchingThreadWhenFull() throws Exception {
+
+		dispatcher = newDispatcher(1, ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK);
+
+		dispatcher.execute(this::awaitRelease);
+		dispatcher.execute(() -> {});
+
+		AtomicBoolean dispatched = new AtomicBoolean(false);
+
+		Thread dispatchingThread = new Thread(() -> {
+			dispatcher.execute(() -> {});
+			dispatched.set(true);
+		});
+
+		dispatchingThread.setDaemon(true);
+		dispatchingThread.start();
+		dispatchingThread.join(200);
+
+		assertThat(dispatched.get()).isFalse();
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(1);
+
+		release.countDown();
+		dispatchingThread.join(5000);
+
+		assertThat(dispatched.get()).isTrue();
+		assertThat(dispatcher.getSubmittedCount()).isEqualTo(3L);
+	}
+
+	@Test
+	public void blockPolicyRejectsEventQueuedAfterShutdown() throws Exception {
+
+		dispatcher = newDispatcher(1, ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK);
+
+		dispatcher.execute(this::awaitRelease);
+		dispatcher.execute(() -> {});
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		Thread dispatchingThread = new Thread(() -> {
+			try {
+				dispatcher.execute(() -> {});
+			}
+			catch (Throwable cause) {
+				failure.set(cause);
+			}
+		});
+
+		dispatchingThread.setDaemon(true);
+		dispatchingThread.start();
+		dispatchingThread.join(200);
+
+		assertThat(dispatchingThread.isAlive()).isTrue();
+
+		dispatcher.getThreadPoolExecutor().shutdownNow();
+		dispatchingThread.join(5000);
+
+		assertThat(failure.get()).isInstanceOf(RejectedExecutionException.class);
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(0);
+	}
+
+	@Test
+	public void dropOldestPolicyDiscardsOldestQueuedEvent() throws Exception {
+
+		dispatcher = newDispatcher(2, ContinuousQueryEventDispatcher.OverflowPolicy.DROP_OLDEST);
+
+		List<Integer> processed = new CopyOnWriteArrayList<>();
+
+		CountDownLatch started = new CountDownLatch(1);
+
+		dispatcher.execute(() -> {
+			started.countDown();
+			awaitRelease();
+		});
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		for (int event = 1; event <= 4; event++) {
+			int value = event;
+			dispatcher.execute(() -> processed.add(value));
+		}
+
+		assertThat(dispatcher.getDroppedCount()).isEqualTo(2L);
+
+		release.countDown();
+		dispatcher.destroy();
+
+		assertThat(processed).containsExactly(3, 4);
+		assertThat(dispatcher.getCompletedCount()).isEqualTo(3L);
+	}
+
+	@Test
+	public void callerRunsPolicyProcessesEventOnDispatchingThread() throws Exception {
+
+		dispatcher = newDispatcher(1, ContinuousQueryEventDispatcher.OverflowPolicy.CALLER_RUNS);
+
+		CountDownLatch started = new CountDownLatch(1);
+
+		dispatcher.execute(() -> {
+			started.countDown();
+			awaitRelease();
+		});
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		dispatcher.execute(() -> {});
+
+		List<String> threadNames = new CopyOnWriteArrayList<>();
+
+		dispatcher.execute(() -> threadNames.add(Thread.currentThread().getName()));
+
+		assertThat(threadNames).containsExactly(Thread.currentThread().getName());
+		assertThat(dispatcher.getCallerRunsCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void elasticPoolGrowsWhenQueueIsFull() throws Exception {
+
+		dispatcher = newDispatcher(1, ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK);
+		dispatcher.setMaxPoolSize(2);
+
+		CountDownLatch started = new CountDownLatch(2);
+
+		for (int event = 0; event < 3; event++) {
+			dispatcher.execute(() -> {
+				started.countDown();
+				awaitRelease();
+			});
+		}
+
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(dispatcher.getPoolSize()).isEqualTo(2);
+		assertThat(dispatcher.getActiveCount()).isEqualTo(2);
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(1);
+	}
+
+	@Test
+	public void recordsLag() throws Exception {
+
+		dispatcher = newDispatcher(10, ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK);
+
+		dispatcher.execute(() -> {
+			try {
+				Thread.sleep(50);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		dispatcher.execute(() -> {});
+		dispatcher.destroy();
+
+		assertThat(dispatcher.getCompletedCount()).isEqualTo(2L);
+		assertThat(dispatcher.getMaxLag(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(40L);
+		assertThat(dispatcher.getMeanLag(TimeUnit.MILLISECONDS)).isGreaterThan(0.0d);
+	}
+}
@@ -37,14 +37,27 @@ import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.client.Pool;
 import org.apache.geode.cache.query.CqAttributes;
 import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqException;
+import org.apache.geode.cache.query.CqListener;
 import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
 import org.apache.geode.cache.query.CqState;
 import org.apache.geode.cache.query.QueryException;
 import org.apache.geode.cache.query.QueryService;
@@ -416,7 +429,7 @@ public class ContinuousQueryListenerContainerTests {
 	@Test
 	public void initializesDefaultTaskExecutor() {
 		assertThat(cqListenerContainer.getTaskExecutor()).isNull();
-		assertThat(cqListenerContainer.initExecutor()).isInstanceOf(Executor.class);
+		assertThat(cqListenerContainer.initExecutor()).isInstanceOf(ContinuousQueryEventDispatcher.class);
 	}
 
 	@Test
@@ -666,6 +679,334 @@ public class ContinuousQueryListenerContainerTests {
 		verify(mockListener, times(1)).onEvent(eq(mockEvent));
 	}
 
+	@Test
+	public void orderedDispatchDeliversEventsInOrderPerKey() throws Exception {
+
+		cqListenerContainer.setBeanName("OrderedContainer");
+		cqListenerContainer.setDispatchLanes(4);
+
+		List<ContinuousQueryEventDispatcher> lanes = cqListenerContainer.initEventDispatchLanes();
+
+		assertThat(lanes).hasSize(4);
+
+		Map<Object, List<Integer>> receivedEvents = new ConcurrentHashMap<>();
+		Map<Object, Set<String>> threadNames = new ConcurrentHashMap<>();
+
+		CountDownLatch received = new CountDownLatch(400);
+
+		ContinuousQueryListener listener = event -> {
+			receivedEvents.computeIfAbsent(event.getKey(), key -> new CopyOnWriteArrayList<>())
+				.add((Integer) event.getNewValue());
+			threadNames.computeIfAbsent(event.getKey(), key -> ConcurrentHashMap.newKeySet())
+				.add(Thread.currentThread().getName());
+			received.countDown();
+		};
+
+		try {
+			for (int value = 0; value < 100; value++) {
+				for (int key = 0; key < 4; key++) {
+
+					CqEvent mockEvent = mock(CqEvent.class);
+
+					when(mockEvent.getKey()).thenReturn("key" + key);
+					when(mockEvent.getNewValue()).thenReturn(value);
+
+					cqListenerContainer.dispatchEvent(listener, mockEvent);
+				}
+			}
+
+			assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+
+			List<Integer> expectedValues = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+			receivedEvents.values().forEach(values -> assertThat(values).isEqualTo(expectedValues));
+			threadNames.values().forEach(names -> assertThat(names).hasSize(1));
+
+			assertThat(threadNames.get("key0").iterator().next()).startsWith("OrderedContainer-Lane-");
+			assertThat(lanes.stream().mapToLong(ContinuousQueryEventDispatcher::getSubmittedCount).sum())
+				.isEqualTo(400L);
+		}
+		finally {
+			cqListenerContainer.destroy();
+		}
+
+		assertThat(cqListenerContainer.getEventDispatchLanes()).isEmpty();
+	}
+
+	@Test
+	public void orderedDispatchUsesEventKeyExtractor() throws Exception {
+
+		cqListenerContainer.setDispatchLanes(16);
+		cqListenerContainer.setEventKeyExtractor(CqEvent::getNewValue);
+		cqListenerContainer.initEventDispatchLanes();
+
+		try {
+			CqEvent mockEventOne = mock(CqEvent.class);
+			CqEvent mockEventTwo = mock(CqEvent.class);
+
+			when(mockEventOne.getNewValue()).thenReturn("account");
+			when(mockEventTwo.getNewValue()).thenReturn("account");
+
+			assertThat(cqListenerContainer.resolveExecutor(mockEventOne))
+				.isSameAs(cqListenerContainer.resolveExecutor(mockEventTwo));
+		}
+		finally {
+			cqListenerContainer.destroy();
+		}
+	}
+
+	private CqEvent newMockCqEvent(Object key, Object value) {
+
+		CqEvent mockEvent = mock(CqEvent.class);
+
+		if (key != null) {
+			when(mockEvent.getKey()).thenReturn(key);
+		}
+
+		when(mockEvent.getNewValue()).thenReturn(value);
+
+		return mockEvent;
+	}
+
+	@Test
+	public void batchedDispatchConflatesEventsPerKey() throws Exception {
+
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+		cqListenerContainer.setBatchWindow(100L);
+		cqListenerContainer.setConflateEvents(true);
+
+		List<List<CqEvent>> batches = new CopyOnWriteArrayList<>();
+
+		CountDownLatch delivered = new CountDownLatch(1);
+
+		BatchContinuousQueryListener listener = events -> {
+			batches.add(events);
+			delivered.countDown();
+		};
+
+		try {
+			for (int value = 1; value <= 3; value++) {
+				cqListenerContainer.dispatchEvent(listener, newMockCqEvent("keyOne", value));
+				cqListenerContainer.dispatchEvent(listener, newMockCqEvent("keyTwo", value * 10));
+			}
+
+			assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(batches).hasSize(1);
+			assertThat(batches.get(0).stream().map(CqEvent::getNewValue).collect(Collectors.toList()))
+				.containsExactly(3, 30);
+			assertThat(cqListenerContainer.getConflatedEventCount()).isEqualTo(4L);
+		}
+		finally {
+			cqListenerContainer.destroy();
+		}
+	}
+
+	@Test
+	public void batchedDispatchDeliversBatchWhenMaxBatchSizeIsReached() throws Exception {
+
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+		cqListenerContainer.setBatchWindow(60000L);
+		cqListenerContainer.setMaxBatchSize(3);
+
+		List<List<CqEvent>> batches = new CopyOnWriteArrayList<>();
+
+		BatchContinuousQueryListener listener = batches::add;
+
+		try {
+			for (int value = 1; value <= 4; value++) {
+				cqListenerContainer.dispatchEvent(listener, newMockCqEvent(null, value));
+			}
+
+			assertThat(batches).hasSize(1);
+			assertThat(batches.get(0).stream().map(CqEvent::getNewValue).collect(Collectors.toList()))
+				.containsExactly(1, 2, 3);
+		}
+		finally {
+			cqListenerContainer.destroy();
+		}
+	}
+
+	@Test
+	public void batchedDispatchSchedulesOneFlushPerBatchWindow() throws Exception {
+
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+		cqListenerContainer.setBatchWindow(60000L);
+		cqListenerContainer.setConflateEvents(true);
+		cqListenerContainer.setMaxBatchSize(3);
+
+		List<List<CqEvent>> batches = new CopyOnWriteArrayList<>();
+
+		BatchContinuousQueryListener listener = batches::add;
+
+		try {
+			ScheduledThreadPoolExecutor batchScheduler =
+				(ScheduledThreadPoolExecutor) cqListenerContainer.initBatchScheduler();
+
+			for (int value = 1; value <= 100; value++) {
+				cqListenerContainer.dispatchEvent(listener, newMockCqEvent("key", value));
+			}
+
+			assertThat(batchScheduler.getQueue()).hasSize(1);
+			assertThat(batches).isEmpty();
+
+			cqListenerContainer.dispatchEvent(listener, newMockCqEvent("keyOne", 1));
+			cqListenerContainer.dispatchEvent(listener, newMockCqEvent("keyTwo", 2));
+
+			assertThat(batchScheduler.getQueue()).isEmpty();
+			assertThat(batches).hasSize(1);
+			assertThat(batches.get(0).stream().map(CqEvent::getNewValue).collect(Collectors.toList()))
+				.containsExactly(100, 1, 2);
+		}
+		finally {
+			cqListenerContainer.destroy();
+		}
+	}
+
+	@Test
+	public void batchedDispatchDeliversBatchesOfListenerInOrder() throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		cqListenerContainer.setTaskExecutor(executor);
+		cqListenerContainer.setBatchWindow(60000L);
+		cqListenerContainer.setMaxBatchSize(1);
+
+		List<Integer> values = new CopyOnWriteArrayList<>();
+
+		CountDownLatch delivered = new CountDownLatch(200);
+
+		ContinuousQueryListener listener = event -> {
+			values.add((Integer) event.getNewValue());
+			delivered.countDown();
+		};
+
+		try {
+			for (int value = 0; value < 200; value++) {
+				cqListenerContainer.dispatchEvent(listener, newMockCqEvent(null, value));
+			}
+
+			assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(values).isEqualTo(IntStream.range(0, 200).boxed().collect(Collectors.toList()));
+		}
+		finally {
+			cqListenerContainer.destroy();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void batchedDispatchDoesNotBlockLaneOnFullLaneQueue() throws Exception {
+
+		cqListenerContainer.setDispatchLanes(1);
+		cqListenerContainer.setLaneQueueCapacity(1);
+		cqListenerContainer.setBatchWindow(60000L);
+		cqListenerContainer.setMaxBatchSize(1);
+		cqListenerContainer.initEventDispatchLanes();
+
+		CountDownLatch blockingBatchStarted = new CountDownLatch(1);
+		CountDownLatch blockingBatchReleased = new CountDownLatch(1);
+		CountDownLatch delivered = new CountDownLatch(3);
+
+		List<Object> values = new CopyOnWriteArrayList<>();
+
+		ContinuousQueryListener listenerOne = event -> {
+			if ("blocking".equals(event.getNewValue())) {
+				blockingBatchStarted.countDown();
+
+				try {
+					blockingBatchReleased.await(5, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			values.add(event.getNewValue());
+			delivered.countDown();
+		};
+
+		ContinuousQueryListener listenerTwo = event -> {
+			values.add(event.getNewValue());
+			delivered.countDown();
+		};
+
+		try {
+			cqListenerContainer.dispatchEvent(listenerOne, newMockCqEvent(null, "blocking"));
+
+			assertThat(blockingBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+			// fills the queue of the only lane while its thread is delivering the blocking batch
+			cqListenerContainer.dispatchEvent(listenerTwo, newMockCqEvent(null, "two"));
+			cqListenerContainer.dispatchEvent(listenerOne, newMockCqEvent(null, "one"));
+
+			blockingBatchReleased.countDown();
+
+			assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(values).containsExactly("blocking", "one", "two");
+		}
+		finally {
+			blockingBatchReleased.countDown();
+			cqListenerContainer.destroy();
+		}
+	}
+
+	@Test
+	public void batchedDispatchFlushesBufferedEventsOnDestroy() throws Exception {
+
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+		cqListenerContainer.setBatchWindow(60000L);
+		cqListenerContainer.setMaxBatchSize(3);
+
+		List<Integer> values = new CopyOnWriteArrayList<>();
+
+		ContinuousQueryListener listener = event -> values.add((Integer) event.getNewValue());
+
+		for (int value = 1; value <= 4; value++) {
+			cqListenerContainer.dispatchEvent(listener, newMockCqEvent(null, value));
+		}
+
+		assertThat(values).containsExactly(1, 2, 3);
+
+		cqListenerContainer.destroy();
+
+		assertThat(values).containsExactly(1, 2, 3, 4);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doStartExecutesQueryWithInitialResultsForInitialResultsListener() throws Exception {
+
+		CqAttributes mockCqAttributes = mock(CqAttributes.class);
+
+		CqQuery mockCqQuery = mock(CqQuery.class);
+
+		CqResults<Object> mockResults = mock(CqResults.class);
+
+		InitialResultsContinuousQueryListener mockListener = mock(InitialResultsContinuousQueryListener.class);
+
+		when(mockCqQuery.getCqAttributes()).thenReturn(mockCqAttributes);
+		when(mockCqQuery.executeWithInitialResults()).thenReturn(mockResults);
+		when(mockCqAttributes.getCqListeners()).thenReturn(new CqListener[] {
+			cqListenerContainer.new EventDispatcherAdapter(mockListener) });
+
+		cqListenerContainer.getContinuousQueries().add(mockCqQuery);
+		cqListenerContainer.doStart();
+
+		verify(mockCqQuery, never()).execute();
+		verify(mockListener, times(1)).beforeInitialResults(eq(mockCqQuery));
+		verify(mockListener, times(1)).onInitialResults(eq(mockCqQuery), eq(mockResults));
+	}
+
+	@Test
+	public void unorderedDispatchUsesTaskExecutor() {
+
+		Executor mockExecutor = mock(Executor.class);
+
+		cqListenerContainer.setTaskExecutor(mockExecutor);
+
+		assertThat(cqListenerContainer.initEventDispatchLanes()).isEmpty();
+		assertThat(cqListenerContainer.resolveExecutor(mock(CqEvent.class))).isSameAs(mockExecutor);
+	}
+
 	@Test
 	public void dispatchEventInvokesConfiguredErrorHandlerOnListenerException() {
 
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
+import org.apache.geode.cache.query.Struct;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ContinuousQueryMaterializedView}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryMaterializedView
+ * @since 2.1.0
+ */
+public class ContinuousQueryMaterializedViewUnitTests {
+
+	private CqQuery mockCqQuery;
+
+	private ContinuousQueryMaterializedView<String, Person> view;
+
+	@Before
+	public void setup() {
+		mockCqQuery = mock(CqQuery.class);
+		view = new ContinuousQueryMaterializedView<String, Person>().addPropertyIndex("city");
+	}
+
+	private CqEvent newCqEvent(Operation operation, String key, Person value) {
+
+		CqEvent mockEvent = mock(CqEvent.class);
+
+		when(mockEvent.getBaseOperation()).thenReturn(operation);
+		when(mockEvent.getQueryOperation()).thenReturn(operation);
+		when(mockEvent.getKey()).thenReturn(key);
+		when(mockEvent.getNewValue()).thenReturn(value);
+
+		return mockEvent;
+	}
+
+	@SuppressWarnings("unchecked")
+	private CqResults<Object> newInitialResults(Object... keysAndValues) {
+
+		Object[] structs = new Object[keysAndValues.length / 2];
+
+		for (int index = 0; index < keysAndValues.length; index += 2) {
+
+			Struct mockStruct = mock(Struct.class);
+
+			when(mockStruct.get("key")).thenReturn(keysAndValues[index]);
+			when(mockStruct.get("value")).thenReturn(keysAndValues[index + 1]);
+
+			structs[index / 2] = mockStruct;
+		}
+
+		CqResults<Object> mockResults = mock(CqResults.class);
+
+		when(mockResults.iterator()).thenReturn(Arrays.asList(structs).iterator());
+
+		return mockResults;
+	}
+
+	private void seed(Object... keysAndValues) {
+		view.beforeInitialResults(mockCqQuery);
+		view.onInitialResults(mockCqQuery, newInitialResults(keysAndValues));
+	}
+
+	@Test
+	public void seedsWithInitialResults() throws Exception {
+
+		assertThat(view.isSeeded()).isFalse();
+
+		seed("1", new Person("Jon", "Portland"), "2", new Person("Jane", "Seattle"));
+
+		assertThat(view.isSeeded()).isTrue();
+		assertThat(view.awaitSeeded(1, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(view.size()).isEqualTo(2);
+		assertThat(view.get("1").getName()).isEqualTo("Jon");
+		assertThat(view.findBy("city", "Seattle")).extracting(Person::getName).containsExactly("Jane");
+	}
+
+	@Test
+	public void appliesEventsReceivedWhileSeedingAfterInitialResults() {
+
+		view.beforeInitialResults(mockCqQuery);
+		view.onEvent(newCqEvent(Operation.UPDATE, "1", new Person("Jon", "Seattle")));
+		view.onEvent(newCqEvent(Operation.DESTROY, "2", null));
+
+		assertThat(view.isEmpty()).isTrue();
+
+		view.onInitialResults(mockCqQuery, newInitialResults("1", new Person("Jon", "Portland"),
+			"2", new Person("Jane", "Portland")));
+
+		assertThat(view.size()).isEqualTo(1);
+		assertThat(view.get("1").getCity()).isEqualTo("Seattle");
+		assertThat(view.findBy("city", "Portland")).isEmpty();
+		assertThat(view.findBy("city", "Seattle")).extracting(Person::getName).containsExactly("Jon");
+	}
+
+	@Test
+	public void appliesCreateUpdateAndDestroyEventsIncrementally() {
+
+		seed();
+
+		view.onEvent(newCqEvent(Operation.CREATE, "1", new Person("Jon", "Portland")));
+		view.onEvent(newCqEvent(Operation.CREATE, "2", new Person("Jane", "Portland")));
+
+		assertThat(view.findBy("city", "Portland")).hasSize(2);
+
+		view.onEvent(newCqEvent(Operation.UPDATE, "1", new Person("Jon", "Seattle")));
+
+		assertThat(view.findBy("city", "Portland")).extracting(Person::getName).containsExactly("Jane");
+		assertThat(view.findBy("city", "Seattle")).extracting(Person::getName).containsExactly("Jon");
+
+		view.onEvent(newCqEvent(Operation.DESTROY, "2", null));
+
+		assertThat(view.containsKey("2")).isFalse();
+		assertThat(view.findBy("city", "Portland")).isEmpty();
+		assertThat(view.findAll(person -> person.getName().startsWith("J"))).hasSize(1);
+	}
+
+	@Test
+	public void clearsViewOnRegionClear() {
+
+		seed("1", new Person("Jon", "Portland"));
+
+		view.onEvent(newCqEvent(Operation.REGION_CLEAR, null, null));
+
+		assertThat(view.isEmpty()).isTrue();
+		assertThat(view.findBy("city", "Portland")).isEmpty();
+	}
+
+	@Test
+	public void indexAddedAfterSeedingIndexesExistingEntries() {
+
+		seed("1", new Person("Jon", "Portland"));
+
+		view.addIndex("nameLength", person -> person.getName().length());
+
+		assertThat(view.getIndexNames()).containsOnly("city", "nameLength");
+		assertThat(view.findBy("nameLength", 3, person -> person.getCity().equals("Portland")))
+			.extracting(Person::getName).containsExactly("Jon");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void findByNonExistingIndexThrowsIllegalArgumentException() {
+		view.findBy("age", 42);
+	}
+
+	public static class Person {
+
+		private final String city;
+		private final String name;
+
+		public Person(String name, String city) {
+			this.name = name;
+			this.city = city;
+		}
+
+		public String getCity() {
+			return this.city;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+	}
+}
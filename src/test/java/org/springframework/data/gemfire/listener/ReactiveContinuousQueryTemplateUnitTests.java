@@ -0,0 +1,332 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.query.CqAttributes;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqListener;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.Struct;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscription;
+
+import reactor.core.publisher.BaseSubscriber;
+
+/**
+ * Unit tests for {@link ReactiveContinuousQueryTemplate}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.listener.ReactiveContinuousQueryTemplate
+ * @see reactor.core.publisher.Flux
+ * @since 2.1.0
+ */
+public class ReactiveContinuousQueryTemplateUnitTests {
+
+	private CqQuery mockCqQuery;
+
+	private QueryService mockQueryService;
+
+	private ReactiveContinuousQueryTemplate template;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() throws Exception {
+
+		mockCqQuery = mock(CqQuery.class);
+		mockQueryService = mock(QueryService.class);
+
+		when(mockQueryService.newCq(anyString(), any(CqAttributes.class), anyBoolean())).thenReturn(mockCqQuery);
+
+		template = new ReactiveContinuousQueryTemplate(mockQueryService);
+	}
+
+	private CqListener captureCqListener() throws Exception {
+
+		ArgumentCaptor<CqAttributes> cqAttributes = ArgumentCaptor.forClass(CqAttributes.class);
+
+		verify(mockQueryService, times(1)).newCq(eq("SELECT * FROM /Example"), cqAttributes.capture(),
+			eq(false));
+
+		return cqAttributes.getValue().getCqListener();
+	}
+
+	private CqEvent newMockCqEvent(Object value) {
+
+		CqEvent mockEvent = mock(CqEvent.class);
+
+		when(mockEvent.getNewValue()).thenReturn(value);
+
+		return mockEvent;
+	}
+
+	private List<Object> valuesOf(List<CqEvent> events) {
+		return events.stream().map(CqEvent::getNewValue).collect(Collectors.toList());
+	}
+
+	@Test
+	public void registersCqOnSubscribeAndClosesCqOnCancel() throws Exception {
+
+		TestSubscriber subscriber = new TestSubscriber();
+
+		template.listen("SELECT * FROM /Example").subscribe(subscriber);
+
+		captureCqListener();
+
+		verify(mockCqQuery, times(1)).execute();
+
+		subscriber.dispose();
+
+		verify(mockCqQuery, times(1)).close();
+	}
+
+	@Test
+	public void emitsCqEventsOnDemand() throws Exception {
+
+		TestSubscriber subscriber = new TestSubscriber();
+
+		template.listen("SELECT * FROM /Example").subscribe(subscriber);
+
+		CqListener listener = captureCqListener();
+
+		subscriber.request(2);
+
+		for (int value = 1; value <= 5; value++) {
+			listener.onEvent(newMockCqEvent(value));
+		}
+
+		assertThat(valuesOf(subscriber.events)).containsExactly(1, 2);
+
+		subscriber.request(10);
+
+		assertThat(valuesOf(subscriber.events)).containsExactly(1, 2, 3, 4, 5);
+
+		listener.close();
+
+		assertThat(subscriber.completed.get()).isTrue();
+	}
+
+	@Test
+	public void dropOldestDiscardsOldestBufferedEvent() throws Exception {
+
+		template.setBufferSize(2);
+		template.setOverflowStrategy(ReactiveContinuousQueryTemplate.OverflowStrategy.DROP_OLDEST);
+
+		TestSubscriber subscriber = new TestSubscriber();
+
+		template.listen("SELECT * FROM /Example").subscribe(subscriber);
+
+		CqListener listener = captureCqListener();
+
+		for (int value = 1; value <= 4; value++) {
+			listener.onEvent(newMockCqEvent(value));
+		}
+
+		subscriber.request(10);
+
+		assertThat(valuesOf(subscriber.events)).containsExactly(3, 4);
+	}
+
+	@Test
+	public void errorStrategyTerminatesFluxAndClosesCq() throws Exception {
+
+		template.setBufferSize(1);
+		template.setOverflowStrategy(ReactiveContinuousQueryTemplate.OverflowStrategy.ERROR);
+
+		TestSubscriber subscriber = new TestSubscriber();
+
+		template.listen("SELECT * FROM /Example").subscribe(subscriber);
+
+		CqListener listener = captureCqListener();
+
+		listener.onEvent(newMockCqEvent(1));
+		listener.onEvent(newMockCqEvent(2));
+
+		assertThat(subscriber.error.get()).isInstanceOf(IllegalStateException.class);
+
+		verify(mockCqQuery, times(1)).close();
+	}
+
+	@Test
+	public void blockStrategyWaitsForDemand() throws Exception {
+
+		template.setBufferSize(1);
+
+		TestSubscriber subscriber = new TestSubscriber();
+
+		template.listen("SELECT * FROM /Example").subscribe(subscriber);
+
+		CqListener listener = captureCqListener();
+
+		listener.onEvent(newMockCqEvent(1));
+
+		AtomicBoolean delivered = new AtomicBoolean(false);
+
+		Thread cqThread = new Thread(() -> {
+			listener.onEvent(newMockCqEvent(2));
+			delivered.set(true);
+		});
+
+		cqThread.setDaemon(true);
+		cqThread.start();
+		cqThread.join(200);
+
+		assertThat(delivered.get()).isFalse();
+
+		subscriber.request(10);
+		cqThread.join(5000);
+
+		assertThat(delivered.get()).isTrue();
+		assertThat(valuesOf(subscriber.events)).containsExactly(1, 2);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void seedsWithInitialResults() throws Exception {
+
+		Struct mockStruct = mock(Struct.class);
+
+		when(mockStruct.get("key")).thenReturn("key1");
+		when(mockStruct.get("value")).thenReturn("value1");
+
+		CqResults<Object> mockResults = mock(CqResults.class);
+
+		when(mockResults.iterator()).thenReturn(Arrays.<Object>asList(mockStruct).iterator());
+		when(mockCqQuery.executeWithInitialResults()).thenReturn(mockResults);
+
+		template.setSeedWithInitialResults(true);
+
+		TestSubscriber subscriber = new TestSubscriber();
+
+		template.listen("SELECT * FROM /Example").subscribe(subscriber);
+
+		CqListener listener = captureCqListener();
+
+		listener.onEvent(newMockCqEvent("value2"));
+
+		subscriber.request(10);
+
+		assertThat(subscriber.events).hasSize(2);
+		assertThat(subscriber.events.get(0).getKey()).isEqualTo("key1");
+		assertThat(subscriber.events.get(0).getQueryOperation()).isEqualTo(Operation.CREATE);
+		assertThat(valuesOf(subscriber.events)).containsExactly("value1", "value2");
+	}
+
+	@Test
+	public void completesOnCloseOnlyOnceBufferedEventsAreEmitted() throws Exception {
+
+		TestSubscriber subscriber = new TestSubscriber();
+
+		template.listen("SELECT * FROM /Example").subscribe(subscriber);
+
+		CqListener listener = captureCqListener();
+
+		listener.onEvent(newMockCqEvent(1));
+		listener.onEvent(newMockCqEvent(2));
+		listener.close();
+
+		assertThat(subscriber.completed.get()).isFalse();
+
+		subscriber.request(1);
+
+		assertThat(valuesOf(subscriber.events)).containsExactly(1);
+		assertThat(subscriber.completed.get()).isFalse();
+
+		subscriber.request(1);
+
+		assertThat(valuesOf(subscriber.events)).containsExactly(1, 2);
+		assertThat(subscriber.completed.get()).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void seedingDoesNotWaitForDemand() throws Exception {
+
+		CqResults<Object> mockResults = mock(CqResults.class);
+
+		when(mockResults.iterator()).thenReturn(Arrays.<Object>asList("one", "two", "three").iterator());
+		when(mockCqQuery.executeWithInitialResults()).thenReturn(mockResults);
+
+		template.setBufferSize(1);
+		template.setSeedWithInitialResults(true);
+
+		TestSubscriber subscriber = new TestSubscriber();
+
+		template.listen("SELECT * FROM /Example").subscribe(subscriber);
+
+		CqListener listener = captureCqListener();
+
+		listener.onEvent(newMockCqEvent("four"));
+
+		assertThat(subscriber.events).isEmpty();
+
+		subscriber.request(10);
+
+		assertThat(valuesOf(subscriber.events)).containsExactly("one", "two", "three", "four");
+	}
+
+	static class TestSubscriber extends BaseSubscriber<CqEvent> {
+
+		final AtomicBoolean completed = new AtomicBoolean(false);
+
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+
+		final List<CqEvent> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		protected void hookOnSubscribe(Subscription subscription) {
+		}
+
+		@Override
+		protected void hookOnNext(CqEvent event) {
+			this.events.add(event);
+		}
+
+		@Override
+		protected void hookOnComplete() {
+			this.completed.set(true);
+		}
+
+		@Override
+		protected void hookOnError(Throwable cause) {
+			this.error.set(cause);
+		}
+	}
+}
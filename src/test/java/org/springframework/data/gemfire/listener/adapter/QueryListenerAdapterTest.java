@@ -241,6 +241,29 @@ public class QueryListenerAdapterTest {
 		assertThat(listener.count, is(1));
 	}
 
+	@Test
+	public void triggersStaticListenerMethod() {
+		StaticListener.count = 0;
+
+		ContinuousQueryListener listenerAdapter = new ContinuousQueryListenerAdapter(new StaticListener()) {
+			protected void handleListenerException(Throwable cause) {
+				throw new RuntimeException(cause);
+			}
+		};
+
+		listenerAdapter.onEvent(event());
+		assertThat(StaticListener.count, is(1));
+	}
+
+	static class StaticListener {
+
+		static int count;
+
+		public static void handleEvent(CqEvent event) {
+			count++;
+		}
+	}
+
 	class SampleListener implements ContinuousQueryListener {
 
 		int count;
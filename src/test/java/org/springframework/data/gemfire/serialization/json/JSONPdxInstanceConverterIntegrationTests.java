@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.serialization.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.JSONFormatterException;
+import org.apache.geode.pdx.PdxInstance;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.data.gemfire.GemfireUtils;
+
+/**
+ * Integration tests for {@link JSONPdxInstanceConverter}.
+ *
+ * @author agent
+ * @see org.apache.geode.pdx.JSONFormatter
+ * @see org.springframework.data.gemfire.serialization.json.JSONPdxInstanceConverter
+ * @since 2.1.0
+ */
+public class JSONPdxInstanceConverterIntegrationTests {
+
+	private static final String JSON = "{\"name\":\"Jon Doe\",\"age\":42,\"height\":1.85,\"visits\":40000,"
+		+ "\"balance\":12345678901,\"huge\":123456789012345678901234567890,\"active\":true,\"spouse\":null,"
+		+ "\"address\":{\"street\":\"100 Main St.\",\"city\":\"Portland\"},\"tags\":[\"a b\",1,[2,3]]}";
+
+	static Cache cache;
+
+	private final JSONPdxInstanceConverter converter = new JSONPdxInstanceConverter();
+
+	@BeforeClass
+	public static void setup() {
+		cache = new CacheFactory()
+			.set("name", JSONPdxInstanceConverterIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "error")
+			.create();
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		GemfireUtils.close(cache);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void convertsJSONToPdxInstanceLikeJSONFormatter() {
+
+		PdxInstance pdxInstance = converter.toPdxInstance(JSON);
+		PdxInstance expected = JSONFormatter.fromJSON(JSON);
+
+		assertThat(pdxInstance.getClassName()).isEqualTo(JSONFormatter.JSON_CLASSNAME);
+		assertThat(pdxInstance.getFieldNames()).isEqualTo(expected.getFieldNames());
+		assertThat(pdxInstance).isEqualTo(expected);
+		assertThat(pdxInstance.getField("age")).isEqualTo((byte) 42);
+		assertThat(pdxInstance.getField("visits")).isEqualTo(40000);
+		assertThat(pdxInstance.getField("balance")).isEqualTo(12345678901L);
+		assertThat(pdxInstance.getField("huge")).isEqualTo(new BigInteger("123456789012345678901234567890"));
+		assertThat(((PdxInstance) pdxInstance.getField("address")).getField("city")).isEqualTo("Portland");
+		assertThat((List<Object>) pdxInstance.getField("tags")).containsExactly("a b", (byte) 1,
+			Arrays.asList((byte) 2, (byte) 3));
+	}
+
+	@Test
+	public void convertsObjectToPdxInstanceLikeJSONFormatter() throws Exception {
+
+		Customer customer = new Customer("Jon Doe", 42L, 1.5f);
+
+		PdxInstance pdxInstance = converter.toPdxInstance(customer);
+
+		assertThat(pdxInstance).isEqualTo(JSONFormatter.fromJSON(
+			converter.getObjectMapper().writeValueAsString(customer)));
+		assertThat(pdxInstance.getField("id")).isEqualTo((byte) 42);
+		assertThat(pdxInstance.getField("rating")).isEqualTo(1.5d);
+	}
+
+	@Test
+	public void convertsPdxInstanceToCompactJSONPreservingWhitespaceInValues() {
+
+		PdxInstance pdxInstance = JSONFormatter.fromJSON(JSON);
+
+		String json = converter.toJSON(pdxInstance);
+
+		assertThat(json).isEqualTo(JSON);
+		assertThat(converter.toPdxInstance(json)).isEqualTo(pdxInstance);
+	}
+
+	@Test
+	public void prettyPrintsJSON() {
+
+		String json = converter.toJSON(converter.toPdxInstance("{\"name\":\"Jon Doe\"}"), true);
+
+		assertThat(json).isEqualTo("{\n  \"name\" : \"Jon Doe\"\n}");
+	}
+
+	@Test
+	public void writesJSONToOutputStream() {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		converter.writeJSON(converter.toPdxInstance(JSON), out, false);
+
+		assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(JSON);
+	}
+
+	@Test(expected = JSONFormatterException.class)
+	public void convertingNonObjectJSONThrowsJSONFormatterException() {
+		converter.toPdxInstance("[1, 2, 3]");
+	}
+
+	public static class Customer {
+
+		private final Long id;
+		private final Float rating;
+		private final String name;
+
+		Customer(String name, Long id, Float rating) {
+			this.id = id;
+			this.name = name;
+			this.rating = rating;
+		}
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public Float getRating() {
+			return this.rating;
+		}
+	}
+}
@@ -18,9 +18,13 @@
 package org.springframework.data.gemfire.serialization.json;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -93,6 +97,15 @@ public class JSONRegionAdviceTest {
 		assertEquals(json, jsonRegion.get("key"));
 	}
 
+	@Test
+	public void testGetPreservesWhitespaceInStringValues() {
+		String json = "{\"greeting\":\"hello world\",\"tags\":[\"a b\"]}";
+
+		jsonRegion.put("key", json);
+
+		assertEquals(json, jsonRegion.get("key"));
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void testPutAll() {
@@ -108,6 +121,50 @@ public class JSONRegionAdviceTest {
 		assertEquals("{\"hello2\":\"world2\"}", results.get("key2"));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testValues() {
+		String json = "{\"hello\":\"world\"}";
+
+		jsonRegion.put("key", json);
+
+		Collection<Object> values = jsonRegion.values();
+
+		assertEquals(1, values.size());
+		assertEquals(json, values.iterator().next());
+		assertTrue(values instanceof JSONWritable);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testValuesIsCopyOfRegionValues() {
+		String json = "{\"hello\":\"world\"}";
+
+		jsonRegion.put("key", json);
+
+		Collection<Object> values = jsonRegion.values();
+
+		jsonRegion.put("key2", json);
+		jsonRegion.remove("key");
+
+		assertEquals(1, values.size());
+		assertEquals(json, values.iterator().next());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testGetAllWritesJSON() {
+		jsonRegion.put("key1", "{\"hello1\":\"world1\"}");
+
+		Map<String, Object> results = jsonRegion.getAll(Arrays.asList("key1"));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		((JSONWritable) results).writeJSON(out);
+
+		assertEquals("{\"key1\":{\"hello1\":\"world1\"}}", new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
 	@Test
 	public void testObjectToJSon() throws IOException {
 		Person daveTuranski = new Person(1L, "Dave", "Turanski");
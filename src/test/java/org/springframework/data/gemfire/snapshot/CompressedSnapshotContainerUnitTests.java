@@ -0,0 +1,191 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.gemfire.test.support.FileSystemUtils;
+
+/**
+ * Unit tests for {@link CompressedSnapshotContainer}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.CompressedSnapshotContainer
+ * @since 2.1.0
+ */
+public class CompressedSnapshotContainerUnitTests {
+
+	private File directory;
+	private File container;
+	private File snapshot;
+	private File restoredSnapshot;
+
+	@Before
+	public void setup() throws IOException {
+
+		directory = new File(FileSystemUtils.WORKING_DIRECTORY, "compressed-snapshots");
+
+		assertThat(directory.isDirectory() || directory.mkdirs()).isTrue();
+
+		container = new File(directory, "snapshot.gfz");
+		snapshot = new File(directory, "snapshot.gfd");
+		restoredSnapshot = new File(directory, "restored.gfd");
+
+		// compressible content spanning several blocks with a partial last block
+		byte[] content = new byte[10_000];
+		Random random = new Random(42L);
+
+		for (int index = 0; index < content.length; index++) {
+			content[index] = (byte) ('a' + random.nextInt(4));
+		}
+
+		Files.write(snapshot.toPath(), content);
+	}
+
+	@After
+	public void tearDown() {
+		FileSystemUtils.deleteRecursive(directory);
+	}
+
+	@Test
+	public void compressesAndDecompressesConcurrently() throws IOException {
+
+		CompressedSnapshotContainer snapshotContainer = new CompressedSnapshotContainer(1024, 4);
+
+		long containerLength = snapshotContainer.compress(snapshot, container);
+
+		assertThat(containerLength).isEqualTo(container.length());
+		assertThat(containerLength).isLessThan(snapshot.length());
+		assertThat(CompressedSnapshotContainer.isContainer(container)).isTrue();
+		assertThat(CompressedSnapshotContainer.isContainer(snapshot)).isFalse();
+
+		assertThat(snapshotContainer.decompress(container, restoredSnapshot)).isEqualTo(snapshot.length());
+		assertThat(Files.readAllBytes(restoredSnapshot.toPath())).isEqualTo(Files.readAllBytes(snapshot.toPath()));
+	}
+
+	@Test
+	public void sharedContainerCompressesAndDecompressesSnapshotsConcurrently() throws Exception {
+
+		CompressedSnapshotContainer snapshotContainer = new CompressedSnapshotContainer(1024, 2);
+
+		List<CompletableFuture<File>> restoredSnapshots = new ArrayList<>();
+
+		for (int index = 0; index < 4; index++) {
+
+			File containerCopy = new File(directory, String.format("snapshot-%d.gfz", index));
+			File restoredSnapshotCopy = new File(directory, String.format("restored-%d.gfd", index));
+
+			restoredSnapshots.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					snapshotContainer.compress(snapshot, containerCopy);
+					snapshotContainer.decompress(containerCopy, restoredSnapshotCopy);
+					return restoredSnapshotCopy;
+				}
+				catch (IOException cause) {
+					throw new IllegalStateException(cause);
+				}
+			}));
+		}
+
+		for (CompletableFuture<File> restoredSnapshotCopy : restoredSnapshots) {
+			assertThat(Files.readAllBytes(restoredSnapshotCopy.get().toPath()))
+				.isEqualTo(Files.readAllBytes(snapshot.toPath()));
+		}
+	}
+
+	@Test
+	public void containerRemainsUsableAfterFailure() throws IOException {
+
+		CompressedSnapshotContainer snapshotContainer = new CompressedSnapshotContainer(1024, 2);
+
+		snapshotContainer.compress(snapshot, container);
+
+		try (RandomAccessFile file = new RandomAccessFile(container, "rw")) {
+			file.setLength(file.length() / 2);
+		}
+
+		assertThatThrownBy(() -> snapshotContainer.decompress(container, restoredSnapshot))
+			.isInstanceOf(IOException.class);
+
+		snapshotContainer.compress(snapshot, container);
+
+		assertThat(snapshotContainer.decompress(container, restoredSnapshot)).isEqualTo(snapshot.length());
+	}
+
+	@Test
+	public void compressesAndDecompressesEmptySnapshot() throws IOException {
+
+		Files.write(snapshot.toPath(), new byte[0]);
+
+		CompressedSnapshotContainer snapshotContainer = new CompressedSnapshotContainer(1024, 1);
+
+		snapshotContainer.compress(snapshot, container);
+
+		assertThat(snapshotContainer.decompress(container, restoredSnapshot)).isEqualTo(0L);
+		assertThat(restoredSnapshot.length()).isEqualTo(0L);
+	}
+
+	@Test
+	public void decompressDetectsChecksumMismatch() throws IOException {
+
+		CompressedSnapshotContainer snapshotContainer = new CompressedSnapshotContainer(1024, 2);
+
+		snapshotContainer.compress(snapshot, container);
+
+		// flip a bit in the stored checksum of the first block (after the 9 byte header and 2 length fields)
+		try (RandomAccessFile file = new RandomAccessFile(container, "rw")) {
+			file.seek(17L);
+			int checksumByte = file.read();
+			file.seek(17L);
+			file.write(checksumByte ^ 0x01);
+		}
+
+		assertThatThrownBy(() -> snapshotContainer.decompress(container, restoredSnapshot))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("checksum of block [0]");
+	}
+
+	@Test
+	public void decompressDetectsTruncatedContainer() throws IOException {
+
+		CompressedSnapshotContainer snapshotContainer = new CompressedSnapshotContainer(1024, 2);
+
+		snapshotContainer.compress(snapshot, container);
+
+		try (RandomAccessFile file = new RandomAccessFile(container, "rw")) {
+			file.setLength(file.length() / 2);
+		}
+
+		assertThatThrownBy(() -> snapshotContainer.decompress(container, restoredSnapshot))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("truncated");
+	}
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionShortcut;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.gemfire.test.support.FileSystemUtils;
+
+/**
+ * Integration tests for {@link IncrementalRegionSnapshotService}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Cache
+ * @see org.springframework.data.gemfire.snapshot.IncrementalRegionSnapshotService
+ * @since 2.1.0
+ */
+public class IncrementalRegionSnapshotServiceIntegrationTests {
+
+	private Cache cache;
+
+	private File snapshotDirectory;
+
+	private IncrementalRegionSnapshotService<String, String> snapshotService;
+
+	private Region<String, String> region;
+
+	@Before
+	public void setup() {
+
+		cache = new CacheFactory()
+			.set("name", IncrementalRegionSnapshotServiceIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "error")
+			.create();
+
+		region = cache.<String, String>createRegionFactory(RegionShortcut.LOCAL).create("Example");
+
+		snapshotDirectory = new File(FileSystemUtils.WORKING_DIRECTORY, "incremental-snapshots");
+		snapshotService = new IncrementalRegionSnapshotService<>(region, snapshotDirectory);
+		snapshotService.afterPropertiesSet();
+	}
+
+	@After
+	public void tearDown() {
+
+		snapshotService.destroy();
+		cache.close();
+		FileSystemUtils.deleteRecursive(snapshotDirectory);
+	}
+
+	@Test
+	public void restoresBaseSnapshotFollowedByDeltasInOrder() {
+
+		region.put("one", "1");
+		region.put("two", "2");
+		region.put("three", "3");
+
+		assertThat(snapshotService.isBaseRequired()).isTrue();
+		assertThat(snapshotService.save()).isEqualTo(snapshotService.getBaseSnapshot());
+
+		region.put("two", "TWO");
+		region.put("four", "4");
+		region.destroy("three");
+
+		File firstDelta = snapshotService.save();
+
+		region.put("three", "THREE");
+		region.destroy("one");
+
+		File secondDelta = snapshotService.save();
+
+		assertThat(snapshotService.getDeltaSnapshots()).containsExactly(firstDelta, secondDelta);
+
+		region.put("five", "5");
+		region.clear();
+
+		snapshotService.restore();
+
+		assertThat(region).hasSize(3);
+		assertThat(region.get("two")).isEqualTo("TWO");
+		assertThat(region.get("three")).isEqualTo("THREE");
+		assertThat(region.get("four")).isEqualTo("4");
+		assertThat(region.containsKey("one")).isFalse();
+		assertThat(region.containsKey("five")).isFalse();
+	}
+
+	@Test
+	public void savesNewBaseSnapshotAfterRegionClearOrMaxDeltas() {
+
+		snapshotService.setMaxDeltas(1);
+
+		region.put("one", "1");
+		snapshotService.save();
+		region.put("two", "2");
+
+		assertThat(snapshotService.save().getName()).isEqualTo("delta-000001.gfd");
+		assertThat(snapshotService.isBaseRequired()).isTrue();
+		assertThat(snapshotService.save()).isEqualTo(snapshotService.getBaseSnapshot());
+		assertThat(snapshotService.getDeltaSnapshots()).isEmpty();
+
+		snapshotService.setMaxDeltas(0);
+		region.put("three", "3");
+		snapshotService.save();
+
+		assertThat(snapshotService.isBaseRequired()).isFalse();
+
+		region.clear();
+
+		assertThat(snapshotService.isBaseRequired()).isTrue();
+	}
+
+	@Test
+	public void restoreDoesNotTrackRestoredEntriesAsChanges() {
+
+		region.put("one", "1");
+		region.put("two", "2");
+		snapshotService.save();
+		region.destroy("two");
+		snapshotService.save();
+
+		region.clear();
+		snapshotService.restore();
+
+		assertThat(region).hasSize(1);
+		assertThat(snapshotService.isBaseRequired()).isFalse();
+
+		region.put("three", "3");
+
+		File delta = snapshotService.save();
+
+		assertThat(delta.getName()).isEqualTo("delta-000002.gfd");
+
+		region.clear();
+		snapshotService.restore();
+
+		assertThat(region).hasSize(2);
+		assertThat(region.get("one")).isEqualTo("1");
+		assertThat(region.get("three")).isEqualTo("3");
+	}
+
+	@Test
+	public void restoreIntoNonEmptyRegionRequiresBaseSnapshot() {
+
+		region.put("one", "1");
+		snapshotService.save();
+		region.put("two", "2");
+		snapshotService.save();
+
+		snapshotService.restore();
+
+		assertThat(snapshotService.isBaseRequired()).isTrue();
+	}
+
+	@Test
+	public void failedBaseSnapshotLeavesPreviousSnapshotsIntact() {
+
+		region.put("one", "1");
+		File baseSnapshot = snapshotService.save();
+		region.put("two", "2");
+		File delta = snapshotService.save();
+
+		long baseSnapshotLength = baseSnapshot.length();
+
+		region.put("three", "3");
+
+		// a directory in place of the temporary base snapshot fails the export
+		assertThat(new File(snapshotDirectory, "base.tmp.gfd").mkdir()).isTrue();
+
+		assertThatThrownBy(() -> snapshotService.saveBase()).isInstanceOf(ExportSnapshotException.class);
+
+		assertThat(baseSnapshot).isFile();
+		assertThat(baseSnapshot.length()).isEqualTo(baseSnapshotLength);
+		assertThat(snapshotService.getDeltaSnapshots()).containsExactly(delta);
+		assertThat(snapshotService.isBaseRequired()).isTrue();
+
+		region.clear();
+		snapshotService.restore();
+
+		assertThat(region).hasSize(2);
+		assertThat(region.get("one")).isEqualTo("1");
+		assertThat(region.get("two")).isEqualTo("2");
+
+		assertThat(snapshotService.saveBase()).isEqualTo(baseSnapshot);
+		assertThat(snapshotService.getDeltaSnapshots()).isEmpty();
+		assertThat(new File(snapshotDirectory, "base.tmp.gfd")).doesNotExist();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void partitionRegionIsRejected() {
+
+		Region<String, String> partitionRegion =
+			cache.<String, String>createRegionFactory(RegionShortcut.PARTITION).create("PartitionExample");
+
+		new IncrementalRegionSnapshotService<>(partitionRegion, snapshotDirectory).afterPropertiesSet();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void clientRegionIsRejected() {
+
+		Region<String, String> mockClientRegion = mock(Region.class);
+		RegionAttributes<String, String> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockClientRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockClientRegion.getFullPath()).thenReturn("/ClientExample");
+		when(mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+
+		assertThatThrownBy(() -> new IncrementalRegionSnapshotService<>(mockClientRegion, snapshotDirectory)
+			.afterPropertiesSet()).isInstanceOf(IllegalStateException.class)
+				.hasMessage("Incremental snapshots of client Region [/ClientExample] are not supported");
+
+		verify(mockClientRegion, never()).getAttributesMutator();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void saveDeltaWithoutBaseSnapshotThrowsIllegalStateException() {
+		snapshotService.saveDelta();
+	}
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import static org.apache.geode.cache.snapshot.SnapshotOptions.SnapshotFormat;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.springframework.data.gemfire.util.LatencyHistogram;
+import org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.CacheSnapshotServiceAdapter;
+import org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent;
+import org.springframework.data.gemfire.test.support.FileSystemUtils;
+
+/**
+ * Reproducible benchmark exporting and importing synthetic Regions of configurable size and entry shape
+ * with the {@link SnapshotServiceFactoryBean.SnapshotServiceAdapter} against an embedded, peer {@link Cache}.
+ *
+ * The benchmark is not run as part of the test suite.  Run the {@link #main(String[])} method with the test
+ * classpath, configuring the benchmark with the following System properties:
+ *
+ * <ul>
+ *     <li>{@literal snapshot.benchmark.regions} - number of Regions (default: 4)</li>
+ *     <li>{@literal snapshot.benchmark.entries} - number of entries per Region (default: 100000)</li>
+ *     <li>{@literal snapshot.benchmark.value-type} - BYTES, STRING or MAP (default: BYTES)</li>
+ *     <li>{@literal snapshot.benchmark.value-size} - size of each value in bytes, characters or,
+ *     for MAP values, fields of 16 characters (default: 256)</li>
+ *     <li>{@literal snapshot.benchmark.region-shortcut} - {@link RegionShortcut} of the Regions (default: LOCAL)</li>
+ *     <li>{@literal snapshot.benchmark.container-format} - NONE or COMPRESSED (default: NONE)</li>
+ *     <li>{@literal snapshot.benchmark.max-concurrency} - snapshot files processed concurrently (default: 1)</li>
+ *     <li>{@literal snapshot.benchmark.warmup-iterations} - iterations excluded from the results (default: 1)</li>
+ *     <li>{@literal snapshot.benchmark.iterations} - measured iterations (default: 5)</li>
+ *     <li>{@literal snapshot.benchmark.seed} - seed of the generated entries (default: 42)</li>
+ *     <li>{@literal snapshot.benchmark.directory} - directory of the snapshot files
+ *     (default: snapshot-benchmark in the working directory)</li>
+ * </ul>
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @since 2.1.0
+ */
+public class SnapshotBenchmark {
+
+	private static final String PROPERTY_PREFIX = "snapshot.benchmark.";
+
+	private final int entries;
+	private final int iterations;
+	private final int maxConcurrency;
+	private final int regions;
+	private final int valueSize;
+	private final int warmupIterations;
+
+	private final long seed;
+
+	private final File directory;
+
+	private final PrintStream out;
+
+	private final RegionShortcut regionShortcut;
+
+	private final SnapshotMetadata.ContainerFormat containerFormat;
+
+	private final ValueType valueType;
+
+	public static void main(String[] args) throws Exception {
+		new SnapshotBenchmark(System.out).run();
+	}
+
+	SnapshotBenchmark(PrintStream out) {
+
+		this.out = out;
+		this.regions = Integer.getInteger(PROPERTY_PREFIX + "regions", 4);
+		this.entries = Integer.getInteger(PROPERTY_PREFIX + "entries", 100_000);
+		this.valueType = ValueType.valueOf(property("value-type", ValueType.BYTES.name()));
+		this.valueSize = Integer.getInteger(PROPERTY_PREFIX + "value-size", 256);
+		this.regionShortcut = RegionShortcut.valueOf(property("region-shortcut", RegionShortcut.LOCAL.name()));
+		this.containerFormat = SnapshotMetadata.ContainerFormat.valueOf(property("container-format",
+			SnapshotMetadata.ContainerFormat.NONE.name()));
+		this.maxConcurrency = Integer.getInteger(PROPERTY_PREFIX + "max-concurrency", 1);
+		this.warmupIterations = Integer.getInteger(PROPERTY_PREFIX + "warmup-iterations", 1);
+		this.iterations = Integer.getInteger(PROPERTY_PREFIX + "iterations", 5);
+		this.seed = Long.getLong(PROPERTY_PREFIX + "seed", 42L);
+		this.directory = new File(property("directory",
+			new File(FileSystemUtils.WORKING_DIRECTORY, "snapshot-benchmark").getAbsolutePath()));
+	}
+
+	private static String property(String name, String defaultValue) {
+		return System.getProperty(PROPERTY_PREFIX + name, defaultValue);
+	}
+
+	void run() throws Exception {
+
+		Cache cache = new CacheFactory()
+			.set("name", SnapshotBenchmark.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "error")
+			.create();
+
+		try {
+			List<Region<Object, Object>> benchmarkRegions = createRegions(cache);
+
+			AtomicLong progressEvents = new AtomicLong(0L);
+
+			CacheSnapshotServiceAdapter snapshotService =
+				new CacheSnapshotServiceAdapter(cache.getSnapshotService(), cache);
+
+			snapshotService.setApplicationEventPublisher(event -> {
+				if (event instanceof SnapshotProgressApplicationEvent) {
+					progressEvents.incrementAndGet();
+				}
+			});
+
+			snapshotService.setMaxConcurrency(this.maxConcurrency);
+
+			LatencyHistogram exportTimes = new LatencyHistogram();
+			LatencyHistogram importTimes = new LatencyHistogram();
+
+			long snapshotBytes = 0L;
+
+			printConfiguration();
+
+			for (int iteration = 0; iteration < this.warmupIterations + this.iterations; iteration++) {
+
+				boolean measured = iteration >= this.warmupIterations;
+
+				FileSystemUtils.deleteRecursive(this.directory);
+
+				SnapshotMetadata<Object, Object> export = new SnapshotMetadata<>(this.directory, SnapshotFormat.GEMFIRE);
+
+				export.setContainerFormat(this.containerFormat);
+
+				long exportTime = time(() -> snapshotService.doExport(export));
+
+				snapshotBytes = sizeOf(this.directory);
+
+				benchmarkRegions.forEach(Region::clear);
+
+				long importTime = time(() -> snapshotService.doImport(
+					new SnapshotMetadata<>(this.directory, SnapshotFormat.GEMFIRE)));
+
+				benchmarkRegions.forEach(region -> {
+					if (region.size() != this.entries) {
+						throw new IllegalStateException(String.format("Region [%1$s] contains [%2$d] entries;"
+							+ " expected [%3$d]", region.getFullPath(), region.size(), this.entries));
+					}
+				});
+
+				if (measured) {
+					exportTimes.record(exportTime);
+					importTimes.record(importTime);
+				}
+
+				this.out.printf("%-9s %2d: export %,10.1f ms, import %,10.1f ms%n", measured ? "iteration" : "warmup",
+					iteration, exportTime / 1.0e6d, importTime / 1.0e6d);
+			}
+
+			long totalEntries = (long) this.regions * this.entries;
+
+			printResults("export", exportTimes, totalEntries, snapshotBytes);
+			printResults("import", importTimes, totalEntries, snapshotBytes);
+
+			this.out.printf("snapshot size: %,d bytes; progress events: %,d%n", snapshotBytes, progressEvents.get());
+		}
+		finally {
+			cache.close();
+			FileSystemUtils.deleteRecursive(this.directory);
+		}
+	}
+
+	private List<Region<Object, Object>> createRegions(Cache cache) {
+
+		Random random = new Random(this.seed);
+
+		List<Region<Object, Object>> benchmarkRegions = new ArrayList<>(this.regions);
+
+		for (int index = 0; index < this.regions; index++) {
+
+			Region<Object, Object> region =
+				cache.createRegionFactory(this.regionShortcut).create("Benchmark" + index);
+
+			Map<Object, Object> batch = new HashMap<>();
+
+			for (long key = 0; key < this.entries; key++) {
+
+				batch.put(key, this.valueType.newValue(random, this.valueSize));
+
+				if (batch.size() == 1000) {
+					region.putAll(batch);
+					batch.clear();
+				}
+			}
+
+			region.putAll(batch);
+			benchmarkRegions.add(region);
+		}
+
+		return benchmarkRegions;
+	}
+
+	private long time(Runnable runnable) {
+
+		long startTime = System.nanoTime();
+
+		runnable.run();
+
+		return System.nanoTime() - startTime;
+	}
+
+	private long sizeOf(File directory) {
+
+		File[] files = directory.listFiles();
+
+		long size = 0L;
+
+		for (File file : files != null ? files : new File[0]) {
+			size += file.length();
+		}
+
+		return size;
+	}
+
+	private void printConfiguration() {
+
+		this.out.printf("regions = %d, entries = %,d, valueType = %s, valueSize = %d, regionShortcut = %s,"
+			+ " containerFormat = %s, maxConcurrency = %d, warmupIterations = %d, iterations = %d, seed = %d%n",
+				this.regions, this.entries, this.valueType, this.valueSize, this.regionShortcut, this.containerFormat,
+					this.maxConcurrency, this.warmupIterations, this.iterations, this.seed);
+	}
+
+	private void printResults(String operation, LatencyHistogram times, long totalEntries, long snapshotBytes) {
+
+		double meanSeconds = times.getMean(TimeUnit.SECONDS);
+
+		this.out.printf("%s: mean %,.1f ms, max %,d ms, p50 <= %,d ms; %,.0f entries/s, %,.1f MB/s%n",
+			operation, times.getMean(TimeUnit.MILLISECONDS), times.getMax(TimeUnit.MILLISECONDS),
+				times.getPercentile(0.5d, TimeUnit.MILLISECONDS), meanSeconds > 0 ? totalEntries / meanSeconds : 0.0d,
+					meanSeconds > 0 ? snapshotBytes / meanSeconds / (1024.0d * 1024.0d) : 0.0d);
+	}
+
+	enum ValueType {
+
+		BYTES {
+			@Override
+			Object newValue(Random random, int size) {
+				byte[] value = new byte[size];
+				random.nextBytes(value);
+				return value;
+			}
+		},
+
+		STRING {
+			@Override
+			Object newValue(Random random, int size) {
+				return newString(random, size);
+			}
+		},
+
+		MAP {
+			@Override
+			Object newValue(Random random, int size) {
+
+				HashMap<String, String> value = new HashMap<>();
+
+				for (int field = 0; field < Math.max(size / 16, 1); field++) {
+					value.put("field" + field, newString(random, 16));
+				}
+
+				return value;
+			}
+		};
+
+		abstract Object newValue(Random random, int size);
+
+		static String newString(Random random, int size) {
+
+			char[] value = new char[size];
+
+			for (int index = 0; index < size; index++) {
+				value[index] = (char) ('a' + random.nextInt(26));
+			}
+
+			return new String(value);
+		}
+	}
+}
@@ -20,20 +20,31 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.ArchiveFileFilter;
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport;
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotTask;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.apache.geode.cache.snapshot.SnapshotOptions;
+import org.apache.geode.cache.snapshot.SnapshotOptions.SnapshotFormat;
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.gemfire.test.support.FileSystemUtils;
 
 /**
  * The SnapshotServiceFactoryBeanIntegrationTest class is a test suite of test cases testing the file archive handling
- * capabilities of the SnapshotServiceFactoryBean.SnapshotServiceAdpterSupport class.
+ * capabilities of the SnapshotServiceFactoryBean.SnapshotServiceAdpterSupport class, which imports archives
+ * entry by entry.
  *
  * @author John Blum
  * @see org.junit.Test
@@ -42,7 +53,7 @@ import org.springframework.data.gemfire.test.support.FileSystemUtils;
  */
 public class SnapshotServiceFactoryBeanIntegrationTest {
 
-	SnapshotServiceAdapterSupport snapshotService = new TestSnapshotServiceAdapter();
+	SnapshotServiceAdapterSupport<Object, Object> snapshotService = new TestSnapshotServiceAdapter<>();
 
 	protected List<String> toFilenames(File... files) {
 		List<String> filenames = new ArrayList<String>(files.length);
@@ -66,39 +77,78 @@ public class SnapshotServiceFactoryBeanIntegrationTest {
 	}
 
 	@Test
-	public void handleArchiveFileLocation() throws Exception {
-		File cacheSnapshotZipDirectory = null;
+	public void handleArchiveFileLocationDoesNotExtractArchive() throws Exception {
+		File cacheSnapshotZip = new ClassPathResource("/cache_snapshot.zip").getFile();
 
-		try {
-			File cacheSnapshotZip = new ClassPathResource("/cache_snapshot.zip").getFile();
+		File[] files = snapshotService.handleFileLocation(cacheSnapshotZip);
 
-			File[] actualSnapshots = snapshotService.handleFileLocation(cacheSnapshotZip);
+		assertThat(files, is(notNullValue()));
+		assertThat(files.length, is(equalTo(1)));
+		assertThat(files[0], is(equalTo(cacheSnapshotZip)));
+		assertThat(new File(FileSystemUtils.TEMPORARY_DIRECTORY, "cache_snapshot-zip").exists(), is(false));
+	}
 
-			assertThat(actualSnapshots, is(notNullValue()));
-			assertThat(actualSnapshots.length, is(equalTo(3)));
-			assertThat(toFilenames(actualSnapshots).containsAll(Arrays.asList(
-				"accounts.snapshot", "address.snapshot", "people.snapshot")), is(true));
+	@Test
+	@SuppressWarnings("unchecked")
+	public void importArchiveEntryByEntry() throws Exception {
+		File cacheSnapshotZip = new ClassPathResource("/cache_snapshot.zip").getFile();
 
-			cacheSnapshotZipDirectory = new File(System.getProperty("java.io.tmpdir"),
-				cacheSnapshotZip.getName().replaceAll("\\.", "-"));
+		SnapshotMetadata<Object, Object> configuration = new SnapshotMetadata<>(cacheSnapshotZip);
 
-			assertThat(cacheSnapshotZipDirectory.isDirectory(), is(true));
-			assertThat(cacheSnapshotZipDirectory.listFiles(FileSystemUtils.FileOnlyFilter.INSTANCE),
-				is(equalTo(actualSnapshots)));
-		}
-		finally {
-			if (cacheSnapshotZipDirectory != null && cacheSnapshotZipDirectory.isDirectory()) {
-				FileSystemUtils.deleteRecursive(cacheSnapshotZipDirectory);
-			}
+		List<SnapshotTask> tasks = snapshotService.newArchiveImportTasks(configuration);
+
+		assertThat(tasks.size(), is(equalTo(3)));
+		assertThat(toFilenames(tasks.stream().map(SnapshotTask::getSnapshot).toArray(File[]::new)).containsAll(
+			Arrays.asList("accounts.snapshot", "address.snapshot", "people.snapshot")), is(true));
+
+		snapshotService.doImport(configuration);
+
+		List<File> stagedSnapshots = ((TestSnapshotServiceAdapter<Object, Object>) snapshotService).stagedSnapshots;
+
+		assertThat(stagedSnapshots.size(), is(equalTo(3)));
+
+		for (File stagedSnapshot : stagedSnapshots) {
+			assertThat(stagedSnapshot.getParentFile(), is(equalTo(FileSystemUtils.TEMPORARY_DIRECTORY)));
+			assertThat(stagedSnapshot.getName().endsWith(".gfd"), is(true));
+			assertThat(stagedSnapshot.exists(), is(false));
 		}
+
+		assertThat(new File(FileSystemUtils.TEMPORARY_DIRECTORY, "cache_snapshot-zip").exists(), is(false));
 	}
 
 	protected static final class TestSnapshotServiceAdapter<K, V> extends SnapshotServiceAdapterSupport<K, V> {
 
+		final List<File> stagedSnapshots = new CopyOnWriteArrayList<>();
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public SnapshotOptions<K, V> createOptions() {
+			SnapshotOptions<K, V> mockSnapshotOptions = mock(SnapshotOptions.class);
+
+			when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+			when(mockSnapshotOptions.setFilter(any())).thenReturn(mockSnapshotOptions);
+			when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+
+			return mockSnapshotOptions;
+		}
+
+		@Override
+		protected boolean isArchiveLocation(SnapshotMetadata<K, V> configuration) {
+			return configuration.isFile() && ArchiveFileFilter.INSTANCE.accept(configuration.getLocation());
+		}
+
 		@Override
 		protected File[] handleLocation(final SnapshotServiceFactoryBean.SnapshotMetadata<K, V> configuration) {
 			throw new UnsupportedOperationException("not implemented");
 		}
+
+		@Override
+		public void load(SnapshotFormat format, SnapshotOptions<K, V> options, File... snapshots) {
+			for (File snapshot : snapshots) {
+				assertThat(snapshot.isFile(), is(true));
+				stagedSnapshots.add(snapshot);
+			}
+		}
 	}
 
 }
@@ -31,6 +31,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -44,14 +45,33 @@ import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBe
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.AbstractMap;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.PartitionAttributes;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.snapshot.CacheSnapshotService;
 import org.apache.geode.cache.snapshot.RegionSnapshotService;
 import org.apache.geode.cache.snapshot.SnapshotFilter;
@@ -61,11 +81,14 @@ import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.ImportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent;
 import org.springframework.data.gemfire.test.support.FileSystemUtils;
 
 /**
@@ -1382,6 +1405,412 @@ public class SnapshotServiceFactoryBeanTest {
 		assertThat(ArchiveFileFilter.INSTANCE.getFileExtension(null), is(equalTo("")));
 	}
 
+	private SnapshotOptions<Object, Object> mockSnapshotOptions() {
+
+		SnapshotOptions<Object, Object> mockSnapshotOptions = mock(SnapshotOptions.class);
+
+		when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+
+		return mockSnapshotOptions;
+	}
+
+	private Region<Object, Object> mockPartitionRegion(Cache mockCache, String name, String colocatedWith) {
+
+		Region<Object, Object> mockRegion = mock(Region.class, name);
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+		PartitionAttributes<Object, Object> mockPartitionAttributes = mock(PartitionAttributes.class);
+
+		when(mockRegion.getFullPath()).thenReturn(Region.SEPARATOR + name);
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegion.getRegionService()).thenReturn(mockCache);
+		when(mockRegionAttributes.getPartitionAttributes()).thenReturn(mockPartitionAttributes);
+		when(mockPartitionAttributes.getColocatedWith()).thenReturn(colocatedWith);
+		when(mockCache.getRegion(eq(name))).thenReturn(mockRegion);
+
+		return mockRegion;
+	}
+
+	private File newSnapshotDirectory(String... snapshotFilenames) throws IOException {
+
+		File snapshotDirectory = new File(FileSystemUtils.WORKING_DIRECTORY, "concurrent-snapshots");
+
+		assertThat(snapshotDirectory.isDirectory() || snapshotDirectory.mkdirs(), is(true));
+
+		for (String snapshotFilename : snapshotFilenames) {
+			File snapshot = new File(snapshotDirectory, snapshotFilename);
+			assertThat(snapshot.isFile() || snapshot.createNewFile(), is(true));
+		}
+
+		return snapshotDirectory;
+	}
+
+	@Test
+	public void concurrentCacheImportLoadsColocatedRegionsAfterTheirParentRegion() throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+		CacheSnapshotService mockCacheSnapshotService = mock(CacheSnapshotService.class);
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		Region<Object, Object> parent = mockPartitionRegion(mockCache, "Parent", null);
+		Region<Object, Object> child = mockPartitionRegion(mockCache, "Child", "Parent");
+		Region<Object, Object> other = mockPartitionRegion(mockCache, "Other", null);
+
+		when(mockCache.rootRegions()).thenReturn(new HashSet<>(Arrays.asList(parent, child, other)));
+		SnapshotOptions<Object, Object> mockSnapshotOptions = mockSnapshotOptions();
+
+		when(mockCacheSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+
+		List<String> loads = new CopyOnWriteArrayList<>();
+
+		doAnswer(invocation -> {
+			String snapshot = invocation.<File[]>getArgument(0)[0].getName();
+			loads.add("start:" + snapshot);
+			if (snapshot.contains("Parent")) {
+				Thread.sleep(200L);
+			}
+			loads.add("end:" + snapshot);
+			return null;
+		}).when(mockCacheSnapshotService).load(any(File[].class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		File snapshotDirectory = newSnapshotDirectory("snapshot-Parent.gfd", "snapshot-Child.gfd", "snapshot-Other.gfd");
+
+		try {
+			CacheSnapshotServiceAdapter adapter = new CacheSnapshotServiceAdapter(mockCacheSnapshotService, mockCache);
+
+			adapter.setApplicationEventPublisher(mockApplicationEventPublisher);
+			adapter.setMaxConcurrency(4);
+			adapter.doImport(newSnapshotMetadata(snapshotDirectory));
+
+			assertThat(loads.size(), is(equalTo(6)));
+			assertThat(loads.indexOf("start:snapshot-Other.gfd") < loads.indexOf("end:snapshot-Parent.gfd"),
+				is(true));
+			assertThat(loads.indexOf("start:snapshot-Child.gfd") > loads.indexOf("end:snapshot-Parent.gfd"),
+				is(true));
+
+			ArgumentCaptor<SnapshotProgressApplicationEvent> events =
+				ArgumentCaptor.forClass(SnapshotProgressApplicationEvent.class);
+
+			verify(mockApplicationEventPublisher, times(6)).publishEvent(events.capture());
+
+			SnapshotProgressApplicationEvent lastEvent = events.getAllValues().get(5);
+
+			assertThat(lastEvent.getOperation(), is(equalTo(SnapshotProgressApplicationEvent.Operation.IMPORT)));
+			assertThat(lastEvent.getStatus(), is(equalTo(SnapshotProgressApplicationEvent.Status.COMPLETED)));
+			assertThat(lastEvent.getRegionPath(), is(equalTo("/Child")));
+			assertThat(lastEvent.getCompletedCount(), is(equalTo(3)));
+			assertThat(lastEvent.getTotalCount(), is(equalTo(3)));
+		}
+		finally {
+			FileSystemUtils.deleteRecursive(snapshotDirectory);
+		}
+	}
+
+	@Test
+	public void concurrentCacheImportThrowsImportSnapshotExceptionWhenAnySnapshotFails() throws Exception {
+
+		CacheSnapshotService mockCacheSnapshotService = mock(CacheSnapshotService.class);
+
+		SnapshotOptions<Object, Object> mockSnapshotOptions = mockSnapshotOptions();
+
+		when(mockCacheSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+
+		doAnswer(invocation -> {
+			if (invocation.<File[]>getArgument(0)[0].getName().equals("two.gfd")) {
+				throw new IOException("TEST");
+			}
+			return null;
+		}).when(mockCacheSnapshotService).load(any(File[].class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		File snapshotDirectory = newSnapshotDirectory("one.gfd", "two.gfd", "three.gfd");
+
+		try {
+			CacheSnapshotServiceAdapter adapter = new CacheSnapshotServiceAdapter(mockCacheSnapshotService);
+
+			adapter.setMaxConcurrency(2);
+
+			exception.expect(ImportSnapshotException.class);
+			exception.expectCause(isA(IOException.class));
+
+			adapter.doImport(newSnapshotMetadata(snapshotDirectory));
+		}
+		finally {
+			verify(mockCacheSnapshotService, times(3)).load(any(File[].class), eq(SnapshotFormat.GEMFIRE),
+				any(SnapshotOptions.class));
+			FileSystemUtils.deleteRecursive(snapshotDirectory);
+		}
+	}
+
+	@Test
+	public void cacheImportLoadsArchiveEntriesWithoutExtractingTheArchive() throws Exception {
+
+		CacheSnapshotService mockCacheSnapshotService = mock(CacheSnapshotService.class);
+
+		SnapshotOptions<Object, Object> mockSnapshotOptions = mockSnapshotOptions();
+
+		when(mockCacheSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+
+		List<File> stagedSnapshots = new CopyOnWriteArrayList<>();
+		List<String> loadedContents = new CopyOnWriteArrayList<>();
+
+		doAnswer(invocation -> {
+			File stagedSnapshot = invocation.<File[]>getArgument(0)[0];
+			stagedSnapshots.add(stagedSnapshot);
+			loadedContents.add(new String(Files.readAllBytes(stagedSnapshot.toPath()), StandardCharsets.UTF_8));
+			return null;
+		}).when(mockCacheSnapshotService).load(any(File[].class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		File snapshotDirectory = newSnapshotDirectory();
+		File snapshotArchive = new File(snapshotDirectory, "snapshots.zip");
+
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(snapshotArchive))) {
+			out.putNextEntry(new ZipEntry("nested/"));
+			out.putNextEntry(new ZipEntry("nested/snapshot-One.gfd"));
+			out.write("one".getBytes(StandardCharsets.UTF_8));
+			out.putNextEntry(new ZipEntry("snapshot-Two.gfd"));
+			out.write("two".getBytes(StandardCharsets.UTF_8));
+		}
+
+		try {
+			CacheSnapshotServiceAdapter adapter = new CacheSnapshotServiceAdapter(mockCacheSnapshotService);
+
+			adapter.setMaxConcurrency(2);
+			adapter.doImport(newSnapshotMetadata(snapshotArchive));
+
+			assertThat(loadedContents.size(), is(equalTo(2)));
+			assertThat(loadedContents.containsAll(Arrays.asList("one", "two")), is(true));
+			assertThat(stagedSnapshots.stream().noneMatch(File::exists), is(true));
+			assertThat(new File(FileSystemUtils.TEMPORARY_DIRECTORY, "snapshots-zip").exists(), is(false));
+		}
+		finally {
+			FileSystemUtils.deleteRecursive(snapshotDirectory);
+		}
+	}
+
+	@Test
+	public void regionExportAndImportOfCompressedSnapshotContainer() throws Exception {
+
+		RegionSnapshotService<Object, Object> mockRegionSnapshotService = mock(RegionSnapshotService.class);
+
+		SnapshotOptions<Object, Object> mockSnapshotOptions = mockSnapshotOptions();
+
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+
+		byte[] snapshotContent = new byte[4096];
+
+		Arrays.fill(snapshotContent, (byte) 'x');
+
+		doAnswer(invocation -> Files.write(invocation.<File>getArgument(0).toPath(), snapshotContent))
+			.when(mockRegionSnapshotService).save(any(File.class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		List<byte[]> loadedContents = new CopyOnWriteArrayList<>();
+		List<File> loadedSnapshots = new CopyOnWriteArrayList<>();
+
+		doAnswer(invocation -> {
+			File loadedSnapshot = invocation.getArgument(0);
+			loadedSnapshots.add(loadedSnapshot);
+			loadedContents.add(Files.readAllBytes(loadedSnapshot.toPath()));
+			return null;
+		}).when(mockRegionSnapshotService).load(any(File.class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		File snapshotDirectory = newSnapshotDirectory();
+		File snapshot = new File(snapshotDirectory, "example.gfd");
+
+		try {
+			RegionSnapshotServiceAdapter<Object, Object> adapter =
+				new RegionSnapshotServiceAdapter<>(mockRegionSnapshotService);
+
+			SnapshotMetadata<Object, Object> exportSnapshotMetadata = newSnapshotMetadata(snapshot);
+
+			exportSnapshotMetadata.setContainerFormat(SnapshotMetadata.ContainerFormat.COMPRESSED);
+
+			adapter.doExport(exportSnapshotMetadata);
+
+			assertThat(CompressedSnapshotContainer.isContainer(snapshot), is(true));
+			assertThat(snapshot.length() < snapshotContent.length, is(true));
+
+			adapter.doImport(newSnapshotMetadata(snapshot));
+
+			assertThat(loadedSnapshots.size(), is(equalTo(1)));
+			assertThat(loadedSnapshots.get(0), is(not(equalTo(snapshot))));
+			assertThat(loadedSnapshots.get(0).exists(), is(false));
+			assertThat(Arrays.equals(loadedContents.get(0), snapshotContent), is(true));
+		}
+		finally {
+			FileSystemUtils.deleteRecursive(snapshotDirectory);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void exportPublishesProgressWithEntryCountBytesAndDuration() throws Exception {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+		RegionSnapshotService<Object, Object> mockRegionSnapshotService = mock(RegionSnapshotService.class);
+		SnapshotOptions<Object, Object> mockSnapshotOptions = mock(SnapshotOptions.class);
+		ApplicationEventPublisher mockApplicationEventPublisher = mock(ApplicationEventPublisher.class);
+
+		AtomicReference<SnapshotFilter<Object, Object>> filter = new AtomicReference<>();
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegion.size()).thenReturn(3);
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+
+		doAnswer(invocation -> {
+			filter.set(invocation.getArgument(0));
+			return mockSnapshotOptions;
+		}).when(mockSnapshotOptions).setFilter(any());
+
+		doAnswer(invocation -> {
+			for (String key : Arrays.asList("one", "two", "skip")) {
+				filter.get().accept(new AbstractMap.SimpleEntry<>(key, key));
+			}
+			return Files.write(invocation.<File>getArgument(0).toPath(), new byte[128]);
+		}).when(mockRegionSnapshotService).save(any(File.class), any(SnapshotFormat.class), any(SnapshotOptions.class));
+
+		File snapshotDirectory = newSnapshotDirectory();
+		File snapshot = new File(snapshotDirectory, "example.gfd");
+
+		try {
+			RegionSnapshotServiceAdapter<Object, Object> adapter =
+				new RegionSnapshotServiceAdapter<>(mockRegionSnapshotService, mockRegion);
+
+			adapter.setApplicationEventPublisher(mockApplicationEventPublisher);
+			adapter.setProgressInterval(0L);
+			adapter.doExport(new SnapshotMetadata<>(snapshot, SnapshotFormat.GEMFIRE,
+				entry -> !"skip".equals(entry.getKey())));
+
+			ArgumentCaptor<SnapshotProgressApplicationEvent> events =
+				ArgumentCaptor.forClass(SnapshotProgressApplicationEvent.class);
+
+			verify(mockApplicationEventPublisher, times(4)).publishEvent(events.capture());
+
+			SnapshotProgressApplicationEvent inProgressEvent = events.getAllValues().get(1);
+
+			assertThat(inProgressEvent.getStatus(), is(equalTo(SnapshotProgressApplicationEvent.Status.IN_PROGRESS)));
+			assertThat(inProgressEvent.getEntryCount(), is(equalTo(1L)));
+			assertThat(inProgressEvent.getExpectedEntryCount(), is(equalTo(3L)));
+			assertThat(Math.round(inProgressEvent.getPercentComplete()), is(equalTo(33L)));
+
+			SnapshotProgressApplicationEvent completedEvent = events.getAllValues().get(3);
+
+			assertThat(completedEvent.getStatus(), is(equalTo(SnapshotProgressApplicationEvent.Status.COMPLETED)));
+			assertThat(completedEvent.getEntryCount(), is(equalTo(2L)));
+			assertThat(completedEvent.getBytes(), is(equalTo(128L)));
+			assertThat(completedEvent.getPercentComplete(), is(equalTo(100.0d)));
+			assertThat(completedEvent.getElapsedTime(TimeUnit.NANOSECONDS) > 0L, is(true));
+			assertThat(completedEvent.getEntriesPerSecond() > 0.0d, is(true));
+			assertThat(adapter.getDurations(SnapshotProgressApplicationEvent.Operation.EXPORT).getCount(),
+				is(equalTo(1L)));
+			assertThat(adapter.getDurations(SnapshotProgressApplicationEvent.Operation.IMPORT).getCount(),
+				is(equalTo(0L)));
+		}
+		finally {
+			FileSystemUtils.deleteRecursive(snapshotDirectory);
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void exportOfPartitionRegionDoesNotTrackProgress() {
+
+		Region<Object, Object> mockRegion = mockPartitionRegion(mock(Cache.class), "Example", null);
+		RegionSnapshotService<Object, Object> mockRegionSnapshotService = mock(RegionSnapshotService.class);
+		SnapshotOptions<Object, Object> mockSnapshotOptions = mockSnapshotOptions();
+		SnapshotFilter<Object, Object> mockSnapshotFilter = mock(SnapshotFilter.class);
+
+		when(mockRegion.getAttributes().getDataPolicy()).thenReturn(DataPolicy.PARTITION);
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+
+		RegionSnapshotServiceAdapter<Object, Object> adapter =
+			new RegionSnapshotServiceAdapter<>(mockRegionSnapshotService, mockRegion);
+
+		adapter.setApplicationEventPublisher(mock(ApplicationEventPublisher.class));
+
+		SnapshotMetadata<Object, Object> metadata =
+			new SnapshotMetadata<>(new File("example.gfd"), SnapshotFormat.GEMFIRE, mockSnapshotFilter);
+
+		assertThat(adapter.isProgressTracked(metadata), is(false));
+		assertThat(adapter.createOptions(metadata), is(sameInstance(mockSnapshotOptions)));
+
+		verify(mockSnapshotOptions, times(1)).setFilter(eq(mockSnapshotFilter));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void progressTrackingSnapshotFilterIsSerializable() throws Exception {
+
+		SnapshotServiceAdapterSupport<Object, Object> adapter =
+			new RegionSnapshotServiceAdapter<>(mock(RegionSnapshotService.class));
+
+		SnapshotFilter<Object, Object> filter = new SnapshotServiceAdapterSupport.ProgressTrackingSnapshotFilter<>(
+			adapter, (SnapshotFilter<Object, Object> & Serializable) entry -> !"skip".equals(entry.getKey()));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(filter);
+		}
+
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+
+			SnapshotFilter<Object, Object> deserializedFilter = (SnapshotFilter<Object, Object>) in.readObject();
+
+			assertThat(deserializedFilter.accept(new AbstractMap.SimpleEntry<>("key", "value")), is(true));
+			assertThat(deserializedFilter.accept(new AbstractMap.SimpleEntry<>("skip", "value")), is(false));
+		}
+	}
+
+	@Test
+	public void concurrentCacheExportSavesEachRegionToItsOwnSnapshotFile() throws Exception {
+
+		Cache mockCache = mock(Cache.class);
+		CacheSnapshotService mockCacheSnapshotService = mock(CacheSnapshotService.class);
+		RegionSnapshotService<Object, Object> mockRegionSnapshotService = mock(RegionSnapshotService.class);
+		SnapshotOptions<Object, Object> mockSnapshotOptions = mockSnapshotOptions();
+
+		Region<Object, Object> one = mockPartitionRegion(mockCache, "One", null);
+		Region<Object, Object> two = mockPartitionRegion(mockCache, "Two", null);
+
+		when(one.getSnapshotService()).thenReturn(mockRegionSnapshotService);
+		when(two.getSnapshotService()).thenReturn(mockRegionSnapshotService);
+		when(mockCache.rootRegions()).thenReturn(new HashSet<>(Arrays.asList(one, two)));
+		when(mockCacheSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+
+		File snapshotDirectory = newSnapshotDirectory();
+
+		try {
+			CacheSnapshotServiceAdapter adapter = new CacheSnapshotServiceAdapter(mockCacheSnapshotService, mockCache);
+
+			adapter.setMaxConcurrency(2);
+			adapter.doExport(newSnapshotMetadata(snapshotDirectory));
+
+			verify(mockRegionSnapshotService, times(1)).save(eq(new File(snapshotDirectory, "snapshot-One.gfd")),
+				eq(SnapshotFormat.GEMFIRE), eq(mockSnapshotOptions));
+			verify(mockRegionSnapshotService, times(1)).save(eq(new File(snapshotDirectory, "snapshot-Two.gfd")),
+				eq(SnapshotFormat.GEMFIRE), eq(mockSnapshotOptions));
+			verify(mockCacheSnapshotService, never()).save(any(File.class), any(SnapshotFormat.class),
+				any(SnapshotOptions.class));
+		}
+		finally {
+			FileSystemUtils.deleteRecursive(snapshotDirectory);
+		}
+	}
+
+	@Test
+	public void isMatchIgnoresSnapshotProgressEvents() {
+
+		SnapshotProgressApplicationEvent event = new SnapshotProgressApplicationEvent(this, null,
+			SnapshotProgressApplicationEvent.Operation.IMPORT, SnapshotProgressApplicationEvent.Status.STARTED,
+				FileSystemUtils.WORKING_DIRECTORY, 0, 1, null);
+
+		assertThat(event.isCacheSnapshotEvent(), is(true));
+		assertThat(factoryBean.isMatch(event), is(false));
+	}
+
 	@Test
 	public void archiveFileFilterAcceptsJarOrZipFile() throws Exception {
 		assertThat(ArchiveFileFilter.INSTANCE.accept(new ClassPathResource("/cluster_config.zip").getFile()), is(true));
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.snapshot.SnapshotOptions.SnapshotFormat;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.CacheSnapshotServiceAdapter;
+import org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.RegionSnapshotServiceAdapter;
+import org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
+import org.springframework.data.gemfire.test.support.FileSystemUtils;
+
+/**
+ * Integration tests importing snapshots through the staging directory of the {@link SnapshotServiceFactoryBean}
+ * Snapshot Service adapters into a real GemFire {@link Cache}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Cache
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @since 2.1.0
+ */
+public class SnapshotServiceStagingIntegrationTests {
+
+	private Cache cache;
+
+	private File snapshotDirectory;
+	private File stagingDirectory;
+
+	private Region<String, String> one;
+	private Region<String, String> two;
+
+	@Before
+	public void setup() {
+
+		cache = new CacheFactory()
+			.set("name", SnapshotServiceStagingIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "error")
+			.create();
+
+		one = cache.<String, String>createRegionFactory(RegionShortcut.LOCAL).create("One");
+		two = cache.<String, String>createRegionFactory(RegionShortcut.LOCAL).create("Two");
+
+		snapshotDirectory = new File(FileSystemUtils.WORKING_DIRECTORY, "staged-snapshots");
+		stagingDirectory = new File(snapshotDirectory, "staging");
+
+		assertThat(stagingDirectory.mkdirs()).isTrue();
+	}
+
+	@After
+	public void tearDown() {
+		cache.close();
+		FileSystemUtils.deleteRecursive(snapshotDirectory);
+	}
+
+	private void zip(File archive, File... snapshots) throws Exception {
+
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(archive))) {
+			for (File snapshot : snapshots) {
+				out.putNextEntry(new ZipEntry("snapshots/" + snapshot.getName()));
+				Files.copy(snapshot.toPath(), out);
+				out.closeEntry();
+			}
+		}
+	}
+
+	@Test
+	public void cacheImportLoadsEachArchiveEntryThroughStagingDirectory() throws Exception {
+
+		one.put("1", "one");
+		one.put("2", "two");
+		two.put("3", "three");
+
+		File exportDirectory = new File(snapshotDirectory, "export");
+
+		assertThat(exportDirectory.mkdirs()).isTrue();
+
+		cache.getSnapshotService().save(exportDirectory, SnapshotFormat.GEMFIRE);
+
+		File archive = new File(snapshotDirectory, "snapshots.zip");
+
+		zip(archive, exportDirectory.listFiles());
+
+		one.clear();
+		two.clear();
+
+		AtomicInteger stagedSnapshotCount = new AtomicInteger(0);
+
+		CacheSnapshotServiceAdapter adapter =
+			new CacheSnapshotServiceAdapter(cache.getSnapshotService(), cache) {
+
+				@Override
+				protected File getStagingDirectory() {
+					stagedSnapshotCount.incrementAndGet();
+					return stagingDirectory;
+				}
+			};
+
+		adapter.setMaxConcurrency(2);
+		adapter.doImport(new SnapshotMetadata<>(archive));
+
+		assertThat(one).hasSize(2);
+		assertThat(one.get("1")).isEqualTo("one");
+		assertThat(one.get("2")).isEqualTo("two");
+		assertThat(two).hasSize(1);
+		assertThat(two.get("3")).isEqualTo("three");
+		assertThat(stagedSnapshotCount.get()).isEqualTo(2);
+		assertThat(stagingDirectory.list()).isEmpty();
+	}
+
+	@Test
+	public void regionImportLoadsCompressedSnapshotContainerThroughStagingDirectory() {
+
+		for (int index = 0; index < 1000; index++) {
+			one.put(String.valueOf(index), String.format("value-%d", index));
+		}
+
+		AtomicInteger stagedSnapshotCount = new AtomicInteger(0);
+
+		RegionSnapshotServiceAdapter<String, String> adapter =
+			new RegionSnapshotServiceAdapter<String, String>(one.getSnapshotService(), one) {
+
+				@Override
+				protected File getStagingDirectory() {
+					stagedSnapshotCount.incrementAndGet();
+					return stagingDirectory;
+				}
+			};
+
+		File snapshot = new File(snapshotDirectory, "one.gfd");
+
+		SnapshotMetadata<String, String> exportSnapshotMetadata = new SnapshotMetadata<>(snapshot);
+
+		exportSnapshotMetadata.setContainerFormat(SnapshotMetadata.ContainerFormat.COMPRESSED);
+
+		adapter.doExport(exportSnapshotMetadata);
+
+		assertThat(CompressedSnapshotContainer.isContainer(snapshot)).isTrue();
+		assertThat(stagingDirectory.list()).isEmpty();
+
+		one.clear();
+
+		adapter.doImport(new SnapshotMetadata<>(snapshot));
+
+		assertThat(one).hasSize(1000);
+		assertThat(one.get("0")).isEqualTo("value-0");
+		assertThat(one.get("999")).isEqualTo("value-999");
+		assertThat(stagedSnapshotCount.get()).isEqualTo(2);
+		assertThat(stagingDirectory.list()).isEmpty();
+	}
+}
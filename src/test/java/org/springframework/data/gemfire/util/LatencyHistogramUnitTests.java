@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.util.LatencyHistogram
+ * @since 2.1.0
+ */
+public class LatencyHistogramUnitTests {
+
+	@Test
+	public void bucketsCoverValueRange() {
+
+		for (long value : new long[] { 0L, 1L, 7L, 8L, 15L, 16L, 17L, 1000L, 123456789L, Long.MAX_VALUE }) {
+
+			int index = LatencyHistogram.bucketIndex(value);
+
+			assertThat(LatencyHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+
+			if (index > 0) {
+				assertThat(LatencyHistogram.bucketUpperBound(index - 1)).isLessThan(value);
+			}
+		}
+	}
+
+	@Test
+	public void emptyHistogramReportsZero() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getMean(TimeUnit.MILLISECONDS)).isZero();
+		assertThat(histogram.getPercentile(0.99d, TimeUnit.MILLISECONDS)).isZero();
+	}
+
+	@Test
+	public void percentilesAreWithinRelativeError() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		for (int millis = 1; millis <= 100; millis++) {
+			histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+		}
+
+		assertThat(histogram.getCount()).isEqualTo(100L);
+		assertThat(histogram.getMax(TimeUnit.MILLISECONDS)).isEqualTo(100L);
+		assertThat(histogram.getMean(TimeUnit.MILLISECONDS)).isEqualTo(50.5d);
+		assertThat(histogram.getPercentile(0.5d, TimeUnit.MICROSECONDS)).isBetween(50_000L, 56_250L);
+		assertThat(histogram.getPercentile(0.99d, TimeUnit.MICROSECONDS)).isBetween(99_000L, 100_000L);
+		assertThat(histogram.getPercentile(1.0d, TimeUnit.MILLISECONDS)).isEqualTo(100L);
+	}
+
+	@Test
+	public void recordsCountTotalMeanAndMax() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		histogram.record(100L);
+		histogram.record(300L);
+		histogram.record(2L, TimeUnit.MICROSECONDS);
+
+		assertThat(histogram.getCount()).isEqualTo(3L);
+		assertThat(histogram.getTotal(TimeUnit.NANOSECONDS)).isEqualTo(2400L);
+		assertThat(histogram.getMean(TimeUnit.NANOSECONDS)).isEqualTo(800.0d);
+		assertThat(histogram.getMax(TimeUnit.NANOSECONDS)).isEqualTo(2000L);
+	}
+
+	@Test
+	public void resetClearsRecordedDurations() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		histogram.record(1000L);
+		histogram.reset();
+
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getMax(TimeUnit.NANOSECONDS)).isZero();
+		assertThat(histogram.getPercentile(1.0d, TimeUnit.NANOSECONDS)).isZero();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void percentileMustBeBetweenZeroAndOne() {
+		new LatencyHistogram().getPercentile(99.0d, TimeUnit.MILLISECONDS);
+	}
+}